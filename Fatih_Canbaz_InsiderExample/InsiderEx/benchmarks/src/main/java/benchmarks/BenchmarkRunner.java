@@ -0,0 +1,34 @@
+package benchmarks;
+
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * BenchmarkRunner Class
+ * <p>
+ * Entry point of benchmarks.jar. Accepts the usual JMH command line (e.g. "ConfigReader" to run a single class,
+ * "-f 0" for a quick run) and always writes the results as JSON so that runs can be compared over time.
+ * </p>
+ * <p>
+ * The result file is benchmarks/target/jmh-result.json, can be changed with -Djmh.result=path
+ * </p>
+ * <p>
+ * Author: Fatih Canbaz
+ * </p>
+ */
+public class BenchmarkRunner {
+
+    public static final String DEFAULT_RESULT = "benchmarks/target/jmh-result.json";
+
+    public static void main(String[] args) throws Exception {
+        Options options = new OptionsBuilder()
+                .parent(new CommandLineOptions(args))
+                .resultFormat(ResultFormatType.JSON)
+                .result(System.getProperty("jmh.result", DEFAULT_RESULT))
+                .build();
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,56 @@
+package benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import utilities.ConfigReader;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ConfigReaderBenchmark Class
+ * <p>
+ * Cost of a configuration lookup, which every page object and helper does many times per test.
+ * </p>
+ * <p>
+ * Author: Fatih Canbaz
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConfigReaderBenchmark {
+
+    @Setup
+    public void checkConfiguration() {
+        // configuration.properties calisma klasorunden okunur
+        if (ConfigReader.getProperty("browser") == null) {
+            throw new IllegalStateException("configuration.properties bulunamadi, benchmark InsiderEx klasorunden calistirilmali");
+        }
+    }
+
+    @Benchmark
+    public String getProperty() {
+        return ConfigReader.getProperty("browser");
+    }
+
+    @Benchmark
+    public String getPropertyWithDefault() {
+        return ConfigReader.getProperty("apiTimeoutSeconds", "15");
+    }
+
+    @Benchmark
+    public String getMissingPropertyWithDefault() {
+        return ConfigReader.getProperty("benchmarkMissingKey", "default");
+    }
+}
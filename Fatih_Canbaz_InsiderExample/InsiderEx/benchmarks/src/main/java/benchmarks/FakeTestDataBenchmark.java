@@ -0,0 +1,84 @@
+package benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import utilities.FakeTestData;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * FakeTestDataBenchmark Class
+ * <p>
+ * FakeTestData generates all of its values in the static initializer, so the cost is paid once per class load.
+ * To measure it repeatedly the class is defined again in a fresh class loader for every invocation; Faker itself
+ * comes from the parent loader, like in a real test run where it is already loaded by other classes.
+ * </p>
+ * <p>
+ * Author: Fatih Canbaz
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FakeTestDataBenchmark {
+
+    private static final String TARGET = FakeTestData.class.getName();
+
+    @Benchmark
+    public Class<?> staticInitializer() throws ClassNotFoundException {
+        // initialize=true: static alanlarin hepsi yeniden uretilir
+        return Class.forName(TARGET, true, new IsolatingLoader(FakeTestDataBenchmark.class.getClassLoader()));
+    }
+
+    /**
+     * Defines FakeTestData itself, delegates every other class to the parent.
+     */
+    static final class IsolatingLoader extends ClassLoader {
+
+        IsolatingLoader(ClassLoader parent) {
+            super(parent);
+        }
+
+        @Override
+        protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+            if (!TARGET.equals(name)) {
+                return super.loadClass(name, resolve);
+            }
+            synchronized (getClassLoadingLock(name)) {
+                Class<?> loaded = findLoadedClass(name);
+                if (loaded == null) {
+                    byte[] bytes = readClassFile(name);
+                    loaded = defineClass(name, bytes, 0, bytes.length);
+                }
+                if (resolve) {
+                    resolveClass(loaded);
+                }
+                return loaded;
+            }
+        }
+
+        private byte[] readClassFile(String name) throws ClassNotFoundException {
+            String resource = name.replace('.', '/') + ".class";
+            try (InputStream in = getParent().getResourceAsStream(resource)) {
+                if (in == null) {
+                    throw new ClassNotFoundException(name);
+                }
+                return in.readAllBytes();
+            } catch (IOException e) {
+                throw new ClassNotFoundException(name, e);
+            }
+        }
+    }
+}
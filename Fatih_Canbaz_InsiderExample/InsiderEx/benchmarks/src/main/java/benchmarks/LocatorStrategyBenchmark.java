@@ -0,0 +1,136 @@
+package benchmarks;
+
+import io.github.bonigarcia.wdm.WebDriverManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chrome.ChromeDriver;
+import org.openqa.selenium.chrome.ChromeOptions;
+import org.openqa.selenium.support.FindBy;
+import pages.InsiderExercisePage;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * LocatorStrategyBenchmark Class
+ * <p>
+ * Compares the absolute XPaths used in {@link InsiderExercisePage} with relative XPath and CSS locators for the
+ * same elements of the careers page. The page is a static copy (careers.html) loaded from disk into headless
+ * Chrome, so the numbers show the locator cost (round trip to the driver plus the DOM query) without network
+ * noise. The absolute XPaths are read from the page object's annotations, so the benchmark follows the real
+ * locators when they change.
+ * </p>
+ * <p>
+ * Author: Fatih Canbaz
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LocatorStrategyBenchmark {
+
+    @Param({"careersPageSeeAllTeams", "careersPageOurLocations", "careersPageLifeAtInsider"})
+    public String element;
+
+    private WebDriver driver;
+    private File page;
+    private By absoluteXPath;
+    private By relativeXPath;
+    private By css;
+
+    @Setup
+    public void openPage() throws IOException {
+        absoluteXPath = By.xpath(pageObjectXPath(element));
+        switch (element) {
+            case "careersPageSeeAllTeams":
+                relativeXPath = By.xpath("//a[normalize-space()='See all teams']");
+                css = By.cssSelector("section.career-teams a.btn");
+                break;
+            case "careersPageOurLocations":
+                relativeXPath = By.xpath("//h3[normalize-space()='Our Locations']");
+                css = By.cssSelector("#career-our-location h3");
+                break;
+            case "careersPageLifeAtInsider":
+                relativeXPath = By.xpath("//h2[normalize-space()='Life at Insider']");
+                css = By.cssSelector("section.career-life-at-insider h2");
+                break;
+            default:
+                throw new IllegalArgumentException("Bilinmeyen element: " + element);
+        }
+
+        page = File.createTempFile("careers", ".html");
+        try (InputStream in = LocatorStrategyBenchmark.class.getResourceAsStream("/careers.html")) {
+            Files.copy(in, page.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        }
+
+        WebDriverManager.chromedriver().setup();
+        ChromeOptions options = new ChromeOptions();
+        options.addArguments("--headless=new", "--window-size=1920,1080");
+        driver = new ChromeDriver(options);
+        // implicit wait olmadan: bulunamayan locator benchmark'i beklemeye sokmasin
+        driver.manage().timeouts().implicitlyWait(Duration.ZERO);
+        driver.get(page.toURI().toString());
+
+        // uc strateji de ayni elementi bulmali, yoksa olcum anlamsiz
+        String expected = driver.findElement(absoluteXPath).getText();
+        if (!expected.equals(driver.findElement(relativeXPath).getText())
+                || !expected.equals(driver.findElement(css).getText())) {
+            throw new IllegalStateException("Locator'lar ayni elementi bulmuyor: " + element);
+        }
+    }
+
+    @TearDown
+    public void closePage() {
+        if (driver != null) {
+            driver.quit();
+        }
+        if (page != null) {
+            page.delete();
+        }
+    }
+
+    @Benchmark
+    public void absoluteXPath(Blackhole blackhole) {
+        blackhole.consume(driver.findElement(absoluteXPath));
+    }
+
+    @Benchmark
+    public void relativeXPath(Blackhole blackhole) {
+        blackhole.consume(driver.findElement(relativeXPath));
+    }
+
+    @Benchmark
+    public void css(Blackhole blackhole) {
+        blackhole.consume(driver.findElement(css));
+    }
+
+    private static String pageObjectXPath(String fieldName) {
+        try {
+            FindBy findBy = InsiderExercisePage.class.getField(fieldName).getAnnotation(FindBy.class);
+            return findBy.xpath();
+        } catch (NoSuchFieldException e) {
+            throw new IllegalArgumentException("InsiderExercisePage alani bulunamadi: " + fieldName, e);
+        }
+    }
+}
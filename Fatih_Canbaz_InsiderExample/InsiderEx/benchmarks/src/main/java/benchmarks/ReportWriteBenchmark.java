@@ -0,0 +1,77 @@
+package benchmarks;
+
+import com.aventstack.extentreports.ExtentReports;
+import com.aventstack.extentreports.ExtentTest;
+import com.aventstack.extentreports.reporter.ExtentHtmlReporter;
+import org.apache.commons.io.FileUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import utilities.ExtentReportFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ReportWriteBenchmark Class
+ * <p>
+ * Builds an Extent report the way TestBaseRapor does (same factory), adds the given number of tests with a few
+ * info steps each and flushes it to disk.
+ * </p>
+ * <p>
+ * Author: Fatih Canbaz
+ * </p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ReportWriteBenchmark {
+
+    @Param({"10", "100"})
+    public int tests;
+
+    @Param({"5"})
+    public int stepsPerTest;
+
+    private File tempDir;
+
+    @Setup
+    public void createDir() throws IOException {
+        tempDir = Files.createTempDirectory("report-bench").toFile();
+    }
+
+    @TearDown
+    public void deleteDir() throws IOException {
+        FileUtils.deleteDirectory(tempDir);
+    }
+
+    @Benchmark
+    public File createAndFlush() {
+        File file = new File(tempDir, "Rapor.html");
+        ExtentHtmlReporter reporter = ExtentReportFactory.createHtmlReporter(file.getPath());
+        ExtentReports reports = ExtentReportFactory.createReports(reporter);
+        for (int i = 0; i < tests; i++) {
+            ExtentTest test = reports.createTest("Test " + i, "Benchmark test " + i);
+            for (int step = 0; step < stepsPerTest; step++) {
+                test.info("Adim " + step);
+            }
+            test.pass("Test basarili");
+        }
+        reports.flush();
+        return file;
+    }
+}
@@ -0,0 +1,96 @@
+package benchmarks;
+
+import org.apache.commons.io.FileUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import utilities.ScreenshotFiles;
+
+import javax.imageio.ImageIO;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ScreenshotSaveBenchmark Class
+ * <p>
+ * File side of ReusableMethods.getScreenshot: building the timestamped name and copying the PNG that Selenium
+ * wrote to its temp file. The capture itself needs a browser and is not part of this benchmark. Files are
+ * written to a temp folder instead of src/tmp.
+ * </p>
+ * <p>
+ * Author: Fatih Canbaz
+ * </p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ScreenshotSaveBenchmark {
+
+    // viewport: 1920x1080, fullPage: getScreenshotToWholePage ile alinan uzun sayfa
+    @Param({"1080", "6000"})
+    public int height;
+
+    private File tempDir;
+    private File source;
+    private int counter;
+
+    @Setup
+    public void createSource() throws IOException {
+        tempDir = Files.createTempDirectory("screenshot-bench").toFile();
+        source = new File(tempDir, "source.png");
+
+        // duz renkli bir goruntu PNG olarak cok kucuk olur, sayfaya benzesin diye bloklar ve gurultu eklenir
+        BufferedImage image = new BufferedImage(1920, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = image.createGraphics();
+        Random random = new Random(42);
+        for (int y = 0; y < height; y += 40) {
+            for (int x = 0; x < 1920; x += 120) {
+                graphics.setColor(new Color(random.nextInt(0xFFFFFF)));
+                graphics.fillRect(x, y, 120, 40);
+            }
+        }
+        graphics.dispose();
+        for (int i = 0; i < 1920 * height / 20; i++) {
+            image.setRGB(random.nextInt(1920), random.nextInt(height), random.nextInt(0xFFFFFF));
+        }
+        ImageIO.write(image, "png", source);
+    }
+
+    @TearDown
+    public void deleteFiles() throws IOException {
+        FileUtils.deleteDirectory(tempDir);
+    }
+
+    @Benchmark
+    public String timestampedPath() {
+        return ScreenshotFiles.timestampedPath("TC01", "yyyyMMddhhmmss", ".png");
+    }
+
+    @Benchmark
+    public File save() throws IOException {
+        // her cagrida yeni dosya: gercek kullanimda hedef dosya hic var olmaz
+        String name = ScreenshotFiles.timestampedPath("TC01", "yyyyMMddhhmmss", "_" + (counter++) + ".png")
+                .substring(ScreenshotFiles.TMP_DIR.length());
+        File saved = ScreenshotFiles.save(source, new File(tempDir, name).getPath());
+        saved.delete();
+        return saved;
+    }
+}
@@ -0,0 +1,91 @@
+package benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import utilities.visual.DiffResult;
+import utilities.visual.VisualDiff;
+import utilities.visual.VisualOptions;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * VisualDiffBenchmark Class
+ * <p>
+ * Comparison cost of VisualDiff for a careers section screenshot (600x400) and a full HD page: an unchanged
+ * screenshot (every tile compared), and a changed one with and without fail-fast.
+ * </p>
+ * <p>
+ * Author: Fatih Canbaz
+ * </p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class VisualDiffBenchmark {
+
+    @Param({"600x400", "1920x1080"})
+    public String size;
+
+    private BufferedImage baseline;
+    private BufferedImage unchanged;
+    private BufferedImage changed;
+
+    @Setup
+    public void createImages() {
+        int width = Integer.parseInt(size.substring(0, size.indexOf('x')));
+        int height = Integer.parseInt(size.substring(size.indexOf('x') + 1));
+        baseline = page(width, height, false);
+        unchanged = page(width, height, false);
+        changed = page(width, height, true);
+    }
+
+    @Benchmark
+    public DiffResult unchanged() {
+        return VisualDiff.compare("unchanged", baseline, unchanged, VisualOptions.defaults());
+    }
+
+    @Benchmark
+    public DiffResult changedFailFast() {
+        return VisualDiff.compare("changed", baseline, changed, VisualOptions.defaults().failFast(true));
+    }
+
+    @Benchmark
+    public DiffResult changedFull() {
+        return VisualDiff.compare("changed", baseline, changed, VisualOptions.defaults().failFast(false));
+    }
+
+    // ayni tohumla ayni bloklar; degisiklik sayfanin ortasinda bir buton kadar
+    private static BufferedImage page(int width, int height, boolean change) {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = image.createGraphics();
+        Random random = new Random(42);
+        for (int y = 0; y < height; y += 40) {
+            for (int x = 0; x < width; x += 120) {
+                graphics.setColor(new Color(random.nextInt(0xFFFFFF)));
+                graphics.fillRect(x, y, 120, 40);
+            }
+        }
+        if (change) {
+            graphics.setColor(Color.RED);
+            graphics.fillRect(width / 2 - 60, height / 2 - 20, 120, 40);
+        }
+        graphics.dispose();
+        return image;
+    }
+}
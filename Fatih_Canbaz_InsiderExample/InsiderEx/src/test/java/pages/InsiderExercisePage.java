@@ -4,12 +4,16 @@ import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.FindBy;
 import org.openqa.selenium.support.PageFactory;
 import utilities.Driver;
+import utilities.performance.CommandProfiler;
+
+import java.util.List;
 
 public class InsiderExercisePage {
 
     public InsiderExercisePage() {
 
         PageFactory.initElements(Driver.getDriver(), this);
+        CommandProfiler.registerPage(this);
 
     }
 
@@ -72,6 +76,11 @@ public class InsiderExercisePage {
     public WebElement carreersFilterSeniorSofwareQualityAssuranceEngineer;
 
 
+    //Careers  → Filter → QA JOBS → tum is ilani kartlari (baslik, departman, lokasyon ve View Role linki)
+    @FindBy(css = ".position-list-item")
+    public List<WebElement> careersFilterJobList;
+
+
     /*
      * ==========================================
      *   /Careers Page --
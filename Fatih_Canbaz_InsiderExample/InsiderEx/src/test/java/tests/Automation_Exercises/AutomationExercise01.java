@@ -1,70 +1,123 @@
 package tests.Automation_Exercises;
 
 
+import org.openqa.selenium.WebDriver;
+import org.testng.Assert;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
 import pages.InsiderExercisePage;
 import utilities.ConfigReader;
+import utilities.DomSnapshot;
 import utilities.Driver;
+import utilities.ElementSnapshot;
 import utilities.ReusableMethods;
-import utilities.TestBaseRapor;
-
+import utilities.TestBaseLifecycle;
+import utilities.WindowRegistry;
+import utilities.api.LinkValidator;
+import utilities.api.ReplayServer;
+import utilities.performance.NavigationTimings;
+import utilities.performance.PageBudget;
+import utilities.visual.VisualCheck;
+
+import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 
 
 
-public class AutomationExercise01 extends TestBaseRapor {
 
-    InsiderExercisePage autEx = new InsiderExercisePage();
+public class AutomationExercise01 extends TestBaseLifecycle {
+
+    InsiderExercisePage autEx;
+
+    @BeforeClass
+    public void declareBudgets() {
+        // sayfa yuklenme butceleri: asilirsa test fail olur, sureler raporda gorunur
+        NavigationTimings.declare(PageBudget.forPage("careers QA", "/careers/quality-assurance/").ttfb(1000).load(3000));
+    }
+
+    // Step 1-3 ilk testte calisir, sonraki testler careers sayfasindan kayitli cookie/storage ile baslar
+    @Override
+    protected String sessionStateName() {
+        return "insiderCareers";
+    }
+
+    @Override
+    protected void sessionStateSetup(WebDriver driver) {
+        InsiderExercisePage page = new InsiderExercisePage();
 
-    @Test
-    public void TC01() throws InterruptedException {
-        extentTest = extentReports.createTest("Test Case 1: Register User", "User registers");
         // Step 1: Launch browser and navigate to the URL
-        extentTest.info("Step 1: Visit https://useinsider.com/ and check Insider home page is opened or not");
-        Driver.getDriver().get(ConfigReader.getProperty("autExUrl"));
+        info("Step 1: Visit https://useinsider.com/ and check Insider home page is opened or not");
+        driver.get(ConfigReader.getProperty("autExUrl"));
         ReusableMethods.waitForPageToLoad(5);
 
 
         // Step 2: Select the “Company” menu in the navigation bar,
-        extentTest.info("Step 2: Select the “Company” menu in the navigation bar");
-        ReusableMethods.highLightToElement(autEx.headerCompanyLink).click();
+        info("Step 2: Select the “Company” menu in the navigation bar");
+        ReusableMethods.highLightToElement(page.headerCompanyLink).click();
 
 
         // Step 3: Select the “Careers” menu in the Compmay menu in the navigation bar,
-        extentTest.info("Step 3: Select the “Careers” menu in the navigation bar");
-        ReusableMethods.highLightToElement(autEx.headerCompanyCareersLink).click();
+        info("Step 3: Select the “Careers” menu in the navigation bar");
+        ReusableMethods.highLightToElement(page.headerCompanyCareersLink).click();
+    }
 
+    // driver TestBaseLifecycle'da her test icin acildigi icin sayfa objesi de test basinda olusturulur
+    @BeforeMethod
+    public void createPage() {
+        autEx = new InsiderExercisePage();
+    }
+
+    @Test(description = "User registers")
+    public void TC01() throws InterruptedException {
+        // Step 4-6: uc elementin durumu tek JS cagrisiyla okunur, kontroller JVM'de yapilir;
+        // careers sayfasi yuklenip bolumler gorunene kadar cagri tekrarlanir
+        DomSnapshot careersPage = DomSnapshot.query()
+                .addField(autEx, "careersPageSeeAllTeams")
+                .addField(autEx, "careersPageOurLocations")
+                .addField(autEx, "careersPageLifeAtInsider")
+                .captureWhenVisible(Driver.getDriver(),
+                        "careersPageSeeAllTeams", "careersPageOurLocations", "careersPageLifeAtInsider");
 
         // Step 4: Verify 'See all teams' is visible
-        extentTest.info(" Step4 : Verify 'See all teams' is visible");
-        ReusableMethods.highLightToElement(autEx.careersPageSeeAllTeams).isDisplayed();
+        info(" Step4 : Verify 'See all teams' is visible");
+        Assert.assertTrue(careersPage.isVisible("careersPageSeeAllTeams"));
 
         // Step 5: Verify 'Our Locations' is visible
-        extentTest.info(" Step5 : Verify 'Our Locations' is visible");
-        ReusableMethods.highLightToElement(autEx.careersPageOurLocations).isDisplayed();
+        info(" Step5 : Verify 'Our Locations' is visible");
+        Assert.assertTrue(careersPage.isVisible("careersPageOurLocations"));
 
         // Step 6: Verify 'Life at Insider' is visible
-        extentTest.info(" Step6 : Verify 'Life at Insider' is visible");
-        ReusableMethods.highLightToElement(autEx.careersPageLifeAtInsider).isDisplayed();
+        info(" Step6 : Verify 'Life at Insider' is visible");
+        Assert.assertTrue(careersPage.isVisible("careersPageLifeAtInsider"));
+
+        // Step 4-6 gorsel kontrol: bolumler baseline goruntuleriyle karsilastirilir (ilk calistirmada baseline olusur)
+        if (Boolean.parseBoolean(ConfigReader.getProperty("visualCheckEnabled", "false"))) {
+            info("Visual check of 'See all teams', 'Our Locations' and 'Life at Insider'");
+            VisualCheck.assertElement(autEx.careersPageSeeAllTeams, "careersPageSeeAllTeams");
+            VisualCheck.assertElement(autEx.careersPageOurLocations, "careersPageOurLocations");
+            VisualCheck.assertElement(autEx.careersPageLifeAtInsider, "careersPageLifeAtInsider");
+        }
 
 
         // Step 7: Launch browser and navigate to the URL
-        extentTest.info("Go to https://useinsider.com/careers/quality-assurance/");
+        info("Go to https://useinsider.com/careers/quality-assurance/");
         Driver.getDriver().get(ConfigReader.getProperty("autExUrl2"));
         ReusableMethods.waitForPageToLoad(5);
 
 
         // Step 8: click “See all QA jobs”, bekleme konulacak sonrasında geldiği görülecek.click sılınecek
-        extentTest.info("click “See all QA jobs”");
+        info("click “See all QA jobs”");
         ReusableMethods.highLightToElement(autEx.careersQualityAssuranceSeeAllQaJobs).click();
         ReusableMethods.waitForPageToLoad(5);
         Thread.sleep(10000);
 
 
         // Step 9: click “Filter by Location”,
-        extentTest.info("click “Filter by Location");
+        info("click “Filter by Location");
         Thread.sleep(10000);
         ReusableMethods.highLightToElement(autEx.careersFilterFilterByLocation).click();
         ReusableMethods.waitForPageToLoad(5);
@@ -72,25 +125,40 @@ public class AutomationExercise01 extends TestBaseRapor {
 
 
         // Step 10: click “Istanbul/Turkey”,
-        extentTest.info("click “Istanbul/Turkey”");
+        info("click “Istanbul/Turkey”");
         ReusableMethods.highLightToElement(autEx.careersFilterIstanbulTurkiye).click();
         // Driver.getDriver().findElement(By.cssSelector("#select2-filter-by-location-result-3agb-Istanbul\\,\\ Turkiye")).click();
         ReusableMethods.waitForPageToLoad(5);
 
 
 
+        if (ConfigReader.getProperty("jobLinkCheckMode", "click").equals("http")) {
+            // Step 11: tum ilanlarin View Role linkleri tek JS cagrisiyla okunur, tab acmadan HTTP ile paralel kontrol edilir
+            info("check every “view role” link over HTTP");
+            List<ElementSnapshot> jobs = DomSnapshot.query()
+                    .addField(autEx, "careersFilterJobList", Map.of("title", ".position-title", "link", "a@href"))
+                    .captureWhenVisible(Driver.getDriver(), "careersFilterJobList")
+                    .get("careersFilterJobList");
+            Assert.assertFalse(jobs.isEmpty(), "QA ilani bulunamadi");
+            checkJobLinks(jobs);
+            return;
+        }
+
+
         // Step 11: click “view role”,
-        extentTest.info("click “view role");
+        info("click “view role");
         ReusableMethods.scrollToMiddleOfPage(Driver.getDriver(), autEx.carreersFilterSeniorSofwareQualityAssuranceEngineer);
         Thread.sleep(10000);
         ReusableMethods.highLightToElement(autEx.carreersFilterSeniorSofwareQualityAssuranceEngineerViewRole).click();
 
 
-        // Tabları listeleme
-        extentTest.info("Tabları listeleme");
-        List<String> browserTabs = new ArrayList<String>(Driver.getDriver().getWindowHandles());
-        // Yeni taba geçme
-        Driver.getDriver().switchTo().window(browserTabs.get(0));
+        // Tablar WindowRegistry'de tutuluyor, ilk (ana) taba tek komutla geciliyor
+        info("Tabları listeleme");
+        WindowRegistry registry = WindowRegistry.of(Driver.getDriver());
+        if (registry == null || !registry.switchToOldest()) {
+            // registry yoksa (DriverFactory disi driver) ilk handle ana tabdir
+            Driver.getDriver().switchTo().window(Driver.getDriver().getWindowHandles().iterator().next());
+        }
         // işin bittiğinde şuanda olduğun tabı kapatma
         Driver.getDriver().close();
         //Dogru tabda oldugumuzun kontrolunu tittle ile yapıyoruz.
@@ -99,6 +167,28 @@ public class AutomationExercise01 extends TestBaseRapor {
 
 
 
+    }
+
+    /**
+     * Ilan linklerini HTTP ile kontrol eder; linkReplayDir doluysa canli site yerine kayitli sayfalara gider.
+     */
+    private void checkJobLinks(List<ElementSnapshot> jobs) {
+        List<LinkValidator.Link> links = new ArrayList<>();
+        for (ElementSnapshot job : jobs) {
+            links.add(new LinkValidator.Link(job.getField("link"), job.getField("title")));
+        }
+        String replayDir = ConfigReader.getProperty("linkReplayDir", "");
+        List<LinkValidator.Result> results;
+        if (replayDir.isEmpty()) {
+            results = new LinkValidator().validate(links);
+        } else {
+            try (ReplayServer replay = new ReplayServer(Paths.get(replayDir))) {
+                results = new LinkValidator().withUrlMapper(replay::localize).validate(links);
+            }
+        }
+        results.forEach(result -> info(result.toString()));
+        List<LinkValidator.Result> failures = LinkValidator.failures(results);
+        Assert.assertTrue(failures.isEmpty(), failures.toString());
     }
 }
 
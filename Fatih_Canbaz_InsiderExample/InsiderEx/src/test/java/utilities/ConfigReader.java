@@ -34,6 +34,18 @@ public class ConfigReader {
         return properties.getProperty(key);
     }
 
+    /**
+     * Gets the value associated with the given key, falling back to a default when the key is missing.
+     *
+     * @param key          The key to look up in the properties.
+     * @param defaultValue The value returned when the key is not found.
+     * @return The trimmed value associated with the key, or defaultValue if the key is not found.
+     */
+    public static String getProperty(String key, String defaultValue) {
+        String value = properties.getProperty(key);
+        return value == null || value.trim().isEmpty() ? defaultValue : value.trim();
+    }
+
     /**
      * Sets the value for the given key in the properties and updates the configuration file.
      *
@@ -0,0 +1,273 @@
+package utilities;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonObject;
+import com.google.gson.reflect.TypeToken;
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.support.pagefactory.Annotations;
+import org.openqa.selenium.support.ui.FluentWait;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Type;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * DomSnapshot Class
+ * <p>
+ * Reads text, attributes, visibility and bounding boxes of all elements matched by a set of locators in a single
+ * JavaScript call and returns them as {@link ElementSnapshot}s, so checks run in the JVM instead of costing one
+ * getText/isDisplayed/getAttribute round trip per element.
+ * <pre>
+ * DomSnapshot snapshot = DomSnapshot.query()
+ *         .addField(autEx, "careersPageOurLocations")
+ *         .add("jobs", By.cssSelector(".position-list-item"),
+ *                 Map.of("title", ".position-title", "location", ".position-location", "link", "a@href"))
+ *         .capture(Driver.getDriver());
+ * snapshot.first("careersPageOurLocations").isVisible();
+ * snapshot.get("jobs").get(0).getField("location");
+ * snapshot.get("jobs").get(0).getField("link");
+ * </pre>
+ * </p>
+ * <p>
+ * {@link Query#capture(WebDriver)} reads the page as it is at that moment. Right after a click that navigates, use
+ * {@link Query#captureWhenVisible(WebDriver, String...)}: it repeats the single call every 100 ms until the page
+ * has loaded and the named queries have a visible match, like the implicit wait did for isDisplayed().
+ * </p>
+ * <p>
+ * Configuration (configuration.properties):
+ * - domSnapshotTimeoutSeconds: maximum wait of captureWhenVisible (default 15, the implicit wait)
+ * </p>
+ * <p>
+ * Author: Fatih Canbaz
+ * </p>
+ */
+public class DomSnapshot {
+
+    private static final Gson GSON = new Gson();
+    private static final Type RESULT_TYPE = new TypeToken<Map<String, List<ElementSnapshot>>>() {
+    }.getType();
+
+    private static final String SCRIPT = ""
+            + "var queries = arguments[0], out = {};"
+            + "function find(q) {"
+            + "  if (q.using === 'xpath') {"
+            + "    var r = document.evaluate(q.value, document, null, XPathResult.ORDERED_NODE_SNAPSHOT_TYPE, null), a = [];"
+            + "    for (var i = 0; i < r.snapshotLength; i++) { a.push(r.snapshotItem(i)); }"
+            + "    return a;"
+            + "  }"
+            + "  if (q.using === 'link text' || q.using === 'partial link text') {"
+            + "    return Array.prototype.filter.call(document.querySelectorAll('a'), function (e) {"
+            + "      var t = (e.innerText || '').trim();"
+            + "      return q.using === 'link text' ? t === q.value : t.indexOf(q.value) >= 0;"
+            + "    });"
+            + "  }"
+            + "  return Array.prototype.slice.call(document.querySelectorAll(q.value));"
+            + "}"
+            + "function visible(e) {"
+            + "  if (!e.isConnected) { return false; }"
+            + "  var s = getComputedStyle(e);"
+            + "  if (s.display === 'none' || s.visibility === 'hidden' || s.visibility === 'collapse' || parseFloat(s.opacity) === 0) { return false; }"
+            + "  var r = e.getBoundingClientRect();"
+            + "  return r.width > 0 && r.height > 0;"
+            + "}"
+            + "function snap(e, fields) {"
+            + "  var r = e.getBoundingClientRect(), attributes = {}, values = {};"
+            + "  for (var i = 0; i < e.attributes.length; i++) { attributes[e.attributes[i].name] = e.attributes[i].value; }"
+            + "  for (var name in fields) {"
+            + "    var at = fields[name].match(/^(.*)@([\\w:-]+)$/), selector = at ? at[1] : fields[name];"
+            + "    var child = selector ? e.querySelector(selector) : e;"
+            + "    values[name] = !child ? null : !at ? (child.innerText || child.textContent || '').trim()"
+            + "        : (at[2] === 'href' || at[2] === 'src') && child[at[2]] ? child[at[2]] : child.getAttribute(at[2]);"
+            + "  }"
+            + "  return {tag: e.tagName.toLowerCase(), text: (e.innerText || e.textContent || '').trim(), visible: visible(e),"
+            + "          rect: {x: r.left + window.scrollX, y: r.top + window.scrollY, width: r.width, height: r.height},"
+            + "          attributes: attributes, fields: values};"
+            + "}"
+            + "for (var i = 0; i < queries.length; i++) {"
+            + "  var q = queries[i], matches = find(q);"
+            + "  if (q.children) { matches = matches.length ? Array.prototype.slice.call(matches[0].children) : []; }"
+            + "  out[q.name] = matches.map(function (e) { return snap(e, q.fields); });"
+            + "}"
+            + "return JSON.stringify({readyState: document.readyState, elements: out});";
+
+    private static final Duration POLLING = Duration.ofMillis(100);
+
+    private final String readyState;
+    private final Map<String, List<ElementSnapshot>> elements;
+
+    private DomSnapshot(String readyState, Map<String, List<ElementSnapshot>> elements) {
+        this.readyState = readyState;
+        this.elements = elements;
+    }
+
+    public static Query query() {
+        return new Query();
+    }
+
+    /**
+     * All matches of the query with that name, empty if nothing matched.
+     */
+    public List<ElementSnapshot> get(String name) {
+        List<ElementSnapshot> matches = elements.get(name);
+        return matches == null ? Collections.emptyList() : matches;
+    }
+
+    /**
+     * First match of the query with that name, null if nothing matched.
+     */
+    public ElementSnapshot first(String name) {
+        List<ElementSnapshot> matches = get(name);
+        return matches.isEmpty() ? null : matches.get(0);
+    }
+
+    /**
+     * True if the query matched and its first match is visible.
+     */
+    public boolean isVisible(String name) {
+        ElementSnapshot element = first(name);
+        return element != null && element.isVisible();
+    }
+
+    /**
+     * document.readyState when the snapshot was taken.
+     */
+    public String getReadyState() {
+        return readyState;
+    }
+
+    /**
+     * Locators to read in one call.
+     */
+    public static final class Query {
+        private final List<Map<String, Object>> queries = new ArrayList<>();
+
+        private Query() {
+
+        }
+
+        public Query add(String name, By locator) {
+            return add(name, locator, Collections.emptyMap());
+        }
+
+        /**
+         * @param fields alan adi -&gt; eslesen her elementin icinde aranacak CSS locator, sonucta metni okunur;
+         *               "a@href" gibi "@attribute" ile biterse metin yerine o attribute okunur ("@href" elementin kendisi,
+         *               href/src mutlak URL olarak doner)
+         */
+        public Query add(String name, By locator, Map<String, String> fields) {
+            queries.add(toQuery(name, locator, fields, false));
+            return this;
+        }
+
+        /**
+         * Reads the direct children of the container (first match of the locator), e.g. every job of a list.
+         */
+        public Query addChildren(String name, By container, Map<String, String> fields) {
+            queries.add(toQuery(name, container, fields, true));
+            return this;
+        }
+
+        /**
+         * Uses the @FindBy locator of a page object field, the field name is the query name.
+         */
+        public Query addField(Object page, String fieldName) {
+            return addField(page, fieldName, Collections.emptyMap());
+        }
+
+        /**
+         * Like {@link #addField(Object, String)}, also reading the given fields of every match (e.g. a List field).
+         */
+        public Query addField(Object page, String fieldName, Map<String, String> fields) {
+            try {
+                Field field = page.getClass().getField(fieldName);
+                return add(fieldName, new Annotations(field).buildBy(), fields);
+            } catch (NoSuchFieldException e) {
+                throw new IllegalArgumentException(page.getClass().getSimpleName() + " icinde alan yok: " + fieldName, e);
+            }
+        }
+
+        public DomSnapshot capture(WebDriver driver) {
+            String json = (String) ((JavascriptExecutor) driver).executeScript(SCRIPT, queries);
+            Result result = GSON.fromJson(json, Result.class);
+            return new DomSnapshot(result.readyState, GSON.fromJson(result.elements, RESULT_TYPE));
+        }
+
+        /**
+         * Captures until the page has loaded and the first match of every named query is visible, at most
+         * domSnapshotTimeoutSeconds. The last snapshot is returned on timeout too, so the assertions of the
+         * caller report which element was missing.
+         *
+         * @param names gorunur olmasi beklenen query isimleri
+         */
+        public DomSnapshot captureWhenVisible(WebDriver driver, String... names) {
+            DomSnapshot[] last = new DomSnapshot[1];
+            try {
+                new FluentWait<>(driver)
+                        .withTimeout(Duration.ofSeconds(Long.parseLong(
+                                ConfigReader.getProperty("domSnapshotTimeoutSeconds", "15"))))
+                        .pollingEvery(POLLING)
+                        .until(d -> {
+                            last[0] = capture(d);
+                            return "complete".equals(last[0].readyState)
+                                    && Arrays.stream(names).allMatch(last[0]::isVisible);
+                        });
+            } catch (TimeoutException e) {
+                // son snapshot doner, assert hangi elementin eksik oldugunu gosterir
+            }
+            return last[0];
+        }
+
+        private static Map<String, Object> toQuery(String name, By locator, Map<String, String> fields, boolean children) {
+            if (!(locator instanceof By.Remotable)) {
+                throw new IllegalArgumentException("Desteklenmeyen locator: " + locator);
+            }
+            By.Remotable.Parameters parameters = ((By.Remotable) locator).getRemoteParameters();
+            String using = parameters.using();
+            String value = String.valueOf(parameters.value());
+            // id, name, class name ve tag name script'te CSS olarak aranir
+            switch (using) {
+                case "id":
+                    value = "[id=\"" + escape(value) + "\"]";
+                    using = "css selector";
+                    break;
+                case "name":
+                    value = "[name=\"" + escape(value) + "\"]";
+                    using = "css selector";
+                    break;
+                case "class name":
+                    value = "[class~=\"" + escape(value) + "\"]";
+                    using = "css selector";
+                    break;
+                case "tag name":
+                    using = "css selector";
+                    break;
+                default:
+            }
+            Map<String, Object> query = new LinkedHashMap<>();
+            query.put("name", name);
+            query.put("using", using);
+            query.put("value", value);
+            query.put("fields", fields);
+            query.put("children", children);
+            return query;
+        }
+
+        private static String escape(String value) {
+            return value.replace("\\", "\\\\").replace("\"", "\\\"");
+        }
+    }
+
+    private static final class Result {
+        private String readyState;
+        private JsonObject elements;
+    }
+}
@@ -0,0 +1,142 @@
+package utilities;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.FindBy;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+
+public class DomSnapshotTest {
+
+    private static final String CAREERS_PAGE = "{\"readyState\": \"complete\", \"elements\": {"
+            + "\"teams\": [{\"tag\": \"section\", \"text\": \"See all teams\", \"visible\": true,"
+            + "  \"rect\": {\"x\": 0, \"y\": 900, \"width\": 1200, \"height\": 400},"
+            + "  \"attributes\": {\"id\": \"career-find-our-calling\"}, \"fields\": {\"link\": \"https://useinsider.com/careers/\"}}],"
+            + "\"locations\": [{\"tag\": \"section\", \"text\": \"\", \"visible\": false, \"attributes\": {}, \"fields\": {}}],"
+            + "\"jobs\": []}}";
+
+    @Test
+    public void fieldLocatorsAreSentAsScriptQueries() {
+        FakeDriver fake = new FakeDriver(CAREERS_PAGE);
+        DomSnapshot.query()
+                .addField(new CareersPage(), "teams", Map.of("link", "a@href"))
+                .addField(new CareersPage(), "locations")
+                .addField(new CareersPage(), "heading")
+                .addField(new CareersPage(), "search")
+                .addField(new CareersPage(), "sections")
+                .addField(new CareersPage(), "jobs")
+                .addChildren("jobList", By.linkText("QA"), Map.of())
+                .capture(fake.driver());
+
+        List<Map<String, Object>> queries = fake.queries.get(0);
+        // id, class name, name ve tag name script'te CSS olarak aranir
+        assertQuery(queries.get(0), "teams", "css selector", "[id=\"career-find-our-calling\"]");
+        Assert.assertEquals(queries.get(0).get("fields"), Map.of("link", "a@href"));
+        assertQuery(queries.get(1), "locations", "css selector", "[class~=\"career-our-location\"]");
+        assertQuery(queries.get(2), "heading", "xpath", "//h3[contains(., \"Life at Insider\")]");
+        assertQuery(queries.get(3), "search", "css selector", "[name=\"q\\\"x\"]");
+        assertQuery(queries.get(4), "sections", "css selector", "section");
+        assertQuery(queries.get(5), "jobs", "css selector", ".position-list-item");
+        Assert.assertEquals(queries.get(5).get("children"), false);
+        assertQuery(queries.get(6), "jobList", "link text", "QA");
+        Assert.assertEquals(queries.get(6).get("children"), true);
+    }
+
+    @Test
+    public void snapshotIsReadFromScriptResult() {
+        DomSnapshot snapshot = DomSnapshot.query()
+                .addField(new CareersPage(), "teams")
+                .capture(new FakeDriver(CAREERS_PAGE).driver());
+
+        Assert.assertEquals(snapshot.getReadyState(), "complete");
+        Assert.assertTrue(snapshot.isVisible("teams"));
+        Assert.assertFalse(snapshot.isVisible("locations"));
+        Assert.assertFalse(snapshot.isVisible("jobs"));
+        Assert.assertNull(snapshot.first("unknown"));
+        Assert.assertTrue(snapshot.get("unknown").isEmpty());
+        ElementSnapshot teams = snapshot.first("teams");
+        Assert.assertEquals(teams.getText(), "See all teams");
+        Assert.assertEquals(teams.getAttribute("id"), "career-find-our-calling");
+        Assert.assertEquals(teams.getField("link"), "https://useinsider.com/careers/");
+    }
+
+    @Test
+    public void captureWhenVisibleWaitsForLoadAndElements() {
+        FakeDriver fake = new FakeDriver(
+                "{\"readyState\": \"loading\", \"elements\": {\"teams\": []}}",
+                "{\"readyState\": \"complete\", \"elements\": {\"teams\": [{\"visible\": false}]}}",
+                CAREERS_PAGE);
+        DomSnapshot snapshot = DomSnapshot.query()
+                .addField(new CareersPage(), "teams")
+                .captureWhenVisible(fake.driver(), "teams");
+
+        Assert.assertTrue(snapshot.isVisible("teams"));
+        Assert.assertEquals(fake.queries.size(), 3);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void unknownFieldIsRejected() {
+        DomSnapshot.query().addField(new CareersPage(), "missing");
+    }
+
+    public static class CareersPage {
+        @FindBy(id = "career-find-our-calling")
+        public WebElement teams;
+
+        @FindBy(className = "career-our-location")
+        public WebElement locations;
+
+        @FindBy(xpath = "//h3[contains(., \"Life at Insider\")]")
+        public WebElement heading;
+
+        @FindBy(name = "q\"x")
+        public WebElement search;
+
+        @FindBy(tagName = "section")
+        public List<WebElement> sections;
+
+        @FindBy(css = ".position-list-item")
+        public List<WebElement> jobs;
+    }
+
+    private static void assertQuery(Map<String, Object> query, String name, String using, String value) {
+        Assert.assertEquals(query.get("name"), name);
+        Assert.assertEquals(query.get("using"), using);
+        Assert.assertEquals(query.get("value"), value);
+    }
+
+    // executeScript argumanlarini saklar, sirayla verilen JSON'lari doner (sonuncusu tekrar edilir)
+    private static final class FakeDriver {
+        private final Deque<String> results;
+        private final List<List<Map<String, Object>>> queries = new ArrayList<>();
+
+        FakeDriver(String... results) {
+            this.results = new ArrayDeque<>(Arrays.asList(results));
+        }
+
+        @SuppressWarnings("unchecked")
+        WebDriver driver() {
+            return (WebDriver) Proxy.newProxyInstance(getClass().getClassLoader(),
+                    new Class<?>[]{WebDriver.class, JavascriptExecutor.class}, (proxy, method, args) -> {
+                        if (method.getName().equals("executeScript")) {
+                            queries.add((List<Map<String, Object>>) ((Object[]) args[1])[0]);
+                            return results.size() > 1 ? results.poll() : results.peek();
+                        }
+                        if (method.getName().equals("toString")) {
+                            return "FakeDriver";
+                        }
+                        throw new UnsupportedOperationException(method.getName());
+                    });
+        }
+    }
+}
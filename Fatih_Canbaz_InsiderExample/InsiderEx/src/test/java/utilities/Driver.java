@@ -1,13 +1,8 @@
 package utilities;
 
-import io.github.bonigarcia.wdm.WebDriverManager;
 import org.openqa.selenium.WebDriver;
-import org.openqa.selenium.chrome.ChromeDriver;
-import org.openqa.selenium.edge.EdgeDriver;
-import org.openqa.selenium.firefox.FirefoxDriver;
-import org.openqa.selenium.safari.SafariDriver;
 
-import java.time.Duration;
+import java.util.Objects;
 
 public class Driver {
     /*
@@ -25,40 +20,34 @@ public class Driver {
     }
 
     static WebDriver driver;
+    // TestBaseLifecycle'in sectigi browser, null ise configuration.properties
+    private static String browser;
 
     public static WebDriver getDriver() {
 
         if (driver == null) {
-            switch (ConfigReader.getProperty("browser")) {
-                case "chrome":
-                    WebDriverManager.chromedriver().setup();
-                    driver = new ChromeDriver();
-                    break;
-                case "safari":
-                    WebDriverManager.safaridriver().setup();
-                    driver = new SafariDriver();
-                    break;
-                case "firefox":
-                    WebDriverManager.firefoxdriver().setup();
-                    driver = new FirefoxDriver();
-                    break;
-                case "edge":
-                    WebDriverManager.edgedriver().setup();
-                    driver = new EdgeDriver();
-                    break;
-                default:
-                    WebDriverManager.chromedriver().setup();
-                    driver = new ChromeDriver();
-
-            }
-
-
-            driver.manage().window().maximize();
-            driver.manage().timeouts().implicitlyWait(Duration.ofSeconds(15));
+            // browser secimi, maximize ve implicit wait DriverFactory'de
+            driver = DriverFactory.createDriver(browser != null ? browser : ConfigReader.getProperty("browser"), "Driver");
         }
         return driver;
     }
 
+    /**
+     * Browser of the next getDriver(); an open driver of another browser is quit.
+     *
+     * @param browser chrome, firefox, edge, safari; null = configuration.properties
+     */
+    public static void useBrowser(String browser) {
+        if (!Objects.equals(browser, Driver.browser)) {
+            quitDriver();
+            Driver.browser = browser;
+        }
+    }
+
+    public static boolean isOpen() {
+        return driver != null;
+    }
+
 
     public static void closeDriver(){
 
@@ -0,0 +1,196 @@
+package utilities;
+
+import io.github.bonigarcia.wdm.WebDriverManager;
+import org.openqa.selenium.Capabilities;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.chrome.ChromeDriver;
+import org.openqa.selenium.chrome.ChromeDriverService;
+import org.openqa.selenium.chrome.ChromeOptions;
+import org.openqa.selenium.edge.EdgeDriver;
+import org.openqa.selenium.edge.EdgeDriverService;
+import org.openqa.selenium.edge.EdgeOptions;
+import org.openqa.selenium.firefox.FirefoxDriver;
+import org.openqa.selenium.firefox.FirefoxOptions;
+import org.openqa.selenium.firefox.GeckoDriverService;
+import org.openqa.selenium.remote.Augmenter;
+import org.openqa.selenium.remote.RemoteWebDriver;
+import org.openqa.selenium.remote.http.ClientConfig;
+import org.openqa.selenium.remote.service.DriverService;
+import org.openqa.selenium.safari.SafariDriver;
+import org.openqa.selenium.safari.SafariDriverService;
+import org.openqa.selenium.safari.SafariOptions;
+import org.openqa.selenium.support.events.EventFiringDecorator;
+import org.openqa.selenium.support.events.WebDriverListener;
+import utilities.performance.CommandProfiler;
+import utilities.performance.HarRecorder;
+import utilities.performance.Metrics;
+import utilities.performance.NavigationTimingListener;
+import utilities.performance.ScriptTimingListener;
+import utilities.performance.WebVitalsCollector;
+import utilities.performance.StartupTelemetry;
+import utilities.trace.CommandTrace;
+
+import java.io.IOException;
+import java.net.URL;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * DriverFactory Class
+ * <p>
+ * Starts a browser the same way for {@link Driver}, {@link DriverCross} and the TestBase classes: driver binary
+ * via WebDriverManager, maximized window and 15 seconds implicit wait. The driver service is started explicitly
+ * before the session is created so that {@link StartupTelemetry} can tell the process launch apart from the
+ * session handshake. The returned driver records the page timings of every driver.get() (see
+ * {@link NavigationTimingListener}) and, on Chromium, the Web Vitals of every page (see {@link WebVitalsCollector}).
+ * When gridMode is not "local" the browser is a RemoteWebDriver session on the {@link LocalGrid} instead.
+ * </p>
+ * <p>
+ * Author: Fatih Canbaz
+ * </p>
+ */
+public class DriverFactory {
+
+    private DriverFactory() {
+
+    }
+
+    /**
+     * @param browser chrome, firefox, edge, safari (bilinmeyen deger icin chrome)
+     * @param source  driver'i isteyen class, telemetride gorunur
+     */
+    public static WebDriver createDriver(String browser, String source) {
+        StartupTelemetry.Session session = StartupTelemetry.start(browser, source);
+        WebDriver driver;
+        if (LocalGrid.isEnabled()) {
+            driver = remote(session, browser == null ? "chrome" : browser);
+        } else {
+            switch (browser == null ? "chrome" : browser) {
+                case "safari":
+                    driver = launch(session, WebDriverManager.safaridriver(),
+                            SafariDriverService::createDefaultService, SafariDriver::new);
+                    break;
+                case "firefox":
+                    driver = launch(session, WebDriverManager.firefoxdriver(),
+                            GeckoDriverService::createDefaultService, FirefoxDriver::new);
+                    break;
+                case "edge":
+                    driver = launch(session, WebDriverManager.edgedriver(),
+                            EdgeDriverService::createDefaultService, EdgeDriver::new);
+                    break;
+                case "chrome":
+                default:
+                    driver = launch(session, WebDriverManager.chromedriver(),
+                            ChromeDriverService::createDefaultService, ChromeDriver::new);
+            }
+        }
+
+        long start = System.nanoTime();
+        driver.manage().window().maximize();
+        session.record("maximize", start);
+
+        start = System.nanoTime();
+        driver.manage().timeouts().implicitlyWait(Duration.ofSeconds(15));
+        session.record("implicitWait", start);
+
+        session.finish();
+        Metrics.DRIVER_LAUNCHES.inc(session.getBrowser());
+        Metrics.DRIVER_LAUNCH_DURATION.observe(session.getTotalMillis() / 1000, session.getBrowser());
+
+        List<WebDriverListener> listeners = new ArrayList<>();
+        if (Boolean.parseBoolean(ConfigReader.getProperty("commandTraceEnabled", "true"))) {
+            // her WebDriver komutu thread'in ring buffer'ina, test fail olursa CommandTraceListener dosyaya yazar
+            listeners.add(new CommandTrace());
+        }
+        if (Boolean.parseBoolean(ConfigReader.getProperty("navigationTimingEnabled", "true"))) {
+            // her driver.get() sonrasi Navigation/Resource Timing kaydedilir
+            listeners.add(new NavigationTimingListener());
+        }
+        if (Boolean.parseBoolean(ConfigReader.getProperty("webVitalsEnabled", "true")) && WebVitalsCollector.attach(driver)) {
+            // sadece Chromium: LCP, CLS, INP ve long task'lar sayfa terk edilirken raporlanir
+            listeners.add(new WebVitalsCollector());
+        }
+        if (Boolean.parseBoolean(ConfigReader.getProperty("metricsEnabled", "true"))) {
+            // executeScript/executeAsyncScript sayisi ve suresi (Metrics)
+            listeners.add(new ScriptTimingListener());
+        }
+        if (CommandProfiler.ENABLED) {
+            // komut sureleri helper, sayfa field'i ve adim bazinda (CommandProfileListener raporlar)
+            listeners.add(new CommandProfiler());
+        }
+        // pencere/tab bilgileri: switchToWindow tek komutla gecis yapar
+        listeners.add(WindowRegistry.attach(driver));
+        if (Boolean.parseBoolean(ConfigReader.getProperty("harCaptureEnabled", "false"))) {
+            // test basina gzip'li HAR, HarCaptureListener yazar
+            HarRecorder.attach(driver, browser);
+        }
+        if (!listeners.isEmpty()) {
+            driver = new EventFiringDecorator<>(listeners.toArray(new WebDriverListener[0])).decorate(driver);
+        }
+        return driver;
+    }
+
+    // Grid'de session acilir; bos slot yoksa session Grid kuyrugunda bekler
+    private static WebDriver remote(StartupTelemetry.Session session, String browser) {
+        long start = System.nanoTime();
+        URL url = LocalGrid.getUrl();
+        session.record("gridStart", start);
+
+        Capabilities options;
+        switch (browser) {
+            case "safari":
+                options = new SafariOptions();
+                break;
+            case "firefox":
+                options = new FirefoxOptions();
+                break;
+            case "edge":
+                options = new EdgeOptions();
+                break;
+            case "chrome":
+            default:
+                options = new ChromeOptions();
+        }
+        start = System.nanoTime();
+        WebDriver driver = RemoteWebDriver.builder()
+                .oneOf(options)
+                .config(ClientConfig.defaultConfig().baseUrl(url)
+                        .readTimeout(Duration.ofSeconds(LocalGrid.getSessionRequestTimeout() + 30L)))
+                // CDP (HasDevTools) kullanan kayitlar icin
+                .augmentUsing(new Augmenter())
+                .build();
+        session.record("sessionHandshake", start);
+        return driver;
+    }
+
+    private static <S extends DriverService> WebDriver launch(StartupTelemetry.Session session, WebDriverManager manager,
+                                                              Supplier<S> serviceFactory, Function<S, WebDriver> sessionFactory) {
+        long start = System.nanoTime();
+        manager.setup();
+        session.record("binaryResolution", start);
+
+        start = System.nanoTime();
+        S service = serviceFactory.get();
+        try {
+            service.start();
+        } catch (IOException e) {
+            throw new WebDriverException("Driver servisi baslatilamadi", e);
+        }
+        session.record("processLaunch", start);
+
+        start = System.nanoTime();
+        try {
+            // servis calistigi icin driver onu tekrar baslatmaz, sadece session acar
+            WebDriver driver = sessionFactory.apply(service);
+            session.record("sessionHandshake", start);
+            return driver;
+        } catch (RuntimeException e) {
+            service.stop();
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package utilities;
+
+import java.util.Locale;
+
+/**
+ * DriverScope Enum
+ * <p>
+ * How long a browser of {@link TestBaseLifecycle} lives: one per test method, per test class, per &lt;test&gt; of
+ * the suite xml or one for the whole suite. A wider scope means fewer browser launches, a narrower one more
+ * isolation between tests.
+ * </p>
+ * <p>
+ * Author: Fatih Canbaz
+ * </p>
+ */
+public enum DriverScope {
+    METHOD, CLASS, TEST, SUITE;
+
+    /**
+     * @param value method, class, test, suite (buyuk/kucuk harf farketmez)
+     */
+    public static DriverScope of(String value) {
+        try {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Bilinmeyen driverScope: " + value + " (method, class, test, suite)");
+        }
+    }
+}
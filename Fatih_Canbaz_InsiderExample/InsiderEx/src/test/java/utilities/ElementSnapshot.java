@@ -0,0 +1,98 @@
+package utilities;
+
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * ElementSnapshot Class
+ * <p>
+ * State of one element as read by {@link DomSnapshot}: tag, visible text, visibility, bounding box (document
+ * coordinates, like {@link org.openqa.selenium.WebElement#getRect()}), all attributes and the texts of the
+ * requested child fields.
+ * </p>
+ * <p>
+ * Author: Fatih Canbaz
+ * </p>
+ */
+public class ElementSnapshot {
+
+    private String tag;
+    private String text;
+    private boolean visible;
+    private Rect rect;
+    private Map<String, String> attributes;
+    private Map<String, String> fields;
+
+    public String getTag() {
+        return tag;
+    }
+
+    public String getText() {
+        return text;
+    }
+
+    public boolean isVisible() {
+        return visible;
+    }
+
+    public Rect getRect() {
+        return rect;
+    }
+
+    public String getAttribute(String name) {
+        return attributes == null ? null : attributes.get(name);
+    }
+
+    public Map<String, String> getAttributes() {
+        return attributes == null ? Collections.emptyMap() : attributes;
+    }
+
+    /**
+     * Text of a child field, null if the child does not exist in this element.
+     *
+     * @param name {@link DomSnapshot.Query#add(String, org.openqa.selenium.By, Map)} ile verilen alan adi
+     */
+    public String getField(String name) {
+        return fields == null ? null : fields.get(name);
+    }
+
+    public Map<String, String> getFields() {
+        return fields == null ? Collections.emptyMap() : fields;
+    }
+
+    @Override
+    public String toString() {
+        return "<" + tag + "> '" + text + "' visible=" + visible + " " + rect;
+    }
+
+    /**
+     * Bounding box in CSS pixels.
+     */
+    public static final class Rect {
+        private double x;
+        private double y;
+        private double width;
+        private double height;
+
+        public double getX() {
+            return x;
+        }
+
+        public double getY() {
+            return y;
+        }
+
+        public double getWidth() {
+            return width;
+        }
+
+        public double getHeight() {
+            return height;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("(%.0f, %.0f, %.0fx%.0f)", x, y, width, height);
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package utilities;
+
+import com.aventstack.extentreports.ExtentReports;
+import com.aventstack.extentreports.reporter.ExtentHtmlReporter;
+
+/**
+ * ExtentReportFactory Class
+ * <p>
+ * Creates the ExtentReports instance and its HTML reporter the way {@link TestBaseRapor} uses them.
+ * </p>
+ * <p>
+ * Author: Fatih Canbaz
+ * </p>
+ */
+public class ExtentReportFactory {
+
+    private ExtentReportFactory() {
+
+    }
+
+    /**
+     * HTML raporu (dosya yolu, baslik, rapor adi) hazirlar.
+     *
+     * @param filePath raporun yazilacagi html dosyasi
+     */
+    public static ExtentHtmlReporter createHtmlReporter(String filePath) {
+        ExtentHtmlReporter extentHtmlReporter = new ExtentHtmlReporter(filePath);
+        extentHtmlReporter.config().setDocumentTitle("Rapor");
+        extentHtmlReporter.config().setReportName("TestNG Reports");
+        return extentHtmlReporter;
+    }
+
+    /**
+     * Raporlamayi baslatir, html raporu ekler ve sistem bilgilerini yazar.
+     *
+     * @param extentHtmlReporter {@link #createHtmlReporter(String)} ile hazirlanan reporter
+     */
+    public static ExtentReports createReports(ExtentHtmlReporter extentHtmlReporter) {
+        ExtentReports extentReports = new ExtentReports();
+        extentReports.attachReporter(extentHtmlReporter);
+
+        // İstediğiniz bilgileri buraya ekeyebiliyorsunuz.
+        extentReports.setSystemInfo("Environment", "Test");
+        extentReports.setSystemInfo("Browser", ConfigReader.getProperty("browser")); // chrome, firefox
+        extentReports.setSystemInfo("Automation Engineer", "Fatih Canbaz");
+        return extentReports;
+    }
+}
@@ -0,0 +1,186 @@
+package utilities;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.OutputType;
+import org.openqa.selenium.TakesScreenshot;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.devtools.Command;
+import org.openqa.selenium.devtools.DevTools;
+import org.openqa.selenium.devtools.HasDevTools;
+import org.openqa.selenium.json.Json;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * FullPageScreenshot Class
+ * <p>
+ * Captures the whole page, not just the viewport, as a PNG. The page is captured in horizontal tiles which are
+ * appended to a {@link StreamingPngWriter} one after another, so only one decoded tile is in memory at a time,
+ * however tall the page is.
+ * - Chromium: every tile is a Page.captureScreenshot clip with captureBeyondViewport, the page is not scrolled.
+ * - Other browsers (or if CDP is not available): the page is scrolled one viewport at a time and the overlap of
+ *   the last tile is cut off. Fixed/sticky elements (headers, cookie bars) are hidden after the first tile so that
+ *   they are not repeated on every tile.
+ * </p>
+ * <p>
+ * Configuration (configuration.properties):
+ * - screenshotTileHeight: CSS pixel height of one CDP tile (default 2000)
+ * - screenshotMaxTiles: upper bound of tiles, protects against endless (infinite scroll) pages (default 100)
+ * </p>
+ * <p>
+ * Author: Fatih Canbaz
+ * </p>
+ */
+public class FullPageScreenshot {
+
+    private static final Logger LOG = LoggerFactory.getLogger(FullPageScreenshot.class);
+
+    private static final int TILE_HEIGHT = Integer.parseInt(ConfigReader.getProperty("screenshotTileHeight", "2000"));
+    private static final int MAX_TILES = Integer.parseInt(ConfigReader.getProperty("screenshotMaxTiles", "100"));
+
+    private static final String PAGE_SIZE_SCRIPT = ""
+            + "var d = document.documentElement, b = document.body || d;"
+            + "return [window.innerHeight, Math.max(d.scrollHeight, b.scrollHeight), window.scrollY];";
+    private static final String HIDE_FIXED_SCRIPT = ""
+            + "var hidden = [];"
+            + "document.querySelectorAll('body *').forEach(function (e) {"
+            + "  var p = getComputedStyle(e).position;"
+            + "  if ((p === 'fixed' || p === 'sticky') && e.style.visibility !== 'hidden') {"
+            + "    e.setAttribute('data-fps-visibility', e.style.visibility); e.style.visibility = 'hidden'; hidden.push(e);"
+            + "  }"
+            + "});"
+            + "return hidden.length;";
+    private static final String RESTORE_FIXED_SCRIPT = ""
+            + "document.querySelectorAll('[data-fps-visibility]').forEach(function (e) {"
+            + "  e.style.visibility = e.getAttribute('data-fps-visibility'); e.removeAttribute('data-fps-visibility');"
+            + "});"
+            + "window.scrollTo({top: arguments[0], behavior: 'instant'});";
+
+    private FullPageScreenshot() {
+
+    }
+
+    /**
+     * Saves a full page PNG to the given path and returns the file.
+     *
+     * @param driver WebDriver instance
+     * @param target png dosya yolu
+     */
+    public static File save(WebDriver driver, String target) throws IOException {
+        File file = new File(target);
+        if (file.getParentFile() != null) {
+            file.getParentFile().mkdirs();
+        }
+        if (driver instanceof HasDevTools) {
+            try {
+                captureWithDevTools(driver, target);
+                return file;
+            } catch (WebDriverException e) {
+                LOG.warn("CDP ile tam sayfa goruntu alinamadi, kaydirarak alinacak: {}", e.getMessage());
+            }
+        }
+        captureByScrolling(driver, target);
+        return file;
+    }
+
+    // ========================================
+    // CDP (Chromium)
+    // ========================================
+
+    @SuppressWarnings("unchecked")
+    private static void captureWithDevTools(WebDriver driver, String target) throws IOException {
+        DevTools devTools = ((HasDevTools) driver).getDevTools();
+        devTools.createSessionIfThereIsNotOne();
+        Map<String, Object> metrics = devTools.send(new Command<>("Page.getLayoutMetrics", Map.of(),
+                input -> input.<Map<String, Object>>read(Json.MAP_TYPE)));
+        // cssContentSize Chrome 92+, eski surumlerde contentSize
+        Map<String, Object> content = (Map<String, Object>) metrics.getOrDefault("cssContentSize", metrics.get("contentSize"));
+        int width = (int) Math.ceil(((Number) content.get("width")).doubleValue());
+        int height = (int) Math.ceil(((Number) content.get("height")).doubleValue());
+
+        StreamingPngWriter writer = null;
+        try {
+            for (int y = 0, tile = 0; y < height && tile < MAX_TILES; y += TILE_HEIGHT, tile++) {
+                Map<String, Object> clip = Map.of("x", 0, "y", y, "width", width,
+                        "height", Math.min(TILE_HEIGHT, height - y), "scale", 1);
+                String data = devTools.send(new Command<>("Page.captureScreenshot",
+                        Map.of("format", "png", "clip", clip, "captureBeyondViewport", true, "fromSurface", true),
+                        input -> (String) input.<Map<String, Object>>read(Json.MAP_TYPE).get("data")));
+                BufferedImage image = decode(Base64.getDecoder().decode(data));
+                if (writer == null) {
+                    writer = new StreamingPngWriter(target, image.getWidth());
+                }
+                writer.writeImage(image);
+            }
+        } finally {
+            if (writer != null) {
+                writer.close();
+            }
+        }
+    }
+
+    // ========================================
+    // SCROLL AND STITCH
+    // ========================================
+
+    private static void captureByScrolling(WebDriver driver, String target) throws IOException {
+        JavascriptExecutor js = (JavascriptExecutor) driver;
+        List<Number> size = pageSize(js);
+        long viewportHeight = size.get(0).longValue();
+        long initialScroll = size.get(2).longValue();
+        long covered = 0;
+        StreamingPngWriter writer = null;
+        try {
+            for (int tile = 0; covered < size.get(1).longValue() && tile < MAX_TILES; tile++) {
+                // scroll-behavior: smooth olan sayfalarda da aninda kaydirilsin
+                js.executeScript("window.scrollTo({top: arguments[0], behavior: 'instant'});", covered);
+                size = pageSize(js);
+                // son karede sayfa sonuna dayanildigi icin scrollY istenenden kucuk olabilir
+                long overlap = Math.max(0, covered - size.get(2).longValue());
+                BufferedImage image = decode(((TakesScreenshot) driver).getScreenshotAs(OutputType.BYTES));
+                double ratio = image.getHeight() / (double) viewportHeight;
+                long rows = Math.min(viewportHeight - overlap, size.get(1).longValue() - covered);
+                if (rows <= 0) {
+                    break;
+                }
+                if (writer == null) {
+                    writer = new StreamingPngWriter(target, image.getWidth());
+                }
+                int from = (int) Math.round(overlap * ratio);
+                writer.writeRows(image, from, from + (int) Math.round(rows * ratio));
+                covered += rows;
+                if (tile == 0) {
+                    js.executeScript(HIDE_FIXED_SCRIPT);
+                }
+            }
+        } finally {
+            js.executeScript(RESTORE_FIXED_SCRIPT, initialScroll);
+            if (writer != null) {
+                writer.close();
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<Number> pageSize(JavascriptExecutor js) {
+        return (List<Number>) js.executeScript(PAGE_SIZE_SCRIPT);
+    }
+
+    private static BufferedImage decode(byte[] png) throws IOException {
+        BufferedImage image = ImageIO.read(new ByteArrayInputStream(png));
+        if (image == null) {
+            throw new IOException("Ekran goruntusu okunamadi");
+        }
+        return image;
+    }
+}
@@ -0,0 +1,333 @@
+package utilities;
+
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import io.github.bonigarcia.wdm.WebDriverManager;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.grid.commands.Standalone;
+import org.openqa.selenium.grid.config.MapConfig;
+import org.openqa.selenium.grid.server.Server;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * LocalGrid Class
+ * <p>
+ * Address of the Selenium Grid that {@link DriverFactory} opens RemoteWebDriver sessions on when gridMode is not
+ * "local". In "inprocess" and "process" mode a standalone Grid (hub and one node) is started on the first session,
+ * inside this JVM or as a child java process with the same classpath, and stopped when the JVM exits. The node
+ * has gridMaxSessions slots shared by the gridBrowsers; sessions that find no free slot wait in the session queue
+ * of the Grid for up to gridSessionRequestTimeout seconds, so tests can run with more threads than browsers. In
+ * "remote" mode the same suites run unchanged against gridUrl. Driver binaries are resolved with WebDriverManager
+ * as in local mode and handed to the node as webdriver.*.driver system properties.
+ * </p>
+ * <p>
+ * Configuration (configuration.properties):
+ * - gridMode: local, inprocess, process, remote (default local, no Grid)
+ * - gridUrl: address of the Grid in remote mode (default http://localhost:4444)
+ * - gridPort: port of the local Grid (default 4444)
+ * - gridMaxSessions: browser slots of the local node (default number of processors)
+ * - gridBrowsers: browsers of the local node, comma separated (default the browser key, otherwise chrome)
+ * - gridSessionRequestTimeout: seconds a new session waits for a free slot (default 300)
+ * </p>
+ * <p>
+ * Author: Fatih Canbaz
+ * </p>
+ */
+public class LocalGrid {
+
+    private static final Logger LOG = LoggerFactory.getLogger(LocalGrid.class);
+
+    private static final String MODE = ConfigReader.getProperty("gridMode", "local");
+    private static final long START_TIMEOUT_MILLIS = 60_000;
+
+    private static URL url;
+    private static Server<?> server;
+    private static Process process;
+
+    private LocalGrid() {
+
+    }
+
+    /**
+     * True if drivers are RemoteWebDriver sessions on a Grid.
+     */
+    public static boolean isEnabled() {
+        return !"local".equals(MODE);
+    }
+
+    /**
+     * Seconds a new session may wait in the queue of the Grid; the client read timeout must be longer.
+     */
+    public static int getSessionRequestTimeout() {
+        return Integer.parseInt(ConfigReader.getProperty("gridSessionRequestTimeout", "300"));
+    }
+
+    /**
+     * Address of the Grid, a local one is started on the first call.
+     */
+    public static synchronized URL getUrl() {
+        if (url != null) {
+            return url;
+        }
+        try {
+            switch (MODE) {
+                case "remote":
+                    url = new URL(ConfigReader.getProperty("gridUrl", "http://localhost:4444"));
+                    return url;
+                case "inprocess":
+                case "process":
+                    break;
+                default:
+                    throw new WebDriverException("Bilinmeyen gridMode: " + MODE);
+            }
+            int port = Integer.parseInt(ConfigReader.getProperty("gridPort", "4444"));
+            URL address = new URL("http://localhost:" + port + "/");
+            Map<String, String> drivers = resolveDrivers();
+            Map<String, Object> config = config(port);
+            long start = System.currentTimeMillis();
+            if (MODE.equals("inprocess")) {
+                server = new Standalone().asServer(new MapConfig(config)).start();
+            } else {
+                process = startProcess(config, drivers);
+            }
+            Runtime.getRuntime().addShutdownHook(new Thread(LocalGrid::stop, "local-grid-stop"));
+            waitUntilReady(address);
+            LOG.info("Local Grid ({}, {} slot): {}ui ({} ms)", MODE, maxSessions(), address,
+                    System.currentTimeMillis() - start);
+            url = address;
+            return url;
+        } catch (IOException e) {
+            stop();
+            throw new WebDriverException("Grid baslatilamadi", e);
+        }
+    }
+
+    /**
+     * Stops the local Grid if one was started.
+     */
+    public static synchronized void stop() {
+        if (server != null) {
+            server.stop();
+            server = null;
+        }
+        if (process != null) {
+            process.destroy();
+            try {
+                if (!process.waitFor(10, TimeUnit.SECONDS)) {
+                    process.destroyForcibly();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            process = null;
+        }
+        url = null;
+    }
+
+    // node ayni JVM'de driver'lari bu system property'lerden bulur
+    private static Map<String, String> resolveDrivers() {
+        Map<String, String> drivers = new LinkedHashMap<>();
+        for (String browser : browsers()) {
+            WebDriverManager manager;
+            String property;
+            switch (browser) {
+                case "firefox":
+                    manager = WebDriverManager.firefoxdriver();
+                    property = "webdriver.gecko.driver";
+                    break;
+                case "edge":
+                    manager = WebDriverManager.edgedriver();
+                    property = "webdriver.edge.driver";
+                    break;
+                case "safari":
+                    // safaridriver macOS ile gelir
+                    continue;
+                case "chrome":
+                default:
+                    manager = WebDriverManager.chromedriver();
+                    property = "webdriver.chrome.driver";
+            }
+            manager.setup();
+            if (manager.getDownloadedDriverPath() != null) {
+                drivers.put(property, manager.getDownloadedDriverPath());
+            }
+        }
+        return drivers;
+    }
+
+    private static Map<String, Object> config(int port) {
+        List<Map<String, Object>> drivers = new ArrayList<>();
+        for (String browser : browsers()) {
+            Map<String, Object> driver = new LinkedHashMap<>();
+            driver.put("display-name", browser);
+            driver.put("max-sessions", maxSessions());
+            driver.put("stereotype", "{\"browserName\": \"" + browserName(browser) + "\"}");
+            drivers.add(driver);
+        }
+        Map<String, Object> server = new LinkedHashMap<>();
+        server.put("host", "localhost");
+        server.put("port", port);
+        Map<String, Object> node = new LinkedHashMap<>();
+        node.put("detect-drivers", false);
+        node.put("max-sessions", maxSessions());
+        node.put("override-max-sessions", true);
+        node.put("driver-configuration", drivers);
+        Map<String, Object> queue = new LinkedHashMap<>();
+        queue.put("session-request-timeout", getSessionRequestTimeout());
+        Map<String, Object> config = new LinkedHashMap<>();
+        config.put("server", server);
+        config.put("node", node);
+        config.put("sessionqueue", queue);
+        return config;
+    }
+
+    // child process ayni ayarlari TOML config dosyasindan okur
+    private static Process startProcess(Map<String, Object> config, Map<String, String> drivers) throws IOException {
+        File directory = new File(System.getProperty("user.dir") + "/test-output/grid");
+        directory.mkdirs();
+        File toml = new File(directory, "grid.toml");
+        Files.write(toml.toPath(), toToml(config).getBytes(StandardCharsets.UTF_8));
+
+        List<String> command = new ArrayList<>();
+        command.add(Paths.get(System.getProperty("java.home"), "bin", "java").toString());
+        for (Map.Entry<String, String> driver : drivers.entrySet()) {
+            command.add("-D" + driver.getKey() + "=" + driver.getValue());
+        }
+        command.add("-cp");
+        command.add(System.getProperty("java.class.path"));
+        command.add("org.openqa.selenium.grid.Main");
+        command.add("standalone");
+        command.add("--config");
+        command.add(toml.getAbsolutePath());
+        return new ProcessBuilder(command).redirectErrorStream(true)
+                .redirectOutput(new File(directory, "grid.log")).start();
+    }
+
+    @SuppressWarnings("unchecked")
+    static String toToml(Map<String, Object> config) {
+        StringBuilder toml = new StringBuilder();
+        for (Map.Entry<String, Object> section : config.entrySet()) {
+            toml.append('[').append(section.getKey()).append("]\n");
+            Map<String, Object> values = (Map<String, Object>) section.getValue();
+            for (Map.Entry<String, Object> value : values.entrySet()) {
+                if (!(value.getValue() instanceof List)) {
+                    toml.append(value.getKey()).append(" = ").append(tomlValue(value.getValue())).append('\n');
+                }
+            }
+            // tablo dizileri ([[node.driver-configuration]]) section'in sonunda
+            for (Map.Entry<String, Object> value : values.entrySet()) {
+                if (value.getValue() instanceof List) {
+                    for (Map<String, Object> table : (List<Map<String, Object>>) value.getValue()) {
+                        toml.append("\n[[").append(section.getKey()).append('.').append(value.getKey()).append("]]\n");
+                        for (Map.Entry<String, Object> entry : table.entrySet()) {
+                            toml.append(entry.getKey()).append(" = ").append(tomlValue(entry.getValue())).append('\n');
+                        }
+                    }
+                }
+            }
+            toml.append('\n');
+        }
+        return toml.toString();
+    }
+
+    private static String tomlValue(Object value) {
+        if (value instanceof Number || value instanceof Boolean) {
+            return value.toString();
+        }
+        String text = value.toString();
+        // literal string, JSON stereotype'taki tirnaklar kacirilmaz; tek tirnak iceren deger basic string olur
+        if (text.indexOf('\'') < 0 && text.indexOf('\n') < 0) {
+            return "'" + text + "'";
+        }
+        return "\"" + text.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n") + "\"";
+    }
+
+    // /status "ready" olana kadar beklenir (node kaydi asenkron)
+    private static void waitUntilReady(URL address) throws IOException {
+        long deadline = System.currentTimeMillis() + START_TIMEOUT_MILLIS;
+        while (System.currentTimeMillis() < deadline) {
+            if (process != null && !process.isAlive()) {
+                throw new IOException("Grid process'i kapandi, exit code " + process.exitValue()
+                        + " (test-output/grid/grid.log)");
+            }
+            if (isReady(address)) {
+                return;
+            }
+            try {
+                Thread.sleep(250);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException("Grid beklenirken kesildi", e);
+            }
+        }
+        throw new IOException("Grid " + START_TIMEOUT_MILLIS / 1000 + " sn icinde hazir olmadi: " + address);
+    }
+
+    private static boolean isReady(URL address) {
+        HttpURLConnection connection = null;
+        try {
+            connection = (HttpURLConnection) new URL(address, "status").openConnection();
+            connection.setConnectTimeout(1000);
+            connection.setReadTimeout(5000);
+            try (InputStream in = connection.getInputStream()) {
+                JsonObject status = JsonParser.parseString(new String(in.readAllBytes(), StandardCharsets.UTF_8))
+                        .getAsJsonObject();
+                return status.getAsJsonObject("value").get("ready").getAsBoolean();
+            }
+        } catch (IOException | RuntimeException e) {
+            // henuz dinlemiyor
+            return false;
+        } finally {
+            if (connection != null) {
+                connection.disconnect();
+            }
+        }
+    }
+
+    private static List<String> browsers() {
+        List<String> browsers = new ArrayList<>();
+        for (String browser : ConfigReader.getProperty("gridBrowsers",
+                ConfigReader.getProperty("browser", "chrome")).split(",")) {
+            if (!browser.trim().isEmpty()) {
+                browsers.add(browser.trim());
+            }
+        }
+        return browsers;
+    }
+
+    private static int maxSessions() {
+        return Integer.parseInt(ConfigReader.getProperty("gridMaxSessions",
+                String.valueOf(Runtime.getRuntime().availableProcessors())));
+    }
+
+    /**
+     * W3C browserName of a browser key (chrome, firefox, edge, safari).
+     */
+    static String browserName(String browser) {
+        switch (browser) {
+            case "edge":
+                return "MicrosoftEdge";
+            case "firefox":
+            case "safari":
+                return browser;
+            case "chrome":
+            default:
+                return "chrome";
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package utilities;
+
+import com.google.gson.Gson;
+import org.openqa.selenium.grid.config.Config;
+import org.openqa.selenium.grid.config.TomlConfig;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.StringReader;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+public class LocalGridTest {
+
+    @Test
+    public void driverConfigurationsAreTableArraysOfTheirSection() {
+        String toml = LocalGrid.toToml(config());
+
+        Assert.assertEquals(toml, ""
+                + "[server]\n"
+                + "host = 'localhost'\n"
+                + "port = 4444\n"
+                + "\n"
+                + "[node]\n"
+                + "detect-drivers = false\n"
+                + "max-sessions = 4\n"
+                + "\n"
+                + "[[node.driver-configuration]]\n"
+                + "display-name = 'chrome'\n"
+                + "max-sessions = 4\n"
+                + "stereotype = '{\"browserName\": \"chrome\"}'\n"
+                + "\n"
+                + "[[node.driver-configuration]]\n"
+                + "display-name = 'edge'\n"
+                + "max-sessions = 4\n"
+                + "stereotype = '{\"browserName\": \"MicrosoftEdge\"}'\n"
+                + "\n"
+                + "[sessionqueue]\n"
+                + "session-request-timeout = 300\n"
+                + "\n");
+    }
+
+    @Test
+    public void gridReadsTheGeneratedConfig() {
+        Config config = new TomlConfig(new StringReader(LocalGrid.toToml(config())));
+
+        Assert.assertEquals(config.get("server", "host").orElse(null), "localhost");
+        Assert.assertEquals(config.getInt("server", "port").orElse(0), Integer.valueOf(4444));
+        Assert.assertEquals(config.getBool("node", "detect-drivers").orElse(true), Boolean.FALSE);
+        Assert.assertEquals(config.getInt("sessionqueue", "session-request-timeout").orElse(0), Integer.valueOf(300));
+        // grid tablo degerlerini JSON string olarak verir; stereotype'taki tirnaklar degerin parcasi olarak okunur
+        List<List<String>> drivers = config.getArray("node", "driver-configuration").orElseThrow();
+        Assert.assertEquals(drivers.size(), 2);
+        Assert.assertEquals(drivers.get(0), List.of(entry("display-name", "chrome"), "max-sessions=4",
+                entry("stereotype", "{\"browserName\": \"chrome\"}")));
+        Assert.assertEquals(drivers.get(1), List.of(entry("display-name", "edge"), "max-sessions=4",
+                entry("stereotype", "{\"browserName\": \"MicrosoftEdge\"}")));
+    }
+
+    @Test
+    public void valueWithSingleQuoteIsBasicString() {
+        Map<String, Object> node = new LinkedHashMap<>();
+        node.put("display-name", "chrome 'beta'");
+        node.put("stereotype", "{\"browserName\": \"chrome\", \"se:name\": \"it's \\\\ \"}");
+        String toml = LocalGrid.toToml(Map.of("node", node));
+
+        Config config = new TomlConfig(new StringReader(toml));
+        Assert.assertEquals(config.get("node", "display-name").orElse(null), "chrome 'beta'", toml);
+        Assert.assertEquals(config.get("node", "stereotype").orElse(null), node.get("stereotype"), toml);
+    }
+
+    @Test
+    public void browserKeysAreW3cNames() {
+        Assert.assertEquals(LocalGrid.browserName("edge"), "MicrosoftEdge");
+        Assert.assertEquals(LocalGrid.browserName("firefox"), "firefox");
+        Assert.assertEquals(LocalGrid.browserName("chrome"), "chrome");
+    }
+
+    private static Map<String, Object> config() {
+        Map<String, Object> server = new LinkedHashMap<>();
+        server.put("host", "localhost");
+        server.put("port", 4444);
+        Map<String, Object> node = new LinkedHashMap<>();
+        node.put("detect-drivers", false);
+        node.put("driver-configuration", List.of(driver("chrome", "chrome"), driver("edge", "MicrosoftEdge")));
+        node.put("max-sessions", 4);
+        Map<String, Object> queue = new LinkedHashMap<>();
+        queue.put("session-request-timeout", 300);
+        Map<String, Object> config = new LinkedHashMap<>();
+        config.put("server", server);
+        config.put("node", node);
+        config.put("sessionqueue", queue);
+        return config;
+    }
+
+    private static String entry(String key, String value) {
+        return key + "=" + new Gson().toJson(value);
+    }
+
+    private static Map<String, Object> driver(String displayName, String browserName) {
+        Map<String, Object> driver = new LinkedHashMap<>();
+        driver.put("display-name", displayName);
+        driver.put("max-sessions", 4);
+        driver.put("stereotype", "{\"browserName\": \"" + browserName + "\"}");
+        return driver;
+    }
+}
@@ -1,21 +1,24 @@
 package utilities;
 
-import org.apache.commons.io.FileUtils;
 import org.openqa.selenium.*;
 import org.openqa.selenium.interactions.Actions;
 import org.openqa.selenium.support.ui.ExpectedCondition;
 import org.openqa.selenium.support.ui.ExpectedConditions;
 import org.openqa.selenium.support.ui.Select;
 import org.openqa.selenium.support.ui.WebDriverWait;
-import io.github.sukgu.Shadow;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.event.Level;
+import utilities.performance.HarRecorder;
+import utilities.performance.MeteredWait;
+import utilities.performance.Metrics;
+import utilities.performance.MetricsListener;
+import utilities.report.ProgressListener;
+import utilities.report.TestLogContext;
 
 import java.io.File;
 import java.io.IOException;
-import java.text.SimpleDateFormat;
 import java.time.Duration;
-import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
-import java.util.Date;
 
 /**
  * ReusableMethods Class
@@ -48,6 +51,7 @@ import java.util.Date;
  * - shadowRootElementHandlingWithCss(String parentShadowLocator, String shadowElementLocator): Handles shadow DOM elements with CSS locators.
  * - shadowRootElementHandlingWithXPath(String parentShadowLocator, String shadowElementLocator): Handles shadow DOM elements with XPath locators.
  * - shadowRootElementHandlingWithWebElement(WebElement parentShadowRootElement, String shadowElementLocator): Handles shadow DOM elements with WebElement locators.
+ * - shadowRootElementHandlingWithPath(String shadowPath): Resolves nested shadow DOM elements with a shadow path.
  * - acceptAlert(): Accepts (OK) an alert.
  * - dismissAlert(): Dismisses (Cancel) an alert.
  * - getAlertText(): Retrieves the text of an alert.
@@ -75,7 +79,7 @@ public class ReusableMethods {
     static String BASE_DIR = System.getProperty("user.dir") + "\\imgs\\";
 
     // WebDriver wait
-    static WebDriverWait wait = new WebDriverWait(Driver.getDriver(), Duration.ofSeconds(10));
+    static WebDriverWait wait = new MeteredWait(Driver.getDriver(), Duration.ofSeconds(10));
 
     // Actions for performing mouse actions
     static Actions actions = new Actions(Driver.getDriver());
@@ -83,6 +87,34 @@ public class ReusableMethods {
     // Alert timeout
     private static final Duration ALERT_TIMEOUT = Duration.ofSeconds(5);
 
+    private static final Logger LOG = LoggerFactory.getLogger(ReusableMethods.class);
+
+    // Adim loglari: SLF4J (async), {} parametreleri sadece seviye acik ise mesaja cevrilir.
+    // Adim numarasi MDC'ye yazilir, canli ilerleme aciksa yayinlanir, adim suresi metric'e eklenir
+    private static void log(String pattern, Object... args) {
+        step(Level.INFO, pattern, args);
+    }
+
+    private static void logFailure(String pattern, Object... args) {
+        step(Level.WARN, pattern, args);
+    }
+
+    private static void step(Level level, String pattern, Object[] args) {
+        TestLogContext.nextStep();
+        LOG.atLevel(level).log(pattern, args);
+        ProgressListener.step(pattern, args);
+        if (MetricsListener.ENABLED) {
+            MetricsListener.step(StackWalker.getInstance().walk(frames -> frames.skip(2).findFirst()
+                    .map(StackWalker.StackFrame::getMethodName).orElse("unknown")));
+        }
+    }
+
+    // yazilan ekran goruntusu dosyasinin boyutu metric'e eklenir
+    private static void screenshotWritten(String kind, File file) {
+        Metrics.SCREENSHOTS.inc(kind);
+        Metrics.SCREENSHOT_BYTES.add(file.length(), kind);
+    }
+
 
     // ========================================
     // WAIT METHODS
@@ -119,12 +151,13 @@ public class ReusableMethods {
         ExpectedCondition<Boolean> expectation = driver ->
                 ((JavascriptExecutor) driver).executeScript("return document.readyState").equals("complete");
         try {
-            System.out.println("Waiting for page to load...");
-            WebDriverWait wait = new WebDriverWait(Driver.getDriver(), Duration.ofSeconds(timeout));
+            log("Waiting for page to load...");
+            WebDriverWait wait = new MeteredWait(Driver.getDriver(), Duration.ofSeconds(timeout));
             wait.until(expectation);
         } catch (Throwable error) {
-            System.out.println(
-                    "Timeout waiting for Page Load Request to complete after " + timeout + " seconds");
+            logFailure("Timeout waiting for Page Load Request to complete after {} seconds", timeout);
+            // HAR kaydi aciksa sayfanin yuklenmesini bekleten istekler
+            HarRecorder.logPendingRequests();
         }
     }
 
@@ -144,23 +177,22 @@ public class ReusableMethods {
      * @author Fatih Canbaz
      */
     public static String getScreenshot(String name) throws IOException {
-        // naming the screenshot with the current date to avoid duplication
-        String date = new SimpleDateFormat("yyyyMMddhhmmss").format(new Date());
         // TakesScreenshot is an interface of selenium that takes the screenshot
         TakesScreenshot ts = (TakesScreenshot) Driver.getDriver();
         File source = ts.getScreenshotAs(OutputType.FILE);
-        // full path to the screenshot location
-        String target = System.getProperty("user.dir") + "/src/tmp/" + name + date + ".png";
-        File finalDestination = new File(target);
+        // full path to the screenshot location, named with the current date to avoid duplication
+        String target = System.getProperty("user.dir") + "/" + ScreenshotFiles.timestampedPath(name, "yyyyMMddhhmmss", ".png");
         // save the screenshot to the path given
-        FileUtils.copyFile(source, finalDestination);
+        screenshotWritten("viewport", ScreenshotFiles.save(source, target));
         return target;
     }
 
     /**
      * getScreenShotToWholePage
      * <pre>
-     * Web sayfasının tamamının ekran görüntüsünü alır.
+     * Web sayfasının tamamının (viewport disi dahil) ekran görüntüsünü alır.
+     * Chromium'da CDP captureBeyondViewport ile, diger tarayicilarda kaydirarak parca parca alinir;
+     * parcalar diske akitilarak birlestirilir (bkz. {@link FullPageScreenshot}).
      * </pre>
      *
      * @param driver         WebDriver instance
@@ -169,21 +201,12 @@ public class ReusableMethods {
      * @author Fatih Canbaz
      */
     public static void getScreenshotToWholePage(WebDriver driver, String screenshotIsmi) {
-        TakesScreenshot takesScreenshot = (TakesScreenshot) driver;
-
         // dosya adini dinamik yapalim
-        // target/screenshots/tumSayfaSS.png
-        LocalDateTime localDateTime = LocalDateTime.now();
-        DateTimeFormatter istenenFormat = DateTimeFormatter.ofPattern("yyMMddHHmm");
-        localDateTime.format(istenenFormat); // 2310080829
-
-        String dinamikDosyaAdi = "src/tmp/" + screenshotIsmi +
-                localDateTime.format(istenenFormat) + ".jpg";
-        File tumSayfaSS = new File(dinamikDosyaAdi);
-        File geciciDosya = takesScreenshot.getScreenshotAs(OutputType.FILE);
+        // src/tmp/tumSayfaSS2310080829.png
+        String dinamikDosyaAdi = ScreenshotFiles.timestampedPath(screenshotIsmi, "yyMMddHHmm", ".png");
 
         try {
-            FileUtils.copyFile(geciciDosya, tumSayfaSS);
+            screenshotWritten("full_page", FullPageScreenshot.save(driver, dinamikDosyaAdi));
         } catch (IOException e) {
             throw new RuntimeException(e);
         }
@@ -197,26 +220,21 @@ public class ReusableMethods {
      *
      * @param istenenWebelement WebElement
      * @param screenshotIsmi    Ekran görüntüsü dosyasının adı
+     * @return Dosyanın yolu (src/tmp altinda)
      * @throws RuntimeException Dosya işlemleri sırasında oluşan hata durumunda
      * @author Fatih Canbaz
      */
-    public static void getWebelementScreenshot(WebElement istenenWebelement, String screenshotIsmi) {
-        LocalDateTime localDateTime = LocalDateTime.now();
-        DateTimeFormatter istenenFormat = DateTimeFormatter.ofPattern("yyMMddHHmm");
-        localDateTime.format(istenenFormat); // 2310080829
-
-        String dinamikDosyaAdi = "src/tmp/" + screenshotIsmi +
-                localDateTime.format(istenenFormat) + ".jpg";
-        File webelementSS = new File(dinamikDosyaAdi);
+    public static String getWebelementScreenshot(WebElement istenenWebelement, String screenshotIsmi) {
+        String dinamikDosyaAdi = ScreenshotFiles.timestampedPath(screenshotIsmi, "yyMMddHHmm", ".jpg");
 
         File geciciDosya = istenenWebelement.getScreenshotAs(OutputType.FILE);
 
         try {
-            FileUtils.copyFile(geciciDosya, webelementSS);
+            screenshotWritten("element", ScreenshotFiles.save(geciciDosya, dinamikDosyaAdi));
         } catch (IOException e) {
             throw new RuntimeException(e);
         }
-
+        return dinamikDosyaAdi;
     }
 
     // ========================================
@@ -233,6 +251,11 @@ public class ReusableMethods {
      * @author Fatih Canbaz
      */
     public static void switchToWindow(String targetTitle) {
+        // basligi bilinen pencereye tek komutla gecilir (WindowRegistry)
+        WindowRegistry registry = WindowRegistry.of(Driver.getDriver());
+        if (registry != null && registry.switchToTitle(targetTitle)) {
+            return;
+        }
         String origin = Driver.getDriver().getWindowHandle();
         for (String handle : Driver.getDriver().getWindowHandles()) {
             Driver.getDriver().switchTo().window(handle);
@@ -279,9 +302,9 @@ public class ReusableMethods {
     public static void clickElement(WebElement element, String elementName) {
         try {
             wait.until(ExpectedConditions.elementToBeClickable(element)).click();
-            System.out.println(elementName + " elementine tiklandi.");
+            log("{} elementine tiklandi.", elementName);
         } catch (Exception e) {
-            System.out.println(elementName + " elementine tiklanamadi. Hata: " + e.getMessage());
+            logFailure("{} elementine tiklanamadi. Hata: {}", elementName, e.getMessage());
             throw e;
         }
     }
@@ -301,9 +324,9 @@ public class ReusableMethods {
     public static void sendKeys(WebElement element, String value, String elementName) {
         try {
             wait.until(ExpectedConditions.visibilityOf(element)).sendKeys(value);
-            System.out.println(elementName + " elementine deger yazildi: " + value);
+            log("{} elementine deger yazildi: {}", elementName, value);
         } catch (Exception e) {
-            System.out.println(elementName + " elementine deger yazilamadi. Hata: " + e.getMessage());
+            logFailure("{} elementine deger yazilamadi. Hata: {}", elementName, e.getMessage());
             throw new RuntimeException(e);
         }
     }
@@ -323,10 +346,10 @@ public class ReusableMethods {
     public static String getText(WebElement element, String elementName) {
         try {
             String text = wait.until(ExpectedConditions.visibilityOf(element)).getText();
-            System.out.println(elementName + " elementinin metni alindi: " + text);
+            log("{} elementinin metni alindi: {}", elementName, text);
             return text;
         } catch (Exception e) {
-            System.out.println(elementName + " elementinin metni alinamadi. Hata: " + e.getMessage());
+            logFailure("{} elementinin metni alinamadi. Hata: {}", elementName, e.getMessage());
             throw new RuntimeException(e);
         }
     }
@@ -345,9 +368,9 @@ public class ReusableMethods {
     public static void clearInput(WebElement element, String elementName) {
         try {
             wait.until(ExpectedConditions.visibilityOf(element)).clear();
-            System.out.println(elementName + " elementinin icerigi temizlendi.");
+            log("{} elementinin icerigi temizlendi.", elementName);
         } catch (Exception e) {
-            System.out.println(elementName + " elementinin icerigi temizlenemedi. Hata: " + e.getMessage());
+            logFailure("{} elementinin icerigi temizlenemedi. Hata: {}", elementName, e.getMessage());
             throw new RuntimeException(e);
         }
     }
@@ -368,9 +391,9 @@ public class ReusableMethods {
         try {
             Select dropdown = new Select(wait.until(ExpectedConditions.visibilityOf(dropdownElement)));
             dropdown.selectByIndex(index);
-            System.out.println(elementName + " dropdown'indan index ile secim yapildi. Index: " + index);
+            log("{} dropdown'indan index ile secim yapildi. Index: {}", elementName, index);
         } catch (Exception e) {
-            System.out.println(elementName + " dropdown'indan index ile secim yapilamadi. Hata: " + e.getMessage());
+            logFailure("{} dropdown'indan index ile secim yapilamadi. Hata: {}", elementName, e.getMessage());
             throw new RuntimeException(e);
         }
     }
@@ -391,9 +414,9 @@ public class ReusableMethods {
         try {
             Select dropdown = new Select(wait.until(ExpectedConditions.visibilityOf(dropdownElement)));
             dropdown.selectByValue(value);
-            System.out.println(elementName + " dropdown'indan value ile secim yapildi. Value: " + value);
+            log("{} dropdown'indan value ile secim yapildi. Value: {}", elementName, value);
         } catch (Exception e) {
-            System.out.println(elementName + " dropdown'indan value ile secim yapilamadi. Hata: " + e.getMessage());
+            logFailure("{} dropdown'indan value ile secim yapilamadi. Hata: {}", elementName, e.getMessage());
             throw new RuntimeException(e);
         }
     }
@@ -414,9 +437,9 @@ public class ReusableMethods {
         try {
             Select dropdown = new Select(wait.until(ExpectedConditions.visibilityOf(dropdownElement)));
             dropdown.selectByVisibleText(text);
-            System.out.println(elementName + " dropdown'indan text ile secim yapildi. Text: " + text);
+            log("{} dropdown'indan text ile secim yapildi. Text: {}", elementName, text);
         } catch (Exception e) {
-            System.out.println(elementName + " dropdown'indan text ile secim yapilamadi. Hata: " + e.getMessage());
+            logFailure("{} dropdown'indan text ile secim yapilamadi. Hata: {}", elementName, e.getMessage());
             throw new RuntimeException(e);
         }
     }
@@ -437,11 +460,11 @@ public class ReusableMethods {
      */
     public static void waitForTextToBePresentInElement(WebElement element, String elementName, String text, int timeout) {
         try {
-            WebDriverWait customWait = new WebDriverWait(Driver.getDriver(), Duration.ofSeconds(timeout));
+            WebDriverWait customWait = new MeteredWait(Driver.getDriver(), Duration.ofSeconds(timeout));
             customWait.until(ExpectedConditions.textToBePresentInElementValue(element, text));
-            System.out.println(elementName + " elementi " + timeout + " saniye içinde belirtilen metni içeriyor: " + text);
+            log("{} elementi {} saniye içinde belirtilen metni içeriyor: {}", elementName, timeout, text);
         } catch (TimeoutException e) {
-            System.out.println(elementName + " elementi " + timeout + " saniye içinde belirtilen metni içermiyor. Hata: " + e.getMessage());
+            logFailure("{} elementi {} saniye içinde belirtilen metni içermiyor. Hata: {}", elementName, timeout, e.getMessage());
             throw e;
         }
     }
@@ -462,11 +485,11 @@ public class ReusableMethods {
      */
     public static void waitForElementToHaveAttributeValue(WebElement element, String elementName, String attribute, String value, int timeout) {
         try {
-            WebDriverWait customWait = new WebDriverWait(Driver.getDriver(), Duration.ofSeconds(timeout));
+            WebDriverWait customWait = new MeteredWait(Driver.getDriver(), Duration.ofSeconds(timeout));
             customWait.until(ExpectedConditions.attributeToBe(element, attribute, value));
-            System.out.println(elementName + " elementi " + timeout + " saniye içinde belirtilen attribute'a sahip oldu: " + attribute + "=" + value);
+            log("{} elementi {} saniye içinde belirtilen attribute'a sahip oldu: {}={}", elementName, timeout, attribute, value);
         } catch (TimeoutException e) {
-            System.out.println(elementName + " elementi " + timeout + " saniye içinde belirtilen attribute'a sahip olmuyor. Hata: " + e.getMessage());
+            logFailure("{} elementi {} saniye içinde belirtilen attribute'a sahip olmuyor. Hata: {}", elementName, timeout, e.getMessage());
             throw e;
         }
     }
@@ -496,10 +519,10 @@ public class ReusableMethods {
                 js.executeScript(script, args);
             }
             if (log) {
-                System.out.println("JavaScript kodu basariyla calistirildi: " + script);
+                log("JavaScript kodu basariyla calistirildi: {}", script);
             }
         } catch (Exception e) {
-            System.out.println("JavaScript kodu calistirilamadi. Hata: " + e.getMessage());
+            logFailure("JavaScript kodu calistirilamadi. Hata: {}", e.getMessage());
             throw new RuntimeException(e);
         }
     }
@@ -558,9 +581,9 @@ public class ReusableMethods {
     public static void scrollToElementInView(WebElement element) {
         try {
             executeJavaScript("arguments[0].scrollIntoView(true);", new Object[]{element}, false);
-            System.out.println("Sayfa, WebElement'e kadar kaydirildi.");
+            log("Sayfa, WebElement'e kadar kaydirildi.");
         } catch (Exception e) {
-            System.out.println("Sayfa, WebElement'e kadar kaydirilamadi. Hata: " + e.getMessage());
+            logFailure("Sayfa, WebElement'e kadar kaydirilamadi. Hata: {}", e.getMessage());
             throw new RuntimeException(e);
         }
     }
@@ -614,9 +637,9 @@ public class ReusableMethods {
     public static void scrollUpPage() {
         try {
             executeJavaScript("window.scrollBy(0,-250)", new Object[]{}, false);
-            System.out.println("Sayfa yukarı kaydırıldı.");
+            log("Sayfa yukarı kaydırıldı.");
         } catch (Exception e) {
-            System.out.println("Sayfa yukarı kaydırılamadı. Hata: " + e.getMessage());
+            logFailure("Sayfa yukarı kaydırılamadı. Hata: {}", e.getMessage());
             throw new RuntimeException(e);
         }
     }
@@ -629,9 +652,9 @@ public class ReusableMethods {
     public static void scrollDownPage() {
         try {
             executeJavaScript("window.scrollBy(0,250)", new Object[]{}, false);
-            System.out.println("Sayfa aşağı kaydırıldı.");
+            log("Sayfa aşağı kaydırıldı.");
         } catch (Exception e) {
-            System.out.println("Sayfa aşağı kaydırılamadı. Hata: " + e.getMessage());
+            logFailure("Sayfa aşağı kaydırılamadı. Hata: {}", e.getMessage());
             throw new RuntimeException(e);
         }
     }
@@ -654,9 +677,9 @@ public class ReusableMethods {
     public static void hoverOverElement(WebElement element, String elementName) {
         try {
             actions.moveToElement(element).perform();
-            System.out.println(elementName + " elementine hover yapildi.");
+            log("{} elementine hover yapildi.", elementName);
         } catch (Exception e) {
-            System.out.println(elementName + " elementine hover yapilamadi. Hata: " + e.getMessage());
+            logFailure("{} elementine hover yapilamadi. Hata: {}", elementName, e.getMessage());
             throw new RuntimeException(e);
         }
     }
@@ -676,9 +699,9 @@ public class ReusableMethods {
     public static void dragAndDrop(WebElement sourceElement, WebElement targetElement, String sourceElementName, String targetElementName) {
         try {
             actions.dragAndDrop(sourceElement, targetElement).perform();
-            System.out.println(sourceElementName + " elementi " + targetElementName + " elementine suruklendi ve birakildi.");
+            log("{} elementi {} elementine suruklendi ve birakildi.", sourceElementName, targetElementName);
         } catch (Exception e) {
-            System.out.println(sourceElementName + " elementi " + targetElementName + " elementine suruklenemedi ve birakilamadi. Hata: " + e.getMessage());
+            logFailure("{} elementi {} elementine suruklenemedi ve birakilamadi. Hata: {}", sourceElementName, targetElementName, e.getMessage());
             throw new RuntimeException(e);
         }
     }
@@ -700,9 +723,9 @@ public class ReusableMethods {
     public static void switchToFrame(WebElement frameElement, String frameElementName) {
         try {
             wait.until(ExpectedConditions.frameToBeAvailableAndSwitchToIt(frameElement));
-            System.out.println(frameElementName + " IFrame'e gecildi.");
+            log("{} IFrame'e gecildi.", frameElementName);
         } catch (Exception e) {
-            System.out.println(frameElementName + " IFrame'e gecilemedi. Hata: " + e.getMessage());
+            logFailure("{} IFrame'e gecilemedi. Hata: {}", frameElementName, e.getMessage());
             throw new RuntimeException(e);
         }
     }
@@ -718,9 +741,9 @@ public class ReusableMethods {
     public static void switchToDefaultContent() {
         try {
             Driver.getDriver().switchTo().defaultContent();
-            System.out.println("Ana sayfaya geri donuldu.");
+            log("Ana sayfaya geri donuldu.");
         } catch (Exception e) {
-            System.out.println("Ana sayfaya geri donulurken hata olustu. Hata: " + e.getMessage());
+            logFailure("Ana sayfaya geri donulurken hata olustu. Hata: {}", e.getMessage());
             throw new RuntimeException(e);
         }
     }
@@ -738,58 +761,44 @@ public class ReusableMethods {
      * @autor Fatih Canbaz
      */
     public static WebElement shadowRootElementHandlingWithCss(String parentShadowLocator, String shadowElementLocator) {
-        // Initialize Shadow object
-        Shadow shadow = new Shadow(Driver.getDriver());
-
-        // Wait for a short duration
-        ReusableMethods.waitFor(1);
-
-        // Find the parent shadow root element using CSS locator
-        WebElement parentShadowRootElement = Driver.getDriver().findElement(By.cssSelector(parentShadowLocator));
-
-        // Return the shadow element based on CSS locators
-        return shadow.getShadowElement(parentShadowRootElement, shadowElementLocator);
+        // Parent bulunana kadar beklenir, shadow root handle'i cache'lenir (ShadowDom)
+        return ShadowDom.find(By.cssSelector(parentShadowLocator), shadowElementLocator);
     }
 
     /**
      * Handles shadow DOM elements and returns the shadow element based on the provided XPath locators.
      *
      * @param parentShadowLocator  XPath locator of the parent shadow root element
-     * @param shadowElementLocator XPath locator of the shadow root element
+     * @param shadowElementLocator CSS locator of the shadow root element
      * @return WebElement representing the shadow element
      * @autor Fatih Canbaz
      */
     public static WebElement shadowRootElementHandlingWithXPath(String parentShadowLocator, String shadowElementLocator) {
-        // Initialize Shadow object
-        Shadow shadow = new Shadow(Driver.getDriver());
-
-        // Wait for a short duration
-        ReusableMethods.waitFor(1);
-
-        // Find the parent shadow root element using XPath locator
-        WebElement parentShadowRootElement = Driver.getDriver().findElement(By.xpath(parentShadowLocator));
-
-        // Return the shadow element based on XPath locators
-        return shadow.getShadowElement(parentShadowRootElement, shadowElementLocator);
+        // Parent bulunana kadar beklenir, shadow root handle'i cache'lenir (ShadowDom)
+        return ShadowDom.find(By.xpath(parentShadowLocator), shadowElementLocator);
     }
 
     /**
      * Handles shadow DOM elements and returns the shadow element based on the provided WebElement locators.
      *
      * @param parentShadowRootElement WebElement of the parent shadow root element
-     * @param shadowElementLocator    XPath locator of the shadow root element
+     * @param shadowElementLocator    CSS locator of the shadow root element
      * @return WebElement representing the shadow element
      * @autor Fatih Canbaz
      */
     public static WebElement shadowRootElementHandlingWithWebElement(WebElement parentShadowRootElement, String shadowElementLocator) {
-        // Initialize Shadow object
-        Shadow shadow = new Shadow(Driver.getDriver());
-
-        // Wait for a short duration
-        ReusableMethods.waitFor(1);
+        return ShadowDom.find(parentShadowRootElement, shadowElementLocator);
+    }
 
-        // Return the shadow element based on WebElement locators
-        return shadow.getShadowElement(parentShadowRootElement, shadowElementLocator);
+    /**
+     * Resolves a nested shadow path (CSS selectors separated by "&gt;&gt;&gt;") in one JavaScript call.
+     *
+     * @param shadowPath e.g. "app-shell &gt;&gt;&gt; nav-menu &gt;&gt;&gt; a.careers"
+     * @return WebElement representing the last element of the path
+     * @autor Fatih Canbaz
+     */
+    public static WebElement shadowRootElementHandlingWithPath(String shadowPath) {
+        return ShadowDom.findByPath(shadowPath);
     }
 
 
@@ -807,13 +816,13 @@ public class ReusableMethods {
      */
     public static void acceptAlert() {
         try {
-            WebDriverWait customWait = new WebDriverWait(Driver.getDriver(), ALERT_TIMEOUT);
+            WebDriverWait customWait = new MeteredWait(Driver.getDriver(), ALERT_TIMEOUT);
             customWait.until(ExpectedConditions.alertIsPresent());
             Alert alert = Driver.getDriver().switchTo().alert();
             alert.accept();
-            System.out.println("Alert kabul edildi.");
+            log("Alert kabul edildi.");
         } catch (Exception e) {
-            System.out.println("Alert kabul edilemedi. Hata: " + e.getMessage());
+            logFailure("Alert kabul edilemedi. Hata: {}", e.getMessage());
             throw new RuntimeException(e);
         }
     }
@@ -828,13 +837,13 @@ public class ReusableMethods {
      */
     public static void dismissAlert() {
         try {
-            WebDriverWait customWait = new WebDriverWait(Driver.getDriver(), ALERT_TIMEOUT);
+            WebDriverWait customWait = new MeteredWait(Driver.getDriver(), ALERT_TIMEOUT);
             customWait.until(ExpectedConditions.alertIsPresent());
             Alert alert = Driver.getDriver().switchTo().alert();
             alert.dismiss();
-            System.out.println("Alert reddedildi.");
+            log("Alert reddedildi.");
         } catch (Exception e) {
-            System.out.println("Alert reddedilemedi. Hata: " + e.getMessage());
+            logFailure("Alert reddedilemedi. Hata: {}", e.getMessage());
             throw new RuntimeException(e);
         }
     }
@@ -851,14 +860,14 @@ public class ReusableMethods {
      */
     public static String getAlertText() {
         try {
-            WebDriverWait customWait = new WebDriverWait(Driver.getDriver(), ALERT_TIMEOUT);
+            WebDriverWait customWait = new MeteredWait(Driver.getDriver(), ALERT_TIMEOUT);
             customWait.until(ExpectedConditions.alertIsPresent());
             Alert alert = Driver.getDriver().switchTo().alert();
             String text = alert.getText();
-            System.out.println("Alert metni alindi: " + text);
+            log("Alert metni alindi: {}", text);
             return text;
         } catch (Exception e) {
-            System.out.println("Alert metni alinamadi. Hata: " + e.getMessage());
+            logFailure("Alert metni alinamadi. Hata: {}", e.getMessage());
             throw new RuntimeException(e);
         }
     }
@@ -875,13 +884,13 @@ public class ReusableMethods {
      */
     public static void sendKeysToAlert(String keysToSend) {
         try {
-            WebDriverWait customWait = new WebDriverWait(Driver.getDriver(), ALERT_TIMEOUT);
+            WebDriverWait customWait = new MeteredWait(Driver.getDriver(), ALERT_TIMEOUT);
             customWait.until(ExpectedConditions.alertIsPresent());
             Alert alert = Driver.getDriver().switchTo().alert();
             alert.sendKeys(keysToSend);
-            System.out.println("Alert'e deger yazildi: " + keysToSend);
+            log("Alert'e deger yazildi: {}", keysToSend);
         } catch (Exception e) {
-            System.out.println("Alert'e deger yazilamadi. Hata: " + e.getMessage());
+            logFailure("Alert'e deger yazilamadi. Hata: {}", e.getMessage());
             throw new RuntimeException(e);
         }
     }
@@ -905,12 +914,12 @@ public class ReusableMethods {
         Duration timeout = Duration.ofMillis(timeoutMilliseconds);
 
         try {
-            WebDriverWait customWait = new WebDriverWait(Driver.getDriver(), timeout);
+            WebDriverWait customWait = new MeteredWait(Driver.getDriver(), timeout);
             customWait.until(ExpectedConditions.titleIs(title));
-            System.out.println("Sayfa başlığı " + timeout + " milisaniye içinde beklenen metinle aynı hale geldi: " + title);
+            log("Sayfa başlığı {} milisaniye içinde beklenen metinle aynı hale geldi: {}", timeout, title);
             return true;
         } catch (TimeoutException e) {
-            System.out.println("Sayfa başlığı " + timeout + " milisaniye içinde beklenen metinle aynı hale gelmedi. Hata: " + e.getMessage());
+            logFailure("Sayfa başlığı {} milisaniye içinde beklenen metinle aynı hale gelmedi. Hata: {}", timeout, e.getMessage());
             return false;
         }
     }
@@ -929,12 +938,12 @@ public class ReusableMethods {
     public static boolean waitForPageTitleToContain(String titlePart, int timeoutMilliseconds) {
         Duration timeout = Duration.ofMillis(timeoutMilliseconds);
         try {
-            WebDriverWait customWait = new WebDriverWait(Driver.getDriver(), timeout);
+            WebDriverWait customWait = new MeteredWait(Driver.getDriver(), timeout);
             customWait.until(ExpectedConditions.titleContains(titlePart));
-            System.out.println("Sayfa başlığı " + timeout + " milisaniye içinde belirtilen metni içeriyor: " + titlePart);
+            log("Sayfa başlığı {} milisaniye içinde belirtilen metni içeriyor: {}", timeout, titlePart);
             return true;
         } catch (TimeoutException e) {
-            System.out.println("Sayfa başlığı " + timeout + " milisaniye içinde belirtilen metni içermiyor. Hata: " + e.getMessage());
+            logFailure("Sayfa başlığı {} milisaniye içinde belirtilen metni içermiyor. Hata: {}", timeout, e.getMessage());
             return false;
         }
     }
@@ -953,12 +962,12 @@ public class ReusableMethods {
     public static boolean waitForUrlToContain(String urlPart, int timeoutMilliseconds) {
         Duration timeout = Duration.ofMillis(timeoutMilliseconds);
         try {
-            WebDriverWait customWait = new WebDriverWait(Driver.getDriver(), timeout);
+            WebDriverWait customWait = new MeteredWait(Driver.getDriver(), timeout);
             customWait.until(ExpectedConditions.urlContains(urlPart));
-            System.out.println("Sayfa URL'si " + timeout + " milisaniye içinde belirtilen metni içeriyor: " + urlPart);
+            log("Sayfa URL'si {} milisaniye içinde belirtilen metni içeriyor: {}", timeout, urlPart);
             return true;
         } catch (TimeoutException e) {
-            System.out.println("Sayfa URL'si " + timeout + " milisaniye içinde belirtilen metni içermiyor. Hata: " + e.getMessage());
+            logFailure("Sayfa URL'si {} milisaniye içinde belirtilen metni içermiyor. Hata: {}", timeout, e.getMessage());
             return false;
         }
     }
@@ -977,12 +986,12 @@ public class ReusableMethods {
     public static boolean waitForUrlToBe(String url, int timeoutMilliseconds) {
         Duration timeout = Duration.ofMillis(timeoutMilliseconds);
         try {
-            WebDriverWait customWait = new WebDriverWait(Driver.getDriver(), timeout);
+            WebDriverWait customWait = new MeteredWait(Driver.getDriver(), timeout);
             customWait.until(ExpectedConditions.urlToBe(url));
-            System.out.println("Sayfa URL'si " + timeout + " milisaniye içinde beklenen metinle aynı hale geldi: " + url);
+            log("Sayfa URL'si {} milisaniye içinde beklenen metinle aynı hale geldi: {}", timeout, url);
             return true;
         } catch (TimeoutException e) {
-            System.out.println("Sayfa URL'si " + timeout + " milisaniye içinde beklenen metinle aynı hale gelmedi. Hata: " + e.getMessage());
+            logFailure("Sayfa URL'si {} milisaniye içinde beklenen metinle aynı hale gelmedi. Hata: {}", timeout, e.getMessage());
             return false;
         }
     }
@@ -1003,11 +1012,11 @@ public class ReusableMethods {
     public static void waitForElementToBeInvisible(WebElement element, String elementName, int timeoutMilliseconds) {
         Duration timeout = Duration.ofMillis(timeoutMilliseconds);
         try {
-            WebDriverWait customWait = new WebDriverWait(Driver.getDriver(), timeout);
+            WebDriverWait customWait = new MeteredWait(Driver.getDriver(), timeout);
             customWait.until(ExpectedConditions.invisibilityOf(element));
-            System.out.println(elementName + " elementi " + timeout + " saniye icinde gorunmez hale geldi.");
+            log("{} elementi {} saniye icinde gorunmez hale geldi.", elementName, timeout);
         } catch (TimeoutException e) {
-            System.out.println(elementName + " elementi " + timeout + " saniye icinde gorunmez hale gelmedi. Hata: " + e.getMessage());
+            logFailure("{} elementi {} saniye icinde gorunmez hale gelmedi. Hata: {}", elementName, timeout, e.getMessage());
             throw e;
         }
     }
@@ -1027,11 +1036,11 @@ public class ReusableMethods {
     public static void waitForElementToBeVisible(WebElement element, String elementName, int timeoutMilliseconds) {
         Duration timeout = Duration.ofMillis(timeoutMilliseconds);
         try {
-            WebDriverWait customWait = new WebDriverWait(Driver.getDriver(), timeout);
+            WebDriverWait customWait = new MeteredWait(Driver.getDriver(), timeout);
             customWait.until(ExpectedConditions.visibilityOf(element));
-            System.out.println(elementName + " elementi " + timeout + " saniye icinde gorunur hale geldi.");
+            log("{} elementi {} saniye icinde gorunur hale geldi.", elementName, timeout);
         } catch (TimeoutException e) {
-            System.out.println(elementName + " elementi " + timeout + " saniye icinde gorunur hale gelmedi. Hata: " + e.getMessage());
+            logFailure("{} elementi {} saniye icinde gorunur hale gelmedi. Hata: {}", elementName, timeout, e.getMessage());
             throw e;
         }
     }
@@ -1051,11 +1060,11 @@ public class ReusableMethods {
     public static void waitForElementToBeClickable(WebElement element, String elementName, int timeoutMilliseconds) {
         Duration timeout = Duration.ofMillis(timeoutMilliseconds);
         try {
-            WebDriverWait customWait = new WebDriverWait(Driver.getDriver(), timeout);
+            WebDriverWait customWait = new MeteredWait(Driver.getDriver(), timeout);
             customWait.until(ExpectedConditions.elementToBeClickable(element));
-            System.out.println(elementName + " elementi " + timeout + " saniye icinde tiklanabilir hale geldi.");
+            log("{} elementi {} saniye icinde tiklanabilir hale geldi.", elementName, timeout);
         } catch (TimeoutException e) {
-            System.out.println(elementName + " elementi " + timeout + " saniye icinde tiklanabilir hale gelmedi. Hata: " + e.getMessage());
+            logFailure("{} elementi {} saniye icinde tiklanabilir hale gelmedi. Hata: {}", elementName, timeout, e.getMessage());
             throw e;
         }
     }
@@ -1075,11 +1084,11 @@ public class ReusableMethods {
     public static void waitForElementToBeSelected(WebElement element, String elementName, int timeoutMilliseconds) {
         Duration timeout = Duration.ofMillis(timeoutMilliseconds);
         try {
-            WebDriverWait customWait = new WebDriverWait(Driver.getDriver(), timeout);
+            WebDriverWait customWait = new MeteredWait(Driver.getDriver(), timeout);
             customWait.until(ExpectedConditions.elementToBeSelected(element));
-            System.out.println(elementName + " elementi " + timeout + " saniye icinde secilmis hale geldi.");
+            log("{} elementi {} saniye icinde secilmis hale geldi.", elementName, timeout);
         } catch (TimeoutException e) {
-            System.out.println(elementName + " elementi " + timeout + " saniye icinde secilmis hale gelmedi. Hata: " + e.getMessage());
+            logFailure("{} elementi {} saniye icinde secilmis hale gelmedi. Hata: {}", elementName, timeout, e.getMessage());
             throw e;
         }
     }
@@ -1099,11 +1108,11 @@ public class ReusableMethods {
     public static void waitForElementToBeDeselected(WebElement element, String elementName, int timeoutMilliseconds) {
         Duration timeout = Duration.ofMillis(timeoutMilliseconds);
         try {
-            WebDriverWait customWait = new WebDriverWait(Driver.getDriver(), timeout);
+            WebDriverWait customWait = new MeteredWait(Driver.getDriver(), timeout);
             customWait.until(ExpectedConditions.elementSelectionStateToBe(element, false));
-            System.out.println(elementName + " elementi " + timeout + " saniye icinde secilmemis hale geldi.");
+            log("{} elementi {} saniye icinde secilmemis hale geldi.", elementName, timeout);
         } catch (TimeoutException e) {
-            System.out.println(elementName + " elementi " + timeout + " saniye icinde secilmemis hale gelmedi. Hata: " + e.getMessage());
+            logFailure("{} elementi {} saniye icinde secilmemis hale gelmedi. Hata: {}", elementName, timeout, e.getMessage());
             throw e;
         }
     }
@@ -1125,11 +1134,11 @@ public class ReusableMethods {
     public static void waitForElementAttributeToContain(WebElement element, String elementName, String attribute, String value, int timeoutMilliseconds) {
         Duration timeout = Duration.ofMillis(timeoutMilliseconds);
         try {
-            WebDriverWait customWait = new WebDriverWait(Driver.getDriver(), timeout);
+            WebDriverWait customWait = new MeteredWait(Driver.getDriver(), timeout);
             customWait.until(ExpectedConditions.attributeContains(element, attribute, value));
-            System.out.println(elementName + " elementi " + timeout + " saniye icinde belirtilen ozelligi (" + attribute + ") ve degeri (" + value + ") iceriyor.");
+            log("{} elementi {} saniye icinde belirtilen ozelligi ({}) ve degeri ({}) iceriyor.", elementName, timeout, attribute, value);
         } catch (TimeoutException e) {
-            System.out.println(elementName + " elementi " + timeout + " saniye icinde belirtilen ozelligi (" + attribute + ") ve degeri (" + value + ") icermiyor. Hata: " + e.getMessage());
+            logFailure("{} elementi {} saniye icinde belirtilen ozelligi ({}) ve degeri ({}) icermiyor. Hata: {}", elementName, timeout, attribute, value, e.getMessage());
             throw e;
         }
     }
@@ -1151,11 +1160,11 @@ public class ReusableMethods {
     public static void waitForElementAttributeToBe(WebElement element, String elementName, String attribute, String value, int timeoutMilliseconds) {
         Duration timeout = Duration.ofMillis(timeoutMilliseconds);
         try {
-            WebDriverWait customWait = new WebDriverWait(Driver.getDriver(), timeout);
+            WebDriverWait customWait = new MeteredWait(Driver.getDriver(), timeout);
             customWait.until(ExpectedConditions.attributeToBe(element, attribute, value));
-            System.out.println(elementName + " elementi " + timeout + " saniye icinde belirtilen ozelligi (" + attribute + ") ve degeri (" + value + ") hale geldi.");
+            log("{} elementi {} saniye icinde belirtilen ozelligi ({}) ve degeri ({}) hale geldi.", elementName, timeout, attribute, value);
         } catch (TimeoutException e) {
-            System.out.println(elementName + " elementi " + timeout + " saniye icinde belirtilen ozelligi (" + attribute + ") ve degeri (" + value + ") hale gelmedi. Hata: " + e.getMessage());
+            logFailure("{} elementi {} saniye icinde belirtilen ozelligi ({}) ve degeri ({}) hale gelmedi. Hata: {}", elementName, timeout, attribute, value, e.getMessage());
             throw e;
         }
     }
@@ -1176,11 +1185,11 @@ public class ReusableMethods {
     public static void waitForElementTextToContain(WebElement element, String elementName, String textPart, int timeoutMilliseconds) {
         Duration timeout = Duration.ofMillis(timeoutMilliseconds);
         try {
-            WebDriverWait customWait = new WebDriverWait(Driver.getDriver(), timeout);
+            WebDriverWait customWait = new MeteredWait(Driver.getDriver(), timeout);
             customWait.until(ExpectedConditions.textToBePresentInElement(element, textPart));
-            System.out.println(elementName + " elementi " + timeout + " saniye icinde belirtilen metni (" + textPart + ") iceriyor.");
+            log("{} elementi {} saniye icinde belirtilen metni ({}) iceriyor.", elementName, timeout, textPart);
         } catch (TimeoutException e) {
-            System.out.println(elementName + " elementi " + timeout + " saniye icinde belirtilen metni (" + textPart + ") icermiyor. Hata: " + e.getMessage());
+            logFailure("{} elementi {} saniye icinde belirtilen metni ({}) icermiyor. Hata: {}", elementName, timeout, textPart, e.getMessage());
             throw e;
         }
     }
@@ -1201,11 +1210,11 @@ public class ReusableMethods {
     public static void waitForElementTextToBe(WebElement element, String elementName, String text, int timeoutMilliseconds) {
         Duration timeout = Duration.ofMillis(timeoutMilliseconds);
         try {
-            WebDriverWait customWait = new WebDriverWait(Driver.getDriver(), timeout);
+            WebDriverWait customWait = new MeteredWait(Driver.getDriver(), timeout);
             customWait.until(ExpectedConditions.textToBePresentInElement(element, text));
-            System.out.println(elementName + " elementi " + timeout + " saniye icinde belirtilen metni (" + text + ") iceriyor.");
+            log("{} elementi {} saniye icinde belirtilen metni ({}) iceriyor.", elementName, timeout, text);
         } catch (TimeoutException e) {
-            System.out.println(elementName + " elementi " + timeout + " saniye icinde belirtilen metni (" + text + ") iceriyor. Hata: " + e.getMessage());
+            logFailure("{} elementi {} saniye icinde belirtilen metni ({}) iceriyor. Hata: {}", elementName, timeout, text, e.getMessage());
             throw e;
         }
     }
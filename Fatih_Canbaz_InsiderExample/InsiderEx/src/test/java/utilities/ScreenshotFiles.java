@@ -0,0 +1,55 @@
+package utilities;
+
+import org.apache.commons.io.FileUtils;
+
+import java.io.File;
+import java.io.IOException;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+
+/**
+ * ScreenshotFiles Class
+ * <p>
+ * Naming and saving of screenshot files under src/tmp. Kept apart from the capture itself so that the file
+ * handling cost can be measured (see the benchmarks module) and reused by every screenshot helper.
+ * </p>
+ * <p>
+ * Author: Fatih Canbaz
+ * </p>
+ */
+public class ScreenshotFiles {
+
+    // ekran goruntulerinin kaydedildigi klasor (proje klasorune gore)
+    public static final String TMP_DIR = "src/tmp/";
+
+    private ScreenshotFiles() {
+
+    }
+
+    /**
+     * Builds a file name that does not collide with earlier screenshots, e.g. src/tmp/TC0120250203034055.png
+     *
+     * @param name        ekran goruntusunun adi
+     * @param datePattern dosya adina eklenecek tarih formati
+     * @param extension   dosya uzantisi (".png", ".jpg")
+     * @return src/tmp altinda goreli dosya yolu
+     */
+    public static String timestampedPath(String name, String datePattern, String extension) {
+        String date = new SimpleDateFormat(datePattern).format(new Date());
+        return TMP_DIR + name + date + extension;
+    }
+
+    /**
+     * Copies a captured screenshot (Selenium writes it to a temp file) to its final place.
+     *
+     * @param source Selenium'un olusturdugu gecici dosya
+     * @param target hedef dosya yolu
+     * @return hedef dosya
+     * @throws IOException Dosya kopyalanamadiginda
+     */
+    public static File save(File source, String target) throws IOException {
+        File finalDestination = new File(target);
+        FileUtils.copyFile(source, finalDestination);
+        return finalDestination;
+    }
+}
@@ -0,0 +1,302 @@
+package utilities;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import org.openqa.selenium.Cookie;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.devtools.Command;
+import org.openqa.selenium.devtools.DevTools;
+import org.openqa.selenium.devtools.HasDevTools;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * SessionState Class
+ * <p>
+ * Cookies, localStorage and sessionStorage of one origin (consent banner choice, login, language...) captured
+ * once and put into fresh browser sessions, so a test starts from the state it needs instead of repeating the
+ * same preamble pages in every session:
+ * </p>
+ * <pre>
+ * SessionState.apply("consent", Driver.getDriver(), driver -&gt; {
+ *     driver.get(ConfigReader.getProperty("autExUrl"));
+ *     // cookie banner kabul edilir
+ * });
+ * </pre>
+ * <p>
+ * The first {@link #apply(String, WebDriver, Consumer)} of a name runs the setup and captures the state, later ones
+ * (in this run, or from test-output/session-state/&lt;name&gt;.json while it is younger than
+ * sessionStateMaxAgeMinutes) only restore it and open the page the setup ended on, so either way the test goes on
+ * from that page. {@link TestBaseLifecycle} applies the state of a test class before its tests. On Chromium the state is restored over CDP before the first get:
+ * cookies with Network.setCookie, storage with a script that runs before the scripts of the first page of the
+ * origin. Other browsers open origin + sessionStateLandingPath (a small same-origin resource) once to set them.
+ * </p>
+ * <p>
+ * Configuration (configuration.properties):
+ * - sessionStateEnabled: true/false, false always runs the setup (default true)
+ * - sessionStateMaxAgeMinutes: reuse of the saved file in later runs, 0 = only this run (default 0)
+ * - sessionStateLandingPath: page opened to restore without CDP (default /robots.txt)
+ * </p>
+ * <p>
+ * Author: Fatih Canbaz
+ * </p>
+ */
+public class SessionState {
+
+    private static final Logger LOG = LoggerFactory.getLogger(SessionState.class);
+
+    private static final Gson GSON = new GsonBuilder().setPrettyPrinting().create();
+    // RESTORE_SCRIPT'in sessionStorage'a koydugu isaret, state'in parcasi degildir
+    private static final String MARKER = "__sessionState";
+    private static final String CAPTURE_SCRIPT = "var session = {};"
+            + "Object.keys(sessionStorage).forEach(function (k) {"
+            + "  if (k !== '" + MARKER + "') { session[k] = sessionStorage.getItem(k); }"
+            + "});"
+            + "return {origin: location.origin, url: location.href, local: Object.assign({}, localStorage), session: session};";
+    // ayni origin'in ilk sayfasinda bir kere yazilir, test'in sonradan degistirdigi storage ezilmez
+    private static final String RESTORE_SCRIPT = "(function (s) {"
+            + "  if (location.origin !== s.origin) return;"
+            + "  try {"
+            + "    if (sessionStorage.getItem('" + MARKER + "')) return;"
+            + "    Object.keys(s.local).forEach(function (k) { localStorage.setItem(k, s.local[k]); });"
+            + "    Object.keys(s.session).forEach(function (k) { sessionStorage.setItem(k, s.session[k]); });"
+            + "    sessionStorage.setItem('" + MARKER + "', '1');"
+            + "  } catch (e) { }"
+            + "})(%s);";
+
+    private static final Map<String, SessionState> STATES = new ConcurrentHashMap<>();
+    private static final Map<String, Object> LOCKS = new ConcurrentHashMap<>();
+
+    private final String name;
+    private final long capturedAt;
+    private final String origin;
+    private final String url;
+    private final JsonArray cookies;
+    private final JsonObject localStorage;
+    private final JsonObject sessionStorage;
+
+    SessionState(String name, long capturedAt, String origin, String url, JsonArray cookies,
+                 JsonObject localStorage, JsonObject sessionStorage) {
+        this.name = name;
+        this.capturedAt = capturedAt;
+        this.origin = origin;
+        this.url = url;
+        this.cookies = cookies;
+        this.localStorage = localStorage;
+        this.sessionStorage = sessionStorage;
+    }
+
+    /**
+     * Restores the state called name into driver and opens the page the setup ended on, or runs setup on driver and
+     * captures the state if there is none.
+     *
+     * @param setup state'i olusturan adimlar (sayfa, consent...), sadece ilk seferde calisir
+     * @return true if the state was restored, false if setup ran
+     */
+    public static boolean apply(String name, WebDriver driver, Consumer<WebDriver> setup) {
+        if (!Boolean.parseBoolean(ConfigReader.getProperty("sessionStateEnabled", "true"))) {
+            setup.accept(driver);
+            return false;
+        }
+        // paralel testlerde setup bir kere calisir, digerleri bekler
+        synchronized (LOCKS.computeIfAbsent(name, key -> new Object())) {
+            SessionState state = STATES.computeIfAbsent(name, key -> load(key, file(key),
+                    Long.parseLong(ConfigReader.getProperty("sessionStateMaxAgeMinutes", "0")) * 60_000));
+            if (state != null) {
+                state.restore(driver);
+                driver.get(state.url);
+                return true;
+            }
+            setup.accept(driver);
+            state = capture(name, driver);
+            STATES.put(name, state);
+            state.save(file(name));
+            return false;
+        }
+    }
+
+    /**
+     * Cookies and storage of the page that is open in driver.
+     */
+    public static SessionState capture(String name, WebDriver driver) {
+        @SuppressWarnings("unchecked")
+        Map<String, Object> storage = (Map<String, Object>) ((JavascriptExecutor) driver).executeScript(CAPTURE_SCRIPT);
+        JsonArray cookies = new JsonArray();
+        for (Cookie cookie : driver.manage().getCookies()) {
+            JsonObject json = new JsonObject();
+            json.addProperty("name", cookie.getName());
+            json.addProperty("value", cookie.getValue());
+            json.addProperty("domain", cookie.getDomain());
+            json.addProperty("path", cookie.getPath());
+            json.addProperty("secure", cookie.isSecure());
+            json.addProperty("httpOnly", cookie.isHttpOnly());
+            json.addProperty("sameSite", cookie.getSameSite());
+            if (cookie.getExpiry() != null) {
+                json.addProperty("expiry", cookie.getExpiry().getTime());
+            }
+            cookies.add(json);
+        }
+        return new SessionState(name, System.currentTimeMillis(), (String) storage.get("origin"),
+                (String) storage.get("url"), cookies,
+                GSON.toJsonTree(storage.get("local")).getAsJsonObject(),
+                GSON.toJsonTree(storage.get("session")).getAsJsonObject());
+    }
+
+    /**
+     * Puts the cookies and storage into driver; the next get of the origin starts with them.
+     */
+    public void restore(WebDriver driver) {
+        if (driver instanceof HasDevTools && restoreWithDevTools(((HasDevTools) driver).getDevTools())) {
+            return;
+        }
+        driver.get(origin + ConfigReader.getProperty("sessionStateLandingPath", "/robots.txt"));
+        for (JsonElement element : cookies) {
+            JsonObject cookie = element.getAsJsonObject();
+            try {
+                driver.manage().addCookie(new Cookie(cookie.get("name").getAsString(), cookie.get("value").getAsString(),
+                        string(cookie, "domain"), string(cookie, "path"),
+                        cookie.has("expiry") ? new Date(cookie.get("expiry").getAsLong()) : null,
+                        cookie.get("secure").getAsBoolean(), cookie.get("httpOnly").getAsBoolean(),
+                        string(cookie, "sameSite")));
+            } catch (WebDriverException e) {
+                // baska domain'in cookie'si bu sayfadan yazilamaz
+                LOG.warn("Cookie yazilamadi ({}): {}", cookie.get("name").getAsString(), e.getMessage());
+            }
+        }
+        ((JavascriptExecutor) driver).executeScript("sessionStorage.removeItem('" + MARKER + "');"
+                + String.format(RESTORE_SCRIPT, toJson()));
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getOrigin() {
+        return origin;
+    }
+
+    /**
+     * Page that was open when the state was captured.
+     */
+    public String getUrl() {
+        return url;
+    }
+
+    public int getCookieCount() {
+        return cookies.size();
+    }
+
+    public long getCapturedAt() {
+        return capturedAt;
+    }
+
+    /**
+     * Saved sessionStorage entries (a copy).
+     */
+    public JsonObject getSessionStorage() {
+        return sessionStorage.deepCopy();
+    }
+
+    private boolean restoreWithDevTools(DevTools devTools) {
+        try {
+            devTools.createSessionIfThereIsNotOne();
+            for (JsonElement element : cookies) {
+                JsonObject cookie = element.getAsJsonObject();
+                Map<String, Object> params = new LinkedHashMap<>();
+                params.put("name", cookie.get("name").getAsString());
+                params.put("value", cookie.get("value").getAsString());
+                params.put("domain", string(cookie, "domain"));
+                params.put("path", string(cookie, "path") == null ? "/" : string(cookie, "path"));
+                params.put("secure", cookie.get("secure").getAsBoolean());
+                params.put("httpOnly", cookie.get("httpOnly").getAsBoolean());
+                if (string(cookie, "sameSite") != null) {
+                    params.put("sameSite", string(cookie, "sameSite"));
+                }
+                if (cookie.has("expiry")) {
+                    params.put("expires", cookie.get("expiry").getAsLong() / 1000.0);
+                }
+                devTools.send(new Command<>("Network.setCookie", params));
+            }
+            devTools.send(new Command<>("Page.enable", Map.of()));
+            devTools.send(new Command<>("Page.addScriptToEvaluateOnNewDocument",
+                    Map.of("source", String.format(RESTORE_SCRIPT, toJson()))));
+            return true;
+        } catch (WebDriverException e) {
+            LOG.warn("Session state CDP ile yazilamadi, sayfa uzerinden yazilacak: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    private String toJson() {
+        JsonObject json = new JsonObject();
+        json.addProperty("origin", origin);
+        json.add("local", localStorage);
+        json.add("session", sessionStorage);
+        return json.toString();
+    }
+
+    void save(Path file) {
+        JsonObject json = new JsonObject();
+        json.addProperty("name", name);
+        json.addProperty("capturedAt", capturedAt);
+        json.addProperty("origin", origin);
+        json.addProperty("url", url);
+        json.add("cookies", cookies);
+        json.add("localStorage", localStorage);
+        json.add("sessionStorage", sessionStorage);
+        try {
+            if (file.getParent() != null) {
+                Files.createDirectories(file.getParent());
+            }
+            Files.write(file, GSON.toJson(json).getBytes(StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            LOG.warn("Session state kaydedilemedi: {}", e.getMessage());
+        }
+    }
+
+    // onceki run'in dosyasi maxAge'den (ms) gencse kullanilir, 0 = hic
+    static SessionState load(String name, Path file, long maxAge) {
+        if (maxAge <= 0 || !Files.isRegularFile(file)) {
+            return null;
+        }
+        try {
+            JsonObject json = GSON.fromJson(new String(Files.readAllBytes(file), StandardCharsets.UTF_8),
+                    JsonObject.class);
+            long capturedAt = json.get("capturedAt").getAsLong();
+            if (System.currentTimeMillis() - capturedAt > maxAge) {
+                return null;
+            }
+            String origin = json.get("origin").getAsString();
+            return new SessionState(name, capturedAt, origin, json.get("url").getAsString(),
+                    json.getAsJsonArray("cookies"),
+                    json.getAsJsonObject("localStorage"), json.getAsJsonObject("sessionStorage"));
+        } catch (IOException | RuntimeException e) {
+            LOG.warn("Session state okunamadi ({}): {}", file, e.getMessage());
+            return null;
+        }
+    }
+
+    private static Path file(String name) {
+        return Paths.get(System.getProperty("user.dir"), "test-output", "session-state", name + ".json");
+    }
+
+    private static String string(JsonObject json, String key) {
+        return json.has(key) && !json.get(key).isJsonNull() ? json.get(key).getAsString() : null;
+    }
+}
@@ -0,0 +1,149 @@
+package utilities;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import org.openqa.selenium.Cookie;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+public class SessionStateTest {
+
+    private static final long HOUR = 60 * 60_000;
+
+    @Test
+    public void savedStateIsLoadedWhileYoungerThanMaxAge() throws IOException {
+        Path file = Files.createTempDirectory("session-state").resolve("consent.json");
+        try {
+            state(System.currentTimeMillis() - 10 * 60_000).save(file);
+
+            SessionState loaded = SessionState.load("consent", file, HOUR);
+            Assert.assertNotNull(loaded);
+            Assert.assertEquals(loaded.getOrigin(), "https://useinsider.com");
+            Assert.assertEquals(loaded.getUrl(), "https://useinsider.com/careers/");
+            Assert.assertEquals(loaded.getCookieCount(), 1);
+            Assert.assertEquals(loaded.getSessionStorage().get("lang").getAsString(), "en");
+            // 0 = sadece bu run, dosya kullanilmaz
+            Assert.assertNull(SessionState.load("consent", file, 0));
+            Assert.assertNull(SessionState.load("consent", file, 5 * 60_000));
+        } finally {
+            Files.deleteIfExists(file);
+            Files.deleteIfExists(file.getParent());
+        }
+    }
+
+    @Test
+    public void missingOrBrokenFileIsIgnored() throws IOException {
+        Path file = Files.createTempFile("session-state", ".json");
+        try {
+            Files.write(file, "{\"name\": \"consent\"".getBytes(StandardCharsets.UTF_8));
+            Assert.assertNull(SessionState.load("consent", file, HOUR));
+            Files.write(file, "{\"name\": \"consent\"}".getBytes(StandardCharsets.UTF_8));
+            Assert.assertNull(SessionState.load("consent", file, HOUR));
+        } finally {
+            Files.delete(file);
+        }
+        Assert.assertNull(SessionState.load("consent", file, HOUR));
+    }
+
+    @Test
+    public void restoreMarkerIsNotPartOfTheState() {
+        List<String> scripts = new ArrayList<>();
+        // isaret browser'da capture script'i tarafindan atlanir, fake driver atlanmis halini doner
+        WebDriver driver = driver(scripts, Map.of("origin", "https://useinsider.com",
+                "url", "https://useinsider.com/careers/", "local", Map.of("consent", "accepted"),
+                "session", Map.of("lang", "en")));
+
+        SessionState captured = SessionState.capture("consent", driver);
+
+        Assert.assertTrue(scripts.get(0).contains("if (k !== '__sessionState')"), "capture script isareti atlamiyor");
+        Assert.assertEquals(captured.getSessionStorage().keySet(), Set.of("lang"));
+        Assert.assertEquals(captured.getCookieCount(), 1);
+        Assert.assertEquals(captured.getUrl(), "https://useinsider.com/careers/");
+    }
+
+    @Test
+    public void secondApplyRestoresAndOpensTheSetupPage() throws IOException {
+        List<String> scripts = new ArrayList<>();
+        List<String> pages = new ArrayList<>();
+        WebDriver driver = driver(scripts, pages, Map.of("origin", "https://useinsider.com",
+                "url", "https://useinsider.com/careers/", "local", Map.of(), "session", Map.of()));
+        String name = "apply-" + System.nanoTime();
+        List<WebDriver> setups = new ArrayList<>();
+
+        try {
+            Assert.assertFalse(SessionState.apply(name, driver, setups::add));
+            Assert.assertTrue(SessionState.apply(name, driver, setups::add));
+        } finally {
+            Files.deleteIfExists(Paths.get(System.getProperty("user.dir"), "test-output", "session-state", name + ".json"));
+        }
+
+        Assert.assertEquals(setups.size(), 1);
+        // CDP yok: landing sayfasinda yazilir, sonra setup'in bittigi sayfa acilir
+        Assert.assertEquals(pages, List.of("https://useinsider.com/robots.txt", "https://useinsider.com/careers/"));
+    }
+
+    private static SessionState state(long capturedAt) {
+        JsonObject cookie = new JsonObject();
+        cookie.addProperty("name", "ins-consent");
+        cookie.addProperty("value", "1");
+        cookie.addProperty("domain", ".useinsider.com");
+        cookie.addProperty("path", "/");
+        cookie.addProperty("secure", true);
+        cookie.addProperty("httpOnly", false);
+        JsonArray cookies = new JsonArray();
+        cookies.add(cookie);
+        JsonObject local = new JsonObject();
+        local.addProperty("consent", "accepted");
+        JsonObject session = new JsonObject();
+        session.addProperty("lang", "en");
+        return new SessionState("consent", capturedAt, "https://useinsider.com", "https://useinsider.com/careers/",
+                cookies, local, session);
+    }
+
+    private static WebDriver driver(List<String> scripts, Map<String, Object> storage) {
+        return driver(scripts, new ArrayList<>(), storage);
+    }
+
+    // executeScript storage'i, manage().getCookies() bir cookie doner; get edilen sayfalar pages'e yazilir
+    private static WebDriver driver(List<String> scripts, List<String> pages, Map<String, Object> storage) {
+        WebDriver.Options options = (WebDriver.Options) Proxy.newProxyInstance(SessionStateTest.class.getClassLoader(),
+                new Class<?>[]{WebDriver.Options.class}, (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "getCookies":
+                            return Set.of(new Cookie("ins-consent", "1", ".useinsider.com", "/", null));
+                        case "addCookie":
+                            return null;
+                        default:
+                            throw new UnsupportedOperationException(method.getName());
+                    }
+                });
+        return (WebDriver) Proxy.newProxyInstance(SessionStateTest.class.getClassLoader(),
+                new Class<?>[]{WebDriver.class, JavascriptExecutor.class}, (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "executeScript":
+                            scripts.add((String) args[0]);
+                            return storage;
+                        case "manage":
+                            return options;
+                        case "get":
+                            pages.add((String) args[0]);
+                            return null;
+                        default:
+                            throw new UnsupportedOperationException(method.getName());
+                    }
+                });
+    }
+}
@@ -0,0 +1,171 @@
+package utilities;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.NoSuchShadowRootException;
+import org.openqa.selenium.SearchContext;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.WrapsElement;
+import org.openqa.selenium.remote.RemoteWebElement;
+import org.openqa.selenium.support.ui.FluentWait;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * ShadowDom Class
+ * <p>
+ * Shadow DOM lookups with Selenium 4's {@link WebElement#getShadowRoot()}. The shadow root handle
+ * ({@link SearchContext}) of a host element is cached, so repeated lookups under the same host cost one
+ * findElement call. Lookups poll every 100 ms until the element is there instead of sleeping a fixed time; the
+ * implicit wait of the driver is switched off while they poll, so shadowTimeoutSeconds is the real upper bound.
+ * </p>
+ * <p>
+ * Nested shadow trees can be resolved with a shadow path in a single JavaScript call, every part is a CSS
+ * selector that is searched in the shadow root of the element found by the previous part:
+ * <pre>
+ * ShadowDom.findByPath("app-shell >>> nav-menu >>> a.careers");
+ * </pre>
+ * </p>
+ * <p>
+ * Configuration (configuration.properties):
+ * - shadowTimeoutSeconds: maximum wait for a shadow element (default 10)
+ * </p>
+ * <p>
+ * Author: Fatih Canbaz
+ * </p>
+ */
+public class ShadowDom {
+
+    public static final String PATH_SEPARATOR = ">>>";
+
+    private static final int MAX_CACHED_ROOTS = 256;
+    private static final Duration POLLING = Duration.ofMillis(100);
+
+    // ilk parca document'ta, sonrakiler bir oncekinin shadowRoot'unda aranir
+    private static final String PATH_SCRIPT = ""
+            + "var parts = arguments[0], node = null;"
+            + "for (var i = 0; i < parts.length; i++) {"
+            + "  var root = i === 0 ? document : node.shadowRoot;"
+            + "  if (!root) { return null; }"
+            + "  node = root.querySelector(parts[i]);"
+            + "  if (!node) { return null; }"
+            + "}"
+            + "return node;";
+
+    // host element id -> shadow root handle, en eski kullanilan atilir
+    private static final Map<String, SearchContext> ROOTS = new LinkedHashMap<String, SearchContext>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, SearchContext> eldest) {
+            return size() > MAX_CACHED_ROOTS;
+        }
+    };
+
+    private ShadowDom() {
+
+    }
+
+    /**
+     * Finds an element in the shadow root of the host.
+     *
+     * @param host        shadow root'u olan element
+     * @param cssSelector shadow root icindeki elementin CSS locator'i
+     */
+    public static WebElement find(WebElement host, String cssSelector) {
+        return withoutImplicitWait(() -> newWait().until(driver -> {
+            try {
+                return shadowRoot(host).findElement(By.cssSelector(cssSelector));
+            } catch (StaleElementReferenceException | NoSuchShadowRootException e) {
+                // sayfa yenilendi ya da host yeniden render edildi, handle tekrar alinir
+                evict(host);
+                throw e;
+            }
+        }));
+    }
+
+    /**
+     * Finds the host with the locator (waits until it is there), then the element in its shadow root.
+     */
+    public static WebElement find(By hostLocator, String cssSelector) {
+        WebElement host = withoutImplicitWait(() -> newWait().until(driver -> driver.findElement(hostLocator)));
+        return find(host, cssSelector);
+    }
+
+    /**
+     * Resolves a nested shadow path like "host &gt;&gt;&gt; inner-host &gt;&gt;&gt; target" in one JavaScript call,
+     * polling until the last element exists.
+     */
+    public static WebElement findByPath(String shadowPath) {
+        Object[] parts = Arrays.stream(shadowPath.split(PATH_SEPARATOR)).map(String::trim).toArray();
+        return newWait()
+                .withMessage("Shadow path bulunamadi: " + shadowPath)
+                .until(driver -> (WebElement) ((JavascriptExecutor) driver).executeScript(PATH_SCRIPT, (Object) parts));
+    }
+
+    /**
+     * Shadow root handle of the host, from the cache if it was already resolved.
+     */
+    public static SearchContext shadowRoot(WebElement host) {
+        String id = id(host);
+        if (id == null) {
+            return host.getShadowRoot();
+        }
+        synchronized (ROOTS) {
+            SearchContext root = ROOTS.get(id);
+            if (root == null) {
+                root = host.getShadowRoot();
+                ROOTS.put(id, root);
+            }
+            return root;
+        }
+    }
+
+    public static void clearCache() {
+        synchronized (ROOTS) {
+            ROOTS.clear();
+        }
+    }
+
+    private static void evict(WebElement host) {
+        String id = id(host);
+        if (id != null) {
+            synchronized (ROOTS) {
+                ROOTS.remove(id);
+            }
+        }
+    }
+
+    private static String id(WebElement element) {
+        while (element instanceof WrapsElement && !(element instanceof RemoteWebElement)) {
+            element = ((WrapsElement) element).getWrappedElement();
+        }
+        return element instanceof RemoteWebElement ? ((RemoteWebElement) element).getId() : null;
+    }
+
+    // implicit wait (DriverFactory: 15 sn) acikken her bulunamayan findElement bir poll'u 15 sn bloklar
+    private static <T> T withoutImplicitWait(Supplier<T> lookup) {
+        WebDriver.Timeouts timeouts = Driver.getDriver().manage().timeouts();
+        Duration implicitWait = timeouts.getImplicitWaitTimeout();
+        timeouts.implicitlyWait(Duration.ZERO);
+        try {
+            return lookup.get();
+        } finally {
+            timeouts.implicitlyWait(implicitWait);
+        }
+    }
+
+    private static FluentWait<WebDriver> newWait() {
+        return new FluentWait<>(Driver.getDriver())
+                .withTimeout(Duration.ofSeconds(Long.parseLong(ConfigReader.getProperty("shadowTimeoutSeconds", "10"))))
+                .pollingEvery(POLLING)
+                .ignoring(NoSuchElementException.class)
+                .ignoring(NoSuchShadowRootException.class)
+                .ignoring(StaleElementReferenceException.class);
+    }
+}
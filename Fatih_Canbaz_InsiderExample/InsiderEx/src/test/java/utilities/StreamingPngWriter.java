@@ -0,0 +1,199 @@
+package utilities;
+
+import java.awt.image.BufferedImage;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.RandomAccessFile;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.CRC32;
+import java.util.zip.DeflaterOutputStream;
+
+/**
+ * StreamingPngWriter Class
+ * <p>
+ * Writes a PNG row by row, so an image can be assembled from tiles (see {@link FullPageScreenshot}) without ever
+ * holding the whole bitmap in memory: only the current row and a 64 KB block of compressed data are buffered.
+ * The height does not have to be known up front; the IHDR chunk is patched with the final row count on
+ * {@link #close()}.
+ * </p>
+ * <p>
+ * Author: Fatih Canbaz
+ * </p>
+ */
+public class StreamingPngWriter implements Closeable {
+
+    private static final byte[] SIGNATURE = {(byte) 137, 80, 78, 71, 13, 10, 26, 10};
+    private static final int IDAT_BLOCK_SIZE = 64 * 1024;
+    // dosyada IHDR height alani ve IHDR CRC'sinin yeri (signature 8 + length 4 + "IHDR" 4 + width 4)
+    private static final int HEIGHT_OFFSET = 20;
+    private static final int IHDR_TYPE_OFFSET = 12;
+    private static final int IHDR_CRC_OFFSET = 29;
+    private static final int WHITE = 0xFFFFFF;
+
+    private final String path;
+    private final int width;
+    private final DataOutputStream file;
+    private final DeflaterOutputStream image;
+    private final byte[] row;
+    private final int[] pixels;
+    private int height;
+    private boolean closed;
+
+    /**
+     * @param path  yazilacak png dosyasi
+     * @param width goruntu genisligi (piksel); daha dar satirlar beyazla doldurulur, genisler kesilir
+     */
+    public StreamingPngWriter(String path, int width) throws IOException {
+        if (width <= 0) {
+            throw new IllegalArgumentException("Gecersiz genislik: " + width);
+        }
+        this.path = path;
+        this.width = width;
+        this.row = new byte[1 + width * 3];
+        this.pixels = new int[width];
+        this.file = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(path)));
+        file.write(SIGNATURE);
+        byte[] header = new byte[13];
+        putInt(header, 0, width);
+        putInt(header, 4, 0);
+        header[8] = 8;  // bit depth
+        header[9] = 2;  // truecolor RGB
+        chunk("IHDR", header, header.length);
+        this.image = new DeflaterOutputStream(new IdatStream());
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    /**
+     * Number of rows written so far.
+     */
+    public int getHeight() {
+        return height;
+    }
+
+    /**
+     * Appends rows [fromY, toY) of the image.
+     */
+    public void writeRows(BufferedImage source, int fromY, int toY) throws IOException {
+        int copyWidth = Math.min(width, source.getWidth());
+        for (int y = Math.max(0, fromY); y < Math.min(toY, source.getHeight()); y++) {
+            source.getRGB(0, y, copyWidth, 1, pixels, 0, width);
+            for (int x = copyWidth; x < width; x++) {
+                pixels[x] = WHITE;
+            }
+            writeRow();
+        }
+    }
+
+    /**
+     * Appends every row of the image.
+     */
+    public void writeImage(BufferedImage source) throws IOException {
+        writeRows(source, 0, source.getHeight());
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        image.close();
+        chunk("IEND", new byte[0], 0);
+        file.close();
+        patchHeight();
+    }
+
+    private void writeRow() throws IOException {
+        // filtre tipi 1 (Sub): her byte soldaki pikselin ayni kanalina gore yazilir
+        row[0] = 1;
+        int previous = 0;
+        for (int x = 0, i = 1; x < width; x++, i += 3) {
+            int rgb = pixels[x];
+            row[i] = (byte) ((rgb >> 16) - (previous >> 16));
+            row[i + 1] = (byte) ((rgb >> 8) - (previous >> 8));
+            row[i + 2] = (byte) (rgb - previous);
+            previous = rgb;
+        }
+        image.write(row);
+        height++;
+    }
+
+    private void patchHeight() throws IOException {
+        try (RandomAccessFile png = new RandomAccessFile(path, "rw")) {
+            png.seek(HEIGHT_OFFSET);
+            png.writeInt(height);
+            byte[] typeAndData = new byte[17];
+            png.seek(IHDR_TYPE_OFFSET);
+            png.readFully(typeAndData);
+            CRC32 crc = new CRC32();
+            crc.update(typeAndData);
+            png.seek(IHDR_CRC_OFFSET);
+            png.writeInt((int) crc.getValue());
+        }
+    }
+
+    private void chunk(String type, byte[] data, int length) throws IOException {
+        byte[] typeBytes = type.getBytes(StandardCharsets.US_ASCII);
+        CRC32 crc = new CRC32();
+        crc.update(typeBytes);
+        crc.update(data, 0, length);
+        file.writeInt(length);
+        file.write(typeBytes);
+        file.write(data, 0, length);
+        file.writeInt((int) crc.getValue());
+    }
+
+    private static void putInt(byte[] target, int offset, int value) {
+        target[offset] = (byte) (value >>> 24);
+        target[offset + 1] = (byte) (value >>> 16);
+        target[offset + 2] = (byte) (value >>> 8);
+        target[offset + 3] = (byte) value;
+    }
+
+    /**
+     * Collects compressed data and writes it as IDAT chunks of at most 64 KB.
+     */
+    private final class IdatStream extends OutputStream {
+        private final byte[] block = new byte[IDAT_BLOCK_SIZE];
+        private int size;
+
+        @Override
+        public void write(int b) throws IOException {
+            write(new byte[]{(byte) b}, 0, 1);
+        }
+
+        @Override
+        public void write(byte[] data, int offset, int length) throws IOException {
+            while (length > 0) {
+                int count = Math.min(length, block.length - size);
+                System.arraycopy(data, offset, block, size, count);
+                size += count;
+                offset += count;
+                length -= count;
+                if (size == block.length) {
+                    flush();
+                }
+            }
+        }
+
+        @Override
+        public void flush() throws IOException {
+            if (size > 0) {
+                chunk("IDAT", block, size);
+                size = 0;
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            flush();
+        }
+    }
+}
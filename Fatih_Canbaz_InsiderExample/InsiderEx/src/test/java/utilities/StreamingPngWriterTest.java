@@ -0,0 +1,83 @@
+package utilities;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Random;
+
+public class StreamingPngWriterTest {
+
+    @Test
+    public void tilesAreReadBackPixelByPixel() throws IOException {
+        // rastgele pikseller sikismaz, IDAT birden fazla 64 KB chunk'a bolunur
+        BufferedImage first = randomImage(200, 150, 1);
+        BufferedImage second = randomImage(200, 120, 2);
+        File png = Files.createTempFile("streaming", ".png").toFile();
+        try {
+            try (StreamingPngWriter writer = new StreamingPngWriter(png.getPath(), 200)) {
+                writer.writeImage(first);
+                writer.writeRows(second, 20, 120);
+                Assert.assertEquals(writer.getHeight(), 250);
+            }
+
+            BufferedImage read = ImageIO.read(png);
+            Assert.assertEquals(read.getWidth(), 200);
+            Assert.assertEquals(read.getHeight(), 250);
+            for (int y = 0; y < 250; y++) {
+                for (int x = 0; x < 200; x++) {
+                    int expected = y < 150 ? first.getRGB(x, y) : second.getRGB(x, y - 150 + 20);
+                    Assert.assertEquals(read.getRGB(x, y) & 0xFFFFFF, expected & 0xFFFFFF, "piksel " + x + "," + y);
+                }
+            }
+        } finally {
+            png.delete();
+        }
+    }
+
+    @Test
+    public void narrowRowsArePaddedWithWhiteAndWideRowsCut() throws IOException {
+        BufferedImage narrow = randomImage(30, 10, 3);
+        BufferedImage wide = randomImage(80, 10, 4);
+        File png = Files.createTempFile("streaming", ".png").toFile();
+        try {
+            try (StreamingPngWriter writer = new StreamingPngWriter(png.getPath(), 50)) {
+                writer.writeImage(narrow);
+                writer.writeImage(wide);
+            }
+
+            BufferedImage read = ImageIO.read(png);
+            Assert.assertEquals(read.getWidth(), 50);
+            Assert.assertEquals(read.getHeight(), 20);
+            for (int y = 0; y < 10; y++) {
+                for (int x = 0; x < 50; x++) {
+                    int expected = x < 30 ? narrow.getRGB(x, y) : 0xFFFFFF;
+                    Assert.assertEquals(read.getRGB(x, y) & 0xFFFFFF, expected & 0xFFFFFF, "piksel " + x + "," + y);
+                    Assert.assertEquals(read.getRGB(x, y + 10) & 0xFFFFFF, wide.getRGB(x, y) & 0xFFFFFF);
+                }
+            }
+        } finally {
+            png.delete();
+        }
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void nonPositiveWidthIsRejected() throws IOException {
+        new StreamingPngWriter("unused.png", 0);
+    }
+
+    private static BufferedImage randomImage(int width, int height, long seed) {
+        Random random = new Random(seed);
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                image.setRGB(x, y, random.nextInt(0x1000000));
+            }
+        }
+        return image;
+    }
+}
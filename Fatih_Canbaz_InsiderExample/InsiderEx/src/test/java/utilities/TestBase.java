@@ -1,23 +1,18 @@
 package utilities;
 
-import io.github.bonigarcia.wdm.WebDriverManager;
-
 import org.openqa.selenium.WebDriver;
-import org.openqa.selenium.chrome.ChromeDriver;
 import org.testng.annotations.AfterMethod;
 import org.testng.annotations.BeforeMethod;
 
-import java.time.Duration;
-
+/**
+ * Driver per test method; {@link TestBaseLifecycle} with driverScope=method does the same through configuration.
+ */
 public class TestBase {
     // abstract yapmamizin sebebi, bu class'dan obje uretilmesinin onune gecmektir.
     public  WebDriver driver;
     @BeforeMethod
     public void setup(){
-        WebDriverManager.chromedriver().setup();
-        driver = new ChromeDriver();
-        driver.manage().window().maximize();
-        driver.manage().timeouts().implicitlyWait(Duration.ofSeconds(15));
+        driver = DriverFactory.createDriver("chrome", "TestBase");
     }
 
     @AfterMethod
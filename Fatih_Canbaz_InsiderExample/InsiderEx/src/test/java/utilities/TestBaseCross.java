@@ -6,8 +6,9 @@ import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Optional;
 import org.testng.annotations.Parameters;
 
-import java.time.Duration;
-
+/**
+ * Driver of the browser parameter of the suite xml; {@link TestBaseLifecycle} reads the same parameter.
+ */
 public class TestBaseCross {
     protected WebDriver driver;
 
@@ -15,9 +16,8 @@ public class TestBaseCross {
     @BeforeMethod
     public void setUp(@Optional String browser){
 
+        // maximize ve implicit wait DriverFactory'de yapiliyor
         driver= DriverCross.getDriver(browser);
-        driver.manage().window().maximize();
-        driver.manage().timeouts().implicitlyWait(Duration.ofSeconds(15));
     }
 
     @AfterMethod
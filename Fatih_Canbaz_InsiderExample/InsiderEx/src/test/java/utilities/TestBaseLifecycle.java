@@ -0,0 +1,181 @@
+package utilities;
+
+import com.aventstack.extentreports.ExtentReports;
+import com.aventstack.extentreports.ExtentTest;
+import org.openqa.selenium.WebDriver;
+import org.testng.ITestContext;
+import org.testng.ITestResult;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.AfterSuite;
+import org.testng.annotations.AfterTest;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+
+/**
+ * TestBaseLifecycle Class
+ * <p>
+ * One base class for UI tests instead of TestBase (driver per method), TestBase_BeforeClass (per class),
+ * TestBaseCross (browser parameter) and TestBaseRapor (reporting): the driver scope, the browser and the reporting
+ * are configuration. Tests use {@link Driver#getDriver()} as before; the browser is started lazily on the first
+ * call and quit at the end of the scope (after the result is reported, so a failure still gets its screenshot).
+ * A test that never touches the driver starts no browser.
+ * </p>
+ * <p>
+ * Every value is read from the parameters of the suite xml first (&lt;test&gt; level, then &lt;suite&gt; level),
+ * then from configuration.properties, so each suite can pick the scope with the fewest browser launches:
+ * &lt;parameter name="driverScope" value="class"/&gt;. With the reporting on, an ExtentTest named after the test
+ * method is created before every test (tests may still create their own, see {@link #setExtentTest}) and the
+ * report is flushed at the end of every &lt;test&gt;.
+ * </p>
+ * <p>
+ * A class whose tests all start behind the same preamble (home page, cookie banner, menus) names it in
+ * {@link #sessionStateName()} and moves the steps into {@link #sessionStateSetup(WebDriver)}: the first test runs
+ * them, later tests get the captured cookies and storage before their first get and start on the page the setup
+ * ended on ({@link SessionState}). Such a class opens its browser in the @BeforeMethod.
+ * </p>
+ * <p>
+ * Tests run one at a time: {@link Driver} holds one browser for the JVM, so the suite xml must not use parallel.
+ * </p>
+ * <p>
+ * Page objects bind to the driver that is open when they are created (PageFactory), so with a scope narrower than
+ * the test class they must be created inside the test or a @BeforeMethod, not in a field initializer.
+ * </p>
+ * <p>
+ * Configuration (suite xml parameter or configuration.properties):
+ * - driverScope: method, class, test, suite (default method)
+ * - browser: chrome, firefox, edge, safari
+ * - reportingEnabled: true/false (default true)
+ * - sessionStateEnabled: true/false, false runs the setup before every test (default true)
+ * </p>
+ * <p>
+ * Author: Fatih Canbaz
+ * </p>
+ */
+public abstract class TestBaseLifecycle {
+    protected static ExtentReports extentReports;
+    private static ExtentTest extentTest;
+
+    @BeforeMethod(alwaysRun = true)
+    public void setUpMethod(Method method, ITestContext context) {
+        // baska browser istenirse acik driver kapatilir, yenisi ilk getDriver()'da acilir
+        Driver.useBrowser(parameter(context, "browser", null));
+        if (isReporting(context)) {
+            Test test = method.getAnnotation(Test.class);
+            String name = method.getDeclaringClass().getSimpleName() + "." + method.getName();
+            extentTest = reports().createTest(name, test == null ? "" : test.description());
+        }
+        if (sessionStateName() != null) {
+            if (Boolean.parseBoolean(parameter(context, "sessionStateEnabled", "true"))) {
+                SessionState.apply(sessionStateName(), Driver.getDriver(), this::sessionStateSetup);
+            } else {
+                sessionStateSetup(Driver.getDriver());
+            }
+        }
+    }
+
+    @AfterMethod(alwaysRun = true)
+    public void tearDownMethod(ITestResult result, ITestContext context) throws IOException {
+        try {
+            // raporlama kapaliyken de JSON rapor ve gorsel sonuclar islenir
+            TestResultReporter.report(extentTest(), result, Driver.isOpen());
+        } finally {
+            extentTest = null;
+        }
+        closeIfScope(DriverScope.METHOD, context);
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void tearDownClass(ITestContext context) {
+        closeIfScope(DriverScope.CLASS, context);
+    }
+
+    @AfterTest(alwaysRun = true)
+    public void tearDownTest(ITestContext context) {
+        if (extentReports != null) {
+            extentReports.flush();
+        }
+        closeIfScope(DriverScope.TEST, context);
+    }
+
+    // suite scope'u ve kapatilmamis driver'lar
+    @AfterSuite(alwaysRun = true)
+    public void tearDownSuite() {
+        Driver.quitDriver();
+    }
+
+    /**
+     * Report entry of the running test, null with the reporting off.
+     */
+    protected static ExtentTest extentTest() {
+        return extentTest;
+    }
+
+    /**
+     * Replaces the report entry of the running test, e.g. with one created with a custom name.
+     */
+    protected static void setExtentTest(ExtentTest extentTest) {
+        TestBaseLifecycle.extentTest = extentTest;
+    }
+
+    /**
+     * Adds a step to the report entry of the running test; nothing happens with the reporting off.
+     */
+    protected static void info(String message) {
+        if (extentTest != null) {
+            extentTest.info(message);
+        }
+    }
+
+    /**
+     * Name of the session state the tests of this class start from, null = none.
+     */
+    protected String sessionStateName() {
+        return null;
+    }
+
+    /**
+     * Steps from a fresh browser to the page the tests of this class start on; runs only while there is no
+     * captured state of {@link #sessionStateName()}.
+     */
+    protected void sessionStateSetup(WebDriver driver) {
+
+    }
+
+    /**
+     * Scope of the browser for the current &lt;test&gt;.
+     */
+    protected DriverScope driverScope(ITestContext context) {
+        return DriverScope.of(parameter(context, "driverScope", "method"));
+    }
+
+    private void closeIfScope(DriverScope scope, ITestContext context) {
+        if (driverScope(context) == scope) {
+            Driver.quitDriver();
+        }
+    }
+
+    private static boolean isReporting(ITestContext context) {
+        return Boolean.parseBoolean(parameter(context, "reportingEnabled", "true"));
+    }
+
+    // tum run icin tek rapor, her <test> sonunda flush edilir
+    private static synchronized ExtentReports reports() {
+        if (extentReports == null) {
+            String date = new SimpleDateFormat("yyyyMMddhhmmss").format(new Date());
+            String filePath = System.getProperty("user.dir") + "/test-output/Rapor" + date + ".html";
+            extentReports = ExtentReportFactory.createReports(ExtentReportFactory.createHtmlReporter(filePath));
+        }
+        return extentReports;
+    }
+
+    private static String parameter(ITestContext context, String name, String defaultValue) {
+        String value = context.getCurrentXmlTest().getParameter(name);
+        return value != null && !value.trim().isEmpty() ? value.trim() : ConfigReader.getProperty(name, defaultValue);
+    }
+}
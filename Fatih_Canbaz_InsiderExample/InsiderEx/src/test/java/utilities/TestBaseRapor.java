@@ -12,6 +12,17 @@ import java.io.IOException;
 import java.text.SimpleDateFormat;
 import java.util.Date;
 
+/**
+ * TestBaseRapor Class
+ * <p>
+ * Extent report for tests that open and close the driver themselves: the report is created before every
+ * &lt;test&gt;, failed and skipped tests are added with a screenshot after every method. {@link TestBaseLifecycle}
+ * reports the same with reportingEnabled=true and also handles the driver.
+ * </p>
+ * <p>
+ * Author: Fatih Canbaz
+ * </p>
+ */
 public abstract class TestBaseRapor {
     protected static ExtentReports extentReports; //extent report'a ilk atamayi yapar
     protected static ExtentTest extentTest; // test pass veya failed gibi bilgileri kaydeder. Ayrica ekran resmi icin de kullaniriz
@@ -20,20 +31,13 @@ public abstract class TestBaseRapor {
     // Test işlemine başlamadan hemen önce (test methodundan önce değil, tüm test işleminden önce)
     @BeforeTest(alwaysRun = true) // alwaysRun : her zaman çalıştır.
     public void setUpTest() {
-        extentReports = new ExtentReports(); // Raporlamayi baslatir
         //rapor oluştuktan sonra raporunuz nereye eklensin istiyorsanız buraya yazıyorsunuz.
         String date = new SimpleDateFormat("yyyyMMddhhmmss").format(new Date());
         String filePath = System.getProperty("user.dir") + "/test-output/Rapor"+date+".html";
         //oluşturmak istediğimiz raporu (html formatında) başlatıyoruz, filePath ile dosya yolunu belirliyoruz.
-        extentHtmlReporter = new ExtentHtmlReporter(filePath);
-        extentReports.attachReporter(extentHtmlReporter);
-
-        // İstediğiniz bilgileri buraya ekeyebiliyorsunuz.
-        extentReports.setSystemInfo("Environment","Test");
-        extentReports.setSystemInfo("Browser", ConfigReader.getProperty("browser")); // chrome, firefox
-        extentReports.setSystemInfo("Automation Engineer", "Fatih Canbaz");
-        extentHtmlReporter.config().setDocumentTitle("Rapor");
-        extentHtmlReporter.config().setReportName("TestNG Reports");
+        extentHtmlReporter = ExtentReportFactory.createHtmlReporter(filePath);
+        // Raporlamayi baslatir, sistem bilgileri ExtentReportFactory icinde eklenir
+        extentReports = ExtentReportFactory.createReports(extentHtmlReporter);
     }
 
 
@@ -41,14 +45,7 @@ public abstract class TestBaseRapor {
     @AfterMethod(alwaysRun = true)
     public void tearDownMethod(ITestResult result) throws IOException {
 
-        if (result.getStatus() == ITestResult.FAILURE) { // eğer testin sonucu başarısızsa
-            String screenshotLocation = ReusableMethods.getScreenshot(result.getName());
-            extentTest.fail(result.getName());
-            extentTest.addScreenCaptureFromPath(screenshotLocation);
-            extentTest.fail(result.getThrowable());
-        } else if (result.getStatus() == ITestResult.SKIP) { // eğer test çalıştırılmadan geçilmezse
-            extentTest.skip("Test Case is skipped: " + result.getName()); // Ignore olanlar
-        }
+        TestResultReporter.report(extentTest, result, true);
        // Driver.closeDriver();
 
     }
@@ -1,23 +1,18 @@
 package utilities;
 
-import io.github.bonigarcia.wdm.WebDriverManager;
-
 import org.openqa.selenium.WebDriver;
-import org.openqa.selenium.chrome.ChromeDriver;
 import org.testng.annotations.AfterClass;
 import org.testng.annotations.BeforeClass;
 
-import java.time.Duration;
-
+/**
+ * Driver per test class; {@link TestBaseLifecycle} with driverScope=class does the same through configuration.
+ */
 public class TestBase_BeforeClass {
     public static WebDriver driver;
 
     @BeforeClass
     public static void setup(){
-        WebDriverManager.chromedriver().setup();
-        driver = new ChromeDriver();
-        driver.manage().window().maximize();
-        driver.manage().timeouts().implicitlyWait(Duration.ofSeconds(15));
+        driver = DriverFactory.createDriver("chrome", "TestBase_BeforeClass");
     }
 
     @AfterClass
@@ -0,0 +1,119 @@
+package utilities;
+
+import com.aventstack.extentreports.ExtentTest;
+import com.aventstack.extentreports.markuputils.MarkupHelper;
+import org.testng.ITestResult;
+import utilities.performance.HarCaptureListener;
+import utilities.performance.HarSummary;
+import utilities.performance.NavigationTimings;
+import utilities.performance.PageTiming;
+import utilities.report.JsonReportListener;
+import utilities.report.TestLogContext;
+import utilities.trace.CommandTraceListener;
+import utilities.visual.DiffResult;
+import utilities.visual.VisualCheck;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * TestResultReporter Class
+ * <p>
+ * Adds the result of a test method to its ExtentTest and to the JSON report: failure with screenshot, skip,
+ * page load timings, HAR summary, visual diffs, the test log and the command trace of a failed test. Called from
+ * the @AfterMethod of {@link TestBaseRapor} and {@link TestBaseLifecycle}.
+ * </p>
+ * <p>
+ * Author: Fatih Canbaz
+ * </p>
+ */
+public class TestResultReporter {
+
+    private TestResultReporter() {
+
+    }
+
+    /**
+     * @param extentTest testin rapor kaydi, null = sadece JSON rapor
+     * @param result     testin sonucu
+     * @param screenshot fail olan test icin ekran goruntusu alinsin mi (acik bir driver gerekir)
+     */
+    public static void report(ExtentTest extentTest, ITestResult result, boolean screenshot) throws IOException {
+        // extentTest raporlama kapaliysa null'dir; gercek hata NPE'nin arkasinda kalmasin
+        if (result.getStatus() == ITestResult.FAILURE) { // eğer testin sonucu başarısızsa
+            if (extentTest != null) {
+                extentTest.fail(result.getName());
+            }
+            if (screenshot) {
+                String screenshotLocation = ReusableMethods.getScreenshot(result.getName());
+                if (extentTest != null) {
+                    extentTest.addScreenCaptureFromPath(screenshotLocation);
+                }
+                JsonReportListener.attachImage("Screenshot", screenshotLocation);
+            }
+            if (extentTest != null) {
+                extentTest.fail(result.getThrowable());
+            }
+        } else if (result.getStatus() == ITestResult.SKIP && extentTest != null) { // eğer test çalıştırılmadan geçilmezse
+            extentTest.skip("Test Case is skipped: " + result.getName()); // Ignore olanlar
+        }
+
+        // testte acilan sayfalarin yuklenme sureleri rapora tablo olarak eklenir
+        List<PageTiming> timings = NavigationTimings.getTimings();
+        if (extentTest != null && !timings.isEmpty()) {
+            String[][] table = new String[timings.size() + 1][];
+            table[0] = new String[]{"URL", "TTFB (ms)", "DOMContentLoaded (ms)", "Load (ms)", "Transfer (KB)", "Resources"};
+            for (int i = 0; i < timings.size(); i++) {
+                PageTiming timing = timings.get(i);
+                table[i + 1] = new String[]{timing.getUrl(),
+                        String.format("%.0f", timing.getTtfb()),
+                        String.format("%.0f", timing.getDomContentLoaded()),
+                        String.format("%.0f", timing.getLoad()),
+                        String.valueOf((timing.getTransferSize() + timing.getResourceTransferSize()) / 1024),
+                        String.valueOf(timing.getResourceCount())};
+            }
+            extentTest.info(MarkupHelper.createTable(table));
+        }
+
+        // HAR kaydi aciksa (harCaptureEnabled) domain bazli ozet ve dosya yolu
+        HarSummary harSummary = HarCaptureListener.getLastSummary();
+        if (extentTest != null && harSummary != null) {
+            extentTest.info("HAR: " + harSummary.getHarPath());
+            extentTest.info(MarkupHelper.createTable(harSummary.toTable()));
+        }
+        if (harSummary != null) {
+            JsonReportListener.attachInfo("HAR", harSummary.getHarPath());
+        }
+
+        // gorsel karsilastirma sonuclari, fark varsa diff goruntusu ile
+        if (extentTest != null) {
+            for (DiffResult visual : VisualCheck.getResults()) {
+                extentTest.info(visual.toString());
+                if (visual.getDiffImagePath() != null) {
+                    extentTest.addScreenCaptureFromPath(visual.getDiffImagePath());
+                }
+            }
+        }
+        for (DiffResult visual : VisualCheck.getResults()) {
+            if (visual.getDiffImagePath() != null) {
+                JsonReportListener.attachImage("Visual diff: " + visual.getName(), visual.getDiffImagePath());
+            }
+        }
+        VisualCheck.reset();
+
+        // testin log dosyasi (log4j2.xml, test-output/logs)
+        String logFile = TestLogContext.getLogFile();
+        if (extentTest != null && logFile != null) {
+            extentTest.info("Log: " + logFile);
+        }
+
+        // test fail olduysa WebDriver komutlarinin trace dosyasi (TraceViewer ile acilir)
+        String commandTrace = CommandTraceListener.getLastDump();
+        if (extentTest != null && commandTrace != null) {
+            extentTest.info("Command trace: " + commandTrace);
+        }
+        if (commandTrace != null) {
+            JsonReportListener.attachInfo("Command trace", commandTrace);
+        }
+    }
+}
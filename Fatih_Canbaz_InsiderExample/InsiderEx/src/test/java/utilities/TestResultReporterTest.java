@@ -0,0 +1,33 @@
+package utilities;
+
+import org.testng.ITestResult;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.lang.reflect.Proxy;
+
+public class TestResultReporterTest {
+
+    @Test
+    public void failureIsReportedWithoutExtentTest() throws IOException {
+        // reportingEnabled=false: extentTest null, testin kendi hatasi NPE ile ortulmemeli
+        TestResultReporter.report(null, result(ITestResult.FAILURE), false);
+        TestResultReporter.report(null, result(ITestResult.SKIP), false);
+    }
+
+    private static ITestResult result(int status) {
+        return (ITestResult) Proxy.newProxyInstance(TestResultReporterTest.class.getClassLoader(),
+                new Class<?>[]{ITestResult.class}, (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "getStatus":
+                            return status;
+                        case "getName":
+                            return "sample";
+                        case "getThrowable":
+                            return new AssertionError("sample");
+                        default:
+                            throw new UnsupportedOperationException(method.getName());
+                    }
+                });
+    }
+}
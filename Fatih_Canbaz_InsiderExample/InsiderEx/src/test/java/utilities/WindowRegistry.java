@@ -0,0 +1,387 @@
+package utilities;
+
+import org.openqa.selenium.NoSuchWindowException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.WrapsDriver;
+import org.openqa.selenium.devtools.Command;
+import org.openqa.selenium.devtools.DevTools;
+import org.openqa.selenium.devtools.Event;
+import org.openqa.selenium.devtools.HasDevTools;
+import org.openqa.selenium.json.Json;
+import org.openqa.selenium.remote.RemoteWebDriver;
+import org.openqa.selenium.remote.SessionId;
+import org.openqa.selenium.support.events.WebDriverListener;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+
+/**
+ * WindowRegistry Class
+ * <p>
+ * Keeps the open windows/tabs of a driver with their title, URL and opener, so switching to a tab by title,
+ * URL or "most recently opened" is a single switchTo().window() command instead of visiting every handle.
+ * </p>
+ * <p>
+ * On Chromium the registry is fed by CDP target events (Target.targetCreated/InfoChanged/Destroyed), the window
+ * handles of chromedriver are the CDP target ids. Other browsers fall back to a handle diff after every click,
+ * get and script call; titles and URLs of new windows are unknown there until they are visited, so a switch by
+ * title falls back to visiting the handles.
+ * </p>
+ * <p>
+ * CDP events arrive asynchronously, so right after the click that opens a tab its event may not be there yet. A
+ * switch by title or URL that matches no known window therefore adds the handles of getWindowHandles() that the
+ * registry does not know yet and waits up to windowEventTimeoutMillis for a matching window before it gives up;
+ * a switch that already has a match costs no extra command.
+ * </p>
+ * <p>
+ * Configuration (configuration.properties):
+ * - windowEventTimeoutMillis: wait for the target event of a new window (default 2000)
+ * </p>
+ * <p>
+ * Author: Fatih Canbaz
+ * </p>
+ */
+public class WindowRegistry implements WebDriverListener {
+
+    private static final Logger LOG = LoggerFactory.getLogger(WindowRegistry.class);
+
+    private static final Map<SessionId, WindowRegistry> REGISTRIES = new ConcurrentHashMap<>();
+    private static final long EVENT_TIMEOUT_MILLIS =
+            Long.parseLong(ConfigReader.getProperty("windowEventTimeoutMillis", "2000"));
+
+    private final WebDriver driver;
+    private final boolean eventDriven;
+    // acilis sirasina gore pencereler
+    private final Map<String, Window> windows = new LinkedHashMap<>();
+    private String currentHandle;
+
+    private WindowRegistry(WebDriver driver, boolean eventDriven) {
+        this.driver = driver;
+        this.eventDriven = eventDriven;
+    }
+
+    /**
+     * Creates the registry of a newly started driver (see {@link DriverFactory}).
+     *
+     * @param driver dekore edilmemis driver
+     */
+    public static WindowRegistry attach(WebDriver driver) {
+        WindowRegistry registry = new WindowRegistry(driver, driver instanceof HasDevTools && listenToTargets(driver));
+        String handle = driver.getWindowHandle();
+        synchronized (registry) {
+            registry.currentHandle = handle;
+            registry.windows.computeIfAbsent(handle, Window::new);
+        }
+        if (registry.eventDriven) {
+            registry.subscribe();
+        }
+        SessionId sessionId = sessionId(driver);
+        if (sessionId != null) {
+            REGISTRIES.put(sessionId, registry);
+        }
+        return registry;
+    }
+
+    /**
+     * Registry of the driver, null if the driver was not created by {@link DriverFactory}.
+     */
+    public static WindowRegistry of(WebDriver driver) {
+        SessionId sessionId = sessionId(driver);
+        return sessionId == null ? null : REGISTRIES.get(sessionId);
+    }
+
+    // ========================================
+    // SWITCHING
+    // ========================================
+
+    /**
+     * Switches to the window with the title.
+     *
+     * @return false if no window with that title is known
+     */
+    public boolean switchToTitle(String title) {
+        return switchToMatch(window -> title.equals(window.title), false);
+    }
+
+    /**
+     * Switches to the most recently opened window whose URL contains the part.
+     */
+    public boolean switchToUrl(String urlPart) {
+        return switchToMatch(window -> window.url != null && window.url.contains(urlPart), true);
+    }
+
+    /**
+     * Switches to the most recently opened window (e.g. the tab opened by a link with target=_blank).
+     */
+    public boolean switchToNewest() {
+        if (eventDriven) {
+            // targetCreated henuz gelmemis olabilir, yeni handle listeden eklenir
+            reconcile(driver);
+        }
+        return switchTo(window -> true, true);
+    }
+
+    /**
+     * Switches to the first window of the session (the main window).
+     */
+    public boolean switchToOldest() {
+        return switchTo(window -> true, false);
+    }
+
+    /**
+     * Known windows in the order they were opened.
+     */
+    public synchronized List<Window> getWindows() {
+        return new ArrayList<>(windows.values());
+    }
+
+    public synchronized String getCurrentHandle() {
+        return currentHandle;
+    }
+
+    /**
+     * True if titles and URLs come from browser events; false if they are only known for visited windows.
+     */
+    public boolean isEventDriven() {
+        return eventDriven;
+    }
+
+    private boolean switchToMatch(Predicate<Window> match, boolean newestFirst) {
+        // eslesen pencere biliniyorsa getWindowHandles ve bekleme atlanir
+        if (eventDriven && !hasMatch(match)) {
+            reconcile(driver);
+            awaitMatch(match);
+        }
+        return switchTo(match, newestFirst);
+    }
+
+    private synchronized boolean hasMatch(Predicate<Window> match) {
+        return windows.values().stream().anyMatch(match);
+    }
+
+    // title/url target event'leriyle gelir, targetChanged notifyAll ile uyandirir; sadece eslesme yokken beklenir
+    private synchronized void awaitMatch(Predicate<Window> match) {
+        long deadline = System.currentTimeMillis() + EVENT_TIMEOUT_MILLIS;
+        while (!hasMatch(match)) {
+            long remaining = deadline - System.currentTimeMillis();
+            if (remaining <= 0) {
+                return;
+            }
+            try {
+                wait(remaining);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private boolean switchTo(Predicate<Window> match, boolean newestFirst) {
+        String handle = null;
+        synchronized (this) {
+            List<Window> ordered = new ArrayList<>(windows.values());
+            for (int i = 0; i < ordered.size(); i++) {
+                Window window = ordered.get(newestFirst ? ordered.size() - 1 - i : i);
+                if (match.test(window)) {
+                    handle = window.handle;
+                    break;
+                }
+            }
+        }
+        if (handle == null) {
+            return false;
+        }
+        try {
+            driver.switchTo().window(handle);
+        } catch (NoSuchWindowException e) {
+            // event henuz gelmeden kapanmis pencere
+            remove(handle);
+            return false;
+        }
+        synchronized (this) {
+            currentHandle = handle;
+        }
+        return true;
+    }
+
+    // ========================================
+    // CDP EVENTS (Chromium)
+    // ========================================
+
+    private static boolean listenToTargets(WebDriver driver) {
+        try {
+            DevTools devTools = ((HasDevTools) driver).getDevTools();
+            devTools.createSessionIfThereIsNotOne();
+            return true;
+        } catch (WebDriverException e) {
+            LOG.warn("Window registry CDP'ye baglanamadi, handle diff kullanilacak: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    private void subscribe() {
+        DevTools devTools = ((HasDevTools) driver).getDevTools();
+        devTools.addListener(targetEvent("Target.targetCreated"), this::targetChanged);
+        devTools.addListener(targetEvent("Target.targetInfoChanged"), this::targetChanged);
+        devTools.addListener(new Event<>("Target.targetDestroyed", input -> input.<Map<String, Object>>read(Json.MAP_TYPE)),
+                params -> remove((String) params.get("targetId")));
+        // mevcut hedefler icin de targetCreated gelir
+        devTools.send(new Command<>("Target.setDiscoverTargets", Map.of("discover", true)));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Event<Map<String, Object>> targetEvent(String method) {
+        return new Event<>(method, input -> (Map<String, Object>) input.<Map<String, Object>>read(Json.MAP_TYPE).get("targetInfo"));
+    }
+
+    private synchronized void targetChanged(Map<String, Object> targetInfo) {
+        if (targetInfo == null || !"page".equals(targetInfo.get("type"))) {
+            return;
+        }
+        Window window = windows.computeIfAbsent((String) targetInfo.get("targetId"), Window::new);
+        window.title = (String) targetInfo.get("title");
+        window.url = (String) targetInfo.get("url");
+        if (targetInfo.get("openerId") != null) {
+            window.opener = (String) targetInfo.get("openerId");
+        }
+        notifyAll();
+    }
+
+    private synchronized void remove(String handle) {
+        windows.remove(handle);
+    }
+
+    // ========================================
+    // HANDLE DIFF (other browsers)
+    // ========================================
+
+    private void diff(WebDriver driver) {
+        if (!eventDriven) {
+            reconcile(driver);
+        }
+    }
+
+    // CDP modunda da switch oncesi kullanilir: event'i henuz gelmemis pencereler eklenir
+    private void reconcile(WebDriver driver) {
+        Set<String> handles;
+        try {
+            handles = driver.getWindowHandles();
+        } catch (WebDriverException e) {
+            return;
+        }
+        synchronized (this) {
+            windows.keySet().retainAll(handles);
+            for (String handle : handles) {
+                if (!windows.containsKey(handle)) {
+                    Window window = new Window(handle);
+                    window.opener = currentHandle;
+                    windows.put(handle, window);
+                }
+            }
+        }
+    }
+
+    @Override
+    public void afterClick(WebElement element) {
+        diff(driver);
+    }
+
+    @Override
+    public void afterExecuteScript(WebDriver driver, String script, Object[] args, Object result) {
+        // window.open
+        diff(driver);
+    }
+
+    @Override
+    public void afterGet(WebDriver driver, String url) {
+        synchronized (this) {
+            Window window = windows.get(currentHandle);
+            if (window != null && !eventDriven) {
+                window.url = url;
+                window.title = null;
+            }
+        }
+    }
+
+    @Override
+    public void afterAnyCall(Object target, Method method, Object[] args, Object result) {
+        // switchTo().window(handle): WebDriverListener'da bunun icin ayri bir metot yok
+        if (target instanceof WebDriver.TargetLocator && "window".equals(method.getName()) && args != null && args.length == 1) {
+            synchronized (this) {
+                if (windows.containsKey(args[0])) {
+                    currentHandle = (String) args[0];
+                }
+            }
+        }
+    }
+
+    @Override
+    public void afterClose(WebDriver driver) {
+        synchronized (this) {
+            windows.remove(currentHandle);
+        }
+    }
+
+    @Override
+    public void beforeQuit(WebDriver driver) {
+        SessionId sessionId = sessionId(driver);
+        if (sessionId != null) {
+            REGISTRIES.remove(sessionId);
+        }
+    }
+
+    private static SessionId sessionId(WebDriver driver) {
+        while (driver instanceof WrapsDriver && !(driver instanceof RemoteWebDriver)) {
+            driver = ((WrapsDriver) driver).getWrappedDriver();
+        }
+        return driver instanceof RemoteWebDriver ? ((RemoteWebDriver) driver).getSessionId() : null;
+    }
+
+    /**
+     * One window/tab. Title and URL are null while they are unknown.
+     */
+    public static final class Window {
+        private final String handle;
+        private volatile String title;
+        private volatile String url;
+        private volatile String opener;
+
+        private Window(String handle) {
+            this.handle = handle;
+        }
+
+        public String getHandle() {
+            return handle;
+        }
+
+        public String getTitle() {
+            return title;
+        }
+
+        public String getUrl() {
+            return url;
+        }
+
+        /**
+         * Handle of the window that opened this one, null for the main window.
+         */
+        public String getOpener() {
+            return opener;
+        }
+
+        @Override
+        public String toString() {
+            return handle + " [" + title + "] " + url;
+        }
+    }
+}
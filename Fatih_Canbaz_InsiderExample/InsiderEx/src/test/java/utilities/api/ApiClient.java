@@ -0,0 +1,312 @@
+package utilities.api;
+
+import utilities.ConfigReader;
+
+import java.io.InputStream;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.function.Supplier;
+
+/**
+ * ApiClient Class
+ * <p>
+ * Shared HTTP client for API support code. A single {@link HttpClient} is reused for every request so that
+ * connections are pooled and kept alive between calls, and every call is asynchronous so that independent
+ * requests (fixture setup, teardown, link checks) run side by side instead of one after another.
+ * </p>
+ * <p>
+ * Configuration (configuration.properties):
+ * - apiKeepAliveSeconds: how long an idle pooled connection is kept open (default 30)
+ * - apiMaxConcurrentRequests: upper bound of in-flight requests per client (default 32)
+ * - apiTimeoutSeconds: request timeout (default 15)
+ * </p>
+ * <p>
+ * Author: Fatih Canbaz
+ * </p>
+ */
+public class ApiClient {
+
+    private static final int KEEP_ALIVE_SECONDS =
+            Integer.parseInt(ConfigReader.getProperty("apiKeepAliveSeconds", "30"));
+    private static final int MAX_CONCURRENT_REQUESTS =
+            Integer.parseInt(ConfigReader.getProperty("apiMaxConcurrentRequests", "32"));
+    private static final Duration TIMEOUT =
+            Duration.ofSeconds(Long.parseLong(ConfigReader.getProperty("apiTimeoutSeconds", "15")));
+
+    private static volatile HttpClient sharedClient;
+
+    private final String baseUrl;
+    private final Map<String, String> defaultQueryParams = new LinkedHashMap<>();
+    private final Semaphore inFlight = new Semaphore(MAX_CONCURRENT_REQUESTS);
+    private final Queue<Runnable> waiting = new ConcurrentLinkedQueue<>();
+    private ApiResponseCache cache = ApiResponseCache.shared();
+
+    public ApiClient(String baseUrl) {
+        this.baseUrl = baseUrl.endsWith("/") ? baseUrl.substring(0, baseUrl.length() - 1) : baseUrl;
+    }
+
+    /**
+     * Returns the JVM wide pooled client. Connection pool and keep-alive belong to the client,
+     * so every ApiClient shares the same instance.
+     */
+    public static HttpClient httpClient() {
+        if (sharedClient == null) {
+            synchronized (ApiClient.class) {
+                if (sharedClient == null) {
+                    // jdk.httpclient.* ayarlari client olusturulmadan once verilmeli
+                    System.setProperty("jdk.httpclient.keepalive.timeout", String.valueOf(KEEP_ALIVE_SECONDS));
+                    ExecutorService executor = Executors.newCachedThreadPool(runnable -> {
+                        Thread thread = new Thread(runnable, "api-client");
+                        thread.setDaemon(true);
+                        return thread;
+                    });
+                    sharedClient = HttpClient.newBuilder()
+                            .version(HttpClient.Version.HTTP_1_1)
+                            .connectTimeout(TIMEOUT)
+                            .followRedirects(HttpClient.Redirect.NORMAL)
+                            .executor(executor)
+                            .build();
+                }
+            }
+        }
+        return sharedClient;
+    }
+
+    /**
+     * Adds a query parameter that is sent with every request of this client (e.g. key/token).
+     */
+    public ApiClient withDefaultQueryParam(String name, String value) {
+        if (value != null) {
+            defaultQueryParams.put(name, value);
+        }
+        return this;
+    }
+
+    /**
+     * Uses the given cache instead of the shared one (e.g. a disabled cache for load runs).
+     */
+    public ApiClient withCache(ApiResponseCache cache) {
+        this.cache = cache;
+        return this;
+    }
+
+    /**
+     * A new client with the same base url and default query parameters but no response cache (and its own
+     * apiMaxConcurrentRequests), for callers that must measure the server rather than cache hits.
+     */
+    public ApiClient withoutCache() {
+        ApiClient copy = new ApiClient(baseUrl);
+        copy.defaultQueryParams.putAll(defaultQueryParams);
+        copy.cache = new ApiResponseCache(false, 0, 0);
+        return copy;
+    }
+
+    public ApiResponseCache getCache() {
+        return cache;
+    }
+
+    public String getBaseUrl() {
+        return baseUrl;
+    }
+
+    public CompletableFuture<HttpResponse<String>> getAsync(String path, Map<String, String> queryParams) {
+        return sendAsync("GET", path, queryParams, null);
+    }
+
+    public CompletableFuture<HttpResponse<String>> postAsync(String path, Map<String, String> queryParams) {
+        return sendAsync("POST", path, queryParams, null);
+    }
+
+    public CompletableFuture<HttpResponse<String>> putAsync(String path, Map<String, String> queryParams) {
+        return sendAsync("PUT", path, queryParams, null);
+    }
+
+    public CompletableFuture<HttpResponse<String>> deleteAsync(String path, Map<String, String> queryParams) {
+        return sendAsync("DELETE", path, queryParams, null);
+    }
+
+    /**
+     * Sends a request without blocking the caller. The returned future completes with the response
+     * for any status code; callers decide what counts as a failure.
+     *
+     * @param method      HTTP method
+     * @param path        path relative to the base url (e.g. "/boards/")
+     * @param queryParams request specific query parameters, may be null
+     * @param jsonBody    JSON body, or null for an empty body
+     */
+    public CompletableFuture<HttpResponse<String>> sendAsync(String method, String path,
+                                                             Map<String, String> queryParams, String jsonBody) {
+        return sendAsync(newRequest(method, path, queryParams, jsonBody).build());
+    }
+
+    /**
+     * Sends a prepared request through the shared pool, queued while apiMaxConcurrentRequests are in flight.
+     * GETs are answered from / revalidated against the {@link ApiResponseCache}; writes invalidate it.
+     */
+    public CompletableFuture<HttpResponse<String>> sendAsync(HttpRequest request) {
+        if (!cache.isEnabled()) {
+            return send(request);
+        }
+        if (!request.method().equals("GET")) {
+            return send(request).whenComplete((response, error) -> cache.invalidate(request));
+        }
+        ApiResponseCache.CacheEntry cached = cache.lookup(request);
+        if (cached != null && cached.isFresh()) {
+            cache.countHit();
+            return CompletableFuture.completedFuture(cached.toResponse(request));
+        }
+        // bu GET yoldayken biten yazmalarin invalidation'i kacmasin
+        long generation = cache.generation();
+        if (cached == null || cached.etag == null) {
+            cache.countMiss();
+            return send(request).thenApply(response -> {
+                if (response.statusCode() == 200) {
+                    cache.store(response, generation);
+                }
+                return response;
+            });
+        }
+        return send(conditional(request, cached.etag)).thenApply(response -> {
+            if (response.statusCode() == 304) {
+                cache.countRevalidation();
+                cache.revalidated(request, response);
+                return cached.toResponse(request);
+            }
+            cache.countMiss();
+            if (response.statusCode() == 200) {
+                cache.store(response, generation);
+            }
+            return response;
+        });
+    }
+
+    private CompletableFuture<HttpResponse<String>> send(HttpRequest request) {
+        return limited(() -> httpClient().sendAsync(request, HttpResponse.BodyHandlers.ofString()));
+    }
+
+    /**
+     * Starts call when one of the apiMaxConcurrentRequests permits is free, otherwise queues it; the caller is
+     * never blocked. A request whose future was cancelled while it waited is not sent.
+     */
+    private <T> CompletableFuture<HttpResponse<T>> limited(Supplier<CompletableFuture<HttpResponse<T>>> call) {
+        CompletableFuture<HttpResponse<T>> result = new CompletableFuture<>();
+        Runnable start = () -> {
+            if (result.isDone()) {
+                releasePermit();
+                return;
+            }
+            try {
+                call.get().whenComplete((response, error) -> {
+                    releasePermit();
+                    if (error != null) {
+                        result.completeExceptionally(error);
+                    } else {
+                        result.complete(response);
+                    }
+                });
+            } catch (RuntimeException e) {
+                releasePermit();
+                result.completeExceptionally(e);
+            }
+        };
+        waiting.add(start);
+        drain();
+        return result;
+    }
+
+    // biten istegin permit'i siradaki istege gecer
+    private void releasePermit() {
+        inFlight.release();
+        drain();
+    }
+
+    private void drain() {
+        while (!waiting.isEmpty() && inFlight.tryAcquire()) {
+            Runnable next = waiting.poll();
+            if (next == null) {
+                inFlight.release();
+            } else {
+                next.run();
+            }
+        }
+    }
+
+    private static HttpRequest conditional(HttpRequest request, String etag) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(request.uri())
+                .method(request.method(), HttpRequest.BodyPublishers.noBody())
+                .header("If-None-Match", etag);
+        request.timeout().ifPresent(builder::timeout);
+        request.headers().map().forEach((name, values) -> values.forEach(value -> builder.header(name, value)));
+        return builder.build();
+    }
+
+    /**
+     * Sends a prepared request and hands the body over as a stream, so large responses can be checked
+     * (see {@link JsonStreamAssert}) without holding them in memory.
+     */
+    public CompletableFuture<HttpResponse<InputStream>> sendStreamingAsync(HttpRequest request) {
+        return limited(() -> httpClient().sendAsync(request, HttpResponse.BodyHandlers.ofInputStream()));
+    }
+
+    public CompletableFuture<HttpResponse<InputStream>> getStreamingAsync(String path, Map<String, String> queryParams) {
+        return sendStreamingAsync(newRequest("GET", path, queryParams, null).build());
+    }
+
+    /**
+     * Builds a request against this client's base url; useful when extra headers are needed.
+     */
+    public HttpRequest.Builder newRequest(String method, String path, Map<String, String> queryParams, String jsonBody) {
+        HttpRequest.BodyPublisher body = jsonBody == null
+                ? HttpRequest.BodyPublishers.noBody()
+                : HttpRequest.BodyPublishers.ofString(jsonBody);
+        HttpRequest.Builder builder = HttpRequest.newBuilder(uri(path, queryParams))
+                .timeout(TIMEOUT)
+                .header("Accept", "application/json")
+                .method(method, body);
+        if (jsonBody != null) {
+            builder.header("Content-Type", "application/json");
+        }
+        return builder;
+    }
+
+    /**
+     * Resolves path and query parameters (default ones first) into an absolute URI.
+     */
+    public URI uri(String path, Map<String, String> queryParams) {
+        Map<String, String> params = new LinkedHashMap<>(defaultQueryParams);
+        if (queryParams != null) {
+            params.putAll(queryParams);
+        }
+        StringBuilder url = new StringBuilder(baseUrl);
+        if (!path.startsWith("/")) {
+            url.append('/');
+        }
+        url.append(path);
+        char separator = path.contains("?") ? '&' : '?';
+        for (Map.Entry<String, String> param : params.entrySet()) {
+            url.append(separator)
+                    .append(encode(param.getKey()))
+                    .append('=')
+                    .append(encode(param.getValue()));
+            separator = '&';
+        }
+        return URI.create(url.toString());
+    }
+
+    private static String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,18 @@
+package utilities.api;
+
+/**
+ * Thrown when an API call answers with a non 2xx status code.
+ */
+public class ApiException extends RuntimeException {
+
+    private final int statusCode;
+
+    public ApiException(String method, String path, int statusCode, String body) {
+        super(method + " " + path + " istegi basarisiz oldu. Status: " + statusCode + " Body: " + body);
+        this.statusCode = statusCode;
+    }
+
+    public int getStatusCode() {
+        return statusCode;
+    }
+}
@@ -0,0 +1,289 @@
+package utilities.api;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonObject;
+import utilities.ConfigReader;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.net.http.HttpResponse;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * ApiLoadGenerator Class
+ * <p>
+ * Open-model load generator for API scenarios. Scenarios are started at a fixed rate, independent of how fast
+ * earlier ones finish, each on its own (virtual when the JVM supports it) thread, and every timed call is
+ * recorded into a per-endpoint {@link LatencyHistogram}. Scenario latency is measured from the moment the
+ * scenario was due, so a slow service also shows up as queueing delay instead of silently lowering the rate.
+ * </p>
+ * <p>
+ * Configuration (configuration.properties):
+ * - loadRatePerSecond: scenario starts per second (default 50)
+ * - loadDurationSeconds: how long scenarios are started (default 10)
+ * - loadMaxConcurrency: upper bound of running scenarios, extra starts are counted as dropped (default 1000)
+ * </p>
+ * <p>
+ * Usage:
+ * <pre>
+ * ApiLoadGenerator.Result result = ApiLoadGenerator.fromConfig()
+ *         .run(TrelloLoadScenarios.readMetadataFromConfig(new TrelloApi()));
+ * result.writeJson("test-output/LoadReport.json");
+ * </pre>
+ * </p>
+ * <p>
+ * Author: Fatih Canbaz
+ * </p>
+ */
+public class ApiLoadGenerator {
+
+    /**
+     * One user journey against the API. Calls made through {@link Recorder#time} are measured per endpoint.
+     */
+    public interface Scenario {
+        void run(Recorder recorder) throws Exception;
+    }
+
+    /**
+     * Records timed calls of a running scenario.
+     */
+    public interface Recorder {
+        <T> T time(String endpoint, Callable<T> call) throws Exception;
+    }
+
+    private final double ratePerSecond;
+    private final long durationMillis;
+    private final int maxConcurrency;
+
+    /**
+     * @throws IllegalArgumentException if rate, duration or concurrency is not positive
+     */
+    public ApiLoadGenerator(double ratePerSecond, long durationMillis, int maxConcurrency) {
+        // !(x > 0) NaN'i de yakalar
+        if (!(ratePerSecond > 0) || Double.isInfinite(ratePerSecond)) {
+            throw new IllegalArgumentException("loadRatePerSecond pozitif olmali: " + ratePerSecond);
+        }
+        if (durationMillis <= 0) {
+            throw new IllegalArgumentException("loadDurationSeconds pozitif olmali: " + durationMillis + " ms");
+        }
+        if (maxConcurrency <= 0) {
+            throw new IllegalArgumentException("loadMaxConcurrency pozitif olmali: " + maxConcurrency);
+        }
+        this.ratePerSecond = ratePerSecond;
+        this.durationMillis = durationMillis;
+        this.maxConcurrency = maxConcurrency;
+    }
+
+    public static ApiLoadGenerator fromConfig() {
+        return new ApiLoadGenerator(
+                Double.parseDouble(ConfigReader.getProperty("loadRatePerSecond", "50")),
+                TimeUnit.SECONDS.toMillis(Long.parseLong(ConfigReader.getProperty("loadDurationSeconds", "10"))),
+                Integer.parseInt(ConfigReader.getProperty("loadMaxConcurrency", "1000")));
+    }
+
+    /**
+     * Runs the scenario at the configured rate and waits until every started scenario has finished.
+     */
+    public Result run(Scenario scenario) {
+        Result result = new Result(ratePerSecond);
+        Semaphore running = new Semaphore(maxConcurrency);
+        long intervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / ratePerSecond);
+        long startNanos = System.nanoTime();
+        long endNanos = startNanos + TimeUnit.MILLISECONDS.toNanos(durationMillis);
+
+        ExecutorService executor = newThreadPerTaskExecutor();
+        try {
+            for (long due = startNanos; due < endNanos; due += intervalNanos) {
+                sleepUntil(due);
+                if (!running.tryAcquire()) {
+                    result.dropped.incrementAndGet();
+                    continue;
+                }
+                long intendedStart = due;
+                executor.execute(() -> {
+                    try {
+                        scenario.run(result::time);
+                    } catch (Exception e) {
+                        result.failedScenarios.incrementAndGet();
+                    } finally {
+                        result.scenarioLatency.recordNanos(System.nanoTime() - intendedStart);
+                        running.release();
+                    }
+                });
+            }
+        } finally {
+            executor.shutdown();
+            try {
+                executor.awaitTermination(5, TimeUnit.MINUTES);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        result.elapsedNanos = System.nanoTime() - startNanos;
+        return result;
+    }
+
+    /**
+     * Uses Executors.newVirtualThreadPerTaskExecutor() on JVMs that have it (21+), otherwise a cached pool.
+     */
+    static ExecutorService newThreadPerTaskExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            return Executors.newCachedThreadPool(runnable -> {
+                Thread thread = new Thread(runnable, "api-load");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+    }
+
+    private static void sleepUntil(long dueNanos) {
+        long waitNanos;
+        while ((waitNanos = dueNanos - System.nanoTime()) > 0) {
+            try {
+                TimeUnit.NANOSECONDS.sleep(waitNanos);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    /**
+     * Histograms and counters of one load run.
+     */
+    public static class Result {
+
+        private final double targetRatePerSecond;
+        private final Map<String, LatencyHistogram> endpoints = new ConcurrentHashMap<>();
+        private final Map<String, AtomicLong> endpointErrors = new ConcurrentHashMap<>();
+        private final LatencyHistogram scenarioLatency = new LatencyHistogram();
+        private final AtomicLong failedScenarios = new AtomicLong();
+        private final AtomicLong dropped = new AtomicLong();
+        private long elapsedNanos;
+
+        Result(double targetRatePerSecond) {
+            this.targetRatePerSecond = targetRatePerSecond;
+        }
+
+        <T> T time(String endpoint, Callable<T> call) throws Exception {
+            long start = System.nanoTime();
+            boolean failed = true;
+            try {
+                T value = call.call();
+                failed = value instanceof HttpResponse && ((HttpResponse<?>) value).statusCode() >= 400;
+                return value;
+            } finally {
+                endpoints.computeIfAbsent(endpoint, name -> new LatencyHistogram()).recordNanos(System.nanoTime() - start);
+                if (failed) {
+                    endpointErrors.computeIfAbsent(endpoint, name -> new AtomicLong()).incrementAndGet();
+                }
+            }
+        }
+
+        public LatencyHistogram getHistogram(String endpoint) {
+            return endpoints.get(endpoint);
+        }
+
+        public LatencyHistogram getScenarioLatency() {
+            return scenarioLatency;
+        }
+
+        public long getErrorCount(String endpoint) {
+            AtomicLong errors = endpointErrors.get(endpoint);
+            return errors == null ? 0 : errors.get();
+        }
+
+        public long getFailedScenarios() {
+            return failedScenarios.get();
+        }
+
+        public long getDroppedScenarios() {
+            return dropped.get();
+        }
+
+        /**
+         * Completed scenarios per second over the whole run.
+         */
+        public double getThroughputPerSecond() {
+            return elapsedNanos == 0 ? 0 : scenarioLatency.getCount() / (elapsedNanos / 1e9);
+        }
+
+        public JsonObject toJson() {
+            JsonObject json = new JsonObject();
+            json.addProperty("targetRatePerSecond", targetRatePerSecond);
+            json.addProperty("throughputPerSecond", round(getThroughputPerSecond()));
+            json.addProperty("elapsedMillis", TimeUnit.NANOSECONDS.toMillis(elapsedNanos));
+            json.addProperty("failedScenarios", failedScenarios.get());
+            json.addProperty("droppedScenarios", dropped.get());
+            json.add("scenario", summary(scenarioLatency, failedScenarios.get()));
+            JsonObject endpointJson = new JsonObject();
+            new TreeMap<>(endpoints).forEach((name, histogram) ->
+                    endpointJson.add(name, summary(histogram, getErrorCount(name))));
+            json.add("endpoints", endpointJson);
+            return json;
+        }
+
+        /**
+         * Writes the result as JSON. The path is relative to the project directory unless absolute.
+         */
+        public String writeJson(String path) {
+            File file = new File(path);
+            if (file.getParentFile() != null) {
+                file.getParentFile().mkdirs();
+            }
+            Gson gson = new GsonBuilder().setPrettyPrinting().create();
+            try (Writer writer = new FileWriter(file)) {
+                gson.toJson(toJson(), writer);
+            } catch (IOException e) {
+                throw new RuntimeException("Load raporu yazilamadi: " + path, e);
+            }
+            return file.getAbsolutePath();
+        }
+
+        /**
+         * Writes the result to test-output/LoadReportyyyyMMddhhmmss.json.
+         */
+        public String writeJson() {
+            String date = new SimpleDateFormat("yyyyMMddhhmmss").format(new Date());
+            return writeJson(System.getProperty("user.dir") + "/test-output/LoadReport" + date + ".json");
+        }
+
+        private JsonObject summary(LatencyHistogram histogram, long errors) {
+            JsonObject json = new JsonObject();
+            json.addProperty("count", histogram.getCount());
+            json.addProperty("errors", errors);
+            json.addProperty("throughputPerSecond",
+                    round(elapsedNanos == 0 ? 0 : histogram.getCount() / (elapsedNanos / 1e9)));
+            json.addProperty("meanMillis", round(histogram.getMeanMicros() / 1000.0));
+            json.addProperty("p50Millis", millis(histogram.getValueAtPercentile(50)));
+            json.addProperty("p90Millis", millis(histogram.getValueAtPercentile(90)));
+            json.addProperty("p99Millis", millis(histogram.getValueAtPercentile(99)));
+            json.addProperty("p999Millis", millis(histogram.getValueAtPercentile(99.9)));
+            json.addProperty("maxMillis", millis(histogram.getMaxMicros()));
+            return json;
+        }
+
+        private static double millis(long micros) {
+            return round(micros / 1000.0);
+        }
+
+        private static double round(double value) {
+            return Math.round(value * 100.0) / 100.0;
+        }
+    }
+}
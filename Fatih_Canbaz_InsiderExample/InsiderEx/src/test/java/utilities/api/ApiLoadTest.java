@@ -0,0 +1,74 @@
+package utilities.api;
+
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.io.File;
+
+public class ApiLoadTest {
+
+    TrelloStubServer stub;
+    TrelloApi api;
+    TrelloFixture fixture;
+
+    @BeforeClass
+    public void startStub() {
+        stub = new TrelloStubServer().withLatency(5);
+        api = new TrelloApi(stub.getBaseUrl());
+        fixture = TrelloFixture.create(api, "Load Board", 1, 2);
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void stopStub() {
+        fixture.tearDown();
+        stub.close();
+    }
+
+    @Test
+    public void readMetadataKeepsTargetRate() {
+        ApiLoadGenerator.Scenario scenario = TrelloLoadScenarios.readMetadata(api,
+                fixture.getBoardId(), fixture.getListIds().get(0), fixture.getCardIds());
+        // isinma turu: olculen turda JIT ve baglanti acilisi degil servis olculsun
+        new ApiLoadGenerator(100, 1000, 500).run(scenario);
+        ApiLoadGenerator generator = new ApiLoadGenerator(100, 2000, 500);
+        int notModifiedBefore = stub.getNotModifiedCount();
+        ApiLoadGenerator.Result result = generator.run(scenario);
+
+        LatencyHistogram boards = result.getHistogram("GET /boards/{id}");
+        Assert.assertEquals(boards.getCount(), 200);
+        Assert.assertEquals(result.getHistogram("GET /cards/{id}").getCount(), 400);
+        Assert.assertEquals(result.getErrorCount("GET /boards/{id}"), 0);
+        Assert.assertEquals(result.getFailedScenarios(), 0);
+        Assert.assertEquals(result.getDroppedScenarios(), 0);
+        Assert.assertTrue(boards.getValueAtPercentile(50) >= 5_000, "stub gecikmesi olculmedi");
+        // senaryolar cache'siz client kullanir, 304 ile kisalan istek olmamali
+        Assert.assertEquals(stub.getNotModifiedCount(), notModifiedBefore);
+
+        String report = result.writeJson();
+        Assert.assertTrue(new File(report).exists());
+        new File(report).delete();
+    }
+
+    @Test
+    public void nonPositiveRateOrDurationIsRejected() {
+        Assert.assertThrows(IllegalArgumentException.class, () -> new ApiLoadGenerator(0, 2000, 500));
+        Assert.assertThrows(IllegalArgumentException.class, () -> new ApiLoadGenerator(-5, 2000, 500));
+        Assert.assertThrows(IllegalArgumentException.class, () -> new ApiLoadGenerator(Double.NaN, 2000, 500));
+        Assert.assertThrows(IllegalArgumentException.class, () -> new ApiLoadGenerator(100, 0, 500));
+        Assert.assertThrows(IllegalArgumentException.class, () -> new ApiLoadGenerator(100, 2000, 0));
+    }
+
+    @Test
+    public void histogramPercentilesStayWithinPrecision() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long micros = 1; micros <= 100_000; micros++) {
+            histogram.recordMicros(micros);
+        }
+        Assert.assertEquals(histogram.getValueAtPercentile(50), 50_000, 50);
+        Assert.assertEquals(histogram.getValueAtPercentile(99), 99_000, 99);
+        Assert.assertEquals(histogram.getValueAtPercentile(99.9), 99_900, 100);
+        Assert.assertEquals(histogram.getMaxMicros(), 100_000);
+    }
+}
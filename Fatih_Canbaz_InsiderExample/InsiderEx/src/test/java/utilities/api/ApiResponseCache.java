@@ -0,0 +1,416 @@
+package utilities.api;
+
+import utilities.ConfigReader;
+
+import javax.net.ssl.SSLSession;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpHeaders;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * ApiResponseCache Class
+ * <p>
+ * Suite wide cache for GET responses of {@link ApiClient}. Entries are revalidated with ETag/If-None-Match, so a
+ * repeated read of unchanged board, list or card metadata costs a bodiless 304 answer; entries that are still
+ * fresh (Cache-Control max-age, or apiCacheTtlSeconds for answers without validators) are served without any
+ * request. The cache is bounded by apiCacheMaxEntries and evicts the least recently used entry. Any write
+ * (POST/PUT/DELETE) drops the cached reads of the resources it touches when it completes; a GET that was already
+ * on the way at that moment is not stored, since its answer may predate the write. Paths are compared segment by
+ * segment, so a new card (POST /1/cards) keeps the cached reads of the other cards.
+ * </p>
+ * <p>
+ * Configuration (configuration.properties):
+ * - apiCacheEnabled: true/false (default true)
+ * - apiCacheMaxEntries: maximum number of cached responses (default 500)
+ * - apiCacheTtlSeconds: freshness of answers without ETag/max-age, 0 = do not cache them (default 0)
+ * </p>
+ * <p>
+ * Author: Fatih Canbaz
+ * </p>
+ */
+public class ApiResponseCache {
+
+    private static final ApiResponseCache SHARED = new ApiResponseCache(
+            Boolean.parseBoolean(ConfigReader.getProperty("apiCacheEnabled", "true")),
+            Integer.parseInt(ConfigReader.getProperty("apiCacheMaxEntries", "500")),
+            TimeUnit.SECONDS.toMillis(Long.parseLong(ConfigReader.getProperty("apiCacheTtlSeconds", "0"))));
+    private static final int TRACKED_INVALIDATIONS = 256;
+
+    private final boolean enabled;
+    private final int maxEntries;
+    private final long defaultTtlMillis;
+    private final LinkedHashMap<String, CacheEntry> entries;
+    // son invalidation'lar, generation sirasiyla; store() istek basladiktan sonrakilere bakar
+    private final ArrayDeque<Invalidation> recentInvalidations = new ArrayDeque<>();
+    private long generation;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong revalidations = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+    private final AtomicLong invalidations = new AtomicLong();
+
+    public ApiResponseCache(boolean enabled, int maxEntries, long defaultTtlMillis) {
+        this.enabled = enabled;
+        this.maxEntries = maxEntries;
+        this.defaultTtlMillis = defaultTtlMillis;
+        // accessOrder=true: her get en sona tasir, en bastaki en eski kullanilan olur
+        this.entries = new LinkedHashMap<String, CacheEntry>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CacheEntry> eldest) {
+                if (size() > ApiResponseCache.this.maxEntries) {
+                    evictions.incrementAndGet();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    public static ApiResponseCache shared() {
+        return SHARED;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * The cached entry for the request, or null.
+     */
+    synchronized CacheEntry lookup(HttpRequest request) {
+        return entries.get(key(request.uri()));
+    }
+
+    /**
+     * Generation to pass to {@link #store} for a GET that is sent now.
+     */
+    synchronized long generation() {
+        return generation;
+    }
+
+    /**
+     * Stores a 200 answer if it can be revalidated or is fresh for some time, unless a write that touches it was
+     * invalidated after the GET was sent.
+     *
+     * @param sentAt {@link #generation()} taken before the GET was sent
+     */
+    synchronized void store(HttpResponse<String> response, long sentAt) {
+        String key = key(response.request().uri());
+        if (invalidatedSince(key, sentAt)) {
+            return;
+        }
+        Optional<String> etag = response.headers().firstValue("ETag");
+        long ttl = maxAgeMillis(response.headers());
+        if (ttl < 0) {
+            return;
+        }
+        if (etag.isEmpty() && ttl == 0) {
+            return;
+        }
+        entries.put(key,
+                new CacheEntry(response.body(), response.headers(), etag.orElse(null), System.currentTimeMillis() + ttl));
+    }
+
+    /**
+     * Refreshes the freshness of an entry after a 304 answer.
+     */
+    synchronized void revalidated(HttpRequest request, HttpResponse<?> notModified) {
+        CacheEntry entry = entries.get(key(request.uri()));
+        if (entry != null) {
+            entry.freshUntil = System.currentTimeMillis() + Math.max(0, maxAgeMillis(notModified.headers()));
+        }
+    }
+
+    /**
+     * Drops every cached read that refers to a resource touched by the write request: the written path itself,
+     * anything below it for PUT/DELETE (a POST only adds to its collection), and reads that have one of the ids
+     * of the write (path segment or idList, idBoard... value) as a path segment or id parameter.
+     */
+    public synchronized void invalidate(HttpRequest write) {
+        URI uri = write.uri();
+        List<String> path = segments(uri);
+        Set<String> ids = new HashSet<>();
+        for (String segment : path) {
+            if (looksLikeId(segment)) {
+                ids.add(segment);
+            }
+        }
+        ids.addAll(idParams(uri));
+        Invalidation invalidation = new Invalidation(++generation, path, !"POST".equals(write.method()), ids);
+        recentInvalidations.addLast(invalidation);
+        if (recentInvalidations.size() > TRACKED_INVALIDATIONS) {
+            recentInvalidations.removeFirst();
+        }
+        for (Iterator<String> it = entries.keySet().iterator(); it.hasNext(); ) {
+            URI cached = URI.create(it.next());
+            if (invalidation.matches(segments(cached), idParams(cached))) {
+                it.remove();
+                invalidations.incrementAndGet();
+            }
+        }
+    }
+
+    // generation'lar ardisik; sentAt'tan sonraki invalidation'lar artik tutulmuyorsa guvenli taraf secilir
+    private boolean invalidatedSince(String key, long sentAt) {
+        if (sentAt == generation) {
+            return false;
+        }
+        if (sentAt < generation - recentInvalidations.size()) {
+            return true;
+        }
+        URI cached = URI.create(key);
+        List<String> cachedPath = segments(cached);
+        Set<String> cachedIds = idParams(cached);
+        for (Iterator<Invalidation> it = recentInvalidations.descendingIterator(); it.hasNext(); ) {
+            Invalidation invalidation = it.next();
+            if (invalidation.generation <= sentAt) {
+                break;
+            }
+            if (invalidation.matches(cachedPath, cachedIds)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public synchronized void clear() {
+        entries.clear();
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    void countHit() {
+        hits.incrementAndGet();
+    }
+
+    void countRevalidation() {
+        revalidations.incrementAndGet();
+    }
+
+    void countMiss() {
+        misses.incrementAndGet();
+    }
+
+    public long getHits() {
+        return hits.get();
+    }
+
+    public long getRevalidations() {
+        return revalidations.get();
+    }
+
+    public long getMisses() {
+        return misses.get();
+    }
+
+    public long getEvictions() {
+        return evictions.get();
+    }
+
+    public long getInvalidations() {
+        return invalidations.get();
+    }
+
+    /**
+     * Share of GETs answered from the cache, with or without a 304 revalidation.
+     */
+    public double getHitRate() {
+        long served = hits.get() + revalidations.get();
+        long total = served + misses.get();
+        return total == 0 ? 0 : (double) served / total;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("ApiResponseCache{size=%d, hits=%d, revalidations=%d, misses=%d, evictions=%d, "
+                        + "invalidations=%d, hitRate=%.2f}", size(), hits.get(), revalidations.get(), misses.get(),
+                evictions.get(), invalidations.get(), getHitRate());
+    }
+
+    private long maxAgeMillis(HttpHeaders headers) {
+        Optional<String> cacheControl = headers.firstValue("Cache-Control");
+        if (cacheControl.isPresent()) {
+            String value = cacheControl.get().toLowerCase();
+            if (value.contains("no-store")) {
+                return -1;
+            }
+            if (value.contains("no-cache")) {
+                return 0;
+            }
+            for (String directive : value.split(",")) {
+                directive = directive.trim();
+                if (directive.startsWith("max-age=")) {
+                    try {
+                        return TimeUnit.SECONDS.toMillis(Long.parseLong(directive.substring(8)));
+                    } catch (NumberFormatException e) {
+                        return 0;
+                    }
+                }
+            }
+        }
+        return defaultTtlMillis;
+    }
+
+    private static boolean looksLikeId(String segment) {
+        return segment.length() >= 8 && segment.chars().anyMatch(Character::isDigit);
+    }
+
+    private static String key(URI uri) {
+        return uri.toString();
+    }
+
+    // bos segmentler (bastaki ve sondaki /) atlanir
+    private static List<String> segments(URI uri) {
+        List<String> segments = new ArrayList<>();
+        String path = uri.getPath();
+        if (path != null) {
+            for (String segment : path.split("/")) {
+                if (!segment.isEmpty()) {
+                    segments.add(segment);
+                }
+            }
+        }
+        return segments;
+    }
+
+    // idList, idBoard... parametrelerinin degerleri
+    private static Set<String> idParams(URI uri) {
+        Set<String> ids = new HashSet<>();
+        for (Map.Entry<String, String> param : StubServer.queryParams(uri.getRawQuery()).entrySet()) {
+            if (param.getKey().startsWith("id") && !param.getValue().isEmpty()) {
+                ids.add(param.getValue());
+            }
+        }
+        return ids;
+    }
+
+    /**
+     * Resources dropped by one write.
+     */
+    private static final class Invalidation {
+        final long generation;
+        final List<String> path;
+        // PUT/DELETE alt kaynaklari da etkiler, POST sadece koleksiyonun kendisini
+        final boolean includesChildren;
+        final Set<String> ids;
+
+        Invalidation(long generation, List<String> path, boolean includesChildren, Set<String> ids) {
+            this.generation = generation;
+            this.path = path;
+            this.includesChildren = includesChildren;
+            this.ids = ids;
+        }
+
+        boolean matches(List<String> cachedPath, Set<String> cachedIds) {
+            if (cachedPath.equals(path) || includesChildren && cachedPath.size() > path.size()
+                    && cachedPath.subList(0, path.size()).equals(path)) {
+                return true;
+            }
+            for (String segment : cachedPath) {
+                if (ids.contains(segment)) {
+                    return true;
+                }
+            }
+            for (String id : cachedIds) {
+                if (ids.contains(id)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    /**
+     * Cached answer of one GET.
+     */
+    static final class CacheEntry {
+        final String body;
+        final HttpHeaders headers;
+        final String etag;
+        volatile long freshUntil;
+
+        CacheEntry(String body, HttpHeaders headers, String etag, long freshUntil) {
+            this.body = body;
+            this.headers = headers;
+            this.etag = etag;
+            this.freshUntil = freshUntil;
+        }
+
+        boolean isFresh() {
+            return System.currentTimeMillis() < freshUntil;
+        }
+
+        HttpResponse<String> toResponse(HttpRequest request) {
+            return new CachedResponse(request, this);
+        }
+    }
+
+    /**
+     * 200 answer rebuilt from a cache entry.
+     */
+    private static final class CachedResponse implements HttpResponse<String> {
+        private final HttpRequest request;
+        private final CacheEntry entry;
+
+        CachedResponse(HttpRequest request, CacheEntry entry) {
+            this.request = request;
+            this.entry = entry;
+        }
+
+        @Override
+        public int statusCode() {
+            return 200;
+        }
+
+        @Override
+        public HttpRequest request() {
+            return request;
+        }
+
+        @Override
+        public Optional<HttpResponse<String>> previousResponse() {
+            return Optional.empty();
+        }
+
+        @Override
+        public HttpHeaders headers() {
+            return entry.headers;
+        }
+
+        @Override
+        public String body() {
+            return entry.body;
+        }
+
+        @Override
+        public Optional<SSLSession> sslSession() {
+            return Optional.empty();
+        }
+
+        @Override
+        public URI uri() {
+            return request.uri();
+        }
+
+        @Override
+        public HttpClient.Version version() {
+            return HttpClient.Version.HTTP_1_1;
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package utilities.api;
+
+import com.google.gson.JsonElement;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.lang.reflect.Proxy;
+import java.net.URI;
+import java.net.http.HttpHeaders;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.List;
+import java.util.Map;
+
+public class ApiResponseCacheTest {
+
+    TrelloStubServer stub;
+    TrelloApi api;
+    ApiResponseCache cache;
+    TrelloFixture fixture;
+
+    @BeforeClass
+    public void startStub() {
+        stub = new TrelloStubServer();
+        api = new TrelloApi(stub.getBaseUrl());
+        fixture = TrelloFixture.create(api, "Trello Board", 1, 2);
+    }
+
+    @BeforeMethod
+    public void freshCache() {
+        cache = new ApiResponseCache(true, 2, 0);
+        api.getClient().withCache(cache);
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void stopStub() {
+        fixture.tearDown();
+        stub.close();
+    }
+
+    @Test
+    public void repeatedReadsAreRevalidatedWithEtag() {
+        String cardId = fixture.getCardIds().get(0);
+        JsonElement first = api.getCard(cardId).join();
+        int notModifiedBefore = stub.getNotModifiedCount();
+        for (int i = 0; i < 5; i++) {
+            Assert.assertEquals(api.getCard(cardId).join(), first);
+        }
+
+        Assert.assertEquals(stub.getNotModifiedCount() - notModifiedBefore, 5);
+        Assert.assertEquals(cache.getMisses(), 1);
+        Assert.assertEquals(cache.getRevalidations(), 5);
+        Assert.assertTrue(cache.getHitRate() > 0.8, cache.toString());
+    }
+
+    @Test
+    public void writeToSameResourceInvalidatesEntry() {
+        String listId = fixture.getListIds().get(0);
+        api.getList(listId).join();
+        Assert.assertEquals(cache.size(), 1);
+
+        api.archiveList(listId).join();
+        Assert.assertEquals(cache.size(), 0);
+        Assert.assertEquals(cache.getInvalidations(), 1);
+        Assert.assertEquals(api.getList(listId).join().getAsJsonObject().get("closed").getAsBoolean(), true);
+    }
+
+    @Test
+    public void newCardKeepsOtherCardReads() {
+        String cardId = fixture.getCardIds().get(0);
+        api.getCard(cardId).join();
+        api.getCard(fixture.getCardIds().get(1)).join();
+
+        api.createCard(fixture.getListIds().get(0), "Yeni kart").join();
+        Assert.assertEquals(cache.size(), 2);
+        Assert.assertEquals(cache.getInvalidations(), 0);
+    }
+
+    @Test
+    public void writePathAndIdsAreComparedBySegment() {
+        ApiResponseCache cache = new ApiResponseCache(true, 10, 0);
+        String base = "http://localhost/1";
+        for (String path : List.of("/cards/5f1a2b3c4d", "/cards/5f1a2b3c4d/actions", "/cards/5f1a2b3c4d99",
+                "/search?query=5f1a2b3c4d", "/lists/6a7b8c9d0e/cards", "/cards?idList=6a7b8c9d0e", "/cards")) {
+            cache.store(response(base + path), cache.generation());
+        }
+
+        cache.invalidate(write("PUT", base + "/cards/5f1a2b3c4d"));
+        // kart, alt kaynagi; baska id'nin oneki ve arama sorgusu kalir
+        Assert.assertEquals(cache.getInvalidations(), 2);
+        cache.invalidate(write("POST", base + "/cards?idList=6a7b8c9d0e"));
+        // koleksiyon ve listenin kartlari; id'si sorguda gecmeyen kart okumalari kalir
+        Assert.assertEquals(cache.getInvalidations(), 5);
+        Assert.assertEquals(cache.size(), 2);
+    }
+
+    @Test
+    public void leastRecentlyUsedEntryIsEvicted() {
+        api.getBoard(fixture.getBoardId()).join();
+        api.getCard(fixture.getCardIds().get(0)).join();
+        api.getBoard(fixture.getBoardId()).join();
+        api.getCard(fixture.getCardIds().get(1)).join();
+
+        Assert.assertEquals(cache.size(), 2);
+        Assert.assertEquals(cache.getEvictions(), 1);
+        // board son kullanilan oldugu icin cache'te kaldi, ilk kart cikarildi
+        api.getBoard(fixture.getBoardId()).join();
+        Assert.assertEquals(cache.getRevalidations(), 2);
+    }
+
+    private static HttpRequest write(String method, String uri) {
+        return HttpRequest.newBuilder(URI.create(uri)).method(method, HttpRequest.BodyPublishers.noBody()).build();
+    }
+
+    // ETag'li 200 cevabi, cache'e yazilabilir
+    @SuppressWarnings("unchecked")
+    private static HttpResponse<String> response(String uri) {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(uri)).GET().build();
+        HttpHeaders headers = HttpHeaders.of(Map.of("ETag", List.of("\"1\"")), (name, value) -> true);
+        return (HttpResponse<String>) Proxy.newProxyInstance(ApiResponseCacheTest.class.getClassLoader(),
+                new Class<?>[]{HttpResponse.class}, (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "request":
+                            return request;
+                        case "headers":
+                            return headers;
+                        case "body":
+                            return "{}";
+                        default:
+                            throw new UnsupportedOperationException(method.getName());
+                    }
+                });
+    }
+}
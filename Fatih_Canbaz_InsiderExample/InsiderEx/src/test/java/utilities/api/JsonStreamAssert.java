@@ -0,0 +1,426 @@
+package utilities.api;
+
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.StringReader;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Predicate;
+
+/**
+ * JsonStreamAssert Class
+ * <p>
+ * Checks path based expectations on a JSON document while it is read with Gson's streaming {@link JsonReader}.
+ * No tree is built: subtrees that no expectation points into are skipped, primitive values are compared as they
+ * pass by, and reading stops as soon as every expectation is decided. Memory use therefore does not depend on
+ * the size of the response.
+ * </p>
+ * <p>
+ * Paths: {@code $} is the root, {@code .name} an object member, {@code [3]} an array index and {@code [*]} any
+ * array element, e.g. {@code $.cards[*].name} or {@code $[0].idList}.
+ * </p>
+ * <p>
+ * Usage:
+ * <pre>
+ * JsonStreamAssert.of(response.body())
+ *         .valueEquals("$.id", ConfigReader.getProperty("boardId"))
+ *         .anyValueEquals("$.cards[*].name", "Trello Card1")
+ *         .count("$.lists[*]", 3)
+ *         .verify();
+ * </pre>
+ * </p>
+ * <p>
+ * Author: Fatih Canbaz
+ * </p>
+ */
+public class JsonStreamAssert {
+
+    private static final Object ANY_INDEX = new Object();
+
+    private final Reader source;
+    private final List<Expectation> expectations = new ArrayList<>();
+    private long valuesVisited;
+
+    private JsonStreamAssert(Reader source) {
+        this.source = source;
+    }
+
+    public static JsonStreamAssert of(InputStream json) {
+        return new JsonStreamAssert(new InputStreamReader(json, StandardCharsets.UTF_8));
+    }
+
+    public static JsonStreamAssert of(Reader json) {
+        return new JsonStreamAssert(json);
+    }
+
+    public static JsonStreamAssert of(String json) {
+        return new JsonStreamAssert(new StringReader(json));
+    }
+
+    // ========================================
+    // EXPECTATIONS
+    // ========================================
+
+    /**
+     * The first value at the path equals the expected value (numbers are compared numerically).
+     */
+    public JsonStreamAssert valueEquals(String path, Object expected) {
+        return value(path, "== " + expected, actual -> sameValue(actual, expected));
+    }
+
+    /**
+     * The first value at the path satisfies the condition; the value is passed as text (null for JSON null).
+     */
+    public JsonStreamAssert value(String path, String description, Predicate<String> condition) {
+        expectations.add(new Expectation(path, Kind.FIRST, description, condition, 0));
+        return this;
+    }
+
+    /**
+     * At least one value at the (wildcard) path equals the expected value. Reading stops at the first match.
+     */
+    public JsonStreamAssert anyValueEquals(String path, Object expected) {
+        return anyValue(path, "any == " + expected, actual -> sameValue(actual, expected));
+    }
+
+    public JsonStreamAssert anyValue(String path, String description, Predicate<String> condition) {
+        expectations.add(new Expectation(path, Kind.ANY, description, condition, 0));
+        return this;
+    }
+
+    /**
+     * Every value at the (wildcard) path satisfies the condition. Fails at the first value that does not.
+     */
+    public JsonStreamAssert allValues(String path, String description, Predicate<String> condition) {
+        expectations.add(new Expectation(path, Kind.ALL, description, condition, 0));
+        return this;
+    }
+
+    /**
+     * Exactly the given number of values (of any type) exist at the (wildcard) path.
+     */
+    public JsonStreamAssert count(String path, int expectedCount) {
+        expectations.add(new Expectation(path, Kind.COUNT, "count == " + expectedCount, null, expectedCount));
+        return this;
+    }
+
+    public JsonStreamAssert present(String path) {
+        expectations.add(new Expectation(path, Kind.PRESENT, "present", null, 0));
+        return this;
+    }
+
+    public JsonStreamAssert absent(String path) {
+        expectations.add(new Expectation(path, Kind.ABSENT, "absent", null, 0));
+        return this;
+    }
+
+    // ========================================
+    // VERIFY
+    // ========================================
+
+    /**
+     * Reads the document until all expectations are decided and throws an AssertionError listing every
+     * expectation that failed.
+     */
+    public void verify() {
+        List<String> failures = evaluate();
+        if (!failures.isEmpty()) {
+            throw new AssertionError("JSON beklentileri saglanmadi:\n - " + String.join("\n - ", failures));
+        }
+    }
+
+    /**
+     * Like {@link #verify()} but returns the failure messages instead of throwing.
+     */
+    public List<String> evaluate() {
+        try (JsonReader reader = new JsonReader(source)) {
+            reader.setLenient(true);
+            List<Object> path = new ArrayList<>();
+            walk(reader, path);
+        } catch (StopReading done) {
+            // tum beklentiler belli oldu, dokumanin kalani okunmaz
+        } catch (IOException e) {
+            throw new RuntimeException("JSON okunamadi", e);
+        }
+        List<String> failures = new ArrayList<>();
+        for (Expectation expectation : expectations) {
+            expectation.finish();
+            if (!expectation.passed) {
+                failures.add(expectation.message());
+            }
+        }
+        return failures;
+    }
+
+    /**
+     * Number of JSON values (primitives and containers) that were looked at; skipped subtrees are not counted.
+     */
+    public long getValuesVisited() {
+        return valuesVisited;
+    }
+
+    private void walk(JsonReader reader, List<Object> path) throws IOException {
+        valuesVisited++;
+        boolean interesting = false;
+        for (Expectation expectation : expectations) {
+            if (expectation.resolved) {
+                continue;
+            }
+            if (expectation.matches(path)) {
+                expectation.onPresent(path);
+                interesting = true;
+            } else if (expectation.isBelow(path)) {
+                interesting = true;
+            }
+        }
+        stopIfDone();
+
+        JsonToken token = reader.peek();
+        if (!interesting) {
+            reader.skipValue();
+            return;
+        }
+        switch (token) {
+            case BEGIN_OBJECT:
+                reader.beginObject();
+                while (reader.hasNext()) {
+                    path.add(reader.nextName());
+                    walk(reader, path);
+                    path.remove(path.size() - 1);
+                }
+                reader.endObject();
+                onContainerEnd(path);
+                break;
+            case BEGIN_ARRAY:
+                reader.beginArray();
+                for (int index = 0; reader.hasNext(); index++) {
+                    path.add(index);
+                    walk(reader, path);
+                    path.remove(path.size() - 1);
+                }
+                reader.endArray();
+                onContainerEnd(path);
+                break;
+            case BOOLEAN:
+                onPrimitive(path, String.valueOf(reader.nextBoolean()));
+                break;
+            case NULL:
+                reader.nextNull();
+                onPrimitive(path, null);
+                break;
+            default:
+                onPrimitive(path, reader.nextString());
+        }
+    }
+
+    private void onPrimitive(List<Object> path, String value) {
+        for (Expectation expectation : expectations) {
+            if (!expectation.resolved && expectation.matches(path)) {
+                expectation.onValue(value);
+            }
+        }
+        stopIfDone();
+    }
+
+    private void onContainerEnd(List<Object> path) {
+        for (Expectation expectation : expectations) {
+            if (!expectation.resolved && expectation.closesAt(path)) {
+                expectation.finish();
+            }
+        }
+        stopIfDone();
+    }
+
+    private void stopIfDone() {
+        for (Expectation expectation : expectations) {
+            if (!expectation.resolved) {
+                return;
+            }
+        }
+        throw new StopReading();
+    }
+
+    static boolean sameValue(String actual, Object expected) {
+        if (actual == null || expected == null) {
+            return actual == null && expected == null;
+        }
+        if (expected instanceof Number) {
+            try {
+                return new BigDecimal(actual).compareTo(new BigDecimal(expected.toString())) == 0;
+            } catch (NumberFormatException e) {
+                return false;
+            }
+        }
+        return Objects.equals(actual, expected.toString());
+    }
+
+    static List<Object> parsePath(String path) {
+        if (!path.startsWith("$")) {
+            throw new IllegalArgumentException("JSON path '$' ile baslamali: " + path);
+        }
+        List<Object> segments = new ArrayList<>();
+        int i = 1;
+        while (i < path.length()) {
+            char c = path.charAt(i);
+            if (c == '.') {
+                int end = i + 1;
+                while (end < path.length() && path.charAt(end) != '.' && path.charAt(end) != '[') {
+                    end++;
+                }
+                segments.add(path.substring(i + 1, end));
+                i = end;
+            } else if (c == '[') {
+                int end = path.indexOf(']', i);
+                if (end < 0) {
+                    throw new IllegalArgumentException("Kapanmayan '[' : " + path);
+                }
+                String inside = path.substring(i + 1, end).trim();
+                if (inside.equals("*")) {
+                    segments.add(ANY_INDEX);
+                } else if (inside.startsWith("'") || inside.startsWith("\"")) {
+                    segments.add(inside.substring(1, inside.length() - 1));
+                } else {
+                    segments.add(Integer.parseInt(inside));
+                }
+                i = end + 1;
+            } else {
+                throw new IllegalArgumentException("Gecersiz JSON path: " + path);
+            }
+        }
+        return segments;
+    }
+
+    private enum Kind { FIRST, ANY, ALL, COUNT, PRESENT, ABSENT }
+
+    private static final class Expectation {
+        final String path;
+        final List<Object> segments;
+        final Kind kind;
+        final String description;
+        final Predicate<String> condition;
+        final int expectedCount;
+        // wildcard iceren beklentiler bu uzunluktaki container kapaninca kesinlesir
+        final int closingDepth;
+
+        boolean resolved;
+        boolean passed;
+        int matches;
+        String actual;
+
+        Expectation(String path, Kind kind, String description, Predicate<String> condition, int expectedCount) {
+            this.path = path;
+            this.segments = parsePath(path);
+            this.kind = kind;
+            this.description = description;
+            this.condition = condition;
+            this.expectedCount = expectedCount;
+            int wildcard = segments.indexOf(ANY_INDEX);
+            this.closingDepth = wildcard < 0 ? -1 : wildcard;
+        }
+
+        boolean matches(List<Object> current) {
+            return current.size() == segments.size() && prefixMatches(current, current.size());
+        }
+
+        boolean isBelow(List<Object> current) {
+            return current.size() < segments.size() && prefixMatches(current, current.size());
+        }
+
+        boolean closesAt(List<Object> current) {
+            return closingDepth >= 0 && current.size() == closingDepth && prefixMatches(current, closingDepth);
+        }
+
+        private boolean prefixMatches(List<Object> current, int length) {
+            for (int i = 0; i < length; i++) {
+                Object expected = segments.get(i);
+                if (expected != ANY_INDEX && !expected.equals(current.get(i))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        void onPresent(List<Object> current) {
+            matches++;
+            if (kind == Kind.PRESENT) {
+                resolve(true);
+            } else if (kind == Kind.ABSENT) {
+                resolve(false);
+            } else if (kind == Kind.COUNT && closingDepth < 0) {
+                // wildcard'siz path en fazla bir kez bulunabilir
+                resolve(expectedCount == 1);
+            }
+        }
+
+        void onValue(String value) {
+            actual = value;
+            switch (kind) {
+                case FIRST:
+                    resolve(condition.test(value));
+                    break;
+                case ANY:
+                    if (condition.test(value)) {
+                        resolve(true);
+                    }
+                    break;
+                case ALL:
+                    if (!condition.test(value)) {
+                        resolve(false);
+                    }
+                    break;
+                default:
+                    break;
+            }
+        }
+
+        void finish() {
+            if (resolved) {
+                return;
+            }
+            switch (kind) {
+                case COUNT:
+                    resolve(matches == expectedCount);
+                    break;
+                case ALL:
+                    resolve(matches > 0);
+                    break;
+                case ABSENT:
+                    resolve(true);
+                    break;
+                default:
+                    resolve(false);
+            }
+        }
+
+        private void resolve(boolean result) {
+            resolved = true;
+            passed = result;
+        }
+
+        String message() {
+            switch (kind) {
+                case COUNT:
+                    return path + " " + description + " (bulunan: " + matches + ")";
+                case PRESENT:
+                case ABSENT:
+                    return path + " " + description + " beklendi";
+                default:
+                    return path + " " + description + (matches == 0 ? " (path bulunamadi)" : " (son deger: " + actual + ")");
+            }
+        }
+    }
+
+    private static final class StopReading extends RuntimeException {
+        StopReading() {
+            super(null, null, false, false);
+        }
+    }
+}
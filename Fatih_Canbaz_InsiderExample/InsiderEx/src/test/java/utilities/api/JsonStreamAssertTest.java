@@ -0,0 +1,103 @@
+package utilities.api;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.InputStream;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+public class JsonStreamAssertTest {
+
+    private static final int CARD_COUNT = 200_000;
+
+    @Test
+    public void stopsReadingOnceExpectationsAreResolved() {
+        JsonStreamAssert check = JsonStreamAssert.of(new CardListing(CARD_COUNT))
+                .valueEquals("$.id", "board1")
+                .anyValueEquals("$.cards[*].name", "Trello Card10");
+        check.verify();
+
+        Assert.assertTrue(check.getValuesVisited() < 100, "okuma erken durmadi: " + check.getValuesVisited());
+    }
+
+    @Test
+    public void readsWholeListingWithoutBuildingTree() {
+        JsonStreamAssert check = JsonStreamAssert.of(new CardListing(CARD_COUNT))
+                .count("$.cards[*]", CARD_COUNT)
+                .allValues("$.cards[*].idList", "listenin kartlari", "list1"::equals)
+                .absent("$.cards[0].closed");
+        check.verify();
+    }
+
+    @Test
+    public void reportsEveryFailedExpectation() {
+        List<String> failures = JsonStreamAssert.of(new CardListing(10))
+                .valueEquals("$.id", "board2")
+                .count("$.cards[*]", 11)
+                .anyValueEquals("$.cards[*].name", "Missing Card")
+                .present("$.cards[3].pos")
+                .evaluate();
+
+        Assert.assertEquals(failures.size(), 3, failures.toString());
+    }
+
+    @Test
+    public void checksStreamedApiResponse() throws Exception {
+        try (TrelloStubServer stub = new TrelloStubServer()) {
+            TrelloApi api = new TrelloApi(stub.getBaseUrl());
+            TrelloFixture fixture = TrelloFixture.create(api, "Trello Board", 1, 1);
+
+            HttpResponse<InputStream> response = api.getClient()
+                    .getStreamingAsync("/cards/" + fixture.getCardIds().get(0), null).get();
+            JsonStreamAssert.of(response.body())
+                    .valueEquals("$.id", fixture.getCardIds().get(0))
+                    .valueEquals("$.idList", fixture.getListIds().get(0))
+                    .valueEquals("$.name", "Trello Board Card1")
+                    .verify();
+            fixture.tearDown();
+        }
+    }
+
+    /**
+     * Generates {"id":"board1","cards":[{...},...]} on the fly, so the document never exists in memory.
+     */
+    static class CardListing extends InputStream {
+        private final int cardCount;
+        private int nextCard;
+        private byte[] chunk = "{\"id\":\"board1\",\"name\":\"Trello Board\",\"cards\":[".getBytes(StandardCharsets.UTF_8);
+        private int position;
+
+        CardListing(int cardCount) {
+            this.cardCount = cardCount;
+        }
+
+        @Override
+        public int read() {
+            if (position == chunk.length) {
+                if (!nextChunk()) {
+                    return -1;
+                }
+            }
+            return chunk[position++] & 0xff;
+        }
+
+        private boolean nextChunk() {
+            if (nextCard > cardCount) {
+                return false;
+            }
+            String text;
+            if (nextCard == cardCount) {
+                text = "]}";
+            } else {
+                text = (nextCard == 0 ? "" : ",") + "{\"id\":\"card" + nextCard + "\",\"idList\":\"list1\","
+                        + "\"name\":\"Trello Card" + nextCard + "\",\"pos\":" + nextCard * 16384 + "}";
+            }
+            nextCard++;
+            chunk = text.getBytes(StandardCharsets.UTF_8);
+            position = 0;
+            return true;
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package utilities.api;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * LatencyHistogram Class
+ * <p>
+ * HDR-style latency histogram with about 0.1% value precision. Values are kept in microseconds; below 2048 µs
+ * every value has its own bucket, above that every power of two is split into 1024 linear sub-buckets.
+ * Recording is lock-free, so many threads can record into one histogram, and memory stays fixed (~200 KB)
+ * no matter how many values are recorded.
+ * </p>
+ * <p>
+ * Author: Fatih Canbaz
+ * </p>
+ */
+public class LatencyHistogram {
+
+    private static final int SUB_BUCKET_COUNT = 2048;
+    private static final int SUB_BUCKET_HALF = SUB_BUCKET_COUNT / 2;
+    private static final int SUB_BUCKET_BITS = 10;
+    // 2^(10 + 23) µs ≈ 2.3 saat, yeterli ust sinir
+    private static final int MAX_SHIFT = 23;
+
+    private final AtomicLongArray counts = new AtomicLongArray(SUB_BUCKET_COUNT + MAX_SHIFT * SUB_BUCKET_HALF);
+    private final AtomicLong totalCount = new AtomicLong();
+    private final AtomicLong totalMicros = new AtomicLong();
+    private final AtomicLong maxMicros = new AtomicLong();
+
+    public void recordNanos(long nanos) {
+        recordMicros(TimeUnit.NANOSECONDS.toMicros(nanos));
+    }
+
+    public void recordMicros(long micros) {
+        long value = Math.max(0, micros);
+        counts.incrementAndGet(indexOf(value));
+        totalCount.incrementAndGet();
+        totalMicros.addAndGet(value);
+        maxMicros.accumulateAndGet(value, Math::max);
+    }
+
+    /**
+     * Adds all values of the other histogram to this one.
+     */
+    public void add(LatencyHistogram other) {
+        for (int i = 0; i < counts.length(); i++) {
+            long count = other.counts.get(i);
+            if (count > 0) {
+                counts.addAndGet(i, count);
+            }
+        }
+        totalCount.addAndGet(other.totalCount.get());
+        totalMicros.addAndGet(other.totalMicros.get());
+        maxMicros.accumulateAndGet(other.maxMicros.get(), Math::max);
+    }
+
+    public long getCount() {
+        return totalCount.get();
+    }
+
+    public long getMaxMicros() {
+        return maxMicros.get();
+    }
+
+    public double getMeanMicros() {
+        long count = totalCount.get();
+        return count == 0 ? 0 : (double) totalMicros.get() / count;
+    }
+
+    /**
+     * Value (µs) below or at which the given percentage of recorded values fall.
+     *
+     * @param percentile 0 - 100, e.g. 99.9
+     */
+    public long getValueAtPercentile(double percentile) {
+        long count = totalCount.get();
+        if (count == 0) {
+            return 0;
+        }
+        long target = Math.max(1, (long) Math.ceil(percentile / 100.0 * count));
+        long seen = 0;
+        for (int i = 0; i < counts.length(); i++) {
+            seen += counts.get(i);
+            if (seen >= target) {
+                return Math.min(highestEquivalentValue(i), maxMicros.get());
+            }
+        }
+        return maxMicros.get();
+    }
+
+    static int indexOf(long value) {
+        if (value < SUB_BUCKET_COUNT) {
+            return (int) value;
+        }
+        int shift = Math.min(63 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS, MAX_SHIFT);
+        long subBucket = Math.min(value >> shift, SUB_BUCKET_COUNT - 1);
+        return SUB_BUCKET_COUNT + (shift - 1) * SUB_BUCKET_HALF + (int) (subBucket - SUB_BUCKET_HALF);
+    }
+
+    static long highestEquivalentValue(int index) {
+        if (index < SUB_BUCKET_COUNT) {
+            return index;
+        }
+        int shift = (index - SUB_BUCKET_COUNT) / SUB_BUCKET_HALF + 1;
+        long subBucket = (index - SUB_BUCKET_COUNT) % SUB_BUCKET_HALF + SUB_BUCKET_HALF;
+        return ((subBucket + 1) << shift) - 1;
+    }
+}
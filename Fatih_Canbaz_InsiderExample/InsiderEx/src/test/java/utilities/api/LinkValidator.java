@@ -0,0 +1,224 @@
+package utilities.api;
+
+import utilities.ConfigReader;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.UnaryOperator;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * LinkValidator Class
+ * <p>
+ * Checks many links at once over the pooled {@link ApiClient} instead of opening each one in the browser.
+ * A link that only needs a status check is sent as HEAD (falling back to GET if the server does not allow HEAD);
+ * a link with an expected title is sent as GET and the &lt;title&gt; of the answer must contain that text.
+ * All requests run concurrently, bounded by apiMaxConcurrentRequests.
+ * <pre>
+ * List&lt;LinkValidator.Result&gt; results = new LinkValidator()
+ *         .withUrlMapper(replay::localize)
+ *         .validate(List.of(new LinkValidator.Link(href, "Senior Software Quality Assurance Engineer")));
+ * Assert.assertTrue(LinkValidator.failures(results).isEmpty(), results.toString());
+ * </pre>
+ * </p>
+ * <p>
+ * Configuration (configuration.properties):
+ * - apiTimeoutSeconds: request timeout per link (default 15)
+ * - jobLinkCheckMode: "http" checks every job link of the careers flow with this class instead of clicking
+ *   View Role (default "click")
+ * </p>
+ * <p>
+ * Author: Fatih Canbaz
+ * </p>
+ */
+public class LinkValidator {
+
+    private static final Duration TIMEOUT =
+            Duration.ofSeconds(Long.parseLong(ConfigReader.getProperty("apiTimeoutSeconds", "15")));
+    private static final Pattern TITLE = Pattern.compile("<title[^>]*>(.*?)</title>",
+            Pattern.CASE_INSENSITIVE | Pattern.DOTALL);
+
+    // link kontrolleri cache'e yazilmaz, her calistirmada sunucu gercekten sorgulanir
+    private final ApiClient client = new ApiClient("").withCache(new ApiResponseCache(false, 0, 0));
+    private UnaryOperator<String> urlMapper = UnaryOperator.identity();
+
+    /**
+     * A link to check; expectedTitle may be null for a status-only check.
+     */
+    public static class Link {
+        final String url;
+        final String expectedTitle;
+
+        public Link(String url, String expectedTitle) {
+            this.url = url;
+            this.expectedTitle = expectedTitle;
+        }
+    }
+
+    /**
+     * Outcome of one link check.
+     */
+    public static class Result {
+        private final String url;
+        private final String expectedTitle;
+        private final String method;
+        private final int status;
+        private final String title;
+        private final long durationMillis;
+        private final String error;
+
+        Result(String url, String expectedTitle, String method, int status, String title, long durationMillis,
+               String error) {
+            this.url = url;
+            this.expectedTitle = expectedTitle;
+            this.method = method;
+            this.status = status;
+            this.title = title;
+            this.durationMillis = durationMillis;
+            this.error = error;
+        }
+
+        public String getUrl() {
+            return url;
+        }
+
+        public String getMethod() {
+            return method;
+        }
+
+        public int getStatus() {
+            return status;
+        }
+
+        public String getTitle() {
+            return title;
+        }
+
+        public long getDurationMillis() {
+            return durationMillis;
+        }
+
+        public String getError() {
+            return error;
+        }
+
+        /**
+         * 2xx status (redirects are followed) and, if expected, a matching title.
+         */
+        public boolean isValid() {
+            if (error != null || status < 200 || status >= 300) {
+                return false;
+            }
+            return expectedTitle == null
+                    || (title != null && normalize(title).contains(normalize(expectedTitle)));
+        }
+
+        @Override
+        public String toString() {
+            return method + " " + url + " -> " + (error != null ? error : status + (title == null ? "" : " \"" + title + "\""))
+                    + " (" + durationMillis + " ms)" + (isValid() ? "" : " GECERSIZ"
+                    + (expectedTitle == null ? "" : ", beklenen baslik: \"" + expectedTitle + "\""));
+        }
+    }
+
+    /**
+     * Rewrites every url before it is requested, e.g. {@link ReplayServer#localize(String)}.
+     */
+    public LinkValidator withUrlMapper(UnaryOperator<String> urlMapper) {
+        this.urlMapper = urlMapper;
+        return this;
+    }
+
+    /**
+     * Checks all links concurrently and waits for every answer; results are in the order of the links.
+     */
+    public List<Result> validate(List<Link> links) {
+        List<CompletableFuture<Result>> checks = new ArrayList<>();
+        for (Link link : links) {
+            checks.add(validateAsync(link));
+        }
+        return checks.stream().map(CompletableFuture::join).collect(Collectors.toList());
+    }
+
+    /**
+     * Checks one link without blocking; the future never completes exceptionally, errors are part of the result.
+     */
+    public CompletableFuture<Result> validateAsync(Link link) {
+        long start = System.nanoTime();
+        URI uri;
+        try {
+            uri = URI.create(urlMapper.apply(link.url));
+        } catch (IllegalArgumentException | NullPointerException e) {
+            return CompletableFuture.completedFuture(
+                    new Result(link.url, link.expectedTitle, "-", 0, null, 0, "gecersiz url: " + e.getMessage()));
+        }
+        CompletableFuture<HttpResponse<String>> response;
+        String method;
+        if (link.expectedTitle == null) {
+            method = "HEAD";
+            response = send("HEAD", uri).thenCompose(head -> head.statusCode() == 405 || head.statusCode() == 501
+                    ? send("GET", uri)
+                    : CompletableFuture.completedFuture(head));
+        } else {
+            // basligi okumak icin govde gerekli, dogrudan GET
+            method = "GET";
+            response = send("GET", uri);
+        }
+        return response.handle((answer, error) -> {
+            long millis = (System.nanoTime() - start) / 1_000_000;
+            if (error != null) {
+                Throwable cause = error.getCause() != null ? error.getCause() : error;
+                return new Result(link.url, link.expectedTitle, method, 0, null, millis, String.valueOf(cause));
+            }
+            String usedMethod = answer.request().method();
+            return new Result(link.url, link.expectedTitle, usedMethod, answer.statusCode(), title(answer.body()),
+                    millis, null);
+        });
+    }
+
+    /**
+     * Results that are not {@link Result#isValid()}.
+     */
+    public static List<Result> failures(List<Result> results) {
+        return results.stream().filter(result -> !result.isValid()).collect(Collectors.toList());
+    }
+
+    private CompletableFuture<HttpResponse<String>> send(String method, URI uri) {
+        HttpRequest request = HttpRequest.newBuilder(uri)
+                .timeout(TIMEOUT)
+                .header("Accept", "text/html")
+                .method(method, HttpRequest.BodyPublishers.noBody())
+                .build();
+        return client.sendAsync(request);
+    }
+
+    static String title(String html) {
+        if (html == null) {
+            return null;
+        }
+        Matcher matcher = TITLE.matcher(html);
+        if (!matcher.find()) {
+            return null;
+        }
+        return matcher.group(1)
+                .replace("&amp;", "&")
+                .replace("&#39;", "'")
+                .replace("&quot;", "\"")
+                .replace("&lt;", "<")
+                .replace("&gt;", ">")
+                .replaceAll("\\s+", " ")
+                .trim();
+    }
+
+    private static String normalize(String text) {
+        return text.replaceAll("\\s+", " ").trim().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,60 @@
+package utilities.api;
+
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+
+public class LinkValidatorTest {
+
+    ReplayServer replay;
+    LinkValidator validator;
+
+    @BeforeClass
+    public void startReplay() {
+        replay = new ReplayServer(Paths.get("src/test/resources/replay")).withLatency(200);
+        validator = new LinkValidator().withUrlMapper(replay::localize);
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void stopReplay() {
+        replay.close();
+    }
+
+    @Test
+    public void recordedJobLinksAreValidatedConcurrently() {
+        List<LinkValidator.Link> links = new ArrayList<>();
+        links.add(new LinkValidator.Link("https://jobs.lever.co/useinsider/job-000", "Senior Software Quality Assurance Engineer"));
+        links.add(new LinkValidator.Link("https://jobs.lever.co/useinsider/job-001", "Software QA Tester- Insider Testinium Tech Hub"));
+        links.add(new LinkValidator.Link("https://jobs.lever.co/useinsider/job-002", "Quality Assurance Engineer"));
+        links.add(new LinkValidator.Link("https://jobs.lever.co/useinsider/job-002", null));
+
+        long start = System.nanoTime();
+        List<LinkValidator.Result> results = validator.validate(links);
+        long millis = (System.nanoTime() - start) / 1_000_000;
+
+        Assert.assertTrue(LinkValidator.failures(results).isEmpty(), results.toString());
+        Assert.assertEquals(results.get(3).getMethod(), "HEAD");
+        // 4 istek x 200 ms gecikme: sirali olsaydi en az 800 ms surerdi
+        Assert.assertTrue(replay.getMaxInFlight() > 1, "max in flight: " + replay.getMaxInFlight());
+        Assert.assertTrue(millis < 800, "sure: " + millis + " ms");
+    }
+
+    @Test
+    public void missingPageAndWrongTitleAreReported() {
+        List<LinkValidator.Link> links = new ArrayList<>();
+        links.add(new LinkValidator.Link("https://jobs.lever.co/useinsider/job-999", null));
+        links.add(new LinkValidator.Link("https://jobs.lever.co/useinsider/job-000", "Quality Assurance Engineer Intern"));
+
+        List<LinkValidator.Result> failures = LinkValidator.failures(validator.validate(links));
+
+        Assert.assertEquals(failures.size(), 2, failures.toString());
+        Assert.assertEquals(failures.get(0).getStatus(), 404);
+        Assert.assertEquals(failures.get(1).getStatus(), 200);
+        Assert.assertEquals(failures.get(1).getTitle(), "Insider. - Senior Software Quality Assurance Engineer");
+    }
+}
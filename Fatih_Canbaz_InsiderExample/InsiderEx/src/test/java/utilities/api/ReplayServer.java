@@ -0,0 +1,71 @@
+package utilities.api;
+
+import com.sun.net.httpserver.HttpExchange;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * ReplayServer Class
+ * <p>
+ * Serves recorded pages of external sites from disk so that link checks run against a local copy instead of the
+ * live site. Recordings are stored per host: https://jobs.lever.co/useinsider/job-000 is answered from
+ * &lt;recordings&gt;/jobs.lever.co/useinsider/job-000.html. Paths without a recording answer 404, like a removed
+ * job posting would. Use {@link #localize(String)} to point a live url at the replay.
+ * </p>
+ * <p>
+ * Configuration (configuration.properties):
+ * - linkReplayDir: recordings folder used by the HTTP link check of the careers flow
+ * </p>
+ * <p>
+ * Author: Fatih Canbaz
+ * </p>
+ */
+public class ReplayServer extends StubServer {
+
+    public ReplayServer(Path recordings) {
+        super((exchange, params) -> replay(exchange, recordings));
+        if (!Files.isDirectory(recordings)) {
+            close();
+            throw new IllegalArgumentException("Replay klasoru bulunamadi: " + recordings.toAbsolutePath());
+        }
+    }
+
+    @Override
+    public ReplayServer withLatency(long millis) {
+        super.withLatency(millis);
+        return this;
+    }
+
+    /**
+     * Maps a live url to the same page on this server, e.g. https://jobs.lever.co/a/b -&gt; http://127.0.0.1:port/jobs.lever.co/a/b
+     */
+    public String localize(String url) {
+        URI uri = URI.create(url);
+        if (uri.getHost() == null) {
+            return url;
+        }
+        String path = uri.getRawPath() == null || uri.getRawPath().isEmpty() ? "/" : uri.getRawPath();
+        String query = uri.getRawQuery() == null ? "" : "?" + uri.getRawQuery();
+        return getUrl() + "/" + uri.getHost() + path + query;
+    }
+
+    private static Response replay(HttpExchange exchange, Path recordings) throws IOException {
+        String path = exchange.getRequestURI().getPath();
+        if (path.endsWith("/")) {
+            path += "index";
+        }
+        Path root = recordings.toAbsolutePath().normalize();
+        Path page = root.resolve(path.substring(1) + ".html").normalize();
+        // klasor disina cikan yollar (../) kayit yok sayilir
+        if (!page.startsWith(root) || !Files.isRegularFile(page)) {
+            return new Response(404, "<html><head><title>Not Found</title></head><body></body></html>")
+                    .header("Content-Type", "text/html; charset=utf-8");
+        }
+        return new Response(200, Files.readString(page, StandardCharsets.UTF_8))
+                .header("Content-Type", "text/html; charset=utf-8");
+    }
+}
@@ -0,0 +1,179 @@
+package utilities.api;
+
+import com.google.gson.JsonPrimitive;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * StubServer Class
+ * <p>
+ * Small local HTTP server (JDK built-in) used to exercise API support code without a live service.
+ * Requests are answered by a single {@link Handler}; an artificial latency can be added to every answer so that
+ * concurrency effects (pooling, parallel fixture setup, load) become measurable.
+ * </p>
+ * <p>
+ * Author: Fatih Canbaz
+ * </p>
+ */
+public class StubServer implements AutoCloseable {
+
+    /**
+     * Answers one stub request.
+     */
+    public interface Handler {
+        Response handle(HttpExchange exchange, Map<String, String> queryParams) throws IOException;
+    }
+
+    /**
+     * Status, headers and body of a stub answer.
+     */
+    public static class Response {
+        final int status;
+        final String body;
+        final Map<String, String> headers = new LinkedHashMap<>();
+
+        public Response(int status, String body) {
+            this.status = status;
+            this.body = body;
+        }
+
+        public Response header(String name, String value) {
+            headers.put(name, value);
+            return this;
+        }
+    }
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final AtomicInteger requestCount = new AtomicInteger();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger maxInFlight = new AtomicInteger();
+    private final AtomicInteger notModifiedCount = new AtomicInteger();
+    private volatile long latencyMillis;
+
+    public StubServer(Handler handler) {
+        try {
+            server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 1024);
+        } catch (IOException e) {
+            throw new RuntimeException("Stub server baslatilamadi", e);
+        }
+        executor = Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "stub-server");
+            thread.setDaemon(true);
+            return thread;
+        });
+        server.setExecutor(executor);
+        server.createContext("/", exchange -> serve(exchange, handler));
+        server.start();
+    }
+
+    /**
+     * Adds the given delay to every answer.
+     */
+    public StubServer withLatency(long millis) {
+        this.latencyMillis = millis;
+        return this;
+    }
+
+    public String getUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    public int getRequestCount() {
+        return requestCount.get();
+    }
+
+    /**
+     * Number of GETs answered with 304 Not Modified.
+     */
+    public int getNotModifiedCount() {
+        return notModifiedCount.get();
+    }
+
+    /**
+     * Highest number of requests the server was handling at the same time.
+     */
+    public int getMaxInFlight() {
+        return maxInFlight.get();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    private void serve(HttpExchange exchange, Handler handler) throws IOException {
+        requestCount.incrementAndGet();
+        maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+        try {
+            if (latencyMillis > 0) {
+                Thread.sleep(latencyMillis);
+            }
+            Response response;
+            try {
+                response = handler.handle(exchange, queryParams(exchange.getRequestURI().getRawQuery()));
+            } catch (RuntimeException e) {
+                response = new Response(500, "{\"error\":" + new JsonPrimitive(String.valueOf(e)) + "}");
+            }
+            byte[] body = response.body == null ? new byte[0] : response.body.getBytes(StandardCharsets.UTF_8);
+            if (exchange.getRequestMethod().equals("GET") && response.status == 200 && body.length > 0
+                    && !response.headers.containsKey("ETag")) {
+                // gercek API gibi GET cevaplarina validator ekle, If-None-Match gelirse 304 don
+                String etag = "\"" + Integer.toHexString(Arrays.hashCode(body)) + "\"";
+                response.header("ETag", etag);
+                if (etag.equals(exchange.getRequestHeaders().getFirst("If-None-Match"))) {
+                    notModifiedCount.incrementAndGet();
+                    response = new Response(304, null).header("ETag", etag);
+                    body = new byte[0];
+                }
+            }
+            response.headers.forEach((name, value) -> exchange.getResponseHeaders().add(name, value));
+            if (!response.headers.containsKey("Content-Type") && response.status != 304) {
+                exchange.getResponseHeaders().add("Content-Type", "application/json");
+            }
+            if (exchange.getRequestMethod().equals("HEAD")) {
+                // HEAD: GET ile ayni header'lar, govde gonderilmez
+                exchange.getResponseHeaders().set("Content-Length", String.valueOf(body.length));
+                body = new byte[0];
+            }
+            exchange.sendResponseHeaders(response.status, body.length == 0 ? -1 : body.length);
+            if (body.length > 0) {
+                try (OutputStream out = exchange.getResponseBody()) {
+                    out.write(body);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            inFlight.decrementAndGet();
+            exchange.close();
+        }
+    }
+
+    static Map<String, String> queryParams(String rawQuery) {
+        Map<String, String> params = new LinkedHashMap<>();
+        if (rawQuery == null || rawQuery.isEmpty()) {
+            return params;
+        }
+        for (String pair : rawQuery.split("&")) {
+            int eq = pair.indexOf('=');
+            String key = eq < 0 ? pair : pair.substring(0, eq);
+            String value = eq < 0 ? "" : pair.substring(eq + 1);
+            params.put(URLDecoder.decode(key, StandardCharsets.UTF_8), URLDecoder.decode(value, StandardCharsets.UTF_8));
+        }
+        return params;
+    }
+}
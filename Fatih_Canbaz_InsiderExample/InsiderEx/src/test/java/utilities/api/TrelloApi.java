@@ -0,0 +1,121 @@
+package utilities.api;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonParser;
+import utilities.ConfigReader;
+
+import java.net.http.HttpResponse;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * TrelloApi Class
+ * <p>
+ * Asynchronous wrapper around the Trello REST endpoints used by our fixtures. Base url, key and token come from
+ * configuration.properties (TrelloBaseUrl, APIKey, APIToken); a different base url can be passed to point the
+ * same calls at a local stub server.
+ * </p>
+ * <p>
+ * Author: Fatih Canbaz
+ * </p>
+ */
+public class TrelloApi {
+
+    private final ApiClient client;
+
+    public TrelloApi() {
+        this(ConfigReader.getProperty("TrelloBaseUrl"));
+    }
+
+    public TrelloApi(String baseUrl) {
+        this.client = new ApiClient(baseUrl)
+                .withDefaultQueryParam("key", ConfigReader.getProperty("APIKey"))
+                .withDefaultQueryParam("token", ConfigReader.getProperty("APIToken"));
+    }
+
+    public ApiClient getClient() {
+        return client;
+    }
+
+    // ========================================
+    // BOARDS
+    // ========================================
+
+    public CompletableFuture<JsonElement> createBoard(String name) {
+        return json(client.postAsync("/boards/", params("name", name, "defaultLists", "false")));
+    }
+
+    public CompletableFuture<JsonElement> getBoard(String boardId) {
+        return json(client.getAsync("/boards/" + boardId, null));
+    }
+
+    public CompletableFuture<JsonElement> deleteBoard(String boardId) {
+        return json(client.deleteAsync("/boards/" + boardId, null));
+    }
+
+    // ========================================
+    // LISTS
+    // ========================================
+
+    public CompletableFuture<JsonElement> createList(String boardId, String name) {
+        return json(client.postAsync("/lists", params("name", name, "idBoard", boardId)));
+    }
+
+    public CompletableFuture<JsonElement> getList(String listId) {
+        return json(client.getAsync("/lists/" + listId, null));
+    }
+
+    /**
+     * Trello lists cannot be deleted, only archived.
+     */
+    public CompletableFuture<JsonElement> archiveList(String listId) {
+        return json(client.putAsync("/lists/" + listId + "/closed", params("value", "true")));
+    }
+
+    // ========================================
+    // CARDS
+    // ========================================
+
+    public CompletableFuture<JsonElement> createCard(String listId, String name) {
+        return json(client.postAsync("/cards", params("idList", listId, "name", name)));
+    }
+
+    public CompletableFuture<JsonElement> getCard(String cardId) {
+        return json(client.getAsync("/cards/" + cardId, null));
+    }
+
+    public CompletableFuture<JsonElement> deleteCard(String cardId) {
+        return json(client.deleteAsync("/cards/" + cardId, null));
+    }
+
+    // ========================================
+    // HELPERS
+    // ========================================
+
+    /**
+     * Converts a response future into parsed JSON and fails the future for non 2xx answers.
+     */
+    static CompletableFuture<JsonElement> json(CompletableFuture<HttpResponse<String>> response) {
+        return response.thenApply(TrelloApi::parse);
+    }
+
+    static JsonElement parse(HttpResponse<String> response) {
+        int status = response.statusCode();
+        if (status < 200 || status >= 300) {
+            throw new CompletionException(new ApiException(response.request().method(), response.uri().getPath(),
+                    status, response.body()));
+        }
+        String body = response.body();
+        return body == null || body.isEmpty() ? JsonParser.parseString("{}") : JsonParser.parseString(body);
+    }
+
+    static Map<String, String> params(String... keyValues) {
+        Map<String, String> params = new LinkedHashMap<>();
+        for (int i = 0; i + 1 < keyValues.length; i += 2) {
+            params.put(keyValues[i], keyValues[i + 1]);
+        }
+        return params;
+    }
+}
@@ -0,0 +1,131 @@
+package utilities.api;
+
+import com.google.gson.JsonElement;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * TrelloFixture Class
+ * <p>
+ * Creates a board with lists and cards for a test and removes it again. Calls that do not depend on each other
+ * are sent at the same time: all lists of the board together, and the cards of a list as soon as that list exists.
+ * Setup time therefore follows the slowest board → list → card chain instead of the number of calls.
+ * </p>
+ * <p>
+ * Usage:
+ * <pre>
+ * TrelloFixture fixture = TrelloFixture.create(new TrelloApi(), "Trello Board", 2, 3);
+ * String firstCard = fixture.getCardIds().get(0);
+ * ...
+ * fixture.tearDown();
+ * </pre>
+ * </p>
+ * <p>
+ * Author: Fatih Canbaz
+ * </p>
+ */
+public class TrelloFixture {
+
+    private final TrelloApi api;
+    private final String boardId;
+    private final List<String> listIds;
+    private final List<String> cardIds;
+
+    private TrelloFixture(TrelloApi api, String boardId, List<String> listIds, List<String> cardIds) {
+        this.api = api;
+        this.boardId = boardId;
+        this.listIds = Collections.unmodifiableList(listIds);
+        this.cardIds = Collections.unmodifiableList(cardIds);
+    }
+
+    /**
+     * Creates a board with the given number of lists and cards per list.
+     *
+     * @param api          Trello API to use (real or stub base url)
+     * @param boardName    name of the board
+     * @param listCount    number of lists to create on the board
+     * @param cardsPerList number of cards to create in every list
+     * @return the created fixture
+     */
+    public static TrelloFixture create(TrelloApi api, String boardName, int listCount, int cardsPerList) {
+        String boardId = id(join(api.createBoard(boardName)));
+        try {
+            // her listenin kartlari, liste olusur olusmaz diger listeleri beklemeden gonderilir
+            List<CompletableFuture<String>> listCalls = new ArrayList<>();
+            List<CompletableFuture<List<String>>> cardCalls = new ArrayList<>();
+            for (int i = 1; i <= listCount; i++) {
+                CompletableFuture<String> listCall = api.createList(boardId, boardName + " List" + i)
+                        .thenApply(TrelloFixture::id);
+                listCalls.add(listCall);
+                cardCalls.add(listCall.thenCompose(listId -> createCards(api, listId, boardName, cardsPerList)));
+            }
+            CompletableFuture.allOf(cardCalls.toArray(new CompletableFuture<?>[0])).exceptionally(error -> null).join();
+
+            List<String> listIds = new ArrayList<>();
+            List<String> cardIds = new ArrayList<>();
+            for (int i = 0; i < listCount; i++) {
+                listIds.add(join(listCalls.get(i)));
+                cardIds.addAll(join(cardCalls.get(i)));
+            }
+            return new TrelloFixture(api, boardId, listIds, cardIds);
+        } catch (RuntimeException e) {
+            // yarim kalan fixture'i geride birakmayalim
+            api.deleteBoard(boardId).exceptionally(error -> null).join();
+            throw e;
+        }
+    }
+
+    /**
+     * Deletes the board, which also removes its lists and cards.
+     */
+    public void tearDown() {
+        join(api.deleteBoard(boardId));
+    }
+
+    public String getBoardId() {
+        return boardId;
+    }
+
+    public List<String> getListIds() {
+        return listIds;
+    }
+
+    public List<String> getCardIds() {
+        return cardIds;
+    }
+
+    private static CompletableFuture<List<String>> createCards(TrelloApi api, String listId, String boardName,
+                                                               int cardsPerList) {
+        List<CompletableFuture<String>> cardCalls = new ArrayList<>();
+        for (int i = 1; i <= cardsPerList; i++) {
+            cardCalls.add(api.createCard(listId, boardName + " Card" + i).thenApply(TrelloFixture::id));
+        }
+        return CompletableFuture.allOf(cardCalls.toArray(new CompletableFuture<?>[0]))
+                .thenApply(done -> {
+                    List<String> ids = new ArrayList<>(cardCalls.size());
+                    for (CompletableFuture<String> cardCall : cardCalls) {
+                        ids.add(cardCall.join());
+                    }
+                    return ids;
+                });
+    }
+
+    private static String id(JsonElement json) {
+        return json.getAsJsonObject().get("id").getAsString();
+    }
+
+    private static <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
+}
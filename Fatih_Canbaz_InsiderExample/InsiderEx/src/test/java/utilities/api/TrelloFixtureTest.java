@@ -0,0 +1,62 @@
+package utilities.api;
+
+import com.google.gson.JsonElement;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.util.concurrent.CompletableFuture;
+
+public class TrelloFixtureTest {
+
+    private static final long LATENCY_MILLIS = 200;
+
+    TrelloStubServer stub;
+    TrelloApi api;
+
+    @BeforeClass
+    public void startStub() {
+        stub = new TrelloStubServer().withLatency(LATENCY_MILLIS);
+        api = new TrelloApi(stub.getBaseUrl());
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void stopStub() {
+        stub.close();
+    }
+
+    @Test
+    public void fixtureSetupFollowsSlowestChain() {
+        // 1 board + 4 list + 4x5 card = 25 istek; sirayla ~5 sn, paralel ~3 x latency
+        long start = System.nanoTime();
+        TrelloFixture fixture = TrelloFixture.create(api, "Trello Board", 4, 5);
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        Assert.assertEquals(fixture.getListIds().size(), 4);
+        Assert.assertEquals(fixture.getCardIds().size(), 20);
+        Assert.assertEquals(stub.boardCount(), 1);
+        Assert.assertEquals(stub.cardCount(), 20);
+        Assert.assertTrue(stub.getMaxInFlight() > 4, "istekler paralel gonderilmedi: " + stub.getMaxInFlight());
+        Assert.assertTrue(elapsedMillis < 10 * LATENCY_MILLIS, "fixture kurulumu cok uzun surdu: " + elapsedMillis + " ms");
+
+        fixture.tearDown();
+        Assert.assertEquals(stub.boardCount(), 0);
+        Assert.assertEquals(stub.listCount(), 0);
+        Assert.assertEquals(stub.cardCount(), 0);
+    }
+
+    @Test
+    public void failedSetupRemovesBoard() {
+        TrelloApi brokenApi = new TrelloApi(stub.getBaseUrl()) {
+            @Override
+            public CompletableFuture<JsonElement> createCard(String listId, String name) {
+                return super.createCard("missing-list", name);
+            }
+        };
+        int boardsBefore = stub.boardCount();
+
+        Assert.assertThrows(RuntimeException.class, () -> TrelloFixture.create(brokenApi, "Broken Board", 1, 1));
+        Assert.assertEquals(stub.boardCount(), boardsBefore);
+    }
+}
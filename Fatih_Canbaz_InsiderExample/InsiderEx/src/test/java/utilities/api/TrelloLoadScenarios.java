@@ -0,0 +1,61 @@
+package utilities.api;
+
+import utilities.ConfigReader;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * TrelloLoadScenarios Class
+ * <p>
+ * Ready made {@link ApiLoadGenerator.Scenario}s built on the Trello endpoint config (boardId, listId, cardId1,
+ * cardId2). Calls are made blocking on purpose: every scenario runs on its own thread, so a blocking call is
+ * the cheapest way to keep the steps of one journey in order. Scenarios use a copy of the client without the
+ * {@link ApiResponseCache}, so the measured latency is the latency of the server and not of cache hits.
+ * </p>
+ * <p>
+ * Author: Fatih Canbaz
+ * </p>
+ */
+public class TrelloLoadScenarios {
+
+    private TrelloLoadScenarios() {
+
+    }
+
+    /**
+     * Reads the board, the list and every card, one after another, like a test preparing its checks.
+     */
+    public static ApiLoadGenerator.Scenario readMetadata(TrelloApi api, String boardId, String listId,
+                                                         List<String> cardIds) {
+        ApiClient client = api.getClient().withoutCache();
+        return recorder -> {
+            recorder.time("GET /boards/{id}", () -> client.getAsync("/boards/" + boardId, null).join());
+            recorder.time("GET /lists/{id}", () -> client.getAsync("/lists/" + listId, null).join());
+            for (String cardId : cardIds) {
+                recorder.time("GET /cards/{id}", () -> client.getAsync("/cards/" + cardId, null).join());
+            }
+        };
+    }
+
+    /**
+     * {@link #readMetadata} with the ids from configuration.properties.
+     */
+    public static ApiLoadGenerator.Scenario readMetadataFromConfig(TrelloApi api) {
+        return readMetadata(api, ConfigReader.getProperty("boardId"), ConfigReader.getProperty("listId"),
+                Arrays.asList(ConfigReader.getProperty("cardId1"), ConfigReader.getProperty("cardId2")));
+    }
+
+    /**
+     * Creates a card in the list and deletes it again.
+     */
+    public static ApiLoadGenerator.Scenario createAndDeleteCard(TrelloApi api, String listId) {
+        ApiClient client = api.getClient().withoutCache();
+        return recorder -> {
+            String cardId = TrelloApi.parse(recorder.time("POST /cards", () ->
+                            client.postAsync("/cards", TrelloApi.params("idList", listId, "name", "Load Card")).join()))
+                    .getAsJsonObject().get("id").getAsString();
+            recorder.time("DELETE /cards/{id}", () -> client.deleteAsync("/cards/" + cardId, null).join());
+        };
+    }
+}
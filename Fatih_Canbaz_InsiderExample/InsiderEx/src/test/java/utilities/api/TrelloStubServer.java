@@ -0,0 +1,147 @@
+package utilities.api;
+
+import com.google.gson.JsonObject;
+import com.sun.net.httpserver.HttpExchange;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * TrelloStubServer Class
+ * <p>
+ * In-memory imitation of the Trello endpoints used by {@link TrelloApi} (boards, lists, cards).
+ * Use {@link #getBaseUrl()} in place of TrelloBaseUrl to run API code against it.
+ * </p>
+ * <p>
+ * Author: Fatih Canbaz
+ * </p>
+ */
+public class TrelloStubServer extends StubServer {
+
+    private final Map<String, JsonObject> boards;
+    private final Map<String, JsonObject> lists;
+    private final Map<String, JsonObject> cards;
+
+    public TrelloStubServer() {
+        this(new ConcurrentHashMap<>(), new ConcurrentHashMap<>(), new ConcurrentHashMap<>());
+    }
+
+    private TrelloStubServer(Map<String, JsonObject> boards, Map<String, JsonObject> lists,
+                             Map<String, JsonObject> cards) {
+        super((exchange, params) -> route(exchange, params, boards, lists, cards));
+        this.boards = boards;
+        this.lists = lists;
+        this.cards = cards;
+    }
+
+    @Override
+    public TrelloStubServer withLatency(long millis) {
+        super.withLatency(millis);
+        return this;
+    }
+
+    public String getBaseUrl() {
+        return getUrl() + "/1";
+    }
+
+    public int boardCount() {
+        return boards.size();
+    }
+
+    public int listCount() {
+        return lists.size();
+    }
+
+    public int cardCount() {
+        return cards.size();
+    }
+
+    private static Response route(HttpExchange exchange, Map<String, String> params, Map<String, JsonObject> boards,
+                                  Map<String, JsonObject> lists, Map<String, JsonObject> cards) {
+        String method = exchange.getRequestMethod();
+        String[] path = exchange.getRequestURI().getPath().replaceFirst("^/1/?", "").split("/");
+        if (path.length == 0 || path[0].isEmpty()) {
+            return notFound();
+        }
+        String collection = path[0];
+        String id = path.length > 1 ? path[1] : null;
+
+        switch (collection) {
+            case "boards":
+                if (method.equals("DELETE") && id != null && boards.remove(id) != null) {
+                    lists.values().removeIf(list -> id.equals(list.get("idBoard").getAsString()));
+                    cards.values().removeIf(card -> id.equals(card.get("idBoard").getAsString()));
+                    return ok("{\"_value\":null}");
+                }
+                return crud(method, id, params, boards, false, null);
+            case "lists":
+                if (method.equals("PUT") && id != null && path.length > 2 && path[2].equals("closed")) {
+                    JsonObject list = lists.get(id);
+                    if (list == null) {
+                        return notFound();
+                    }
+                    list.addProperty("closed", Boolean.parseBoolean(params.get("value")));
+                    return ok(list.toString());
+                }
+                return crud(method, id, params, lists, true, lookup(boards, params.get("idBoard")));
+            case "cards":
+                JsonObject parentList = lookup(lists, params.get("idList"));
+                if (parentList != null) {
+                    params.put("idBoard", parentList.get("idBoard").getAsString());
+                }
+                return crud(method, id, params, cards, true, parentList);
+            default:
+                return notFound();
+        }
+    }
+
+    private static Response crud(String method, String id, Map<String, String> params,
+                                 Map<String, JsonObject> store, boolean parentRequired, JsonObject parent) {
+        switch (method) {
+            case "POST":
+                if (parentRequired && parent == null) {
+                    return new Response(400, "invalid value");
+                }
+                JsonObject created = new JsonObject();
+                created.addProperty("id", UUID.randomUUID().toString().replace("-", "").substring(0, 24));
+                params.forEach((key, value) -> {
+                    if (!key.equals("key") && !key.equals("token")) {
+                        created.addProperty(key, value);
+                    }
+                });
+                store.put(created.get("id").getAsString(), created);
+                return ok(created.toString());
+            case "GET":
+                JsonObject found = id == null ? null : store.get(id);
+                return found == null ? notFound() : ok(found.toString());
+            case "PUT":
+                JsonObject updated = id == null ? null : store.get(id);
+                if (updated == null) {
+                    return notFound();
+                }
+                params.forEach((key, value) -> {
+                    if (!key.equals("key") && !key.equals("token")) {
+                        updated.addProperty(key, value);
+                    }
+                });
+                return ok(updated.toString());
+            case "DELETE":
+                return id != null && store.remove(id) != null ? ok("{\"limits\":{}}") : notFound();
+            default:
+                return new Response(405, "method not allowed");
+        }
+    }
+
+    private static JsonObject lookup(Map<String, JsonObject> store, String id) {
+        return id == null ? null : store.get(id);
+    }
+
+    private static Response ok(String body) {
+        return new Response(200, body);
+    }
+
+    private static Response notFound() {
+        return new Response(404, "The requested resource was not found.").header("Content-Type", "text/plain");
+    }
+}
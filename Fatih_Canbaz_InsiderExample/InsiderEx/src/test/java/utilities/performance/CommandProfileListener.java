@@ -0,0 +1,68 @@
+package utilities.performance;
+
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testng.IExecutionListener;
+import utilities.ConfigReader;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+
+/**
+ * CommandProfileListener Class
+ * <p>
+ * Writes the {@link CommandProfiler} report to test-output/CommandProfileyyyyMMddhhmmss.json at the end of the run
+ * and prints the helpers that cost the most round trip time:
+ * - topHelpers: helpers by total command time, with the number of commands of each type
+ * - tests: per test the commands per step and the commands grouped by helper, page object field and command
+ * Does nothing when commandProfilerEnabled is false. Registered for every run through
+ * META-INF/services/org.testng.ITestNGListener.
+ * </p>
+ * <p>
+ * Author: Fatih Canbaz
+ * </p>
+ */
+public class CommandProfileListener implements IExecutionListener {
+
+    private static final Logger LOG = LoggerFactory.getLogger(CommandProfileListener.class);
+
+    @Override
+    public void onExecutionStart() {
+        CommandProfiler.reset();
+    }
+
+    @Override
+    public void onExecutionFinish() {
+        if (!CommandProfiler.ENABLED) {
+            return;
+        }
+        JsonObject report = CommandProfiler.report(
+                Integer.parseInt(ConfigReader.getProperty("commandProfilerTop", "10")));
+        if (report == null) {
+            return;
+        }
+        LOG.info("Command profile: {} komut, {} ms", report.get("commands").getAsLong(),
+                report.get("totalMillis").getAsDouble());
+        for (JsonElement element : report.getAsJsonArray("topHelpers")) {
+            JsonObject helper = element.getAsJsonObject();
+            LOG.info("  {}: {} komut, {} ms {}", helper.get("helper").getAsString(), helper.get("commands").getAsLong(),
+                    helper.get("totalMillis").getAsDouble(), helper.get("byCommand"));
+        }
+        File file = new File(System.getProperty("user.dir") + "/test-output/CommandProfile"
+                + new SimpleDateFormat("yyyyMMddhhmmss").format(new Date()) + ".json");
+        file.getParentFile().mkdirs();
+        try (Writer writer = new FileWriter(file)) {
+            new GsonBuilder().setPrettyPrinting().create().toJson(report, writer);
+            LOG.info("Command profile raporu: {}", file.getAbsolutePath());
+        } catch (IOException e) {
+            LOG.warn("Command profile raporu yazilamadi: {}", e.getMessage());
+        }
+    }
+}
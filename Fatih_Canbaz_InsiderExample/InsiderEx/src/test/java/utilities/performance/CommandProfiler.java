@@ -0,0 +1,348 @@
+package utilities.performance;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.FindAll;
+import org.openqa.selenium.support.FindBy;
+import org.openqa.selenium.support.FindBys;
+import org.openqa.selenium.support.events.WebDriverListener;
+import org.openqa.selenium.support.pagefactory.Annotations;
+import org.slf4j.MDC;
+import utilities.ConfigReader;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * CommandProfiler Class
+ * <p>
+ * WebDriverListener that times every WebDriver command and groups the round trips by who issued them: the test
+ * (MDC of {@link utilities.report.TestLogContext}), the helper (outermost ReusableMethods / utilities method on the stack, "direct"
+ * if the test called the driver itself), the page object field (element found with the locator of a field
+ * registered with {@link #registerPage(Object)}, also when the element is a script argument) and the command.
+ * Commands are also counted per step of ReusableMethods, so a helper that adds round trips to every step (e.g. an
+ * executeScript before every click) shows up. CommandProfileListener writes the report at the end of the run.
+ * Added to the drivers of {@link utilities.DriverFactory} when commandProfilerEnabled is true; every command walks
+ * the stack, so it is off by default.
+ * </p>
+ * <p>
+ * Configuration (configuration.properties):
+ * - commandProfilerEnabled: true/false (default false)
+ * - commandProfilerTop: helpers printed at the end of the run (default 10)
+ * </p>
+ * <p>
+ * Author: Fatih Canbaz
+ * </p>
+ */
+public class CommandProfiler implements WebDriverListener {
+
+    public static final boolean ENABLED = Boolean.parseBoolean(
+            ConfigReader.getProperty("commandProfilerEnabled", "false"));
+
+    private static final String DIRECT = "direct";
+    // TestLogContext.TEST / STEP; benchmarks modulu TestNG'siz derlendigi icin sinifa referans verilmez
+    private static final String MDC_TEST = "test";
+    private static final String MDC_STEP = "step";
+    private static final int MAX_DEPTH = 32;
+
+    // locator -> "Page.field"
+    private static final Map<By, String> FIELDS = new ConcurrentHashMap<>();
+    private static final Set<Class<?>> PAGES = ConcurrentHashMap.newKeySet();
+    // bulunan element -> "Page.field"; element her kullanimda yeniden bulundugu icin weak
+    private static final Map<Object, String> ELEMENTS = Collections.synchronizedMap(new WeakHashMap<>());
+
+    // test -> helper|field|command -> istatistik
+    private static final Map<String, Map<String, Stat>> COMMANDS = new ConcurrentHashMap<>();
+    // test -> adim -> o adimdaki komutlar
+    private static final Map<String, Map<Integer, Step>> STEPS = new ConcurrentHashMap<>();
+
+    private static final ThreadLocal<Call[]> CALLS = ThreadLocal.withInitial(() -> new Call[MAX_DEPTH]);
+    private static final ThreadLocal<int[]> DEPTH = ThreadLocal.withInitial(() -> new int[1]);
+
+    private static final class Call {
+        long start;
+        Stat stat;
+        String field;
+    }
+
+    static final class Stat {
+        final String helper;
+        final String field;
+        final String command;
+        final LongAdder count = new LongAdder();
+        final LongAdder nanos = new LongAdder();
+        final AtomicLong max = new AtomicLong();
+
+        Stat(String helper, String field, String command) {
+            this.helper = helper;
+            this.field = field;
+            this.command = command;
+        }
+
+        void add(long duration) {
+            count.increment();
+            nanos.add(duration);
+            max.accumulateAndGet(duration, Math::max);
+        }
+    }
+
+    static final class Step {
+        final String helper;
+        final LongAdder commands = new LongAdder();
+
+        Step(String helper) {
+            this.helper = helper;
+        }
+    }
+
+    /**
+     * Registers the @FindBy fields of a page object, so commands on its elements are grouped by field. Call it
+     * after PageFactory.initElements; a page class is read only once.
+     */
+    public static void registerPage(Object page) {
+        if (!ENABLED || !PAGES.add(page.getClass())) {
+            return;
+        }
+        for (Field field : page.getClass().getDeclaredFields()) {
+            if (field.isAnnotationPresent(FindBy.class) || field.isAnnotationPresent(FindBys.class)
+                    || field.isAnnotationPresent(FindAll.class)) {
+                FIELDS.put(new Annotations(field).buildBy(),
+                        page.getClass().getSimpleName() + "." + field.getName());
+            }
+        }
+    }
+
+    @Override
+    public void beforeAnyCall(Object target, Method method, Object[] args) {
+        int[] depth = DEPTH.get();
+        if (depth[0]++ >= MAX_DEPTH) {
+            return;
+        }
+        String test = MDC.get(MDC_TEST);
+        if (test == null) {
+            test = "unknown";
+        }
+        String helper = helper();
+        String field = field(target, args);
+        String command = method.getDeclaringClass().getSimpleName() + "." + method.getName();
+        Stat stat = COMMANDS.computeIfAbsent(test, key -> new ConcurrentHashMap<>())
+                .computeIfAbsent(helper + "|" + field + "|" + command, key -> new Stat(helper, field, command));
+        String step = MDC.get(MDC_STEP);
+        if (step != null) {
+            STEPS.computeIfAbsent(test, key -> new ConcurrentHashMap<>())
+                    .computeIfAbsent(Integer.valueOf(step), key -> new Step(helper)).commands.increment();
+        }
+
+        Call[] calls = CALLS.get();
+        Call call = calls[depth[0] - 1];
+        if (call == null) {
+            call = new Call();
+            calls[depth[0] - 1] = call;
+        }
+        call.stat = stat;
+        call.field = args != null && args.length > 0 && args[0] instanceof By ? FIELDS.get(args[0]) : null;
+        call.start = System.nanoTime();
+    }
+
+    @Override
+    public void afterAnyCall(Object target, Method method, Object[] args, Object result) {
+        Call call = finish();
+        if (call == null || call.field == null) {
+            return;
+        }
+        // sayfa field'inin locator'i ile bulunan element(ler) field adi ile isaretlenir
+        if (result instanceof WebElement) {
+            ELEMENTS.put(result, call.field);
+        } else if (result instanceof List) {
+            for (Object element : (List<?>) result) {
+                ELEMENTS.put(element, call.field);
+            }
+        }
+    }
+
+    @Override
+    public void onError(Object target, Method method, Object[] args, InvocationTargetException e) {
+        finish();
+    }
+
+    /**
+     * Report of the commands recorded so far, null if nothing was recorded.
+     *
+     * @param top number of helpers in "topHelpers"
+     */
+    public static JsonObject report(int top) {
+        if (COMMANDS.isEmpty()) {
+            return null;
+        }
+        Map<String, JsonObject> helpers = new LinkedHashMap<>();
+        JsonObject tests = new JsonObject();
+        long totalCommands = 0;
+        long totalNanos = 0;
+        for (Map.Entry<String, Map<String, Stat>> test : new TreeMap<>(COMMANDS).entrySet()) {
+            List<Stat> stats = new ArrayList<>(test.getValue().values());
+            stats.sort(Comparator.comparingLong((Stat stat) -> stat.nanos.sum()).reversed());
+            JsonArray rows = new JsonArray();
+            for (Stat stat : stats) {
+                long count = stat.count.sum();
+                long nanos = stat.nanos.sum();
+                totalCommands += count;
+                totalNanos += nanos;
+                JsonObject row = new JsonObject();
+                row.addProperty("helper", stat.helper);
+                row.addProperty("field", stat.field);
+                row.addProperty("command", stat.command);
+                row.addProperty("count", count);
+                row.addProperty("totalMillis", millis(nanos));
+                row.addProperty("maxMillis", millis(stat.max.get()));
+                rows.add(row);
+
+                JsonObject helper = helpers.computeIfAbsent(stat.helper, CommandProfiler::helperRow);
+                helper.addProperty("commands", helper.get("commands").getAsLong() + count);
+                helper.addProperty("nanos", helper.get("nanos").getAsLong() + nanos);
+                JsonObject byCommand = helper.getAsJsonObject("byCommand");
+                byCommand.addProperty(stat.command, (byCommand.has(stat.command)
+                        ? byCommand.get(stat.command).getAsLong() : 0) + count);
+            }
+            JsonObject entry = new JsonObject();
+            JsonArray steps = steps(test.getKey());
+            long stepCommands = 0;
+            long maxStepCommands = 0;
+            for (int i = 0; i < steps.size(); i++) {
+                long commands = steps.get(i).getAsJsonObject().get("commands").getAsLong();
+                stepCommands += commands;
+                maxStepCommands = Math.max(maxStepCommands, commands);
+            }
+            entry.addProperty("stepCount", steps.size());
+            entry.addProperty("commandsPerStep", steps.size() == 0 ? 0
+                    : Math.round(stepCommands * 10.0 / steps.size()) / 10.0);
+            entry.addProperty("maxCommandsPerStep", maxStepCommands);
+            entry.add("steps", steps);
+            entry.add("commands", rows);
+            tests.add(test.getKey(), entry);
+        }
+
+        List<JsonObject> sorted = new ArrayList<>(helpers.values());
+        sorted.sort(Comparator.comparingLong((JsonObject helper) -> helper.get("nanos").getAsLong()).reversed());
+        JsonArray topHelpers = new JsonArray();
+        for (JsonObject helper : sorted) {
+            long nanos = helper.remove("nanos").getAsLong();
+            long commands = helper.get("commands").getAsLong();
+            helper.addProperty("totalMillis", millis(nanos));
+            helper.addProperty("avgMillis", millis(nanos / Math.max(1, commands)));
+            if (topHelpers.size() < top) {
+                topHelpers.add(helper);
+            }
+        }
+
+        JsonObject report = new JsonObject();
+        report.addProperty("run", StartupTelemetry.getRunId());
+        report.addProperty("commands", totalCommands);
+        report.addProperty("totalMillis", millis(totalNanos));
+        report.add("topHelpers", topHelpers);
+        report.add("tests", tests);
+        return report;
+    }
+
+    /**
+     * Clears everything recorded so far.
+     */
+    public static void reset() {
+        COMMANDS.clear();
+        STEPS.clear();
+    }
+
+    private static Call finish() {
+        int[] depth = DEPTH.get();
+        if (depth[0] == 0) {
+            return null;
+        }
+        if (--depth[0] >= MAX_DEPTH) {
+            return null;
+        }
+        Call call = CALLS.get()[depth[0]];
+        call.stat.add(System.nanoTime() - call.start);
+        return call;
+    }
+
+    // en distaki utilities helper'i: test -> ReusableMethods.click -> ReusableMethods.waitFor -> driver
+    private static String helper() {
+        return StackWalker.getInstance().walk(frames -> {
+            String[] outer = {null};
+            frames.forEach(frame -> {
+                String type = frame.getClassName();
+                if (type.startsWith("utilities.") && type.indexOf('.', 10) < 0 && !type.startsWith("utilities.Driver")
+                        && !type.startsWith("utilities.TestBase")) {
+                    outer[0] = type.substring(10) + "." + frame.getMethodName();
+                }
+            });
+            return outer[0] == null ? DIRECT : outer[0];
+        });
+    }
+
+    private static String field(Object target, Object[] args) {
+        if (args != null && args.length > 0 && args[0] instanceof By) {
+            String field = FIELDS.get(args[0]);
+            if (field != null) {
+                return field;
+            }
+        }
+        String field = target instanceof WebElement ? ELEMENTS.get(target) : null;
+        if (field == null && args != null) {
+            // executeScript(script, element) gibi cagrilar
+            for (Object arg : args) {
+                if (arg instanceof Object[]) {
+                    for (Object element : (Object[]) arg) {
+                        if (element instanceof WebElement && (field = ELEMENTS.get(element)) != null) {
+                            return field;
+                        }
+                    }
+                }
+            }
+        }
+        return field == null ? "-" : field;
+    }
+
+    private static JsonArray steps(String test) {
+        JsonArray result = new JsonArray();
+        Map<Integer, Step> steps = STEPS.get(test);
+        if (steps == null) {
+            return result;
+        }
+        for (Map.Entry<Integer, Step> step : new TreeMap<>(steps).entrySet()) {
+            JsonObject row = new JsonObject();
+            row.addProperty("step", step.getKey());
+            row.addProperty("helper", step.getValue().helper);
+            row.addProperty("commands", step.getValue().commands.sum());
+            result.add(row);
+        }
+        return result;
+    }
+
+    private static JsonObject helperRow(String name) {
+        JsonObject helper = new JsonObject();
+        helper.addProperty("helper", name);
+        helper.addProperty("commands", 0L);
+        helper.addProperty("nanos", 0L);
+        helper.add("byCommand", new JsonObject());
+        return helper;
+    }
+
+    private static double millis(long nanos) {
+        return Math.round(nanos / 10_000.0) / 100.0;
+    }
+}
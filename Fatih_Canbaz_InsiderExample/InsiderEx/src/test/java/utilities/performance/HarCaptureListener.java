@@ -0,0 +1,59 @@
+package utilities.performance;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testng.IInvokedMethod;
+import org.testng.IInvokedMethodListener;
+import org.testng.ITestResult;
+
+import java.io.IOException;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+
+/**
+ * HarCaptureListener Class
+ * <p>
+ * Writes the traffic of every test method to test-output/har/&lt;class&gt;.&lt;method&gt;yyyyMMddhhmmss.har.gz
+ * (next to the Extent report) when HAR capture is on. The per-domain summary of the last test is kept for
+ * TestBaseRapor, which adds it to the report. Registered for every run through
+ * META-INF/services/org.testng.ITestNGListener.
+ * </p>
+ * <p>
+ * Author: Fatih Canbaz
+ * </p>
+ */
+public class HarCaptureListener implements IInvokedMethodListener {
+
+    private static final Logger LOG = LoggerFactory.getLogger(HarCaptureListener.class);
+
+    private static final ThreadLocal<HarSummary> LAST_SUMMARY = new ThreadLocal<>();
+
+    /**
+     * Summary of the HAR written for the last test of this thread, null if nothing was recorded.
+     */
+    public static HarSummary getLastSummary() {
+        return LAST_SUMMARY.get();
+    }
+
+    @Override
+    public void beforeInvocation(IInvokedMethod method, ITestResult testResult) {
+        if (method.isTestMethod()) {
+            LAST_SUMMARY.remove();
+        }
+    }
+
+    @Override
+    public void afterInvocation(IInvokedMethod method, ITestResult testResult) {
+        HarRecorder recorder = HarRecorder.current();
+        if (!method.isTestMethod() || recorder == null) {
+            return;
+        }
+        String date = new SimpleDateFormat("yyyyMMddhhmmss").format(new Date());
+        String name = testResult.getTestClass().getRealClass().getSimpleName() + "." + testResult.getMethod().getMethodName();
+        try {
+            LAST_SUMMARY.set(recorder.writeAndReset(System.getProperty("user.dir") + "/test-output/har/" + name + date + ".har.gz"));
+        } catch (IOException e) {
+            LOG.warn("HAR yazilamadi: {}", e.getMessage());
+        }
+    }
+}
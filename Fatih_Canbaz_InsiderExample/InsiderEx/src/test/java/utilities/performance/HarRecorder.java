@@ -0,0 +1,366 @@
+package utilities.performance;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import com.google.gson.stream.JsonWriter;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.devtools.Command;
+import org.openqa.selenium.devtools.DevTools;
+import org.openqa.selenium.devtools.Event;
+import org.openqa.selenium.devtools.HasDevTools;
+import org.openqa.selenium.json.Json;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * HarRecorder Class
+ * <p>
+ * Records the network traffic of a Chromium session through the CDP Network domain (raw events, independent of
+ * the CDP version) and writes it per test as a gzip compressed HAR 1.2 file. Only request/response metadata and
+ * timings are kept, bodies are never fetched, so recording is cheap enough to stay on in CI.
+ * </p>
+ * <p>
+ * Next to every HAR a per-domain summary is built: requests, transferred bytes, blocking time (time spent
+ * before DNS/connect/send, i.e. waiting for a free connection), failed and still pending requests. Pending
+ * requests are what keeps document.readyState from becoming "complete", see
+ * {@link utilities.ReusableMethods#waitForPageToLoad(long)}.
+ * </p>
+ * <p>
+ * Enabled with harCaptureEnabled=true, files are written by {@link HarCaptureListener}.
+ * </p>
+ * <p>
+ * Author: Fatih Canbaz
+ * </p>
+ */
+public class HarRecorder {
+
+    private static final Logger LOG = LoggerFactory.getLogger(HarRecorder.class);
+
+    private static final Gson GSON = new Gson();
+
+    // driver'i acan thread'in recorder'i; paralel run'da baska thread'in browser'ina dusulmez
+    private static final ThreadLocal<HarRecorder> CURRENT = new ThreadLocal<>();
+
+    private final String browser;
+    private final Map<String, Entry> entries = new LinkedHashMap<>();
+
+    private HarRecorder(String browser) {
+        this.browser = browser;
+    }
+
+    /**
+     * Starts recording in the session. Returns false if the browser has no CDP (Firefox, Safari) or the
+     * connection could not be opened.
+     */
+    public static boolean attach(WebDriver driver, String browser) {
+        if (!(driver instanceof HasDevTools)) {
+            return false;
+        }
+        HarRecorder recorder = new HarRecorder(browser);
+        try {
+            DevTools devTools = ((HasDevTools) driver).getDevTools();
+            devTools.createSessionIfThereIsNotOne();
+            devTools.addListener(event("Network.requestWillBeSent"), recorder::requestWillBeSent);
+            devTools.addListener(event("Network.responseReceived"), recorder::responseReceived);
+            devTools.addListener(event("Network.loadingFinished"), recorder::loadingFinished);
+            devTools.addListener(event("Network.loadingFailed"), recorder::loadingFailed);
+            // body'ler istenmedigi icin tampon gerekmez
+            devTools.send(new Command<>("Network.enable", Map.of("maxTotalBufferSize", 0, "maxResourceBufferSize", 0)));
+        } catch (WebDriverException e) {
+            LOG.warn("HAR kaydi baslatilamadi: {}", e.getMessage());
+            return false;
+        }
+        CURRENT.set(recorder);
+        return true;
+    }
+
+    /**
+     * Recorder of the browser this thread opened, null if HAR capture is off, the browser is not Chromium or the
+     * browser was opened by another thread.
+     */
+    public static HarRecorder current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Prints the requests that have not finished yet, used when waiting for a page load times out.
+     */
+    public static void logPendingRequests() {
+        HarRecorder recorder = current();
+        if (recorder == null) {
+            return;
+        }
+        for (String url : recorder.pendingUrls()) {
+            LOG.info("  bekleyen istek: {}", url);
+        }
+    }
+
+    private static Event<Map<String, Object>> event(String method) {
+        return new Event<>(method, input -> input.read(Json.MAP_TYPE));
+    }
+
+    // ========================================
+    // CDP EVENTS
+    // ========================================
+
+    private synchronized void requestWillBeSent(Map<String, Object> params) {
+        String requestId = (String) params.get("requestId");
+        Entry previous = entries.get(requestId);
+        if (previous != null && params.get("redirectResponse") != null) {
+            // yonlendirmede ayni requestId devam eder, onceki kayit yonlendirme cevabiyla kapanir
+            previous.response = map(params.get("redirectResponse"));
+            previous.finishedTimestamp = number(params.get("timestamp"));
+            previous.finished = true;
+            entries.put(requestId + "-redirect-" + entries.size(), entries.remove(requestId));
+        }
+        Entry entry = new Entry();
+        entry.request = map(params.get("request"));
+        entry.type = (String) params.get("type");
+        entry.wallTime = number(params.get("wallTime"));
+        entry.timestamp = number(params.get("timestamp"));
+        entries.put(requestId, entry);
+    }
+
+    private synchronized void responseReceived(Map<String, Object> params) {
+        Entry entry = entries.get((String) params.get("requestId"));
+        if (entry != null) {
+            entry.response = map(params.get("response"));
+        }
+    }
+
+    private synchronized void loadingFinished(Map<String, Object> params) {
+        Entry entry = entries.get((String) params.get("requestId"));
+        if (entry != null) {
+            entry.encodedDataLength = number(params.get("encodedDataLength"));
+            entry.finishedTimestamp = number(params.get("timestamp"));
+            entry.finished = true;
+        }
+    }
+
+    private synchronized void loadingFailed(Map<String, Object> params) {
+        Entry entry = entries.get((String) params.get("requestId"));
+        if (entry != null) {
+            entry.errorText = (String) params.get("errorText");
+            entry.finishedTimestamp = number(params.get("timestamp"));
+            entry.finished = true;
+        }
+    }
+
+    // ========================================
+    // HAR
+    // ========================================
+
+    public synchronized List<String> pendingUrls() {
+        List<String> urls = new ArrayList<>();
+        for (Entry entry : entries.values()) {
+            if (!entry.finished) {
+                urls.add((String) entry.request.get("url"));
+            }
+        }
+        return urls;
+    }
+
+    /**
+     * Drops everything recorded so far.
+     */
+    public synchronized void reset() {
+        entries.clear();
+    }
+
+    /**
+     * Writes the recorded traffic as gzip compressed HAR and starts a new recording.
+     *
+     * @param path hedef dosya (.har.gz)
+     * @return per-domain summary of the written traffic
+     */
+    public HarSummary writeAndReset(String path) throws IOException {
+        List<Entry> snapshot;
+        synchronized (this) {
+            snapshot = new ArrayList<>(entries.values());
+            // bitmemis istekler sonraki teste tasinir
+            entries.values().removeIf(entry -> entry.finished);
+        }
+        File file = new File(path);
+        file.getParentFile().mkdirs();
+        HarSummary summary = new HarSummary(file.getPath());
+        try (JsonWriter writer = new JsonWriter(new OutputStreamWriter(
+                new GZIPOutputStream(new FileOutputStream(file), 64 * 1024), StandardCharsets.UTF_8))) {
+            writer.beginObject().name("log").beginObject();
+            writer.name("version").value("1.2");
+            writer.name("creator").beginObject().name("name").value("InsiderEx HarRecorder").name("version").value("1.0").endObject();
+            writer.name("browser").beginObject().name("name").value(browser).name("version").value("").endObject();
+            writer.name("pages").beginArray().endArray();
+            writer.name("entries").beginArray();
+            for (Entry entry : snapshot) {
+                JsonObject har = entry.toHar();
+                GSON.toJson(har, writer);
+                summary.add(host(entry), entry.encodedDataLength, har.getAsJsonObject("timings").get("blocked").getAsDouble(),
+                        entry.errorText != null, !entry.finished);
+            }
+            writer.endArray();
+            writer.endObject().endObject();
+        }
+        return summary;
+    }
+
+    private static String host(Entry entry) {
+        try {
+            String host = URI.create((String) entry.request.get("url")).getHost();
+            return host == null ? "(none)" : host;
+        } catch (IllegalArgumentException e) {
+            return "(invalid)";
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> map(Object value) {
+        return value instanceof Map ? (Map<String, Object>) value : new LinkedHashMap<>();
+    }
+
+    private static double number(Object value) {
+        return value instanceof Number ? ((Number) value).doubleValue() : -1;
+    }
+
+    /**
+     * One request as collected from the CDP events.
+     */
+    private static final class Entry {
+        Map<String, Object> request;
+        Map<String, Object> response;
+        String type;
+        String errorText;
+        double wallTime;
+        double timestamp;
+        double finishedTimestamp = -1;
+        double encodedDataLength;
+        boolean finished;
+
+        double blockedMillis() {
+            Map<String, Object> timing = response == null ? null : map(response.get("timing"));
+            if (timing == null || timing.isEmpty()) {
+                return 0;
+            }
+            for (String start : new String[]{"dnsStart", "connectStart", "sendStart"}) {
+                double value = number(timing.get(start));
+                if (value >= 0) {
+                    return value;
+                }
+            }
+            return 0;
+        }
+
+        JsonObject toHar() {
+            JsonObject har = new JsonObject();
+            har.addProperty("startedDateTime", Instant.ofEpochMilli((long) (wallTime * 1000)).toString());
+
+            JsonObject timings = timings();
+            double time = 0;
+            for (String phase : new String[]{"blocked", "dns", "connect", "send", "wait", "receive"}) {
+                time += Math.max(0, timings.get(phase).getAsDouble());
+            }
+            har.addProperty("time", time);
+
+            JsonObject req = new JsonObject();
+            req.addProperty("method", (String) request.get("method"));
+            req.addProperty("url", (String) request.get("url"));
+            req.addProperty("httpVersion", response == null ? "" : String.valueOf(response.getOrDefault("protocol", "")));
+            req.add("cookies", new JsonArray());
+            req.add("headers", headers(map(request.get("headers"))));
+            req.add("queryString", new JsonArray());
+            req.addProperty("headersSize", -1);
+            req.addProperty("bodySize", request.get("postData") == null ? 0 : String.valueOf(request.get("postData")).length());
+            har.add("request", req);
+
+            JsonObject res = new JsonObject();
+            res.addProperty("status", response == null ? 0 : (int) number(response.get("status")));
+            res.addProperty("statusText", response == null ? "" : String.valueOf(response.getOrDefault("statusText", "")));
+            res.addProperty("httpVersion", response == null ? "" : String.valueOf(response.getOrDefault("protocol", "")));
+            res.add("cookies", new JsonArray());
+            res.add("headers", headers(response == null ? new LinkedHashMap<>() : map(response.get("headers"))));
+            JsonObject content = new JsonObject();
+            content.addProperty("size", -1);
+            content.addProperty("mimeType", response == null ? "" : String.valueOf(response.getOrDefault("mimeType", "")));
+            res.add("content", content);
+            res.addProperty("redirectURL", "");
+            res.addProperty("headersSize", -1);
+            res.addProperty("bodySize", -1);
+            res.addProperty("_transferSize", (long) encodedDataLength);
+            har.add("response", res);
+
+            har.add("cache", new JsonObject());
+            har.add("timings", timings);
+            if (response != null && response.get("remoteIPAddress") != null) {
+                har.addProperty("serverIPAddress", (String) response.get("remoteIPAddress"));
+            }
+            har.addProperty("_resourceType", type);
+            if (errorText != null) {
+                har.addProperty("_error", errorText);
+            }
+            if (!finished) {
+                har.addProperty("_pending", true);
+            }
+            return har;
+        }
+
+        private JsonObject timings() {
+            JsonObject timings = new JsonObject();
+            Map<String, Object> timing = response == null ? new LinkedHashMap<>() : map(response.get("timing"));
+            double total = finishedTimestamp < 0 ? 0 : (finishedTimestamp - timestamp) * 1000;
+            if (timing.isEmpty()) {
+                // cache'ten gelen veya cevapsiz istek: zamanlama detayi yok
+                for (String phase : new String[]{"blocked", "dns", "connect", "send", "wait"}) {
+                    timings.addProperty(phase, phase.equals("blocked") || phase.equals("send") || phase.equals("wait") ? 0 : -1);
+                }
+                timings.addProperty("receive", Math.max(0, total));
+                timings.addProperty("ssl", -1);
+                return timings;
+            }
+            double dnsStart = number(timing.get("dnsStart"));
+            double connectStart = number(timing.get("connectStart"));
+            double sendStart = number(timing.get("sendStart"));
+            double sendEnd = number(timing.get("sendEnd"));
+            double headersEnd = number(timing.get("receiveHeadersEnd"));
+            // timing alanlari requestTime'a gore ms, requestTime saniye
+            double requestOffset = (number(timing.get("requestTime")) - timestamp) * 1000;
+
+            timings.addProperty("blocked", Math.max(0, requestOffset) + blockedMillis());
+            timings.addProperty("dns", span(dnsStart, number(timing.get("dnsEnd"))));
+            timings.addProperty("connect", span(connectStart, number(timing.get("connectEnd"))));
+            timings.addProperty("ssl", span(number(timing.get("sslStart")), number(timing.get("sslEnd"))));
+            timings.addProperty("send", Math.max(0, sendEnd - sendStart));
+            timings.addProperty("wait", Math.max(0, headersEnd - sendEnd));
+            timings.addProperty("receive", finishedTimestamp < 0 ? 0 : Math.max(0, total - requestOffset - headersEnd));
+            return timings;
+        }
+
+        private static double span(double start, double end) {
+            return start < 0 || end < 0 ? -1 : end - start;
+        }
+
+        private static JsonArray headers(Map<String, Object> headers) {
+            JsonArray array = new JsonArray();
+            for (Map.Entry<String, Object> header : headers.entrySet()) {
+                JsonObject json = new JsonObject();
+                json.addProperty("name", header.getKey());
+                json.addProperty("value", String.valueOf(header.getValue()));
+                array.add(json);
+            }
+            return array;
+        }
+    }
+}
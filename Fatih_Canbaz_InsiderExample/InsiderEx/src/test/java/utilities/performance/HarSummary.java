@@ -0,0 +1,87 @@
+package utilities.performance;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * HarSummary Class
+ * <p>
+ * Requests, transferred bytes, blocking time, failed and pending requests per domain of one HAR file
+ * written by {@link HarRecorder}.
+ * </p>
+ * <p>
+ * Author: Fatih Canbaz
+ * </p>
+ */
+public class HarSummary {
+
+    private final String harPath;
+    private final Map<String, Domain> domains = new TreeMap<>();
+
+    HarSummary(String harPath) {
+        this.harPath = harPath;
+    }
+
+    void add(String host, double bytes, double blockedMillis, boolean failed, boolean pending) {
+        Domain domain = domains.computeIfAbsent(host, h -> new Domain());
+        domain.requests++;
+        domain.bytes += (long) bytes;
+        domain.blockedMillis += blockedMillis;
+        domain.failed += failed ? 1 : 0;
+        domain.pending += pending ? 1 : 0;
+    }
+
+    public String getHarPath() {
+        return harPath;
+    }
+
+    public Map<String, Domain> getDomains() {
+        return domains;
+    }
+
+    /**
+     * Rows for MarkupHelper.createTable: domain, requests, KB, blocked ms, failed, pending.
+     */
+    public String[][] toTable() {
+        String[][] table = new String[domains.size() + 1][];
+        table[0] = new String[]{"Domain", "Requests", "Transfer (KB)", "Blocked (ms)", "Failed", "Pending"};
+        int row = 1;
+        for (Map.Entry<String, Domain> entry : domains.entrySet()) {
+            Domain domain = entry.getValue();
+            table[row++] = new String[]{entry.getKey(), String.valueOf(domain.requests), String.valueOf(domain.bytes / 1024),
+                    String.format("%.0f", domain.blockedMillis), String.valueOf(domain.failed), String.valueOf(domain.pending)};
+        }
+        return table;
+    }
+
+    /**
+     * Totals of one domain.
+     */
+    public static final class Domain {
+        private int requests;
+        private long bytes;
+        private double blockedMillis;
+        private int failed;
+        private int pending;
+
+        public int getRequests() {
+            return requests;
+        }
+
+        public long getBytes() {
+            return bytes;
+        }
+
+        public double getBlockedMillis() {
+            return blockedMillis;
+        }
+
+        public int getFailed() {
+            return failed;
+        }
+
+        public int getPending() {
+            return pending;
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package utilities.performance;
+
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.support.ui.WebDriverWait;
+
+import java.time.Duration;
+import java.util.function.Function;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * MeteredWait Class
+ * <p>
+ * WebDriverWait that records how long every until() took into {@link Metrics#WAIT_DURATION}, labelled with the
+ * condition and the outcome (ok, timeout, error). The condition label is the leading lower case words of the
+ * ExpectedConditions description ("element to be clickable", "visibility of", "title to be"...), so element and
+ * text values do not end up in the labels; lambdas and own conditions are labelled "custom".
+ * </p>
+ * <p>
+ * Author: Fatih Canbaz
+ * </p>
+ */
+public class MeteredWait extends WebDriverWait {
+
+    private static final Pattern CONDITION = Pattern.compile("^[a-z][a-z ]*[a-z]");
+
+    public MeteredWait(WebDriver driver, Duration timeout) {
+        super(driver, timeout);
+    }
+
+    @Override
+    public <V> V until(Function<? super WebDriver, V> isTrue) {
+        long start = System.nanoTime();
+        String outcome = "error";
+        try {
+            V value = super.until(isTrue);
+            outcome = "ok";
+            return value;
+        } catch (TimeoutException e) {
+            outcome = "timeout";
+            throw e;
+        } finally {
+            Metrics.WAIT_DURATION.observe((System.nanoTime() - start) / 1e9, condition(isTrue), outcome);
+        }
+    }
+
+    static String condition(Object condition) {
+        String description = String.valueOf(condition);
+        if (description.startsWith(condition.getClass().getName())) {
+            // toString'i olmayan lambda / class
+            return "custom";
+        }
+        Matcher matcher = CONDITION.matcher(description);
+        return matcher.find() ? matcher.group().trim() : "custom";
+    }
+}
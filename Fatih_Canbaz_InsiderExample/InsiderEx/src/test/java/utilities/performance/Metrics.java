@@ -0,0 +1,241 @@
+package utilities.performance;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.DoubleAdder;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Metrics Class
+ * <p>
+ * Counters and histograms of the framework, exported in OpenMetrics text format ({@link #toOpenMetrics()}) by
+ * MetricsListener at the end of the run and, if switched on, from a local /metrics endpoint while the run is
+ * going on. Recording is a lock free add on LongAdder/DoubleAdder, it can be called from every test thread.
+ * Label values should come from a small set (status, browser, helper name...), never from URLs or free text.
+ * </p>
+ * <p>
+ * Author: Fatih Canbaz
+ * </p>
+ */
+public final class Metrics {
+
+    // saniye cinsinden histogram sinirlari
+    public static final double[] FAST_BUCKETS = {0.005, 0.01, 0.025, 0.05, 0.1, 0.25, 0.5, 1, 2.5, 5, 10};
+    public static final double[] SLOW_BUCKETS = {0.1, 0.25, 0.5, 1, 2.5, 5, 10, 30, 60, 120, 300};
+
+    private static final Map<String, Metric> METRICS = new ConcurrentSkipListMap<>();
+
+    public static final Metric TESTS = counter("insider_tests", null, "Finished test methods", "status");
+    public static final Metric TEST_DURATION = histogram("insider_test_duration_seconds", "seconds",
+            "Duration of the test methods", SLOW_BUCKETS, "status");
+    public static final Metric STEP_DURATION = histogram("insider_step_duration_seconds", "seconds",
+            "Time from the previous step of the test to the end of a ReusableMethods step", FAST_BUCKETS, "helper");
+    public static final Metric WAIT_DURATION = histogram("insider_wait_duration_seconds", "seconds",
+            "Time spent in explicit waits", FAST_BUCKETS, "condition", "outcome");
+    public static final Metric DRIVER_LAUNCHES = counter("insider_driver_launches", null,
+            "Browser sessions started", "browser");
+    public static final Metric DRIVER_LAUNCH_DURATION = histogram("insider_driver_launch_duration_seconds", "seconds",
+            "Browser startup until the session is ready", SLOW_BUCKETS, "browser");
+    public static final Metric SCREENSHOTS = counter("insider_screenshots", null, "Screenshots written", "kind");
+    public static final Metric SCREENSHOT_BYTES = counter("insider_screenshot_bytes", "bytes",
+            "Bytes of the screenshot files written", "kind");
+    public static final Metric JS_ROUND_TRIPS = histogram("insider_js_round_trip_duration_seconds", "seconds",
+            "executeScript/executeAsyncScript calls through the driver", FAST_BUCKETS, "kind");
+    public static final Metric PAGE_LOAD = histogram("insider_page_load_seconds", "seconds",
+            "Load event of the opened pages (Navigation Timing)", SLOW_BUCKETS, "host");
+
+    private Metrics() {
+
+    }
+
+    /**
+     * Counter or histogram with a fixed set of label names; one series per combination of label values.
+     */
+    public static final class Metric {
+        private final String name;
+        private final String unit;
+        private final String help;
+        private final double[] buckets;
+        private final String[] labelNames;
+        private final Map<List<String>, Series> series = new ConcurrentHashMap<>();
+
+        private Metric(String name, String unit, String help, double[] buckets, String[] labelNames) {
+            this.name = name;
+            this.unit = unit;
+            this.help = help;
+            this.buckets = buckets;
+            this.labelNames = labelNames;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public boolean isHistogram() {
+            return buckets != null;
+        }
+
+        /**
+         * Adds 1 to a counter.
+         */
+        public void inc(String... labelValues) {
+            add(1, labelValues);
+        }
+
+        /**
+         * Adds amount (&gt;= 0) to a counter.
+         */
+        public void add(double amount, String... labelValues) {
+            series(labelValues).sum.add(amount);
+        }
+
+        /**
+         * Adds an observation to a histogram.
+         */
+        public void observe(double value, String... labelValues) {
+            Series target = series(labelValues);
+            target.sum.add(value);
+            target.count.increment();
+            for (int i = 0; i < buckets.length; i++) {
+                if (value <= buckets[i]) {
+                    target.buckets[i].increment();
+                    break;
+                }
+            }
+        }
+
+        /**
+         * Current value of a counter, or the number of observations of a histogram.
+         */
+        public double get(String... labelValues) {
+            Series target = series.get(Arrays.asList(labelValues));
+            if (target == null) {
+                return 0;
+            }
+            return isHistogram() ? target.count.sum() : target.sum.sum();
+        }
+
+        private Series series(String[] labelValues) {
+            if (labelValues.length != labelNames.length) {
+                throw new IllegalArgumentException(name + " icin label sayisi " + labelNames.length + " olmali: "
+                        + Arrays.toString(labelValues));
+            }
+            List<String> key = new ArrayList<>(labelValues.length);
+            for (String value : labelValues) {
+                key.add(value == null ? "" : value);
+            }
+            return series.computeIfAbsent(key, k -> new Series(buckets == null ? 0 : buckets.length));
+        }
+
+        void write(StringBuilder out) {
+            out.append("# TYPE ").append(name).append(isHistogram() ? " histogram\n" : " counter\n");
+            if (unit != null) {
+                out.append("# UNIT ").append(name).append(' ').append(unit).append('\n');
+            }
+            out.append("# HELP ").append(name).append(' ').append(escape(help)).append('\n');
+            List<Map.Entry<List<String>, Series>> entries = new ArrayList<>(series.entrySet());
+            entries.sort(Comparator.comparing(entry -> entry.getKey().toString()));
+            for (Map.Entry<List<String>, Series> entry : entries) {
+                String labels = labels(entry.getKey());
+                Series values = entry.getValue();
+                if (!isHistogram()) {
+                    sample(out, name + "_total", labels, null, values.sum.sum());
+                    continue;
+                }
+                // bucket sayilari kumulatif yazilir
+                long cumulative = 0;
+                for (int i = 0; i < buckets.length; i++) {
+                    cumulative += values.buckets[i].sum();
+                    sample(out, name + "_bucket", labels, Double.toString(buckets[i]), cumulative);
+                }
+                long count = values.count.sum();
+                sample(out, name + "_bucket", labels, "+Inf", Math.max(count, cumulative));
+                sample(out, name + "_sum", labels, null, values.sum.sum());
+                sample(out, name + "_count", labels, null, Math.max(count, cumulative));
+            }
+        }
+
+        private String labels(List<String> values) {
+            StringBuilder labels = new StringBuilder();
+            for (int i = 0; i < labelNames.length; i++) {
+                labels.append(labels.length() == 0 ? "" : ",").append(labelNames[i]).append("=\"")
+                        .append(escape(values.get(i))).append('"');
+            }
+            return labels.toString();
+        }
+    }
+
+    private static final class Series {
+        private final DoubleAdder sum = new DoubleAdder();
+        private final LongAdder count = new LongAdder();
+        private final LongAdder[] buckets;
+
+        private Series(int bucketCount) {
+            buckets = new LongAdder[bucketCount];
+            for (int i = 0; i < bucketCount; i++) {
+                buckets[i] = new LongAdder();
+            }
+        }
+    }
+
+    /**
+     * Registers a counter; name is the family name without _total (OpenMetrics), unit may be null.
+     */
+    public static Metric counter(String name, String unit, String help, String... labelNames) {
+        return register(new Metric(name, unit, help, null, labelNames));
+    }
+
+    /**
+     * Registers a histogram with the given upper bounds (ascending, +Inf is added).
+     */
+    public static Metric histogram(String name, String unit, String help, double[] buckets, String... labelNames) {
+        return register(new Metric(name, unit, help, buckets.clone(), labelNames));
+    }
+
+    /**
+     * All metrics in OpenMetrics text format, ending with # EOF.
+     */
+    public static String toOpenMetrics() {
+        StringBuilder out = new StringBuilder();
+        for (Metric metric : METRICS.values()) {
+            metric.write(out);
+        }
+        return out.append("# EOF\n").toString();
+    }
+
+    private static Metric register(Metric metric) {
+        Metric existing = METRICS.putIfAbsent(metric.name, metric);
+        if (existing != null) {
+            throw new IllegalArgumentException("Metric zaten tanimli: " + metric.name);
+        }
+        return metric;
+    }
+
+    private static void sample(StringBuilder out, String name, String labels, String le, double value) {
+        out.append(name);
+        if (!labels.isEmpty() || le != null) {
+            out.append('{').append(labels);
+            if (le != null) {
+                out.append(labels.isEmpty() ? "" : ",").append("le=\"").append(le).append('"');
+            }
+            out.append('}');
+        }
+        out.append(' ').append(format(value)).append('\n');
+    }
+
+    private static String format(double value) {
+        if (value == Math.rint(value) && !Double.isInfinite(value) && Math.abs(value) < 1e15) {
+            return String.valueOf((long) value);
+        }
+        return Double.toString(value);
+    }
+
+    private static String escape(String value) {
+        return value.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+    }
+}
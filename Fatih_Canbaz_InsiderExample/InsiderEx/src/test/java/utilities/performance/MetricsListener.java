@@ -0,0 +1,145 @@
+package utilities.performance;
+
+import com.sun.net.httpserver.HttpServer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testng.IExecutionListener;
+import org.testng.ITestListener;
+import org.testng.ITestResult;
+import utilities.ConfigReader;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+
+/**
+ * MetricsListener Class
+ * <p>
+ * Counts the test outcomes and durations into {@link Metrics}, times the steps of ReusableMethods
+ * ({@link #step(String)}) and writes all metrics in OpenMetrics text format to metricsFile at the end of the run
+ * (replaced atomically, a node exporter textfile collector or the pipeline can pick it up). With metricsServerPort
+ * the same text is served at http://127.0.0.1:&lt;port&gt;/metrics while the run is going on, for scraping.
+ * Registered for every run through META-INF/services/org.testng.ITestNGListener.
+ * </p>
+ * <p>
+ * Configuration (configuration.properties):
+ * - metricsEnabled: true/false (default true)
+ * - metricsFile: output file (default test-output/metrics.prom)
+ * - metricsServerPort: port of the /metrics endpoint, -1 = off (default -1)
+ * </p>
+ * <p>
+ * Author: Fatih Canbaz
+ * </p>
+ */
+public class MetricsListener implements IExecutionListener, ITestListener {
+
+    private static final Logger LOG = LoggerFactory.getLogger(MetricsListener.class);
+
+    public static final boolean ENABLED = Boolean.parseBoolean(ConfigReader.getProperty("metricsEnabled", "true"));
+    private static final String CONTENT_TYPE = "application/openmetrics-text; version=1.0.0; charset=utf-8";
+
+    // thread'deki testin son adiminin (ya da testin) bittigi an
+    private static final ThreadLocal<Long> LAST_STEP = new ThreadLocal<>();
+    private HttpServer server;
+
+    /**
+     * Records a step of the test running on this thread: the time since its previous step (or its start).
+     */
+    public static void step(String helper) {
+        Long last = LAST_STEP.get();
+        if (!ENABLED || last == null) {
+            return;
+        }
+        long now = System.nanoTime();
+        Metrics.STEP_DURATION.observe((now - last) / 1e9, helper);
+        LAST_STEP.set(now);
+    }
+
+    @Override
+    public void onExecutionStart() {
+        int port = Integer.parseInt(ConfigReader.getProperty("metricsServerPort", "-1"));
+        if (!ENABLED || port < 0) {
+            return;
+        }
+        try {
+            server = HttpServer.create(new InetSocketAddress("127.0.0.1", port), 16);
+        } catch (IOException e) {
+            LOG.warn("Metrics endpoint baslatilamadi, port: {} {}", port, e.getMessage());
+            return;
+        }
+        server.createContext("/metrics", exchange -> {
+            byte[] body = Metrics.toOpenMetrics().getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", CONTENT_TYPE);
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            } finally {
+                exchange.close();
+            }
+        });
+        server.start();
+        LOG.info("Metrics: http://127.0.0.1:{}/metrics", server.getAddress().getPort());
+    }
+
+    @Override
+    public void onExecutionFinish() {
+        if (server != null) {
+            server.stop(0);
+            server = null;
+        }
+        if (!ENABLED) {
+            return;
+        }
+        Path file = Paths.get(System.getProperty("user.dir"))
+                .resolve(ConfigReader.getProperty("metricsFile", "test-output/metrics.prom"));
+        try {
+            Files.createDirectories(file.toAbsolutePath().getParent());
+            // yarim dosya okunmasin diye once gecici dosyaya yazilir
+            Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+            Files.write(temp, Metrics.toOpenMetrics().getBytes(StandardCharsets.UTF_8));
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            LOG.info("Metrics: {}", file.toAbsolutePath());
+        } catch (IOException e) {
+            LOG.warn("Metrics yazilamadi: {}", e.getMessage());
+        }
+    }
+
+    @Override
+    public void onTestStart(ITestResult result) {
+        LAST_STEP.set(System.nanoTime());
+    }
+
+    @Override
+    public void onTestSuccess(ITestResult result) {
+        finished(result, "PASS");
+    }
+
+    @Override
+    public void onTestFailure(ITestResult result) {
+        finished(result, "FAIL");
+    }
+
+    @Override
+    public void onTestFailedButWithinSuccessPercentage(ITestResult result) {
+        finished(result, "FAIL");
+    }
+
+    @Override
+    public void onTestSkipped(ITestResult result) {
+        finished(result, "SKIP");
+    }
+
+    private static void finished(ITestResult result, String status) {
+        LAST_STEP.remove();
+        if (!ENABLED) {
+            return;
+        }
+        Metrics.TESTS.inc(status);
+        Metrics.TEST_DURATION.observe(Math.max(0, result.getEndMillis() - result.getStartMillis()) / 1000.0, status);
+    }
+}
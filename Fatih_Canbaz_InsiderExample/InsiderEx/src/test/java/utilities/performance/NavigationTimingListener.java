@@ -0,0 +1,32 @@
+package utilities.performance;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.support.events.WebDriverListener;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * NavigationTimingListener Class
+ * <p>
+ * Records the Navigation and Resource Timing data after every driver.get(). Added to the drivers of
+ * {@link utilities.DriverFactory} when navigationTimingEnabled is true (default).
+ * </p>
+ * <p>
+ * Author: Fatih Canbaz
+ * </p>
+ */
+public class NavigationTimingListener implements WebDriverListener {
+
+    private static final Logger LOG = LoggerFactory.getLogger(NavigationTimingListener.class);
+
+    @Override
+    public void afterGet(WebDriver driver, String url) {
+        try {
+            NavigationTimings.capture(driver);
+        } catch (WebDriverException e) {
+            // olcum alinamamasi testi bozmamali (or. about:blank, script engelli sayfa)
+            LOG.warn("Navigation timing alinamadi: {} {}", url, e.getMessage());
+        }
+    }
+}
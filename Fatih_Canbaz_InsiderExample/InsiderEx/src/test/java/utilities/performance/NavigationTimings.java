@@ -0,0 +1,119 @@
+package utilities.performance;
+
+import org.openqa.selenium.WebDriver;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * NavigationTimings Class
+ * <p>
+ * Keeps the page timings of the running test (per thread) and the declared {@link PageBudget}s. Timings are
+ * recorded automatically after every driver.get() by {@link NavigationTimingListener}; budget violations fail
+ * the test through {@link PerformanceBudgetListener} and the timings are written into the Extent report by
+ * TestBaseRapor. A budget declared from a test class (in a test or one of its configuration methods) only applies to
+ * the tests of that class and is dropped after the class; one declared outside of TestNG applies to every test.
+ * </p>
+ * <p>
+ * Author: Fatih Canbaz
+ * </p>
+ */
+public class NavigationTimings {
+
+    // budget'lar tanimlayan test class'ina gore; ayni isimle tekrar tanimlanan budget oncekinin yerine gecer
+    private static final Map<Class<?>, Map<String, PageBudget>> BUDGETS = new ConcurrentHashMap<>();
+    private static final Class<?> GLOBAL = NavigationTimings.class;
+
+    private static final ThreadLocal<Class<?>> CURRENT_CLASS = new ThreadLocal<>();
+
+    private static final ThreadLocal<List<PageTiming>> TIMINGS = ThreadLocal.withInitial(ArrayList::new);
+    private static final ThreadLocal<List<String>> VIOLATIONS = ThreadLocal.withInitial(ArrayList::new);
+
+    private NavigationTimings() {
+
+    }
+
+    /**
+     * Declares a budget for the test class that is running on this thread, or for every test outside of TestNG.
+     */
+    public static void declare(PageBudget budget) {
+        Class<?> owner = CURRENT_CLASS.get() == null ? GLOBAL : CURRENT_CLASS.get();
+        BUDGETS.computeIfAbsent(owner, key -> new ConcurrentHashMap<>()).put(budget.getName(), budget);
+    }
+
+    public static void clearBudgets() {
+        BUDGETS.clear();
+    }
+
+    /**
+     * Drops the budgets declared by testClass.
+     */
+    public static void clearBudgets(Class<?> testClass) {
+        BUDGETS.remove(testClass);
+    }
+
+    // PerformanceBudgetListener her test/configuration method'undan once set eder
+    static void setCurrentClass(Class<?> testClass) {
+        CURRENT_CLASS.set(testClass);
+    }
+
+    /**
+     * Captures the timings of the current page, for page changes that do not go through driver.get() (clicks).
+     */
+    public static PageTiming capture(WebDriver driver) {
+        PageTiming timing = PageTiming.capture(driver);
+        record(timing);
+        return timing;
+    }
+
+    public static void record(PageTiming timing) {
+        TIMINGS.get().add(timing);
+        if (timing.getLoad() > 0) {
+            Metrics.PAGE_LOAD.observe(timing.getLoad() / 1000, host(timing.getUrl()));
+        }
+        check(timing, BUDGETS.get(GLOBAL));
+        if (CURRENT_CLASS.get() != null) {
+            check(timing, BUDGETS.get(CURRENT_CLASS.get()));
+        }
+    }
+
+    private static void check(PageTiming timing, Map<String, PageBudget> budgets) {
+        if (budgets == null) {
+            return;
+        }
+        for (PageBudget budget : budgets.values()) {
+            if (budget.appliesTo(timing)) {
+                VIOLATIONS.get().addAll(budget.check(timing));
+            }
+        }
+    }
+
+    public static List<PageTiming> getTimings() {
+        return new ArrayList<>(TIMINGS.get());
+    }
+
+    public static List<String> getViolations() {
+        return new ArrayList<>(VIOLATIONS.get());
+    }
+
+    /**
+     * Starts a new test on this thread.
+     */
+    public static void reset() {
+        TIMINGS.get().clear();
+        VIOLATIONS.get().clear();
+    }
+
+    // metric label'i: sadece host, path ve query label sayisini buyutur
+    private static String host(String url) {
+        try {
+            String host = URI.create(url).getHost();
+            return host == null ? "unknown" : host;
+        } catch (RuntimeException e) {
+            return "unknown";
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package utilities.performance;
+
+import com.google.gson.Gson;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.Test;
+
+public class NavigationTimingsTest {
+
+    private static final PageTiming SLOW_CAREERS_PAGE = new Gson().fromJson(
+            "{\"url\": \"https://useinsider.com/careers/quality-assurance/\", \"ttfb\": 200, \"load\": 5000}",
+            PageTiming.class);
+
+    @AfterMethod(alwaysRun = true)
+    public void cleanUp() {
+        NavigationTimings.clearBudgets(DeclaringClass.class);
+        NavigationTimings.setCurrentClass(NavigationTimingsTest.class);
+        // PerformanceBudgetListener bu test'i kendi ihlalleri icin fail etmesin
+        NavigationTimings.reset();
+    }
+
+    @Test
+    public void budgetOnlyAppliesToDeclaringClass() {
+        NavigationTimings.setCurrentClass(DeclaringClass.class);
+        NavigationTimings.declare(PageBudget.forPage("careers QA", "/careers/quality-assurance/").load(3000));
+        NavigationTimings.reset();
+        NavigationTimings.record(SLOW_CAREERS_PAGE);
+        Assert.assertEquals(NavigationTimings.getViolations().size(), 1);
+
+        NavigationTimings.setCurrentClass(LaterClass.class);
+        NavigationTimings.reset();
+        NavigationTimings.record(SLOW_CAREERS_PAGE);
+        Assert.assertTrue(NavigationTimings.getViolations().isEmpty(), NavigationTimings.getViolations().toString());
+    }
+
+    @Test
+    public void budgetIsDroppedAfterDeclaringClass() {
+        NavigationTimings.setCurrentClass(DeclaringClass.class);
+        NavigationTimings.declare(PageBudget.forPage("careers QA", "/careers/quality-assurance/").load(3000));
+        NavigationTimings.clearBudgets(DeclaringClass.class);
+        NavigationTimings.reset();
+        NavigationTimings.record(SLOW_CAREERS_PAGE);
+        Assert.assertTrue(NavigationTimings.getViolations().isEmpty(), NavigationTimings.getViolations().toString());
+    }
+
+    private static class DeclaringClass {
+    }
+
+    private static class LaterClass {
+    }
+}
@@ -0,0 +1,92 @@
+package utilities.performance;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * PageBudget Class
+ * <p>
+ * Performance budget of one page, e.g. "careers QA page loads under 3 s":
+ * <pre>
+ * NavigationTimings.declare(PageBudget.forPage("careers QA", "/careers/quality-assurance/").load(3000));
+ * </pre>
+ * The budget applies to every page load whose URL contains the given part, in the tests of the class that declared
+ * it (see {@link NavigationTimings}). Limits that are not set are not checked.
+ * </p>
+ * <p>
+ * Author: Fatih Canbaz
+ * </p>
+ */
+public class PageBudget {
+
+    private final String name;
+    private final String urlPart;
+    private double maxTtfb = -1;
+    private double maxDomContentLoaded = -1;
+    private double maxLoad = -1;
+    private long maxTransferSize = -1;
+
+    private PageBudget(String name, String urlPart) {
+        this.name = name;
+        this.urlPart = urlPart;
+    }
+
+    /**
+     * @param name    raporda gorunen sayfa adi
+     * @param urlPart sayfa URL'inin icerdigi kisim
+     */
+    public static PageBudget forPage(String name, String urlPart) {
+        return new PageBudget(name, urlPart);
+    }
+
+    public PageBudget ttfb(double maxMillis) {
+        this.maxTtfb = maxMillis;
+        return this;
+    }
+
+    public PageBudget domContentLoaded(double maxMillis) {
+        this.maxDomContentLoaded = maxMillis;
+        return this;
+    }
+
+    public PageBudget load(double maxMillis) {
+        this.maxLoad = maxMillis;
+        return this;
+    }
+
+    /**
+     * Limit for document plus subresource bytes.
+     */
+    public PageBudget transferSize(long maxBytes) {
+        this.maxTransferSize = maxBytes;
+        return this;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public boolean appliesTo(PageTiming timing) {
+        return timing.getUrl() != null && timing.getUrl().contains(urlPart);
+    }
+
+    /**
+     * Budget violations of the page load, empty if it is within the budget.
+     */
+    public List<String> check(PageTiming timing) {
+        List<String> violations = new ArrayList<>();
+        exceeds(violations, "TTFB", timing.getTtfb(), maxTtfb, "ms");
+        exceeds(violations, "DOMContentLoaded", timing.getDomContentLoaded(), maxDomContentLoaded, "ms");
+        exceeds(violations, "load", timing.getLoad(), maxLoad, "ms");
+        exceeds(violations, "transfer size", timing.getTransferSize() + timing.getResourceTransferSize(),
+                maxTransferSize, "bytes");
+        return violations;
+    }
+
+    private void exceeds(List<String> violations, String metric, double value, double limit, String unit) {
+        if (limit >= 0 && value > limit) {
+            violations.add(String.format("%s: %s %.0f %s > budget %.0f %s (%s)",
+                    name, metric, value, unit, limit, unit, urlPart));
+        }
+    }
+}
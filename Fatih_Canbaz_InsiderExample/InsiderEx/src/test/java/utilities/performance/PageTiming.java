@@ -0,0 +1,110 @@
+package utilities.performance;
+
+import com.google.gson.Gson;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+
+/**
+ * PageTiming Class
+ * <p>
+ * Navigation and Resource Timing data of one page load, read from the browser with a single script call.
+ * All times are milliseconds from the start of the navigation, sizes are bytes. The script waits (max. 5 s)
+ * until the load event has finished, so the values are complete right after driver.get().
+ * </p>
+ * <p>
+ * Author: Fatih Canbaz
+ * </p>
+ */
+public class PageTiming {
+
+    private static final Gson GSON = new Gson();
+
+    // performance.getEntriesByType('navigation') yoksa (eski Safari) performance.timing kullanilir
+    private static final String SCRIPT = ""
+            + "var done = arguments[arguments.length - 1];"
+            + "var started = Date.now();"
+            + "function collect() {"
+            + "  var n = performance.getEntriesByType ? performance.getEntriesByType('navigation')[0] : null;"
+            + "  var resources = performance.getEntriesByType ? performance.getEntriesByType('resource') : [];"
+            + "  var resourceTransferSize = 0;"
+            + "  for (var i = 0; i < resources.length; i++) { resourceTransferSize += resources[i].transferSize || 0; }"
+            + "  var t = {url: location.href, resourceCount: resources.length, resourceTransferSize: resourceTransferSize};"
+            + "  if (n) {"
+            + "    t.ttfb = n.responseStart - n.startTime;"
+            + "    t.domContentLoaded = n.domContentLoadedEventEnd - n.startTime;"
+            + "    t.load = n.loadEventEnd - n.startTime;"
+            + "    t.transferSize = n.transferSize || 0;"
+            + "  } else {"
+            + "    var p = performance.timing;"
+            + "    t.ttfb = p.responseStart - p.navigationStart;"
+            + "    t.domContentLoaded = p.domContentLoadedEventEnd - p.navigationStart;"
+            + "    t.load = p.loadEventEnd - p.navigationStart;"
+            + "    t.transferSize = 0;"
+            + "  }"
+            + "  return JSON.stringify(t);"
+            + "}"
+            + "function loaded() {"
+            + "  var n = performance.getEntriesByType ? performance.getEntriesByType('navigation')[0] : null;"
+            + "  return n ? n.loadEventEnd > 0 : performance.timing.loadEventEnd > 0;"
+            + "}"
+            + "(function poll() {"
+            + "  if (loaded() || Date.now() - started > 5000) { done(collect()); } else { setTimeout(poll, 50); }"
+            + "})();";
+
+    private String url;
+    private double ttfb;
+    private double domContentLoaded;
+    private double load;
+    private long transferSize;
+    private int resourceCount;
+    private long resourceTransferSize;
+
+    /**
+     * Reads the timings of the page that is currently open.
+     */
+    public static PageTiming capture(WebDriver driver) {
+        String json = (String) ((JavascriptExecutor) driver).executeAsyncScript(SCRIPT);
+        return GSON.fromJson(json, PageTiming.class);
+    }
+
+    public String getUrl() {
+        return url;
+    }
+
+    public double getTtfb() {
+        return ttfb;
+    }
+
+    public double getDomContentLoaded() {
+        return domContentLoaded;
+    }
+
+    public double getLoad() {
+        return load;
+    }
+
+    /**
+     * Bytes of the document itself (headers and body, 0 when served from cache).
+     */
+    public long getTransferSize() {
+        return transferSize;
+    }
+
+    public int getResourceCount() {
+        return resourceCount;
+    }
+
+    /**
+     * Bytes of all subresources (scripts, styles, images...). Cross origin resources without
+     * Timing-Allow-Origin report 0.
+     */
+    public long getResourceTransferSize() {
+        return resourceTransferSize;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s: TTFB %.0f ms, DOMContentLoaded %.0f ms, load %.0f ms, %d bytes + %d resources (%d bytes)",
+                url, ttfb, domContentLoaded, load, transferSize, resourceCount, resourceTransferSize);
+    }
+}
@@ -0,0 +1,83 @@
+package utilities.performance;
+
+import java.net.URI;
+
+/**
+ * PageVitals Class
+ * <p>
+ * Web Vitals of one page load as reported by the script of {@link WebVitalsCollector}: LCP (ms), CLS (largest
+ * session window), INP-like interaction latency (ms, worst interaction, one skipped per 50 interactions) and long
+ * tasks over 50 ms (count, total time and the blocking part above 50 ms).
+ * </p>
+ * <p>
+ * Author: Fatih Canbaz
+ * </p>
+ */
+public class PageVitals {
+
+    // ayni sayfa yuklemesinin tekrar eden raporlarini ayirt eder (pagehide, visibilitychange, flush)
+    private String id;
+    private String url;
+    private double lcp;
+    private double cls;
+    private double inp;
+    private int interactionCount;
+    private int longTaskCount;
+    private double longTaskTime;
+    private double blockingTime;
+
+    public String getId() {
+        return id;
+    }
+
+    public String getUrl() {
+        return url;
+    }
+
+    /**
+     * Page key used for aggregation: host and path without query and fragment,
+     * e.g. useinsider.com/careers/quality-assurance/
+     */
+    public String getPage() {
+        try {
+            URI uri = URI.create(url);
+            return (uri.getHost() == null ? "" : uri.getHost()) + (uri.getPath() == null ? "" : uri.getPath());
+        } catch (IllegalArgumentException e) {
+            return url;
+        }
+    }
+
+    public double getLcp() {
+        return lcp;
+    }
+
+    public double getCls() {
+        return cls;
+    }
+
+    public double getInp() {
+        return inp;
+    }
+
+    public int getInteractionCount() {
+        return interactionCount;
+    }
+
+    public int getLongTaskCount() {
+        return longTaskCount;
+    }
+
+    public double getLongTaskTime() {
+        return longTaskTime;
+    }
+
+    public double getBlockingTime() {
+        return blockingTime;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s: LCP %.0f ms, CLS %.3f, INP %.0f ms (%d interactions), %d long tasks (%.0f ms blocking)",
+                getPage(), lcp, cls, inp, interactionCount, longTaskCount, blockingTime);
+    }
+}
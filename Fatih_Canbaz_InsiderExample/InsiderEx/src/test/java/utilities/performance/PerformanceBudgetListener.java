@@ -0,0 +1,50 @@
+package utilities.performance;
+
+import org.testng.IClassListener;
+import org.testng.IInvokedMethod;
+import org.testng.IInvokedMethodListener;
+import org.testng.ITestClass;
+import org.testng.ITestResult;
+
+import java.util.List;
+
+/**
+ * PerformanceBudgetListener Class
+ * <p>
+ * Fails a test that passed functionally but exceeded a {@link PageBudget} of one of its page loads. Runs before
+ * the @AfterMethod methods, so TestBaseRapor reports the test as failed (with screenshot). Budgets a test class
+ * declares are dropped after its last test, so they do not apply to the classes that run later. Registered for
+ * every run through META-INF/services/org.testng.ITestNGListener.
+ * </p>
+ * <p>
+ * Author: Fatih Canbaz
+ * </p>
+ */
+public class PerformanceBudgetListener implements IInvokedMethodListener, IClassListener {
+
+    @Override
+    public void beforeInvocation(IInvokedMethod method, ITestResult testResult) {
+        // @BeforeClass'ta tanimlanan budget da o class'a ait olur
+        NavigationTimings.setCurrentClass(method.getTestMethod().getRealClass());
+        if (method.isTestMethod()) {
+            NavigationTimings.reset();
+        }
+    }
+
+    @Override
+    public void afterInvocation(IInvokedMethod method, ITestResult testResult) {
+        if (!method.isTestMethod() || testResult.getStatus() != ITestResult.SUCCESS) {
+            return;
+        }
+        List<String> violations = NavigationTimings.getViolations();
+        if (!violations.isEmpty()) {
+            testResult.setStatus(ITestResult.FAILURE);
+            testResult.setThrowable(new AssertionError("Performance budget asildi:\n" + String.join("\n", violations)));
+        }
+    }
+
+    @Override
+    public void onAfterClass(ITestClass testClass) {
+        NavigationTimings.clearBudgets(testClass.getRealClass());
+    }
+}
@@ -0,0 +1,48 @@
+package utilities.performance;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.support.events.WebDriverListener;
+
+/**
+ * ScriptTimingListener Class
+ * <p>
+ * Counts and times the JavaScript round trips (executeScript / executeAsyncScript) that go through the driver
+ * into {@link Metrics#JS_ROUND_TRIPS}. Scripts that fail are not timed. Added to the drivers of
+ * {@link utilities.DriverFactory} when metricsEnabled is true (default).
+ * </p>
+ * <p>
+ * Author: Fatih Canbaz
+ * </p>
+ */
+public class ScriptTimingListener implements WebDriverListener {
+
+    private final ThreadLocal<Long> start = new ThreadLocal<>();
+
+    @Override
+    public void beforeExecuteScript(WebDriver driver, String script, Object[] args) {
+        start.set(System.nanoTime());
+    }
+
+    @Override
+    public void afterExecuteScript(WebDriver driver, String script, Object[] args, Object result) {
+        record("sync");
+    }
+
+    @Override
+    public void beforeExecuteAsyncScript(WebDriver driver, String script, Object[] args) {
+        start.set(System.nanoTime());
+    }
+
+    @Override
+    public void afterExecuteAsyncScript(WebDriver driver, String script, Object[] args, Object result) {
+        record("async");
+    }
+
+    private void record(String kind) {
+        Long started = start.get();
+        if (started != null) {
+            Metrics.JS_ROUND_TRIPS.observe((System.nanoTime() - started) / 1e9, kind);
+            start.remove();
+        }
+    }
+}
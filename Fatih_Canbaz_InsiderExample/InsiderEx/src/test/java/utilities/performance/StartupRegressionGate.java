@@ -0,0 +1,118 @@
+package utilities.performance;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonObject;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testng.IExecutionListener;
+import utilities.ConfigReader;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * StartupRegressionGate Class
+ * <p>
+ * TestNG listener that compares the median browser startup of the finished run with the median of the previous
+ * runs (kept in startupHistoryFile, one JSON line per run). A median slower by more than
+ * startupRegressionThresholdPercent is reported as a regression; with startupGateFailOnRegression the run fails,
+ * so the Maven build fails as well. Every run is added to the history (regressed ones are marked), so after a
+ * lasting slowdown the rolling baseline of the last startupBaselineRuns runs moves to the new level and the gate
+ * passes again without anyone cleaning the file. Runs without a browser start are ignored.
+ * </p>
+ * <p>
+ * Registered for every run through META-INF/services/org.testng.ITestNGListener.
+ * </p>
+ * <p>
+ * Configuration (configuration.properties):
+ * - startupGateEnabled: true/false (default true)
+ * - startupGateFailOnRegression: true fails the run, false only warns (default false)
+ * - startupRegressionThresholdPercent: allowed slowdown of the median in percent (default 25)
+ * - startupBaselineRuns: number of previous runs that form the baseline (default 5)
+ * - startupHistoryFile: history file (default test-output/startup-history.jsonl)
+ * </p>
+ * <p>
+ * Author: Fatih Canbaz
+ * </p>
+ */
+public class StartupRegressionGate implements IExecutionListener {
+
+    private static final Logger LOG = LoggerFactory.getLogger(StartupRegressionGate.class);
+
+    private static final Gson GSON = new Gson();
+
+    @Override
+    public void onExecutionFinish() {
+        if (StartupTelemetry.getSessions().isEmpty()
+                || !Boolean.parseBoolean(ConfigReader.getProperty("startupGateEnabled", "true"))) {
+            return;
+        }
+        File history = new File(ConfigReader.getProperty("startupHistoryFile", "test-output/startup-history.jsonl"));
+        double threshold = Double.parseDouble(ConfigReader.getProperty("startupRegressionThresholdPercent", "25"));
+        int baselineRuns = Integer.parseInt(ConfigReader.getProperty("startupBaselineRuns", "5"));
+
+        double median = StartupTelemetry.getMedianStartupMillis();
+        double baseline = Stats.median(lastMedians(history, baselineRuns));
+        String message = String.format("Browser startup median: %.0f ms, baseline: %.0f ms, esik: %%%.0f (%s)",
+                median, baseline, threshold, StartupTelemetry.getTimelinePath());
+        boolean regressed = isRegression(median, baseline, threshold);
+        // yavas run'lar da yazilir, kalici bir yavaslamada baseline yeni seviyeye kayar
+        append(history, median, regressed);
+
+        if (!regressed) {
+            LOG.info(message);
+        } else if (Boolean.parseBoolean(ConfigReader.getProperty("startupGateFailOnRegression", "false"))) {
+            throw new AssertionError("Browser startup yavasladi. " + message);
+        } else {
+            LOG.warn("Browser startup yavasladi. {}", message);
+        }
+    }
+
+    /**
+     * True if median is slower than baseline by more than thresholdPercent. Without a baseline there is nothing
+     * to compare, the first run only creates it.
+     */
+    static boolean isRegression(double median, double baseline, double thresholdPercent) {
+        return baseline > 0 && median > baseline * (1 + thresholdPercent / 100);
+    }
+
+    static List<Double> lastMedians(File history, int count) {
+        List<Double> medians = new ArrayList<>();
+        if (!history.exists()) {
+            return medians;
+        }
+        try {
+            List<String> lines = Files.readAllLines(history.toPath(), StandardCharsets.UTF_8);
+            for (int i = Math.max(0, lines.size() - count); i < lines.size(); i++) {
+                if (!lines.get(i).isBlank()) {
+                    medians.add(GSON.fromJson(lines.get(i), JsonObject.class).get("medianStartupMillis").getAsDouble());
+                }
+            }
+        } catch (IOException e) {
+            throw new RuntimeException("Startup history okunamadi: " + history, e);
+        }
+        return medians;
+    }
+
+    static void append(File history, double median, boolean regressed) {
+        JsonObject run = new JsonObject();
+        run.addProperty("run", StartupTelemetry.getRunId());
+        run.addProperty("sessions", StartupTelemetry.getSessions().size());
+        run.addProperty("medianStartupMillis", median);
+        run.addProperty("regressed", regressed);
+        if (history.getAbsoluteFile().getParentFile() != null) {
+            history.getAbsoluteFile().getParentFile().mkdirs();
+        }
+        try {
+            Files.write(history.toPath(), (GSON.toJson(run) + System.lineSeparator()).getBytes(StandardCharsets.UTF_8),
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        } catch (IOException e) {
+            LOG.warn("Startup history yazilamadi: {}", e.getMessage());
+        }
+    }
+}
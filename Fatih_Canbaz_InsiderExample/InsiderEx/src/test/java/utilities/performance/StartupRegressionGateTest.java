@@ -0,0 +1,44 @@
+package utilities.performance;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+
+public class StartupRegressionGateTest {
+
+    @Test
+    public void baselineMovesToLastingSlowdown() throws IOException {
+        File history = Files.createTempFile("startup-history", ".jsonl").toFile();
+        try {
+            for (int i = 0; i < 5; i++) {
+                StartupRegressionGate.append(history, 1000, false);
+            }
+            // kalici yavaslama: ilk run'lar regresyon, yavas run'lar da history'ye yazilir
+            int regressed = 0;
+            for (int run = 0; run < 5; run++) {
+                double baseline = Stats.median(StartupRegressionGate.lastMedians(history, 5));
+                boolean regression = StartupRegressionGate.isRegression(2000, baseline, 25);
+                if (regression) {
+                    regressed++;
+                }
+                StartupRegressionGate.append(history, 2000, regression);
+            }
+            Assert.assertEquals(regressed, 3, "baseline yeni seviyeye gecmedi");
+            double baseline = Stats.median(StartupRegressionGate.lastMedians(history, 5));
+            Assert.assertFalse(StartupRegressionGate.isRegression(2000, baseline, 25));
+            Assert.assertTrue(new String(Files.readAllBytes(history.toPath())).contains("\"regressed\":true"));
+        } finally {
+            history.delete();
+        }
+    }
+
+    @Test
+    public void firstRunOnlyCreatesBaseline() {
+        Assert.assertFalse(StartupRegressionGate.isRegression(5000, 0, 25));
+        Assert.assertTrue(StartupRegressionGate.isRegression(1300, 1000, 25));
+        Assert.assertFalse(StartupRegressionGate.isRegression(1200, 1000, 25));
+    }
+}
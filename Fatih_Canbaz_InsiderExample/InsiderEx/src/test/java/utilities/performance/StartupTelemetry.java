@@ -0,0 +1,200 @@
+package utilities.performance;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import utilities.ConfigReader;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * StartupTelemetry Class
+ * <p>
+ * Records how long every browser start takes, split into the phases of {@link utilities.DriverFactory}:
+ * binaryResolution (WebDriverManager), processLaunch (driver service), gridStart (local Grid, see
+ * {@link utilities.LocalGrid}), sessionHandshake (new session), maximize and implicitWait. The timeline of the run
+ * is written once, when the JVM shuts down, to test-output/StartupTimelineyyyyMMddhhmmss.json; browser starts
+ * themselves do no file I/O.
+ * </p>
+ * <p>
+ * Configuration (configuration.properties):
+ * - startupTelemetryEnabled: true/false, writing of the timeline file (default true)
+ * </p>
+ * <p>
+ * Author: Fatih Canbaz
+ * </p>
+ */
+public class StartupTelemetry {
+
+    private static final Logger LOG = LoggerFactory.getLogger(StartupTelemetry.class);
+
+    public static final List<String> PHASES = Arrays.asList(
+            "binaryResolution", "processLaunch", "gridStart", "sessionHandshake", "maximize", "implicitWait");
+
+    private static final String RUN_ID = new SimpleDateFormat("yyyyMMddhhmmss").format(new Date());
+    private static final boolean ENABLED = Boolean.parseBoolean(ConfigReader.getProperty("startupTelemetryEnabled", "true"));
+    private static final List<Session> SESSIONS = new ArrayList<>();
+
+    private StartupTelemetry() {
+
+    }
+
+    /**
+     * Starts measuring one browser start.
+     *
+     * @param browser chrome, firefox, edge, safari
+     * @param source  driver'i baslatan class (Driver, DriverCross, TestBase...)
+     */
+    public static Session start(String browser, String source) {
+        return new Session(browser, source);
+    }
+
+    public static String getRunId() {
+        return RUN_ID;
+    }
+
+    public static String getTimelinePath() {
+        return System.getProperty("user.dir") + "/test-output/StartupTimeline" + RUN_ID + ".json";
+    }
+
+    public static synchronized List<Session> getSessions() {
+        return new ArrayList<>(SESSIONS);
+    }
+
+    /**
+     * Median of the total startup time of the sessions of this run, 0 if no browser was started.
+     */
+    public static synchronized double getMedianStartupMillis() {
+        List<Double> totals = new ArrayList<>();
+        for (Session session : SESSIONS) {
+            totals.add(session.getTotalMillis());
+        }
+        return Stats.median(totals);
+    }
+
+    private static synchronized void finished(Session session) {
+        SESSIONS.add(session);
+        if (ENABLED && SESSIONS.size() == 1) {
+            // TestNG run'i da benchmark'lar da JVM kapanirken bir kere yazar
+            Runtime.getRuntime().addShutdownHook(new Thread(StartupTelemetry::writeTimeline, "startup-timeline"));
+        }
+    }
+
+    public static synchronized JsonObject toJson() {
+        JsonObject json = new JsonObject();
+        json.addProperty("run", RUN_ID);
+
+        JsonArray sessions = new JsonArray();
+        for (Session session : SESSIONS) {
+            sessions.add(session.toJson());
+        }
+        json.add("sessions", sessions);
+
+        JsonObject summary = new JsonObject();
+        summary.addProperty("sessions", SESSIONS.size());
+        summary.addProperty("medianStartupMillis", getMedianStartupMillis());
+        JsonObject phaseMedians = new JsonObject();
+        for (String phase : PHASES) {
+            List<Double> values = new ArrayList<>();
+            for (Session session : SESSIONS) {
+                Double value = session.phases.get(phase);
+                if (value != null) {
+                    values.add(value);
+                }
+            }
+            phaseMedians.addProperty(phase, Stats.median(values));
+        }
+        summary.add("medianPhaseMillis", phaseMedians);
+        json.add("summary", summary);
+        return json;
+    }
+
+    private static void writeTimeline() {
+        File file = new File(getTimelinePath());
+        file.getParentFile().mkdirs();
+        Gson gson = new GsonBuilder().setPrettyPrinting().create();
+        try (Writer writer = new FileWriter(file)) {
+            gson.toJson(toJson(), writer);
+        } catch (IOException e) {
+            // telemetri yazilamasa da test devam etmeli
+            LOG.warn("Startup timeline yazilamadi: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Timings of one browser start.
+     */
+    public static final class Session {
+        private final String browser;
+        private final String source;
+        private final String thread = Thread.currentThread().getName();
+        private final long startedAt = System.currentTimeMillis();
+        private final long startNanos = System.nanoTime();
+        private final Map<String, Double> phases = new LinkedHashMap<>();
+        private double totalMillis;
+
+        private Session(String browser, String source) {
+            this.browser = browser;
+            this.source = source;
+        }
+
+        /**
+         * Records a phase that started at phaseStartNanos (System.nanoTime()) and ended now.
+         */
+        public void record(String phase, long phaseStartNanos) {
+            phases.put(phase, (System.nanoTime() - phaseStartNanos) / 1_000_000.0);
+        }
+
+        /**
+         * Closes the measurement and adds it to the run's timeline.
+         */
+        public void finish() {
+            totalMillis = (System.nanoTime() - startNanos) / 1_000_000.0;
+            StartupTelemetry.finished(this);
+        }
+
+        public String getBrowser() {
+            return browser;
+        }
+
+        public String getSource() {
+            return source;
+        }
+
+        public Map<String, Double> getPhases() {
+            return phases;
+        }
+
+        public double getTotalMillis() {
+            return totalMillis;
+        }
+
+        JsonObject toJson() {
+            JsonObject json = new JsonObject();
+            json.addProperty("browser", browser);
+            json.addProperty("source", source);
+            json.addProperty("thread", thread);
+            json.addProperty("startedAt", startedAt);
+            JsonObject phaseJson = new JsonObject();
+            for (Map.Entry<String, Double> phase : phases.entrySet()) {
+                phaseJson.addProperty(phase.getKey(), phase.getValue());
+            }
+            json.add("phases", phaseJson);
+            json.addProperty("totalMillis", totalMillis);
+            return json;
+        }
+    }
+}
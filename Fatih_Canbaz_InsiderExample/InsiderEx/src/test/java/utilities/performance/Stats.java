@@ -0,0 +1,45 @@
+package utilities.performance;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Stats Class
+ * <p>
+ * Median and percentile of measured durations, shared by the startup telemetry, the web vitals report and the
+ * run history.
+ * </p>
+ * <p>
+ * Author: Fatih Canbaz
+ * </p>
+ */
+public final class Stats {
+
+    private Stats() {
+
+    }
+
+    /**
+     * Median of the values (mean of the two middle values for an even count), 0 for an empty list.
+     */
+    public static double median(List<Double> values) {
+        if (values.isEmpty()) {
+            return 0;
+        }
+        List<Double> sorted = new ArrayList<>(values);
+        sorted.sort(null);
+        int middle = sorted.size() / 2;
+        return sorted.size() % 2 == 1 ? sorted.get(middle) : (sorted.get(middle - 1) + sorted.get(middle)) / 2;
+    }
+
+    /**
+     * Nearest-rank percentile of sorted values, 0 for an empty list.
+     */
+    public static double percentile(List<Double> sorted, double percentile) {
+        if (sorted.isEmpty()) {
+            return 0;
+        }
+        int rank = (int) Math.ceil(percentile / 100 * sorted.size());
+        return sorted.get(Math.max(0, Math.min(sorted.size() - 1, rank - 1)));
+    }
+}
@@ -0,0 +1,157 @@
+package utilities.performance;
+
+import com.google.gson.Gson;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.devtools.Command;
+import org.openqa.selenium.devtools.DevTools;
+import org.openqa.selenium.devtools.Event;
+import org.openqa.selenium.devtools.HasDevTools;
+import org.openqa.selenium.json.Json;
+import org.openqa.selenium.support.events.WebDriverListener;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * WebVitalsCollector Class
+ * <p>
+ * Passive Web Vitals collection for Chromium sessions. Through CDP a script is added to every new document that
+ * observes largest-contentful-paint, layout-shift, event (interactions) and longtask entries, and a binding that
+ * lets the page send its values back. The page reports when it is hidden or left (pagehide), so every page of a
+ * flow (careers, QA jobs, location filter...) is collected without extra calls from the tests. The page that is
+ * open when the driver is closed is flushed by the listener methods of this class.
+ * </p>
+ * <p>
+ * Only the raw CDP commands Runtime.addBinding and Page.addScriptToEvaluateOnNewDocument are used, so the
+ * collector does not depend on the CDP version of the browser. Other browsers are skipped.
+ * Aggregation over runs: {@link WebVitalsReport}.
+ * </p>
+ * <p>
+ * Author: Fatih Canbaz
+ * </p>
+ */
+public class WebVitalsCollector implements WebDriverListener {
+
+    private static final Logger LOG = LoggerFactory.getLogger(WebVitalsCollector.class);
+
+    private static final String BINDING = "__webVitalsReport";
+    private static final Gson GSON = new Gson();
+
+    // sayfa yuklemesi id -> son rapor, bu run'da toplanan tum sayfalar
+    private static final Map<String, PageVitals> SAMPLES = Collections.synchronizedMap(new LinkedHashMap<>());
+
+    private static final String SCRIPT = ""
+            + "(function () {"
+            + "  if (window !== window.top || window.__webVitalsFlush || !window.PerformanceObserver) { return; }"
+            + "  var v = {id: Date.now().toString(36) + Math.random().toString(36).slice(2), url: location.href,"
+            + "           lcp: 0, cls: 0, longTaskCount: 0, longTaskTime: 0, blockingTime: 0};"
+            + "  var interactions = {}, session = 0, sessionStart = 0, sessionLast = 0;"
+            + "  function observe(type, callback, extra) {"
+            + "    try {"
+            + "      var options = {type: type, buffered: true};"
+            + "      for (var key in extra) { options[key] = extra[key]; }"
+            + "      new PerformanceObserver(function (list) { list.getEntries().forEach(callback); }).observe(options);"
+            + "    } catch (e) { }"
+            + "  }"
+            + "  observe('largest-contentful-paint', function (e) { v.lcp = e.startTime; });"
+            + "  observe('layout-shift', function (e) {"
+            + "    if (e.hadRecentInput) { return; }"
+            + "    if (session && e.startTime - sessionLast < 1000 && e.startTime - sessionStart < 5000) {"
+            + "      session += e.value;"
+            + "    } else { session = e.value; sessionStart = e.startTime; }"
+            + "    sessionLast = e.startTime;"
+            + "    if (session > v.cls) { v.cls = session; }"
+            + "  });"
+            + "  function interaction(e) {"
+            + "    if (e.interactionId && (!interactions[e.interactionId] || e.duration > interactions[e.interactionId])) {"
+            + "      interactions[e.interactionId] = e.duration;"
+            + "    }"
+            + "  }"
+            + "  observe('event', interaction, {durationThreshold: 16});"
+            + "  observe('first-input', interaction);"
+            + "  observe('longtask', function (e) {"
+            + "    v.longTaskCount++; v.longTaskTime += e.duration; v.blockingTime += Math.max(0, e.duration - 50);"
+            + "  });"
+            + "  window.__webVitalsFlush = function () {"
+            + "    var durations = [];"
+            + "    for (var key in interactions) { durations.push(interactions[key]); }"
+            + "    durations.sort(function (a, b) { return b - a; });"
+            + "    v.interactionCount = durations.length;"
+            + "    v.inp = durations.length ? durations[Math.min(durations.length - 1, Math.floor(durations.length / 50))] : 0;"
+            + "    try { window." + BINDING + "(JSON.stringify(v)); } catch (e) { }"
+            + "  };"
+            + "  addEventListener('visibilitychange', function () {"
+            + "    if (document.visibilityState === 'hidden') { window.__webVitalsFlush(); }"
+            + "  }, true);"
+            + "  addEventListener('pagehide', window.__webVitalsFlush, true);"
+            + "})();";
+
+    /**
+     * Installs the collector in the session. Returns false if the browser has no CDP (Firefox, Safari) or the
+     * connection could not be opened; the test goes on without Web Vitals then.
+     */
+    public static boolean attach(WebDriver driver) {
+        if (!(driver instanceof HasDevTools)) {
+            return false;
+        }
+        try {
+            DevTools devTools = ((HasDevTools) driver).getDevTools();
+            devTools.createSessionIfThereIsNotOne();
+            devTools.addListener(new Event<>("Runtime.bindingCalled", input -> input.<Map<String, Object>>read(Json.MAP_TYPE)),
+                    WebVitalsCollector::bindingCalled);
+            devTools.send(new Command<>("Runtime.enable", Map.of()));
+            devTools.send(new Command<>("Runtime.addBinding", Map.of("name", BINDING)));
+            devTools.send(new Command<>("Page.addScriptToEvaluateOnNewDocument", Map.of("source", SCRIPT)));
+            return true;
+        } catch (WebDriverException e) {
+            LOG.warn("Web Vitals collector baglanamadi: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    private static void bindingCalled(Map<String, Object> params) {
+        if (!BINDING.equals(params.get("name"))) {
+            return;
+        }
+        PageVitals vitals = GSON.fromJson((String) params.get("payload"), PageVitals.class);
+        // ayni sayfanin sonraki raporu oncekini gunceller
+        SAMPLES.put(vitals.getId(), vitals);
+    }
+
+    /**
+     * Pages collected in this run.
+     */
+    public static List<PageVitals> getSamples() {
+        synchronized (SAMPLES) {
+            return new ArrayList<>(SAMPLES.values());
+        }
+    }
+
+    /**
+     * Makes the open page report its current values.
+     */
+    public static void flush(WebDriver driver) {
+        try {
+            ((JavascriptExecutor) driver).executeScript("if (window.__webVitalsFlush) { window.__webVitalsFlush(); }");
+        } catch (WebDriverException e) {
+            // pencere zaten kapanmis olabilir
+        }
+    }
+
+    @Override
+    public void beforeClose(WebDriver driver) {
+        flush(driver);
+    }
+
+    @Override
+    public void beforeQuit(WebDriver driver) {
+        flush(driver);
+    }
+}
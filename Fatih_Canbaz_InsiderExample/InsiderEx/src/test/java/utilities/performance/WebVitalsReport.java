@@ -0,0 +1,137 @@
+package utilities.performance;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonObject;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testng.IExecutionListener;
+import utilities.ConfigReader;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * WebVitalsReport Class
+ * <p>
+ * At the end of a run the pages collected by {@link WebVitalsCollector} are appended to webVitalsHistoryFile
+ * (one JSON line per page load) and test-output/WebVitalsReportyyyyMMddhhmmss.json is written with p50/p75/p95 of
+ * every metric per page, over the last webVitalsMaxSamplesPerPage page loads of all runs. Registered for every
+ * run through META-INF/services/org.testng.ITestNGListener.
+ * </p>
+ * <p>
+ * Configuration (configuration.properties):
+ * - webVitalsHistoryFile: history file (default test-output/web-vitals-history.jsonl)
+ * - webVitalsMaxSamplesPerPage: page loads per page used for the percentiles (default 200)
+ * </p>
+ * <p>
+ * Author: Fatih Canbaz
+ * </p>
+ */
+public class WebVitalsReport implements IExecutionListener {
+
+    private static final Logger LOG = LoggerFactory.getLogger(WebVitalsReport.class);
+
+    private static final Gson GSON = new Gson();
+
+    @Override
+    public void onExecutionFinish() {
+        List<PageVitals> samples = WebVitalsCollector.getSamples();
+        if (samples.isEmpty()) {
+            return;
+        }
+        File history = new File(ConfigReader.getProperty("webVitalsHistoryFile", "test-output/web-vitals-history.jsonl"));
+        int maxSamples = Integer.parseInt(ConfigReader.getProperty("webVitalsMaxSamplesPerPage", "200"));
+        String date = new SimpleDateFormat("yyyyMMddhhmmss").format(new Date());
+        try {
+            append(history, samples);
+            String report = write(System.getProperty("user.dir") + "/test-output/WebVitalsReport" + date + ".json",
+                    aggregate(read(history), maxSamples));
+            LOG.info("Web Vitals raporu: {}", report);
+        } catch (IOException e) {
+            LOG.warn("Web Vitals raporu yazilamadi: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Percentiles per page over the last maxSamplesPerPage page loads.
+     */
+    public static JsonObject aggregate(List<PageVitals> samples, int maxSamplesPerPage) {
+        Map<String, List<PageVitals>> pages = new LinkedHashMap<>();
+        for (PageVitals sample : samples) {
+            pages.computeIfAbsent(sample.getPage(), page -> new ArrayList<>()).add(sample);
+        }
+        JsonObject json = new JsonObject();
+        for (Map.Entry<String, List<PageVitals>> page : pages.entrySet()) {
+            List<PageVitals> values = page.getValue();
+            if (values.size() > maxSamplesPerPage) {
+                values = values.subList(values.size() - maxSamplesPerPage, values.size());
+            }
+            JsonObject pageJson = new JsonObject();
+            pageJson.addProperty("samples", values.size());
+            pageJson.add("lcp", percentiles(values, PageVitals::getLcp));
+            pageJson.add("cls", percentiles(values, PageVitals::getCls));
+            pageJson.add("inp", percentiles(values, PageVitals::getInp));
+            pageJson.add("longTaskCount", percentiles(values, PageVitals::getLongTaskCount));
+            pageJson.add("blockingTime", percentiles(values, PageVitals::getBlockingTime));
+            json.add(page.getKey(), pageJson);
+        }
+        return json;
+    }
+
+    private static JsonObject percentiles(List<PageVitals> samples, ToDoubleFunction<PageVitals> metric) {
+        List<Double> values = new ArrayList<>();
+        for (PageVitals sample : samples) {
+            values.add(metric.applyAsDouble(sample));
+        }
+        values.sort(null);
+        JsonObject json = new JsonObject();
+        json.addProperty("p50", Stats.percentile(values, 50));
+        json.addProperty("p75", Stats.percentile(values, 75));
+        json.addProperty("p95", Stats.percentile(values, 95));
+        return json;
+    }
+
+    private static void append(File history, List<PageVitals> samples) throws IOException {
+        if (history.getAbsoluteFile().getParentFile() != null) {
+            history.getAbsoluteFile().getParentFile().mkdirs();
+        }
+        StringBuilder lines = new StringBuilder();
+        for (PageVitals sample : samples) {
+            lines.append(GSON.toJson(sample)).append(System.lineSeparator());
+        }
+        Files.write(history.toPath(), lines.toString().getBytes(StandardCharsets.UTF_8),
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+    }
+
+    private static List<PageVitals> read(File history) throws IOException {
+        List<PageVitals> samples = new ArrayList<>();
+        for (String line : Files.readAllLines(history.toPath(), StandardCharsets.UTF_8)) {
+            if (!line.isBlank()) {
+                samples.add(GSON.fromJson(line, PageVitals.class));
+            }
+        }
+        return samples;
+    }
+
+    private static String write(String path, JsonObject report) throws IOException {
+        File file = new File(path);
+        file.getParentFile().mkdirs();
+        try (Writer writer = new FileWriter(file)) {
+            new GsonBuilder().setPrettyPrinting().create().toJson(report, writer);
+        }
+        return file.getAbsolutePath();
+    }
+}
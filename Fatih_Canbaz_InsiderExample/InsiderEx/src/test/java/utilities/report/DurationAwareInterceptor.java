@@ -0,0 +1,75 @@
+package utilities.report;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testng.IMethodInstance;
+import org.testng.IMethodInterceptor;
+import org.testng.ITestContext;
+import utilities.ConfigReader;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * DurationAwareInterceptor Class
+ * <p>
+ * Orders the test methods of a &lt;test&gt; by their expected duration from the {@link RunHistory}, longest first
+ * (p95 of the last historyMaxRuns runs; tests without history count as the longest). With parallel="methods" the
+ * long tests start early and do not end up alone at the end of the run. The order of tests with the same expected
+ * duration is kept. Registered for every run through META-INF/services/org.testng.ITestNGListener, it changes
+ * nothing until it is switched on.
+ * </p>
+ * <p>
+ * Configuration (configuration.properties):
+ * - historySchedulingEnabled: true/false (default false)
+ * </p>
+ * <p>
+ * Author: Fatih Canbaz
+ * </p>
+ */
+public class DurationAwareInterceptor implements IMethodInterceptor {
+
+    private static final Logger LOG = LoggerFactory.getLogger(DurationAwareInterceptor.class);
+
+    private static volatile Map<String, TestStats> stats;
+
+    @Override
+    public List<IMethodInstance> intercept(List<IMethodInstance> methods, ITestContext context) {
+        if (!Boolean.parseBoolean(ConfigReader.getProperty("historySchedulingEnabled", "false"))) {
+            return methods;
+        }
+        Map<String, TestStats> history = stats();
+        List<IMethodInstance> ordered = new ArrayList<>(methods);
+        // List.sort stabil; esit sureli testlerin sirasi degismez
+        ordered.sort(Comparator.comparingDouble((IMethodInstance method) -> expectedMillis(history, method)).reversed());
+        return ordered;
+    }
+
+    private static double expectedMillis(Map<String, TestStats> history, IMethodInstance method) {
+        TestStats test = history.get(method.getMethod().getRealClass().getName() + "."
+                + method.getMethod().getMethodName());
+        return test == null || test.getRuns() == 0 ? Double.MAX_VALUE : test.getP95Millis();
+    }
+
+    // history bir kere okunur, her <test> icin tekrar okunmaz
+    private static Map<String, TestStats> stats() {
+        if (stats == null) {
+            synchronized (DurationAwareInterceptor.class) {
+                if (stats == null) {
+                    try {
+                        stats = RunHistoryListener.open()
+                                .stats(Integer.parseInt(ConfigReader.getProperty("historyMaxRuns", "50")));
+                    } catch (IOException e) {
+                        LOG.warn("Run history okunamadi, test sirasi degismedi: {}", e.getMessage());
+                        stats = Collections.emptyMap();
+                    }
+                }
+            }
+        }
+        return stats;
+    }
+}
@@ -0,0 +1,100 @@
+package utilities.report;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * EventRing Class
+ * <p>
+ * Fixed size ring buffer of progress events with a running sequence number. Publishing is one atomic increment
+ * and one array write, it never waits for a reader. Every reader keeps its own position; a reader that falls
+ * more than the capacity behind loses the overwritten events and continues with the oldest event still in the
+ * ring ({@link #read(long, int, List)} reports how many were lost).
+ * </p>
+ * <p>
+ * Author: Fatih Canbaz
+ * </p>
+ */
+public class EventRing {
+
+    private final AtomicReferenceArray<Event> slots;
+    private final AtomicLong next = new AtomicLong();
+
+    /**
+     * One published event; data is the JSON text sent to the clients.
+     */
+    public static class Event {
+        private final long sequence;
+        private final String type;
+        private final String data;
+
+        Event(long sequence, String type, String data) {
+            this.sequence = sequence;
+            this.type = type;
+            this.data = data;
+        }
+
+        public long getSequence() {
+            return sequence;
+        }
+
+        public String getType() {
+            return type;
+        }
+
+        public String getData() {
+            return data;
+        }
+    }
+
+    public EventRing(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Kapasite pozitif olmali: " + capacity);
+        }
+        slots = new AtomicReferenceArray<>(capacity);
+    }
+
+    public int getCapacity() {
+        return slots.length();
+    }
+
+    /**
+     * Sequence number the next event will get (number of events published so far).
+     */
+    public long getNext() {
+        return next.get();
+    }
+
+    public long publish(String type, String data) {
+        long sequence = next.getAndIncrement();
+        slots.set((int) (sequence % slots.length()), new Event(sequence, type, data));
+        return sequence;
+    }
+
+    /**
+     * Adds up to max events starting at sequence from to target. Events that were overwritten before they could
+     * be read are skipped: the caller lost (returned position - from - added events) events.
+     *
+     * @return position to continue reading from
+     */
+    public long read(long from, int max, List<Event> target) {
+        long end = next.get();
+        long sequence = Math.max(from, end - slots.length());
+        int added = 0;
+        while (sequence < end && added < max) {
+            Event event = slots.get((int) (sequence % slots.length()));
+            if (event == null || event.sequence < sequence) {
+                // numara alinmis ama henuz yazilmamis, sonraki okumada gelir
+                break;
+            }
+            if (event.sequence == sequence) {
+                target.add(event);
+                added++;
+            }
+            // event.sequence > sequence: okurken uzerine yazildi, atlanir
+            sequence++;
+        }
+        return sequence;
+    }
+}
@@ -0,0 +1,203 @@
+package utilities.report;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testng.IExecutionListener;
+import org.testng.IInvokedMethod;
+import org.testng.IInvokedMethodListener;
+import org.testng.ITestContext;
+import org.testng.ITestListener;
+import org.testng.ITestResult;
+import utilities.ConfigReader;
+import utilities.performance.StartupTelemetry;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * JsonReportListener Class
+ * <p>
+ * Writes every finished test method to the {@link ResultStore} of the run in test-output/report/&lt;runId&gt;
+ * (open index.html there). A result is kept open until the @AfterMethod methods of the test have run, so that
+ * TestBaseRapor can still attach the failure screenshot ({@link #attachImage(String, String)}); it is written
+ * when the thread starts its next method, or at the end of the &lt;test&gt;. Registered for every run through
+ * META-INF/services/org.testng.ITestNGListener.
+ * </p>
+ * <p>
+ * Configuration (configuration.properties):
+ * - jsonReportEnabled: true/false (default true)
+ * - jsonReportPageSize: tests per page file of the viewer (default 200)
+ * - jsonReportThumbnailWidth: width of the screenshot thumbnails in pixels (default 320)
+ * </p>
+ * <p>
+ * Author: Fatih Canbaz
+ * </p>
+ */
+public class JsonReportListener implements IExecutionListener, ITestListener, IInvokedMethodListener {
+
+    private static final Logger LOG = LoggerFactory.getLogger(JsonReportListener.class);
+
+    private static final boolean ENABLED = Boolean.parseBoolean(ConfigReader.getProperty("jsonReportEnabled", "true"));
+    private static final int MAX_STACK_TRACE = 8000;
+
+    // thread id -> henuz yazilmamis (AfterMethod'lari bekleyen) sonuc
+    private static final Map<Long, TestRecord> PENDING = new ConcurrentHashMap<>();
+    private static volatile ResultStore store;
+
+    /**
+     * Store of the running run, null before the run started or if the report is off.
+     */
+    public static ResultStore getStore() {
+        return store;
+    }
+
+    /**
+     * Attaches a screenshot to the test that just finished on this thread (call it from @AfterMethod).
+     */
+    public static void attachImage(String title, String path) {
+        TestRecord record = PENDING.get(Thread.currentThread().getId());
+        if (record != null && path != null) {
+            record.image(title, path);
+        }
+    }
+
+    /**
+     * Adds a key/value line to the test that just finished on this thread.
+     */
+    public static void attachInfo(String key, String value) {
+        TestRecord record = PENDING.get(Thread.currentThread().getId());
+        if (record != null && value != null) {
+            record.info(key, value);
+        }
+    }
+
+    @Override
+    public void onExecutionStart() {
+        if (!ENABLED) {
+            return;
+        }
+        String runId = StartupTelemetry.getRunId();
+        try {
+            store = new ResultStore(Paths.get(System.getProperty("user.dir"), "test-output", "report", runId), runId,
+                    Integer.parseInt(ConfigReader.getProperty("jsonReportPageSize", "200")),
+                    Integer.parseInt(ConfigReader.getProperty("jsonReportThumbnailWidth", "320")));
+        } catch (IOException e) {
+            LOG.warn("JSON rapor baslatilamadi: {}", e.getMessage());
+        }
+    }
+
+    @Override
+    public void onExecutionFinish() {
+        ResultStore current = store;
+        if (current == null) {
+            return;
+        }
+        flushAll();
+        try {
+            current.close();
+            LOG.info("Rapor: {}", current.getDirectory().resolve("index.html"));
+        } catch (IOException e) {
+            LOG.warn("JSON rapor kapatilamadi: {}", e.getMessage());
+        }
+    }
+
+    @Override
+    public void beforeInvocation(IInvokedMethod method, ITestResult testResult) {
+        // AfterMethod'lar sonuca ek yapabilir, ondan sonraki ilk method onceki sonucu yazar
+        if (!(method.isConfigurationMethod() && method.getTestMethod().isAfterMethodConfiguration())) {
+            flush(Thread.currentThread().getId());
+        }
+    }
+
+    @Override
+    public void onTestSuccess(ITestResult result) {
+        finished(result, "PASS");
+    }
+
+    @Override
+    public void onTestFailure(ITestResult result) {
+        finished(result, "FAIL");
+    }
+
+    @Override
+    public void onTestFailedButWithinSuccessPercentage(ITestResult result) {
+        finished(result, "FAIL");
+    }
+
+    @Override
+    public void onTestSkipped(ITestResult result) {
+        finished(result, "SKIP");
+    }
+
+    @Override
+    public void onFinish(ITestContext context) {
+        flushAll();
+    }
+
+    private void finished(ITestResult result, String status) {
+        if (store == null) {
+            return;
+        }
+        TestRecord record = new TestRecord(result.getTestClass().getRealClass().getName(),
+                result.getMethod().getMethodName(), status)
+                .description(result.getMethod().getDescription())
+                .timing(result.getStartMillis(), Math.max(0, result.getEndMillis() - result.getStartMillis()))
+                .browser(ConfigReader.getProperty("browser"))
+                .thread(Thread.currentThread().getName());
+        String logFile = TestLogContext.getLogFile();
+        if (logFile != null) {
+            record.info("Log", logFile);
+        }
+        if (result.getParameters() != null && result.getParameters().length > 0) {
+            List<String> parameters = new ArrayList<>();
+            for (Object parameter : result.getParameters()) {
+                parameters.add(String.valueOf(parameter));
+            }
+            record.parameters(parameters);
+        }
+        Throwable throwable = result.getThrowable();
+        if (throwable != null) {
+            StringWriter trace = new StringWriter();
+            throwable.printStackTrace(new PrintWriter(trace));
+            String stackTrace = trace.toString();
+            record.failure(String.valueOf(throwable.getMessage()),
+                    stackTrace.length() > MAX_STACK_TRACE ? stackTrace.substring(0, MAX_STACK_TRACE) + "\n..." : stackTrace);
+        }
+        // ayni thread'de bekleyen onceki sonuc varsa once o yazilir
+        TestRecord previous = PENDING.put(Thread.currentThread().getId(), record);
+        if (previous != null) {
+            write(previous);
+        }
+    }
+
+    private static void flush(long threadId) {
+        TestRecord record = PENDING.remove(threadId);
+        if (record != null) {
+            write(record);
+        }
+    }
+
+    private static void flushAll() {
+        for (Long threadId : new ArrayList<>(PENDING.keySet())) {
+            flush(threadId);
+        }
+    }
+
+    private static void write(TestRecord record) {
+        ResultStore current = store;
+        if (current == null) {
+            return;
+        }
+        try {
+            current.append(record);
+        } catch (IOException e) {
+            LOG.warn("Test sonucu yazilamadi: {} {}", record.getName(), e.getMessage());
+        }
+    }
+}
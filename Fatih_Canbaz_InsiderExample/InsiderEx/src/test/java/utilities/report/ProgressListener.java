@@ -0,0 +1,225 @@
+package utilities.report;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.helpers.MessageFormatter;
+import org.testng.IExecutionListener;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+import org.testng.ITestListener;
+import org.testng.ITestNGMethod;
+import org.testng.ITestResult;
+import utilities.ConfigReader;
+import utilities.performance.StartupTelemetry;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * ProgressListener Class
+ * <p>
+ * Publishes the progress of the run (run-start, test-start, step, test-end, test-failure, run-end) to an
+ * {@link EventRing} and serves it with a {@link ProgressServer}, so a long parallel run can be watched at
+ * http://127.0.0.1:&lt;progressServerPort&gt;/ while it is running. Steps are the log lines of ReusableMethods
+ * ({@link #step(String, Object...)}). /status shows the running tests, the number of tests waiting and an ETA
+ * (average duration of the finished tests x waiting tests / highest number of tests that ran at the same time).
+ * Publishing only writes to the ring, test threads never wait for a client. Off by default; registered for every
+ * run through META-INF/services/org.testng.ITestNGListener.
+ * </p>
+ * <p>
+ * Configuration (configuration.properties):
+ * - progressServerEnabled: true/false (default false)
+ * - progressServerPort: port of the server, 0 picks a free port (default 4545)
+ * - progressBufferSize: events kept for slow or reconnecting clients (default 4096)
+ * </p>
+ * <p>
+ * Author: Fatih Canbaz
+ * </p>
+ */
+public class ProgressListener implements IExecutionListener, ISuiteListener, ITestListener {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ProgressListener.class);
+
+    private static final Gson GSON = new Gson();
+
+    private static volatile EventRing ring;
+    // thread id -> o thread'de calisan test
+    private static final Map<Long, JsonObject> ACTIVE = new ConcurrentHashMap<>();
+
+    private final AtomicInteger planned = new AtomicInteger();
+    private final AtomicInteger started = new AtomicInteger();
+    private final AtomicInteger passed = new AtomicInteger();
+    private final AtomicInteger failed = new AtomicInteger();
+    private final AtomicInteger skipped = new AtomicInteger();
+    private final AtomicInteger maxActive = new AtomicInteger();
+    private final AtomicLong finishedMillis = new AtomicLong();
+    private final long runStart = System.currentTimeMillis();
+    private ProgressServer server;
+
+    /**
+     * Publishes a step of the test running on this thread; does nothing if the progress server is off.
+     *
+     * @param pattern SLF4J message pattern, {} is replaced with the args (only if the server is on)
+     */
+    public static void step(String pattern, Object... args) {
+        EventRing current = ring;
+        if (current == null) {
+            return;
+        }
+        String message = MessageFormatter.arrayFormat(pattern, args).getMessage();
+        JsonObject event = event("step");
+        JsonObject test = ACTIVE.get(Thread.currentThread().getId());
+        if (test != null) {
+            event.addProperty("test", test.get("test").getAsString());
+        }
+        event.addProperty("message", message);
+        current.publish("step", GSON.toJson(event));
+    }
+
+    @Override
+    public void onExecutionStart() {
+        if (!Boolean.parseBoolean(ConfigReader.getProperty("progressServerEnabled", "false"))) {
+            return;
+        }
+        EventRing events = new EventRing(Integer.parseInt(ConfigReader.getProperty("progressBufferSize", "4096")));
+        server = new ProgressServer(Integer.parseInt(ConfigReader.getProperty("progressServerPort", "4545")), events,
+                () -> GSON.toJson(status()));
+        ring = events;
+        JsonObject event = event("run-start");
+        event.addProperty("run", StartupTelemetry.getRunId());
+        publish(event);
+        LOG.info("Canli ilerleme: {}", server.getUrl());
+    }
+
+    @Override
+    public void onExecutionFinish() {
+        if (server == null) {
+            return;
+        }
+        JsonObject event = event("run-end");
+        event.add("status", status());
+        publish(event);
+        ring = null;
+        server.close();
+        server = null;
+    }
+
+    @Override
+    public void onStart(ISuite suite) {
+        for (ITestNGMethod method : suite.getAllMethods()) {
+            planned.addAndGet(Math.max(1, method.getInvocationCount()));
+        }
+    }
+
+    @Override
+    public void onTestStart(ITestResult result) {
+        if (ring == null) {
+            return;
+        }
+        started.incrementAndGet();
+        JsonObject event = event("test-start");
+        event.addProperty("test", name(result));
+        event.addProperty("browser", ConfigReader.getProperty("browser"));
+        ACTIVE.put(Thread.currentThread().getId(), event);
+        maxActive.accumulateAndGet(ACTIVE.size(), Math::max);
+        publish(event);
+    }
+
+    @Override
+    public void onTestSuccess(ITestResult result) {
+        finished(result, "PASS", passed);
+    }
+
+    @Override
+    public void onTestFailure(ITestResult result) {
+        finished(result, "FAIL", failed);
+    }
+
+    @Override
+    public void onTestFailedButWithinSuccessPercentage(ITestResult result) {
+        finished(result, "FAIL", failed);
+    }
+
+    @Override
+    public void onTestSkipped(ITestResult result) {
+        finished(result, "SKIP", skipped);
+    }
+
+    private void finished(ITestResult result, String status, AtomicInteger counter) {
+        if (ring == null) {
+            return;
+        }
+        ACTIVE.remove(Thread.currentThread().getId());
+        counter.incrementAndGet();
+        long duration = Math.max(0, result.getEndMillis() - result.getStartMillis());
+        finishedMillis.addAndGet(duration);
+        if (result.getThrowable() != null && status.equals("FAIL")) {
+            JsonObject failure = event("test-failure");
+            failure.addProperty("test", name(result));
+            failure.addProperty("message", String.valueOf(result.getThrowable()));
+            publish(failure);
+        }
+        JsonObject event = event("test-end");
+        event.addProperty("test", name(result));
+        event.addProperty("status", status);
+        event.addProperty("durationMillis", duration);
+        publish(event);
+    }
+
+    private JsonObject status() {
+        long now = System.currentTimeMillis();
+        int finished = passed.get() + failed.get() + skipped.get();
+        int queued = Math.max(0, planned.get() - started.get());
+        JsonObject status = new JsonObject();
+        status.addProperty("run", StartupTelemetry.getRunId());
+        status.addProperty("elapsedMillis", now - runStart);
+        status.addProperty("planned", planned.get());
+        status.addProperty("started", started.get());
+        status.addProperty("passed", passed.get());
+        status.addProperty("failed", failed.get());
+        status.addProperty("skipped", skipped.get());
+        status.addProperty("queued", queued);
+        status.addProperty("browserStarts", StartupTelemetry.getSessions().size());
+        JsonArray active = new JsonArray();
+        for (Map.Entry<Long, JsonObject> test : ACTIVE.entrySet()) {
+            JsonObject session = test.getValue().deepCopy();
+            session.remove("type");
+            session.addProperty("elapsedMillis", now - session.get("time").getAsLong());
+            active.add(session);
+        }
+        status.add("active", active);
+        if (finished > 0) {
+            // tahmin: bitenlerin ortalama suresi x kalan test / ayni anda calisan test sayisi
+            double average = finishedMillis.get() / (double) finished;
+            status.addProperty("etaMillis", Math.round(average * (queued + ACTIVE.size() / 2.0)
+                    / Math.max(1, maxActive.get())));
+        }
+        EventRing current = ring;
+        status.addProperty("events", current == null ? 0 : current.getNext());
+        return status;
+    }
+
+    private static JsonObject event(String type) {
+        JsonObject event = new JsonObject();
+        event.addProperty("type", type);
+        event.addProperty("time", System.currentTimeMillis());
+        event.addProperty("thread", Thread.currentThread().getName());
+        return event;
+    }
+
+    private static void publish(JsonObject event) {
+        EventRing current = ring;
+        if (current != null) {
+            current.publish(event.get("type").getAsString(), GSON.toJson(event));
+        }
+    }
+
+    private static String name(ITestResult result) {
+        return result.getTestClass().getRealClass().getName() + "." + result.getMethod().getMethodName();
+    }
+}
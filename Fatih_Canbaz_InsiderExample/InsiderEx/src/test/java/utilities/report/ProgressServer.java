@@ -0,0 +1,156 @@
+package utilities.report;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
+
+/**
+ * ProgressServer Class
+ * <p>
+ * Local HTTP server (JDK built-in) that makes a running test JVM watchable from the browser:
+ * - GET /        live page (progress.html from the classpath)
+ * - GET /events  the events of an {@link EventRing} as server-sent events (text/event-stream); a client that
+ *                reconnects with Last-Event-ID continues where it stopped. A client that reads too slowly gets a
+ *                "dropped" event with the number of events it lost, publishing never waits for a client.
+ * - GET /status  JSON snapshot from the given supplier (active tests, queue, ETA)
+ * Every SSE client uses one server thread; a ": ping" comment is sent when nothing happened for 15 seconds.
+ * </p>
+ * <p>
+ * Author: Fatih Canbaz
+ * </p>
+ */
+public class ProgressServer implements AutoCloseable {
+
+    private static final long POLL_MILLIS = 100;
+    private static final long PING_MILLIS = 15_000;
+    private static final int BATCH = 256;
+
+    private final EventRing ring;
+    private final Supplier<String> status;
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private volatile boolean closed;
+
+    public ProgressServer(int port, EventRing ring, Supplier<String> status) {
+        this.ring = ring;
+        this.status = status;
+        try {
+            server = HttpServer.create(new InetSocketAddress("127.0.0.1", port), 64);
+        } catch (IOException e) {
+            throw new RuntimeException("Progress server baslatilamadi, port: " + port, e);
+        }
+        executor = Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "progress-server");
+            thread.setDaemon(true);
+            return thread;
+        });
+        server.setExecutor(executor);
+        server.createContext("/events", this::events);
+        server.createContext("/status", exchange -> send(exchange, 200, "application/json", status.get()));
+        server.createContext("/", this::page);
+        server.start();
+    }
+
+    public String getUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    /**
+     * Sends the events that are still in the ring to the connected clients (up to one second), then stops.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        server.stop(1);
+        executor.shutdownNow();
+    }
+
+    private void events(HttpExchange exchange) throws IOException {
+        long position = ring.getNext();
+        String lastEventId = exchange.getRequestHeaders().getFirst("Last-Event-ID");
+        if (lastEventId != null && lastEventId.matches("\\d+")) {
+            position = Long.parseLong(lastEventId) + 1;
+        } else if ("all".equals(exchange.getRequestURI().getQuery())) {
+            position = 0;
+        }
+        exchange.getResponseHeaders().add("Content-Type", "text/event-stream; charset=utf-8");
+        exchange.getResponseHeaders().add("Cache-Control", "no-cache");
+        exchange.sendResponseHeaders(200, 0);
+        List<EventRing.Event> batch = new ArrayList<>(BATCH);
+        long lastWrite = System.currentTimeMillis();
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(("retry: 2000\n\n").getBytes(StandardCharsets.UTF_8));
+            out.flush();
+            while (true) {
+                boolean closing = closed;
+                batch.clear();
+                long next = ring.read(position, BATCH, batch);
+                StringBuilder text = new StringBuilder();
+                long lost = next - position - batch.size();
+                if (lost > 0) {
+                    text.append("event: dropped\ndata: {\"count\":").append(lost).append("}\n\n");
+                }
+                for (EventRing.Event event : batch) {
+                    text.append("id: ").append(event.getSequence()).append('\n')
+                            .append("event: ").append(event.getType()).append('\n')
+                            .append("data: ").append(event.getData()).append("\n\n");
+                }
+                position = next;
+                if (text.length() == 0 && System.currentTimeMillis() - lastWrite > PING_MILLIS) {
+                    text.append(": ping\n\n");
+                }
+                if (text.length() > 0) {
+                    out.write(text.toString().getBytes(StandardCharsets.UTF_8));
+                    out.flush();
+                    lastWrite = System.currentTimeMillis();
+                }
+                if (closing && position >= ring.getNext()) {
+                    return;
+                }
+                if (batch.size() < BATCH) {
+                    Thread.sleep(POLL_MILLIS);
+                }
+            }
+        } catch (IOException | InterruptedException e) {
+            // client baglantiyi kapatti ya da server duruyor
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private void page(HttpExchange exchange) throws IOException {
+        if (!exchange.getRequestURI().getPath().equals("/")) {
+            send(exchange, 404, "text/plain", "Not found");
+            return;
+        }
+        try (InputStream in = ProgressServer.class.getResourceAsStream("/report/progress.html")) {
+            if (in == null) {
+                send(exchange, 404, "text/plain", "progress.html not found");
+                return;
+            }
+            send(exchange, 200, "text/html; charset=utf-8", new String(in.readAllBytes(), StandardCharsets.UTF_8));
+        }
+    }
+
+    private static void send(HttpExchange exchange, int status, String contentType, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", contentType);
+        exchange.getResponseHeaders().add("Cache-Control", "no-cache");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        } finally {
+            exchange.close();
+        }
+    }
+}
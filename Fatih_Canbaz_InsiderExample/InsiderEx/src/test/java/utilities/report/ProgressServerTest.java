@@ -0,0 +1,61 @@
+package utilities.report;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+public class ProgressServerTest {
+
+    @Test
+    public void slowReaderLosesOldestEventsWithoutBlockingPublisher() {
+        EventRing ring = new EventRing(8);
+        long start = System.nanoTime();
+        for (int i = 0; i < 100_000; i++) {
+            ring.publish("step", "{\"i\":" + i + "}");
+        }
+        // okuyan olmasa da yayinlama beklemez
+        Assert.assertTrue(System.nanoTime() - start < 2_000_000_000L);
+
+        List<EventRing.Event> events = new ArrayList<>();
+        long next = ring.read(0, 100, events);
+
+        Assert.assertEquals(events.size(), 8);
+        Assert.assertEquals(events.get(0).getSequence(), 99_992);
+        Assert.assertEquals(next, 100_000);
+        Assert.assertEquals(next - events.size(), 99_992, "kaybedilen event sayisi");
+    }
+
+    @Test
+    public void eventsAreStreamedAsServerSentEvents() throws Exception {
+        EventRing ring = new EventRing(16);
+        ring.publish("test-start", "{\"test\":\"A.a\"}");
+        try (ProgressServer server = new ProgressServer(0, ring, () -> "{\"queued\":3}")) {
+            HttpURLConnection status = (HttpURLConnection) new URL(server.getUrl() + "/status").openConnection();
+            Assert.assertEquals(new String(status.getInputStream().readAllBytes(), StandardCharsets.UTF_8), "{\"queued\":3}");
+
+            HttpURLConnection events = (HttpURLConnection) new URL(server.getUrl() + "/events?all").openConnection();
+            events.setReadTimeout(5000);
+            Assert.assertTrue(events.getContentType().startsWith("text/event-stream"), events.getContentType());
+            ring.publish("test-end", "{\"test\":\"A.a\",\"status\":\"PASS\"}");
+            List<String> lines = new ArrayList<>();
+            try (BufferedReader reader = new BufferedReader(new InputStreamReader(events.getInputStream(), StandardCharsets.UTF_8))) {
+                String line;
+                while ((line = reader.readLine()) != null && !line.contains("PASS")) {
+                    lines.add(line);
+                }
+                lines.add(line);
+            }
+            Assert.assertTrue(lines.contains("id: 0"), lines.toString());
+            Assert.assertTrue(lines.contains("event: test-start"), lines.toString());
+            Assert.assertTrue(lines.contains("event: test-end"), lines.toString());
+            Assert.assertEquals(lines.get(lines.size() - 1), "data: {\"test\":\"A.a\",\"status\":\"PASS\"}");
+        }
+    }
+}
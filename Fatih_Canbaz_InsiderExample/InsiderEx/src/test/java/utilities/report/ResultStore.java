@@ -0,0 +1,223 @@
+package utilities.report;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonObject;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.imageio.ImageIO;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * ResultStore Class
+ * <p>
+ * Append-only result store of one run, written while the tests are running:
+ * - results.jsonl: one {@link TestRecord} per line, the data other tools read
+ * - pages/page-0001.js ...: the same records as script lines, pageSize per file, loaded by the viewer on demand
+ * - manifest.js: counts and page count, the only file that is rewritten (a few hundred bytes)
+ * - thumbs/: small JPEG copies of attached screenshots, the full size files are only linked
+ * - index.html: the viewer (copied once), it opens from disk without a server
+ * Adding a test therefore costs two appended lines and a tiny manifest, however many tests the run has.
+ * </p>
+ * <p>
+ * Author: Fatih Canbaz
+ * </p>
+ */
+public class ResultStore implements Closeable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ResultStore.class);
+
+    private static final Gson GSON = new Gson();
+    private static final String VIEWER = "/report/index.html";
+
+    private final Path directory;
+    private final String runId;
+    private final int pageSize;
+    private final int thumbnailWidth;
+    private final long started = System.currentTimeMillis();
+    private final Writer results;
+    private final AtomicInteger thumbnails = new AtomicInteger();
+    private Writer page;
+    private int count;
+    private int passed;
+    private int failed;
+    private int skipped;
+    private long totalDurationMillis;
+    private boolean finished;
+
+    public ResultStore(Path directory, String runId, int pageSize, int thumbnailWidth) throws IOException {
+        this.directory = directory;
+        this.runId = runId;
+        this.pageSize = pageSize;
+        this.thumbnailWidth = thumbnailWidth;
+        Files.createDirectories(directory.resolve("pages"));
+        Files.createDirectories(directory.resolve("thumbs"));
+        try (InputStream viewer = ResultStore.class.getResourceAsStream(VIEWER)) {
+            if (viewer != null) {
+                Files.copy(viewer, directory.resolve("index.html"), StandardCopyOption.REPLACE_EXISTING);
+            } else {
+                LOG.warn("Rapor goruntuleyici bulunamadi: {}", VIEWER);
+            }
+        }
+        this.results = Files.newBufferedWriter(directory.resolve("results.jsonl"), StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        writeManifest();
+    }
+
+    public Path getDirectory() {
+        return directory;
+    }
+
+    public synchronized int size() {
+        return count;
+    }
+
+    /**
+     * Appends a finished test; both lines are flushed so a crashed run still leaves a readable report. Thumbnails
+     * are scaled before the lock is taken, so parallel tests only wait for each other while the lines are written.
+     */
+    public void append(TestRecord record) throws IOException {
+        for (TestRecord.Image image : record.getImages()) {
+            thumbnail(image, String.format("thumb-%05d", thumbnails.incrementAndGet()));
+        }
+        write(record);
+    }
+
+    private synchronized void write(TestRecord record) throws IOException {
+        count++;
+        record.setId(count);
+        record.setRunId(runId);
+        String json = GSON.toJson(record);
+        results.write(json);
+        results.write('\n');
+        results.flush();
+
+        int pageNumber = (count - 1) / pageSize + 1;
+        if ((count - 1) % pageSize == 0) {
+            if (page != null) {
+                page.close();
+            }
+            page = Files.newBufferedWriter(directory.resolve(pageFile(pageNumber)), StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING);
+        }
+        page.write("report.add(" + pageNumber + ", " + json + ");\n");
+        page.flush();
+
+        switch (record.getStatus()) {
+            case "PASS":
+                passed++;
+                break;
+            case "FAIL":
+                failed++;
+                break;
+            default:
+                skipped++;
+        }
+        totalDurationMillis += record.getDurationMillis();
+        writeManifest();
+    }
+
+    /**
+     * Marks the run as finished in the manifest and closes the files.
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        if (finished) {
+            return;
+        }
+        finished = true;
+        writeManifest();
+        results.close();
+        if (page != null) {
+            page.close();
+        }
+    }
+
+    /**
+     * Reads a results.jsonl file back, e.g. to compare runs.
+     */
+    public static List<TestRecord> read(Path resultsFile) throws IOException {
+        List<TestRecord> records = new ArrayList<>();
+        try (BufferedReader reader = Files.newBufferedReader(resultsFile, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (!line.isBlank()) {
+                    records.add(GSON.fromJson(line, TestRecord.class));
+                }
+            }
+        }
+        return records;
+    }
+
+    private static String pageFile(int pageNumber) {
+        return String.format("pages/page-%04d.js", pageNumber);
+    }
+
+    private void writeManifest() throws IOException {
+        JsonObject manifest = new JsonObject();
+        manifest.addProperty("runId", runId);
+        manifest.addProperty("started", started);
+        manifest.addProperty("updated", System.currentTimeMillis());
+        manifest.addProperty("finished", finished);
+        manifest.addProperty("total", count);
+        manifest.addProperty("passed", passed);
+        manifest.addProperty("failed", failed);
+        manifest.addProperty("skipped", skipped);
+        manifest.addProperty("durationMillis", totalDurationMillis);
+        manifest.addProperty("pageSize", pageSize);
+        manifest.addProperty("pages", (count + pageSize - 1) / pageSize);
+        // yarim yazilmis manifest okunmasin diye once gecici dosyaya yazilip tasinir
+        Path temp = directory.resolve("manifest.js.tmp");
+        Files.write(temp, ("report.manifest(" + GSON.toJson(manifest) + ");\n").getBytes(StandardCharsets.UTF_8));
+        try {
+            Files.move(temp, directory.resolve("manifest.js"), StandardCopyOption.REPLACE_EXISTING,
+                    StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temp, directory.resolve("manifest.js"), StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private void thumbnail(TestRecord.Image image, String name) {
+        File full = new File(image.getFull());
+        if (!full.isFile()) {
+            return;
+        }
+        try {
+            BufferedImage source = ImageIO.read(full);
+            if (source == null) {
+                return;
+            }
+            int width = Math.min(thumbnailWidth, source.getWidth());
+            // cok uzun tam sayfa goruntulerinde sadece ust kisim kucultulur
+            int sourceHeight = Math.min(source.getHeight(), source.getWidth() * 2);
+            int height = Math.max(1, sourceHeight * width / source.getWidth());
+            BufferedImage thumb = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+            Graphics2D graphics = thumb.createGraphics();
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.drawImage(source, 0, 0, width, height, 0, 0, source.getWidth(), sourceHeight, null);
+            graphics.dispose();
+            String relative = "thumbs/" + name + ".jpg";
+            ImageIO.write(thumb, "jpg", directory.resolve(relative).toFile());
+            image.setThumbnail(relative);
+        } catch (IOException e) {
+            LOG.warn("Kucuk resim olusturulamadi: {} {}", image.getFull(), e.getMessage());
+        }
+    }
+}
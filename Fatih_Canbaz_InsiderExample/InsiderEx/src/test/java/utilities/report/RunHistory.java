@@ -0,0 +1,267 @@
+package utilities.report;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonSyntaxException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.channels.SeekableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * RunHistory Class
+ * <p>
+ * File based history of every test attempt of every run (one JSON line per attempt), so runs can be compared:
+ * flakiness, duration trends and p95 per test ({@link TestStats}). Writing is append-only and happens on a
+ * background thread, a test never waits for the disk; {@link #close()} waits for the queued lines at the end of
+ * the run. Queries read only the end of the file, back to the oldest of the last maxRuns runs.
+ * </p>
+ * <p>
+ * Author: Fatih Canbaz
+ * </p>
+ */
+public class RunHistory implements AutoCloseable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(RunHistory.class);
+
+    private static final Gson GSON = new Gson();
+    private static final int TAIL_BLOCK_SIZE = 64 * 1024;
+
+    private final Path file;
+    private ExecutorService writer;
+    private Writer out;
+
+    /**
+     * One execution of a test method; a retried test has several attempts in the same run.
+     */
+    public static class Attempt {
+        private final String runId;
+        private final String name;
+        private final String status;
+        private final long start;
+        private final long durationMillis;
+        private final String browser;
+        private final int attempt;
+        private final boolean retried;
+
+        public Attempt(String runId, String name, String status, long start, long durationMillis, String browser,
+                       int attempt, boolean retried) {
+            this.runId = runId;
+            this.name = name;
+            this.status = status;
+            this.start = start;
+            this.durationMillis = durationMillis;
+            this.browser = browser;
+            this.attempt = attempt;
+            this.retried = retried;
+        }
+
+        public String getRunId() {
+            return runId;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * PASS, FAIL or SKIP.
+         */
+        public String getStatus() {
+            return status;
+        }
+
+        public long getStart() {
+            return start;
+        }
+
+        public long getDurationMillis() {
+            return durationMillis;
+        }
+
+        public String getBrowser() {
+            return browser;
+        }
+
+        /**
+         * 1 for the first execution in the run, 2 for the first retry...
+         */
+        public int getAttempt() {
+            return attempt;
+        }
+
+        /**
+         * True if TestNG retried the test after this attempt (the attempt does not count as the final result).
+         */
+        public boolean isRetried() {
+            return retried;
+        }
+    }
+
+    public RunHistory(Path file) {
+        this.file = file;
+    }
+
+    public Path getFile() {
+        return file;
+    }
+
+    /**
+     * Queues the attempt; it is written by the background writer.
+     */
+    public synchronized void append(Attempt attempt) {
+        if (writer == null) {
+            writer = Executors.newSingleThreadExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "run-history-writer");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        String line = GSON.toJson(attempt);
+        writer.execute(() -> write(line));
+    }
+
+    /**
+     * Waits until every queued attempt is on disk.
+     */
+    @Override
+    public synchronized void close() {
+        if (writer == null) {
+            return;
+        }
+        writer.shutdown();
+        try {
+            if (!writer.awaitTermination(30, TimeUnit.SECONDS)) {
+                LOG.warn("Run history yazimi zaman asimina ugradi: {}", file);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        writer = null;
+        try {
+            if (out != null) {
+                out.close();
+            }
+        } catch (IOException e) {
+            LOG.warn("Run history kapatilamadi: {}", e.getMessage());
+        }
+        out = null;
+    }
+
+    /**
+     * Attempts of the last maxRuns runs, grouped per test (class.method) in file order. The file is read backwards
+     * block by block and reading stops at the first line of an older run, so a long history costs no more than
+     * the runs that are used.
+     */
+    public Map<String, List<Attempt>> load(int maxRuns) throws IOException {
+        Deque<Attempt> attempts = new ArrayDeque<>();
+        if (maxRuns > 0 && Files.exists(file)) {
+            readTail(maxRuns, attempts);
+        }
+        Map<String, List<Attempt>> tests = new LinkedHashMap<>();
+        for (Attempt attempt : attempts) {
+            tests.computeIfAbsent(attempt.getName(), name -> new ArrayList<>()).add(attempt);
+        }
+        return tests;
+    }
+
+    /**
+     * Statistics of every test over the last maxRuns runs.
+     */
+    public Map<String, TestStats> stats(int maxRuns) throws IOException {
+        Map<String, TestStats> stats = new LinkedHashMap<>();
+        for (Map.Entry<String, List<Attempt>> test : load(maxRuns).entrySet()) {
+            stats.put(test.getKey(), TestStats.of(test.getKey(), test.getValue()));
+        }
+        return stats;
+    }
+
+    private void readTail(int maxRuns, Deque<Attempt> attempts) throws IOException {
+        Set<String> runIds = new HashSet<>();
+        try (SeekableByteChannel channel = Files.newByteChannel(file, StandardOpenOption.READ)) {
+            long position = channel.size();
+            ByteBuffer block = ByteBuffer.allocate(TAIL_BLOCK_SIZE);
+            // basi onceki blokta kalan satirin bu bloktaki kismi
+            byte[] rest = new byte[0];
+            while (position > 0) {
+                int size = (int) Math.min(TAIL_BLOCK_SIZE, position);
+                position -= size;
+                block.clear().limit(size);
+                channel.position(position);
+                while (block.hasRemaining()) {
+                    if (channel.read(block) < 0) {
+                        break;
+                    }
+                }
+                byte[] data = new byte[size + rest.length];
+                System.arraycopy(block.array(), 0, data, 0, size);
+                System.arraycopy(rest, 0, data, size, rest.length);
+                int end = data.length;
+                for (int i = data.length - 1; i >= 0; i--) {
+                    if (data[i] == '\n') {
+                        if (!addLine(new String(data, i + 1, end - i - 1, StandardCharsets.UTF_8), maxRuns, runIds, attempts)) {
+                            return;
+                        }
+                        end = i;
+                    }
+                }
+                rest = Arrays.copyOf(data, end);
+            }
+            addLine(new String(rest, StandardCharsets.UTF_8), maxRuns, runIds, attempts);
+        }
+    }
+
+    // false: satir maxRuns'tan eski bir run'a ait, okuma biter
+    private static boolean addLine(String line, int maxRuns, Set<String> runIds, Deque<Attempt> attempts) {
+        if (line.isBlank()) {
+            return true;
+        }
+        Attempt attempt;
+        try {
+            attempt = GSON.fromJson(line, Attempt.class);
+        } catch (JsonSyntaxException e) {
+            // yarim kalmis son satir (kesilen run) atlanir
+            return true;
+        }
+        if (runIds.add(attempt.getRunId()) && runIds.size() > maxRuns) {
+            return false;
+        }
+        attempts.addFirst(attempt);
+        return true;
+    }
+
+    private void write(String line) {
+        try {
+            if (out == null) {
+                if (file.getParent() != null) {
+                    Files.createDirectories(file.getParent());
+                }
+                out = Files.newBufferedWriter(file, StandardCharsets.UTF_8, StandardOpenOption.CREATE,
+                        StandardOpenOption.APPEND);
+            }
+            out.write(line);
+            out.write('\n');
+            out.flush();
+        } catch (IOException e) {
+            LOG.warn("Run history yazilamadi: {}", e.getMessage());
+        }
+    }
+}
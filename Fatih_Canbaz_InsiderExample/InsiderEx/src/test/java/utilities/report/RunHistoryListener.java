@@ -0,0 +1,182 @@
+package utilities.report;
+
+import com.google.gson.GsonBuilder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testng.IExecutionListener;
+import org.testng.ITestListener;
+import org.testng.ITestResult;
+import utilities.ConfigReader;
+import utilities.performance.StartupTelemetry;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.file.Paths;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * RunHistoryListener Class
+ * <p>
+ * Adds every test attempt of the run (status, duration, browser, retry) to the {@link RunHistory} file. At the end
+ * of the run the history of the last historyMaxRuns runs is evaluated and test-output/RunHistoryReportyyyyMMddhhmmss.json
+ * is written with the {@link TestStats} of every test and the alerts:
+ * - duration: a test that passed slower than the p95 of its previous runs by more than historyRegressionThresholdPercent
+ * - flaky: a test whose flakiness rate reached historyFlakyThreshold
+ * Alerts are printed only, they do not fail the run. Tests with less than historyMinRuns runs get no alert.
+ * Registered for every run through META-INF/services/org.testng.ITestNGListener.
+ * </p>
+ * <p>
+ * Configuration (configuration.properties):
+ * - historyEnabled: true/false (default true)
+ * - historyFile: history file (default test-output/history/test-history.jsonl)
+ * - historyMaxRuns: runs used for the statistics (default 50)
+ * - historyMinRuns: runs needed before alerts are raised (default 5)
+ * - historyRegressionThresholdPercent: allowed slowdown over the p95 in percent (default 50)
+ * - historyFlakyThreshold: flakiness rate (0-1) that raises an alert (default 0.2)
+ * </p>
+ * <p>
+ * Author: Fatih Canbaz
+ * </p>
+ */
+public class RunHistoryListener implements IExecutionListener, ITestListener {
+
+    private static final Logger LOG = LoggerFactory.getLogger(RunHistoryListener.class);
+
+    private static final boolean ENABLED = Boolean.parseBoolean(ConfigReader.getProperty("historyEnabled", "true"));
+
+    private final Queue<RunHistory.Attempt> current = new ConcurrentLinkedQueue<>();
+    // test + parametreler -> bu run'daki deneme sayisi
+    private final Map<String, AtomicInteger> attempts = new ConcurrentHashMap<>();
+    private RunHistory history;
+
+    public RunHistoryListener() {
+
+    }
+
+    // testler icin: config yerine verilen history'ye yazar
+    RunHistoryListener(RunHistory history) {
+        this.history = history;
+    }
+
+    /**
+     * History file from the configuration, relative paths are under the project folder.
+     */
+    public static RunHistory open() {
+        return new RunHistory(Paths.get(System.getProperty("user.dir"))
+                .resolve(ConfigReader.getProperty("historyFile", "test-output/history/test-history.jsonl")));
+    }
+
+    @Override
+    public void onExecutionStart() {
+        if (ENABLED && history == null) {
+            history = open();
+        }
+    }
+
+    @Override
+    public void onTestSuccess(ITestResult result) {
+        record(result, "PASS");
+    }
+
+    @Override
+    public void onTestFailure(ITestResult result) {
+        record(result, "FAIL");
+    }
+
+    @Override
+    public void onTestFailedButWithinSuccessPercentage(ITestResult result) {
+        record(result, "FAIL");
+    }
+
+    @Override
+    public void onTestSkipped(ITestResult result) {
+        // TestNG tekrar denenecek basarisiz denemeyi de onTestSkipped ile bildirir
+        record(result, result.wasRetried() ? "FAIL" : "SKIP");
+    }
+
+    @Override
+    public void onExecutionFinish() {
+        if (history == null || current.isEmpty()) {
+            return;
+        }
+        history.close();
+        int maxRuns = Integer.parseInt(ConfigReader.getProperty("historyMaxRuns", "50"));
+        int minRuns = Integer.parseInt(ConfigReader.getProperty("historyMinRuns", "5"));
+        double threshold = Double.parseDouble(ConfigReader.getProperty("historyRegressionThresholdPercent", "50"));
+        double flakyThreshold = Double.parseDouble(ConfigReader.getProperty("historyFlakyThreshold", "0.2"));
+        String runId = StartupTelemetry.getRunId();
+        try {
+            Map<String, List<RunHistory.Attempt>> tests = history.load(maxRuns);
+            Map<String, TestStats> stats = new LinkedHashMap<>();
+            List<String> alerts = new ArrayList<>();
+            for (Map.Entry<String, List<RunHistory.Attempt>> test : tests.entrySet()) {
+                TestStats all = TestStats.of(test.getKey(), test.getValue());
+                stats.put(test.getKey(), all);
+                // sure bu run haric onceki run'larin p95'i ile karsilastirilir
+                List<RunHistory.Attempt> previous = new ArrayList<>();
+                for (RunHistory.Attempt attempt : test.getValue()) {
+                    if (!attempt.getRunId().equals(runId)) {
+                        previous.add(attempt);
+                    }
+                }
+                TestStats baseline = TestStats.of(test.getKey(), previous);
+                for (RunHistory.Attempt attempt : current) {
+                    if (attempt.getName().equals(test.getKey()) && attempt.getStatus().equals("PASS")
+                            && baseline.isDurationRegression(attempt.getDurationMillis(), threshold, minRuns)) {
+                        alerts.add(String.format("Sure: %s %d ms, onceki p95 %.0f ms (esik %%%.0f)",
+                                test.getKey(), attempt.getDurationMillis(), baseline.getP95Millis(), threshold));
+                    }
+                }
+                if (all.getRuns() >= minRuns && all.getFlakinessRate() >= flakyThreshold) {
+                    alerts.add(String.format("Flaky: %s, %d run'in %%%.0f'i tekrar ile gecti",
+                            test.getKey(), all.getRuns(), all.getFlakinessRate() * 100));
+                }
+            }
+            String report = write(stats, alerts);
+            alerts.forEach(alert -> LOG.warn("Run history uyarisi: {}", alert));
+            LOG.info("Run history raporu: {}", report);
+        } catch (IOException e) {
+            LOG.warn("Run history raporu yazilamadi: {}", e.getMessage());
+        }
+    }
+
+    private void record(ITestResult result, String status) {
+        if (history == null) {
+            return;
+        }
+        String name = result.getTestClass().getRealClass().getName() + "." + result.getMethod().getMethodName();
+        int attempt = attempts.computeIfAbsent(name + Arrays.toString(result.getParameters()),
+                key -> new AtomicInteger()).incrementAndGet();
+        RunHistory.Attempt entry = new RunHistory.Attempt(StartupTelemetry.getRunId(), name, status,
+                result.getStartMillis(), Math.max(0, result.getEndMillis() - result.getStartMillis()),
+                ConfigReader.getProperty("browser"), attempt, result.wasRetried());
+        current.add(entry);
+        history.append(entry);
+    }
+
+    private static String write(Map<String, TestStats> stats, List<String> alerts) throws IOException {
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("run", StartupTelemetry.getRunId());
+        report.put("alerts", alerts);
+        report.put("tests", stats.values());
+        File file = new File(System.getProperty("user.dir") + "/test-output/RunHistoryReport"
+                + new SimpleDateFormat("yyyyMMddhhmmss").format(new Date()) + ".json");
+        file.getParentFile().mkdirs();
+        try (Writer writer = new FileWriter(file)) {
+            new GsonBuilder().setPrettyPrinting().create().toJson(report, writer);
+        }
+        return file.getAbsolutePath();
+    }
+}
@@ -0,0 +1,122 @@
+package utilities.report;
+
+import org.testng.Assert;
+import org.testng.IRetryAnalyzer;
+import org.testng.ITestListener;
+import org.testng.ITestResult;
+import org.testng.TestNG;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+public class RunHistoryListenerTest {
+
+    @Test
+    public void failedAttemptBeforeRetryMakesRunFlaky() throws IOException {
+        Path directory = Files.createTempDirectory("run-history");
+        RunHistory history = new RunHistory(directory.resolve("test-history.jsonl"));
+        try {
+            FailsOnce.executions = 0;
+            TestNG testng = new TestNG(false);
+            testng.setVerbose(0);
+            testng.setOutputDirectory(directory.resolve("output").toString());
+            // ic run gercek history/rapor dosyalarina yazmasin
+            testng.setListenersToSkipFromBeingWiredInViaServiceLoaders(serviceListeners());
+            testng.setTestClasses(new Class<?>[]{FailsOnce.class});
+            RunHistoryListener listener = new RunHistoryListener(history);
+            // sadece test sonuclari iletilir, ic run'in sonunda rapor yazilmaz
+            testng.addListener(new ITestListener() {
+                @Override
+                public void onTestSuccess(ITestResult result) {
+                    listener.onTestSuccess(result);
+                }
+
+                @Override
+                public void onTestFailure(ITestResult result) {
+                    listener.onTestFailure(result);
+                }
+
+                @Override
+                public void onTestSkipped(ITestResult result) {
+                    listener.onTestSkipped(result);
+                }
+            });
+            testng.run();
+            history.close();
+
+            Map<String, List<RunHistory.Attempt>> tests = history.load(50);
+            List<RunHistory.Attempt> attempts = tests.get(FailsOnce.class.getName() + ".passesOnRetry");
+            Assert.assertEquals(attempts.size(), 2);
+            // TestNG ilk denemeyi onTestSkipped + wasRetried ile bildirir
+            Assert.assertEquals(attempts.get(0).getStatus(), "FAIL");
+            Assert.assertTrue(attempts.get(0).isRetried());
+            Assert.assertEquals(attempts.get(1).getStatus(), "PASS");
+
+            TestStats stats = TestStats.of("passesOnRetry", attempts);
+            Assert.assertEquals(stats.getRuns(), 1);
+            Assert.assertEquals(stats.getPassRate(), 1.0);
+            Assert.assertEquals(stats.getFlakinessRate(), 1.0);
+            Assert.assertEquals(stats.getRetries(), 1);
+        } finally {
+            history.close();
+            delete(directory);
+        }
+    }
+
+    @Test
+    public void retriedAttemptRecordedAsSkipStillCountsAsFailure() {
+        // eski history dosyalarinda tekrar denenen deneme SKIP olarak yazilmisti
+        List<RunHistory.Attempt> attempts = List.of(
+                new RunHistory.Attempt("run-1", "A.a", "SKIP", 0, 100, "chrome", 1, true),
+                new RunHistory.Attempt("run-1", "A.a", "PASS", 100, 100, "chrome", 2, false),
+                new RunHistory.Attempt("run-2", "A.a", "PASS", 0, 100, "chrome", 1, false));
+
+        Assert.assertEquals(TestStats.of("A.a", attempts).getFlakinessRate(), 0.5);
+    }
+
+    static class FailsOnce {
+        static int executions;
+
+        @Test(retryAnalyzer = RetryOnce.class)
+        public void passesOnRetry() {
+            executions++;
+            Assert.assertTrue(executions > 1, "ilk deneme basarisiz");
+        }
+    }
+
+    public static class RetryOnce implements IRetryAnalyzer {
+        private int retries;
+
+        @Override
+        public boolean retry(ITestResult result) {
+            return retries++ < 1;
+        }
+    }
+
+    private static String[] serviceListeners() throws IOException {
+        try (InputStream services = RunHistoryListenerTest.class
+                .getResourceAsStream("/META-INF/services/org.testng.ITestNGListener")) {
+            return new String(services.readAllBytes(), StandardCharsets.UTF_8).lines()
+                    .map(String::trim)
+                    .filter(line -> !line.isEmpty())
+                    .toArray(String[]::new);
+        }
+    }
+
+    private static void delete(Path path) throws IOException {
+        if (Files.isDirectory(path)) {
+            try (var children = Files.list(path)) {
+                for (Path child : (Iterable<Path>) children::iterator) {
+                    delete(child);
+                }
+            }
+        }
+        Files.deleteIfExists(path);
+    }
+}
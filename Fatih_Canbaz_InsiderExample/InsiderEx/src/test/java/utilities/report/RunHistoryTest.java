@@ -0,0 +1,51 @@
+package utilities.report;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Map;
+
+public class RunHistoryTest {
+
+    @Test
+    public void loadReadsOnlyTheLastRuns() throws IOException {
+        Path file = Files.createTempFile("test-history", ".jsonl");
+        try {
+            RunHistory history = new RunHistory(file);
+            // 200 run x 20 test, dosya okuma bloklarindan (64 KB) cok daha buyuk
+            for (int run = 1; run <= 200; run++) {
+                for (int test = 0; test < 20; test++) {
+                    history.append(new RunHistory.Attempt("run-" + run, "Test.t" + test, "PASS", run, run,
+                            "chrome", 1, false));
+                }
+            }
+            history.close();
+            // kesilen run'in yarim satiri atlanir
+            Files.write(file, "{\"runId\":\"run-2".getBytes(StandardCharsets.UTF_8),
+                    StandardOpenOption.APPEND);
+
+            Map<String, List<RunHistory.Attempt>> tests = history.load(3);
+
+            Assert.assertEquals(tests.size(), 20);
+            List<RunHistory.Attempt> attempts = tests.get("Test.t7");
+            Assert.assertEquals(attempts.size(), 3);
+            Assert.assertEquals(attempts.get(0).getRunId(), "run-198");
+            Assert.assertEquals(attempts.get(2).getRunId(), "run-200");
+            Assert.assertEquals(history.load(500).get("Test.t0").size(), 200);
+            Assert.assertTrue(history.load(0).isEmpty());
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    public void missingFileHasNoHistory() throws IOException {
+        Assert.assertTrue(new RunHistory(Files.createTempDirectory("history").resolve("none.jsonl")).load(50).isEmpty());
+    }
+}
@@ -0,0 +1,77 @@
+package utilities.report;
+
+import org.slf4j.MDC;
+import org.testng.IInvokedMethod;
+import org.testng.IInvokedMethodListener;
+import org.testng.ITestResult;
+import utilities.performance.StartupTelemetry;
+
+import java.io.File;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * TestLogContext Class
+ * <p>
+ * Puts the run, the test and the step of the running test into the SLF4J MDC of the test thread, so every log
+ * line of the test carries them (see log4j2.xml). The context is set before the test method and kept for its
+ * @AfterMethod methods; other configuration methods log without a test. log4j2.xml routes the lines of every
+ * test to test-output/logs/&lt;runId&gt;/&lt;testId&gt;.log (JSON lines), {@link #getLogFile()} is attached to
+ * the reports. Registered for every run through META-INF/services/org.testng.ITestNGListener.
+ * </p>
+ * <p>
+ * MDC keys: run, test (class.method), testId (SimpleClass.method-N, file name of the test log), step
+ * </p>
+ * <p>
+ * Author: Fatih Canbaz
+ * </p>
+ */
+public class TestLogContext implements IInvokedMethodListener {
+
+    public static final String RUN = "run";
+    public static final String TEST = "test";
+    public static final String TEST_ID = "testId";
+    public static final String STEP = "step";
+
+    private static final AtomicInteger SEQUENCE = new AtomicInteger();
+    // thread'deki testin adim sayaci
+    private static final ThreadLocal<int[]> STEPS = ThreadLocal.withInitial(() -> new int[1]);
+
+    /**
+     * Counts a new step of the test on this thread and puts its number into the MDC.
+     */
+    public static void nextStep() {
+        if (MDC.get(TEST_ID) != null) {
+            MDC.put(STEP, String.valueOf(++STEPS.get()[0]));
+        }
+    }
+
+    /**
+     * Log file of the test running (or just finished) on this thread, null outside of a test.
+     */
+    public static String getLogFile() {
+        String testId = MDC.get(TEST_ID);
+        if (testId == null) {
+            return null;
+        }
+        return new File(System.getProperty("user.dir") + "/test-output/logs/" + MDC.get(RUN) + "/" + testId + ".log")
+                .getAbsolutePath();
+    }
+
+    @Override
+    public void beforeInvocation(IInvokedMethod method, ITestResult testResult) {
+        if (method.isTestMethod()) {
+            Class<?> testClass = testResult.getTestClass().getRealClass();
+            String name = testResult.getMethod().getMethodName();
+            MDC.put(RUN, StartupTelemetry.getRunId());
+            MDC.put(TEST, testClass.getName() + "." + name);
+            MDC.put(TEST_ID, testClass.getSimpleName() + "." + name + "-" + SEQUENCE.incrementAndGet());
+            MDC.put(STEP, "0");
+            STEPS.get()[0] = 0;
+        } else if (!method.getTestMethod().isAfterMethodConfiguration()) {
+            // AfterMethod'lar (ekran goruntusu, rapor) hala testin log'una yazar
+            MDC.remove(TEST);
+            MDC.remove(TEST_ID);
+            MDC.remove(STEP);
+        }
+    }
+}
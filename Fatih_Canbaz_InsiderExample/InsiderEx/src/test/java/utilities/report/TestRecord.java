@@ -0,0 +1,204 @@
+package utilities.report;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * TestRecord Class
+ * <p>
+ * One finished test method as stored by {@link ResultStore}: one JSON line in results.jsonl and one entry in a
+ * page file of the HTML viewer.
+ * </p>
+ * <p>
+ * Author: Fatih Canbaz
+ * </p>
+ */
+public class TestRecord {
+
+    private int id;
+    private String runId;
+    private String className;
+    private String method;
+    private String description;
+    private List<String> parameters;
+    private String status;
+    private long start;
+    private long durationMillis;
+    private String browser;
+    private String thread;
+    private String message;
+    private String stackTrace;
+    private final List<Image> images = new ArrayList<>();
+    private final Map<String, String> info = new LinkedHashMap<>();
+
+    /**
+     * Screenshot attached to a test; the viewer shows the thumbnail and links the full size file.
+     */
+    public static class Image {
+        private final String title;
+        private final String full;
+        private final String url;
+        private String thumbnail;
+
+        public Image(String title, String full) {
+            this.title = title;
+            this.full = full;
+            this.url = new File(full).getAbsoluteFile().toURI().toString();
+        }
+
+        public String getTitle() {
+            return title;
+        }
+
+        public String getFull() {
+            return full;
+        }
+
+        /**
+         * file: url of the full size image, used as link target by the viewer.
+         */
+        public String getUrl() {
+            return url;
+        }
+
+        public String getThumbnail() {
+            return thumbnail;
+        }
+
+        void setThumbnail(String thumbnail) {
+            this.thumbnail = thumbnail;
+        }
+    }
+
+    public TestRecord(String className, String method, String status) {
+        this.className = className;
+        this.method = method;
+        this.status = status;
+    }
+
+    public int getId() {
+        return id;
+    }
+
+    void setId(int id) {
+        this.id = id;
+    }
+
+    public String getRunId() {
+        return runId;
+    }
+
+    void setRunId(String runId) {
+        this.runId = runId;
+    }
+
+    public String getClassName() {
+        return className;
+    }
+
+    public String getMethod() {
+        return method;
+    }
+
+    /**
+     * class.method, the key of a test across runs.
+     */
+    public String getName() {
+        return className + "." + method;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public TestRecord description(String description) {
+        this.description = description;
+        return this;
+    }
+
+    public List<String> getParameters() {
+        return parameters;
+    }
+
+    public TestRecord parameters(List<String> parameters) {
+        this.parameters = parameters;
+        return this;
+    }
+
+    /**
+     * PASS, FAIL or SKIP.
+     */
+    public String getStatus() {
+        return status;
+    }
+
+    public long getStart() {
+        return start;
+    }
+
+    public long getDurationMillis() {
+        return durationMillis;
+    }
+
+    public TestRecord timing(long start, long durationMillis) {
+        this.start = start;
+        this.durationMillis = durationMillis;
+        return this;
+    }
+
+    public String getBrowser() {
+        return browser;
+    }
+
+    public TestRecord browser(String browser) {
+        this.browser = browser;
+        return this;
+    }
+
+    public String getThread() {
+        return thread;
+    }
+
+    public TestRecord thread(String thread) {
+        this.thread = thread;
+        return this;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    public String getStackTrace() {
+        return stackTrace;
+    }
+
+    public TestRecord failure(String message, String stackTrace) {
+        this.message = message;
+        this.stackTrace = stackTrace;
+        return this;
+    }
+
+    public List<Image> getImages() {
+        return images;
+    }
+
+    public TestRecord image(String title, String full) {
+        images.add(new Image(title, full));
+        return this;
+    }
+
+    /**
+     * Extra key/value lines shown with the test (HAR file, timings...).
+     */
+    public Map<String, String> getInfo() {
+        return info;
+    }
+
+    public TestRecord info(String key, String value) {
+        info.put(key, value);
+        return this;
+    }
+}
@@ -0,0 +1,186 @@
+package utilities.report;
+
+import utilities.performance.Stats;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * TestStats Class
+ * <p>
+ * History of one test over several runs, computed from its {@link RunHistory.Attempt}s:
+ * - passRate: share of runs whose final attempt passed
+ * - flakinessRate: share of runs that had a failed and a passed attempt (passed only on retry)
+ * - flipRate: share of consecutive runs whose final result changed between PASS and FAIL
+ * - median/p95/last duration of the passed runs (all runs if none passed) and the trend: median of the newer
+ *   half of the runs compared to the older half, in percent
+ * </p>
+ * <p>
+ * Author: Fatih Canbaz
+ * </p>
+ */
+public class TestStats {
+
+    private final String name;
+    private final int runs;
+    private final double passRate;
+    private final double flakinessRate;
+    private final double flipRate;
+    private final int retries;
+    private final double medianMillis;
+    private final double p95Millis;
+    private final double lastMillis;
+    private final double trendPercent;
+    private final String lastStatus;
+
+    private TestStats(String name, int runs, double passRate, double flakinessRate, double flipRate, int retries,
+                      double medianMillis, double p95Millis, double lastMillis, double trendPercent, String lastStatus) {
+        this.name = name;
+        this.runs = runs;
+        this.passRate = passRate;
+        this.flakinessRate = flakinessRate;
+        this.flipRate = flipRate;
+        this.retries = retries;
+        this.medianMillis = medianMillis;
+        this.p95Millis = p95Millis;
+        this.lastMillis = lastMillis;
+        this.trendPercent = trendPercent;
+        this.lastStatus = lastStatus;
+    }
+
+    /**
+     * @param attempts attempts of one test in run order (as read from the history file)
+     */
+    public static TestStats of(String name, List<RunHistory.Attempt> attempts) {
+        Map<String, List<RunHistory.Attempt>> runs = new LinkedHashMap<>();
+        int retries = 0;
+        for (RunHistory.Attempt attempt : attempts) {
+            runs.computeIfAbsent(attempt.getRunId(), run -> new ArrayList<>()).add(attempt);
+            if (attempt.isRetried()) {
+                retries++;
+            }
+        }
+        int passed = 0;
+        int flaky = 0;
+        int flips = 0;
+        int pairs = 0;
+        String previous = null;
+        List<Double> passedDurations = new ArrayList<>();
+        List<Double> allDurations = new ArrayList<>();
+        for (List<RunHistory.Attempt> run : runs.values()) {
+            RunHistory.Attempt last = finalAttempt(run);
+            // tekrar denenen deneme basarisiz sayilir (eski kayitlarda SKIP olarak yazilmis olabilir)
+            boolean anyFailed = run.stream().anyMatch(attempt -> attempt.isRetried() || attempt.getStatus().equals("FAIL"));
+            if (last.getStatus().equals("PASS")) {
+                passed++;
+                passedDurations.add((double) last.getDurationMillis());
+                if (anyFailed) {
+                    flaky++;
+                }
+            }
+            allDurations.add((double) last.getDurationMillis());
+            // SKIP sonucu gidip gelme sayilmaz
+            if (!last.getStatus().equals("SKIP")) {
+                if (previous != null) {
+                    pairs++;
+                    if (!previous.equals(last.getStatus())) {
+                        flips++;
+                    }
+                }
+                previous = last.getStatus();
+            }
+        }
+        List<Double> durations = passedDurations.isEmpty() ? allDurations : passedDurations;
+        List<Double> sorted = new ArrayList<>(durations);
+        sorted.sort(null);
+        double trend = 0;
+        if (durations.size() >= 4) {
+            int half = durations.size() / 2;
+            double older = Stats.median(durations.subList(0, half));
+            double newer = Stats.median(durations.subList(durations.size() - half, durations.size()));
+            trend = older > 0 ? (newer - older) / older * 100 : 0;
+        }
+        int runCount = runs.size();
+        String lastStatus = runCount == 0 ? null : finalAttempt(new ArrayList<>(runs.values()).get(runCount - 1)).getStatus();
+        return new TestStats(name, runCount,
+                runCount == 0 ? 0 : passed / (double) runCount,
+                runCount == 0 ? 0 : flaky / (double) runCount,
+                pairs == 0 ? 0 : flips / (double) pairs,
+                retries,
+                Stats.median(durations),
+                Stats.percentile(sorted, 95),
+                durations.isEmpty() ? 0 : durations.get(durations.size() - 1),
+                trend,
+                lastStatus);
+    }
+
+    // tekrar denenmeyen (son) deneme run'in sonucudur
+    private static RunHistory.Attempt finalAttempt(List<RunHistory.Attempt> run) {
+        for (int i = run.size() - 1; i >= 0; i--) {
+            if (!run.get(i).isRetried()) {
+                return run.get(i);
+            }
+        }
+        return run.get(run.size() - 1);
+    }
+
+    /**
+     * True if the duration is slower than the p95 of this history by more than thresholdPercent; needs at least
+     * minRuns runs, with less history nothing is reported.
+     */
+    public boolean isDurationRegression(double durationMillis, double thresholdPercent, int minRuns) {
+        return runs >= minRuns && p95Millis > 0 && durationMillis > p95Millis * (1 + thresholdPercent / 100);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getRuns() {
+        return runs;
+    }
+
+    public double getPassRate() {
+        return passRate;
+    }
+
+    public double getFlakinessRate() {
+        return flakinessRate;
+    }
+
+    public double getFlipRate() {
+        return flipRate;
+    }
+
+    public int getRetries() {
+        return retries;
+    }
+
+    public double getMedianMillis() {
+        return medianMillis;
+    }
+
+    public double getP95Millis() {
+        return p95Millis;
+    }
+
+    public double getLastMillis() {
+        return lastMillis;
+    }
+
+    public double getTrendPercent() {
+        return trendPercent;
+    }
+
+    public String getLastStatus() {
+        return lastStatus;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s: %d run, pass %.0f%%, flaky %.0f%%, flip %.0f%%, median %.0f ms, p95 %.0f ms, trend %+.0f%%",
+                name, runs, passRate * 100, flakinessRate * 100, flipRate * 100, medianMillis, p95Millis, trendPercent);
+    }
+}
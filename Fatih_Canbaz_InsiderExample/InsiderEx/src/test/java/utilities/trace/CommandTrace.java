@@ -0,0 +1,208 @@
+package utilities.trace;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.support.events.WebDriverListener;
+import utilities.ConfigReader;
+
+import java.io.IOException;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * CommandTrace Class
+ * <p>
+ * WebDriverListener that records every WebDriver command (driver, element, navigation, alert...) of the decorated
+ * driver: command name, hash of the arguments, start and end time and the result (OK, ERROR with the exception
+ * class). Records go into a preallocated ring buffer of the thread (primitive arrays, nothing is allocated per
+ * command), older commands are overwritten. Nothing is written while tests pass; CommandTraceListener dumps the
+ * commands of a failed test with {@link #dump(long, Path, String)} and TraceViewer shows the file as a timeline.
+ * Added to the drivers of {@link utilities.DriverFactory} when commandTraceEnabled is true (default).
+ * </p>
+ * <p>
+ * Configuration (configuration.properties):
+ * - commandTraceEnabled: true/false (default true)
+ * - commandTraceBufferSize: commands kept per thread (default 4096)
+ * </p>
+ * <p>
+ * Author: Fatih Canbaz
+ * </p>
+ */
+public class CommandTrace implements WebDriverListener {
+
+    public static final byte RUNNING = 0;
+    public static final byte OK = 1;
+    public static final byte ERROR = 2;
+
+    private static final int CAPACITY = Integer.parseInt(ConfigReader.getProperty("commandTraceBufferSize", "4096"));
+    private static final int MAX_DEPTH = 32;
+
+    // komut ve exception adlari bir kere numaralanir, ring'de sadece numara tutulur
+    private static final Map<Method, Integer> COMMAND_IDS = new ConcurrentHashMap<>();
+    private static final Map<String, Integer> NAME_IDS = new ConcurrentHashMap<>();
+    private static final List<String> NAMES = new ArrayList<>();
+
+    private static final ThreadLocal<Ring> RINGS = ThreadLocal.withInitial(() -> new Ring(CAPACITY));
+
+    /**
+     * Ring buffer of one thread; entry i is in slot i % capacity of the arrays.
+     */
+    static final class Ring {
+        final long[] sequence;
+        final int[] command;
+        final int[] argsHash;
+        final long[] start;
+        final long[] end;
+        final byte[] status;
+        final int[] error;
+        // acik (bitmemis) komutlar, ic ice cagrilar icin
+        final long[] open = new long[MAX_DEPTH];
+        int depth;
+        long next;
+
+        Ring(int capacity) {
+            sequence = new long[capacity];
+            command = new int[capacity];
+            argsHash = new int[capacity];
+            start = new long[capacity];
+            end = new long[capacity];
+            status = new byte[capacity];
+            error = new int[capacity];
+        }
+
+        int capacity() {
+            return sequence.length;
+        }
+    }
+
+    @Override
+    public void beforeAnyCall(Object target, Method method, Object[] args) {
+        Ring ring = RINGS.get();
+        long entry = ring.next++;
+        int slot = (int) (entry % ring.capacity());
+        ring.sequence[slot] = entry;
+        ring.command[slot] = COMMAND_IDS.computeIfAbsent(method,
+                m -> nameId(m.getDeclaringClass().getSimpleName() + "." + m.getName()));
+        ring.argsHash[slot] = hash(args);
+        ring.status[slot] = RUNNING;
+        ring.error[slot] = -1;
+        ring.end[slot] = 0;
+        if (ring.depth < MAX_DEPTH) {
+            ring.open[ring.depth] = entry;
+        }
+        ring.depth++;
+        ring.start[slot] = System.nanoTime();
+    }
+
+    @Override
+    public void afterAnyCall(Object target, Method method, Object[] args, Object result) {
+        close(OK, -1);
+    }
+
+    @Override
+    public void onError(Object target, Method method, Object[] args, InvocationTargetException e) {
+        close(ERROR, nameId(e.getTargetException().getClass().getSimpleName()));
+    }
+
+    /**
+     * Position of the next command of this thread; commands from a position on can be dumped.
+     */
+    public static long position() {
+        return RINGS.get().next;
+    }
+
+    /**
+     * Commands of this thread from position from (or the oldest one still in the ring) to now.
+     */
+    public static TraceFile.Trace snapshot(long from, String title) {
+        Ring ring = RINGS.get();
+        long first = Math.max(from, ring.next - ring.capacity());
+        long nowNanos = System.nanoTime();
+        long nowMillis = System.currentTimeMillis();
+        long origin = first < ring.next ? ring.start[(int) (first % ring.capacity())] : nowNanos;
+        TraceFile.Trace trace = new TraceFile.Trace(title, nowMillis - (nowNanos - origin) / 1_000_000,
+                Math.max(0, first - from));
+        for (long entry = first; entry < ring.next; entry++) {
+            int slot = (int) (entry % ring.capacity());
+            long end = ring.status[slot] == RUNNING ? nowNanos : ring.end[slot];
+            trace.add(new TraceFile.Entry(name(ring.command[slot]), ring.argsHash[slot], ring.start[slot] - origin,
+                    end - ring.start[slot], ring.status[slot],
+                    ring.error[slot] < 0 ? null : name(ring.error[slot])));
+        }
+        return trace;
+    }
+
+    /**
+     * Writes the commands of this thread since position from to file.
+     */
+    public static Path dump(long from, Path file, String title) throws IOException {
+        TraceFile.write(snapshot(from, title), file);
+        return file;
+    }
+
+    private static void close(byte status, int error) {
+        Ring ring = RINGS.get();
+        if (ring.depth == 0) {
+            return;
+        }
+        ring.depth--;
+        if (ring.depth >= MAX_DEPTH) {
+            return;
+        }
+        long entry = ring.open[ring.depth];
+        int slot = (int) (entry % ring.capacity());
+        // cok uzun suren komut ring'de ezilmis olabilir
+        if (ring.sequence[slot] == entry) {
+            ring.end[slot] = System.nanoTime();
+            ring.status[slot] = status;
+            ring.error[slot] = error;
+        }
+    }
+
+    // sadece yerel degerlerin hash'i alinir; WebElement gibi nesneler icin remote cagri yapilmaz
+    static int hash(Object[] args) {
+        if (args == null) {
+            return 0;
+        }
+        int hash = 1;
+        for (Object arg : args) {
+            hash = 31 * hash + hashOf(arg);
+        }
+        return hash;
+    }
+
+    private static int hashOf(Object arg) {
+        if (arg == null) {
+            return 0;
+        }
+        if (arg instanceof CharSequence) {
+            return arg.toString().hashCode();
+        }
+        if (arg instanceof Number || arg instanceof Boolean || arg instanceof Enum || arg instanceof By) {
+            return arg.hashCode();
+        }
+        if (arg instanceof Object[]) {
+            return hash((Object[]) arg);
+        }
+        return System.identityHashCode(arg);
+    }
+
+    private static int nameId(String name) {
+        return NAME_IDS.computeIfAbsent(name, key -> {
+            synchronized (NAMES) {
+                NAMES.add(key);
+                return NAMES.size() - 1;
+            }
+        });
+    }
+
+    private static String name(int id) {
+        synchronized (NAMES) {
+            return NAMES.get(id);
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package utilities.trace;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testng.IInvokedMethod;
+import org.testng.IInvokedMethodListener;
+import org.testng.ITestListener;
+import org.testng.ITestResult;
+import utilities.performance.StartupTelemetry;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * CommandTraceListener Class
+ * <p>
+ * Marks the position of the {@link CommandTrace} ring buffer when a test starts (with its @BeforeMethod methods)
+ * and, only if the test fails, dumps the WebDriver commands since then to
+ * test-output/traces/&lt;runId&gt;/&lt;Class.method-N&gt;.wdtrace. Passing tests cost nothing but the ring writes.
+ * TestBaseRapor adds {@link #getLastDump()} to the reports; {@link TraceViewer} renders the file. Registered for
+ * every run through META-INF/services/org.testng.ITestNGListener.
+ * </p>
+ * <p>
+ * Author: Fatih Canbaz
+ * </p>
+ */
+public class CommandTraceListener implements IInvokedMethodListener, ITestListener {
+
+    private static final Logger LOG = LoggerFactory.getLogger(CommandTraceListener.class);
+
+    private static final AtomicInteger SEQUENCE = new AtomicInteger();
+    // testin (BeforeMethod'lari dahil) ilk komutunun ring pozisyonu
+    private static final ThreadLocal<Long> MARK = new ThreadLocal<>();
+    private static final ThreadLocal<String> LAST_DUMP = new ThreadLocal<>();
+
+    /**
+     * Trace file of the test that just failed on this thread, null if it did not fail.
+     */
+    public static String getLastDump() {
+        return LAST_DUMP.get();
+    }
+
+    @Override
+    public void beforeInvocation(IInvokedMethod method, ITestResult testResult) {
+        if (MARK.get() == null && !method.getTestMethod().isAfterMethodConfiguration()) {
+            MARK.set(CommandTrace.position());
+            LAST_DUMP.remove();
+        }
+    }
+
+    @Override
+    public void onTestSuccess(ITestResult result) {
+        MARK.remove();
+    }
+
+    @Override
+    public void onTestSkipped(ITestResult result) {
+        MARK.remove();
+    }
+
+    @Override
+    public void onTestFailedButWithinSuccessPercentage(ITestResult result) {
+        MARK.remove();
+    }
+
+    @Override
+    public void onTestFailure(ITestResult result) {
+        Long mark = MARK.get();
+        MARK.remove();
+        if (mark == null || CommandTrace.position() == mark) {
+            // driver komutu yok (API testi)
+            return;
+        }
+        String name = result.getTestClass().getRealClass().getSimpleName() + "." + result.getMethod().getMethodName();
+        Path file = Paths.get(System.getProperty("user.dir"), "test-output", "traces", StartupTelemetry.getRunId(),
+                name + "-" + SEQUENCE.incrementAndGet() + ".wdtrace");
+        try {
+            CommandTrace.dump(mark, file, result.getTestClass().getRealClass().getName() + "."
+                    + result.getMethod().getMethodName() + ": " + result.getThrowable());
+            LAST_DUMP.set(file.toAbsolutePath().toString());
+        } catch (IOException e) {
+            LOG.warn("Command trace yazilamadi: {}", e.getMessage());
+        }
+    }
+}
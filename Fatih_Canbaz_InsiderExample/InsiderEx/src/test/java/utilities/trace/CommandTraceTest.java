@@ -0,0 +1,65 @@
+package utilities.trace;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.WebDriver;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+public class CommandTraceTest {
+
+    @Test
+    public void failedCommandIsWrittenAndReadBack() throws Exception {
+        CommandTrace trace = new CommandTrace();
+        Method get = WebDriver.class.getMethod("get", String.class);
+        Method findElement = WebDriver.class.getMethod("findElement", By.class);
+        long mark = CommandTrace.position();
+
+        trace.beforeAnyCall(null, get, new Object[]{"https://automationexercise.com"});
+        trace.afterAnyCall(null, get, new Object[]{"https://automationexercise.com"}, null);
+        trace.beforeAnyCall(null, findElement, new Object[]{By.id("yok")});
+        trace.onError(null, findElement, new Object[]{By.id("yok")},
+                new InvocationTargetException(new NoSuchElementException("yok")));
+
+        Path file = Files.createTempFile("command-trace", ".wdtrace");
+        try {
+            CommandTrace.dump(mark, file, "CommandTraceTest");
+            TraceFile.Trace read = TraceFile.read(file);
+
+            Assert.assertEquals(read.getTitle(), "CommandTraceTest");
+            Assert.assertEquals(read.getLost(), 0);
+            Assert.assertEquals(read.getEntries().size(), 2);
+            Assert.assertEquals(read.getEntries().get(0).getCommand(), "WebDriver.get");
+            Assert.assertEquals(read.getEntries().get(0).getStatus(), CommandTrace.OK);
+            Assert.assertEquals(read.getEntries().get(1).getCommand(), "WebDriver.findElement");
+            Assert.assertEquals(read.getEntries().get(1).getStatus(), CommandTrace.ERROR);
+            Assert.assertEquals(read.getEntries().get(1).getError(), "NoSuchElementException");
+            // farkli arguman farkli hash
+            Assert.assertNotEquals(read.getEntries().get(0).getArgsHash(), read.getEntries().get(1).getArgsHash());
+            Assert.assertTrue(TraceViewer.render(read).contains("NoSuchElementException"));
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test
+    public void oldCommandsAreOverwrittenInTheRing() throws Exception {
+        CommandTrace trace = new CommandTrace();
+        Method getTitle = WebDriver.class.getMethod("getTitle");
+        long mark = CommandTrace.position();
+        for (int i = 0; i < 10_000; i++) {
+            trace.beforeAnyCall(null, getTitle, null);
+            trace.afterAnyCall(null, getTitle, null, "title");
+        }
+
+        TraceFile.Trace snapshot = CommandTrace.snapshot(mark, "ring");
+
+        Assert.assertEquals(snapshot.getEntries().size(), 4096);
+        Assert.assertEquals(snapshot.getLost(), 10_000 - 4096);
+    }
+}
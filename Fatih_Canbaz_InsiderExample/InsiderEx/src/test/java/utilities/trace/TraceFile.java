@@ -0,0 +1,212 @@
+package utilities.trace;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * TraceFile Class
+ * <p>
+ * Compact binary file of a {@link CommandTrace} dump (.wdtrace). Command and exception names are written once
+ * in a name table, every command is then a few bytes: name index, argument hash, start offset and duration in
+ * microseconds (variable length) and the status.
+ * </p>
+ * <pre>
+ * int magic "WDTR", byte version
+ * UTF title, long start (epoch millis of the first command), varint lost (overwritten commands)
+ * varint name count, UTF name...
+ * varint command count, per command: varint name, int argsHash, varlong startMicros, varlong durationMicros,
+ *                                    byte status, varint error (0 = none, otherwise name index + 1)
+ * </pre>
+ * <p>
+ * Author: Fatih Canbaz
+ * </p>
+ */
+public class TraceFile {
+
+    private static final int MAGIC = 0x57445452;
+    private static final int VERSION = 1;
+
+    private TraceFile() {
+
+    }
+
+    /**
+     * Commands of one dump; times are nanoseconds from the first command.
+     */
+    public static class Trace {
+        private final String title;
+        private final long startEpochMillis;
+        private final long lost;
+        private final List<Entry> entries = new ArrayList<>();
+
+        public Trace(String title, long startEpochMillis, long lost) {
+            this.title = title;
+            this.startEpochMillis = startEpochMillis;
+            this.lost = lost;
+        }
+
+        public void add(Entry entry) {
+            entries.add(entry);
+        }
+
+        public String getTitle() {
+            return title;
+        }
+
+        public long getStartEpochMillis() {
+            return startEpochMillis;
+        }
+
+        /**
+         * Commands of the test that were already overwritten in the ring buffer.
+         */
+        public long getLost() {
+            return lost;
+        }
+
+        public List<Entry> getEntries() {
+            return entries;
+        }
+    }
+
+    /**
+     * One WebDriver command.
+     */
+    public static class Entry {
+        private final String command;
+        private final int argsHash;
+        private final long startNanos;
+        private final long durationNanos;
+        private final byte status;
+        private final String error;
+
+        public Entry(String command, int argsHash, long startNanos, long durationNanos, byte status, String error) {
+            this.command = command;
+            this.argsHash = argsHash;
+            this.startNanos = startNanos;
+            this.durationNanos = durationNanos;
+            this.status = status;
+            this.error = error;
+        }
+
+        public String getCommand() {
+            return command;
+        }
+
+        public int getArgsHash() {
+            return argsHash;
+        }
+
+        public long getStartNanos() {
+            return startNanos;
+        }
+
+        public long getDurationNanos() {
+            return durationNanos;
+        }
+
+        /**
+         * {@link CommandTrace#OK}, {@link CommandTrace#ERROR} or {@link CommandTrace#RUNNING}.
+         */
+        public byte getStatus() {
+            return status;
+        }
+
+        /**
+         * Exception class of a failed command, null otherwise.
+         */
+        public String getError() {
+            return error;
+        }
+    }
+
+    public static void write(Trace trace, Path file) throws IOException {
+        Map<String, Integer> names = new LinkedHashMap<>();
+        for (Entry entry : trace.getEntries()) {
+            names.putIfAbsent(entry.getCommand(), names.size());
+            if (entry.getError() != null) {
+                names.putIfAbsent(entry.getError(), names.size());
+            }
+        }
+        if (file.toAbsolutePath().getParent() != null) {
+            Files.createDirectories(file.toAbsolutePath().getParent());
+        }
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file)))) {
+            out.writeInt(MAGIC);
+            out.writeByte(VERSION);
+            out.writeUTF(trace.getTitle());
+            out.writeLong(trace.getStartEpochMillis());
+            writeVarLong(out, trace.getLost());
+            writeVarLong(out, names.size());
+            for (String name : names.keySet()) {
+                out.writeUTF(name);
+            }
+            writeVarLong(out, trace.getEntries().size());
+            for (Entry entry : trace.getEntries()) {
+                writeVarLong(out, names.get(entry.getCommand()));
+                out.writeInt(entry.getArgsHash());
+                writeVarLong(out, Math.max(0, entry.getStartNanos() / 1000));
+                writeVarLong(out, Math.max(0, entry.getDurationNanos() / 1000));
+                out.writeByte(entry.getStatus());
+                writeVarLong(out, entry.getError() == null ? 0 : names.get(entry.getError()) + 1);
+            }
+        }
+    }
+
+    public static Trace read(Path file) throws IOException {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            if (in.readInt() != MAGIC) {
+                throw new IOException("Trace dosyasi degil: " + file);
+            }
+            int version = in.readUnsignedByte();
+            if (version != VERSION) {
+                throw new IOException("Desteklenmeyen trace versiyonu " + version + ": " + file);
+            }
+            Trace trace = new Trace(in.readUTF(), in.readLong(), readVarLong(in));
+            String[] names = new String[(int) readVarLong(in)];
+            for (int i = 0; i < names.length; i++) {
+                names[i] = in.readUTF();
+            }
+            long count = readVarLong(in);
+            for (long i = 0; i < count; i++) {
+                String command = names[(int) readVarLong(in)];
+                int argsHash = in.readInt();
+                long start = readVarLong(in) * 1000;
+                long duration = readVarLong(in) * 1000;
+                byte status = in.readByte();
+                int error = (int) readVarLong(in);
+                trace.add(new Entry(command, argsHash, start, duration, status, error == 0 ? null : names[error - 1]));
+            }
+            return trace;
+        }
+    }
+
+    private static void writeVarLong(DataOutputStream out, long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            out.writeByte((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.writeByte((int) value);
+    }
+
+    private static long readVarLong(DataInputStream in) throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            int b = in.readUnsignedByte();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("Bozuk varint");
+    }
+}
@@ -0,0 +1,104 @@
+package utilities.trace;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.Locale;
+
+/**
+ * TraceViewer Class
+ * <p>
+ * Shows a .wdtrace file of {@link CommandTrace} as a text timeline: start offset, duration, status, command,
+ * argument hash and a bar for the position of the command in the test. Commands slower than 1 second are marked
+ * with "!", failed ones with their exception.
+ * </p>
+ * <p>
+ * Usage:
+ * java -cp target/test-classes:&lt;classpath&gt; utilities.trace.TraceViewer test-output/traces/&lt;run&gt;/&lt;test&gt;.wdtrace
+ * </p>
+ * <p>
+ * Author: Fatih Canbaz
+ * </p>
+ */
+public class TraceViewer {
+
+    private static final int BAR_WIDTH = 40;
+    private static final long SLOW_NANOS = 1_000_000_000L;
+
+    private TraceViewer() {
+
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length == 0) {
+            System.out.println("Kullanim: TraceViewer <dosya.wdtrace>...");
+            return;
+        }
+        for (String file : args) {
+            System.out.println(render(Paths.get(file)));
+        }
+    }
+
+    public static String render(Path file) throws IOException {
+        return render(TraceFile.read(file));
+    }
+
+    public static String render(TraceFile.Trace trace) {
+        StringBuilder out = new StringBuilder();
+        long total = 1;
+        for (TraceFile.Entry entry : trace.getEntries()) {
+            total = Math.max(total, entry.getStartNanos() + entry.getDurationNanos());
+        }
+        out.append(trace.getTitle()).append('\n')
+                .append(new SimpleDateFormat("yyyy-MM-dd HH:mm:ss.SSS").format(new Date(trace.getStartEpochMillis())))
+                .append(", ").append(trace.getEntries().size()).append(" komut, ").append(millis(total));
+        if (trace.getLost() > 0) {
+            out.append(", ").append(trace.getLost()).append(" eski komut ring buffer'da ezildi");
+        }
+        out.append('\n');
+        int width = 7;
+        for (TraceFile.Entry entry : trace.getEntries()) {
+            width = Math.max(width, entry.getCommand().length());
+        }
+        for (TraceFile.Entry entry : trace.getEntries()) {
+            out.append(String.format(Locale.ROOT, "%10s %10s %-7s %-" + width + "s %08x |%s|",
+                    "+" + millis(entry.getStartNanos()), millis(entry.getDurationNanos()), status(entry),
+                    entry.getCommand(), entry.getArgsHash(), bar(entry, total)));
+            if (entry.getDurationNanos() >= SLOW_NANOS) {
+                out.append(" !");
+            }
+            if (entry.getError() != null) {
+                out.append(' ').append(entry.getError());
+            }
+            out.append('\n');
+        }
+        return out.toString();
+    }
+
+    private static String bar(TraceFile.Entry entry, long total) {
+        int from = (int) (entry.getStartNanos() * BAR_WIDTH / total);
+        int to = (int) Math.max(from + 1, (entry.getStartNanos() + entry.getDurationNanos()) * BAR_WIDTH / total);
+        StringBuilder bar = new StringBuilder(BAR_WIDTH);
+        for (int i = 0; i < BAR_WIDTH; i++) {
+            bar.append(i >= from && i < to ? '#' : ' ');
+        }
+        return bar.toString();
+    }
+
+    private static String status(TraceFile.Entry entry) {
+        switch (entry.getStatus()) {
+            case CommandTrace.OK:
+                return "OK";
+            case CommandTrace.ERROR:
+                return "ERROR";
+            default:
+                return "RUNNING";
+        }
+    }
+
+    private static String millis(long nanos) {
+        return String.format(Locale.ROOT, "%.1fms", nanos / 1e6);
+    }
+}
@@ -0,0 +1,62 @@
+package utilities.visual;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+
+/**
+ * BaselineStore Class
+ * <p>
+ * Folder of approved screenshots, one &lt;name&gt;.png per visual check. The folder is meant to be committed so
+ * every run compares against the same baselines.
+ * </p>
+ * <p>
+ * Author: Fatih Canbaz
+ * </p>
+ */
+public class BaselineStore {
+
+    private final Path directory;
+
+    public BaselineStore(Path directory) {
+        this.directory = directory;
+    }
+
+    public Path getDirectory() {
+        return directory;
+    }
+
+    public Path pathOf(String name) {
+        return directory.resolve(name + ".png");
+    }
+
+    public boolean exists(String name) {
+        return Files.isRegularFile(pathOf(name));
+    }
+
+    /**
+     * The baseline image, null if there is none yet.
+     */
+    public BufferedImage load(String name) throws IOException {
+        Path path = pathOf(name);
+        if (!Files.isRegularFile(path)) {
+            return null;
+        }
+        BufferedImage image = ImageIO.read(path.toFile());
+        if (image == null) {
+            throw new IOException("Baseline okunamadi: " + path);
+        }
+        return image;
+    }
+
+    /**
+     * Stores a screenshot file (PNG) as the new baseline of that name.
+     */
+    public Path save(String name, Path screenshot) throws IOException {
+        Files.createDirectories(directory);
+        return Files.copy(screenshot, pathOf(name), StandardCopyOption.REPLACE_EXISTING);
+    }
+}
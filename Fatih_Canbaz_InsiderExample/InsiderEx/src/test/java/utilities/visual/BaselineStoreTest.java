@@ -0,0 +1,84 @@
+package utilities.visual;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+public class BaselineStoreTest {
+
+    @Test
+    public void firstRunCreatesBaseline() throws IOException {
+        Path root = Files.createTempDirectory("baselines");
+        // klasor ilk kayitta olusturulur
+        BaselineStore store = new BaselineStore(root.resolve("visual-baselines"));
+        try {
+            Assert.assertFalse(store.exists("careers"));
+            Assert.assertNull(store.load("careers"));
+
+            Path screenshot = root.resolve("screenshot.png");
+            ImageIO.write(image(0x3C50B4), "png", screenshot.toFile());
+            Path baseline = store.save("careers", screenshot);
+
+            Assert.assertEquals(baseline, store.pathOf("careers"));
+            Assert.assertTrue(store.exists("careers"));
+            Assert.assertEquals(store.load("careers").getRGB(3, 2) & 0xFFFFFF, 0x3C50B4);
+        } finally {
+            delete(root.toFile());
+        }
+    }
+
+    @Test
+    public void saveReplacesExistingBaseline() throws IOException {
+        Path root = Files.createTempDirectory("baselines");
+        BaselineStore store = new BaselineStore(root);
+        try {
+            Path screenshot = root.resolve("screenshot.png");
+            ImageIO.write(image(0x3C50B4), "png", screenshot.toFile());
+            store.save("careers", screenshot);
+            ImageIO.write(image(0xFF0000), "png", screenshot.toFile());
+            store.save("careers", screenshot);
+
+            Assert.assertEquals(store.load("careers").getRGB(0, 0) & 0xFFFFFF, 0xFF0000);
+        } finally {
+            delete(root.toFile());
+        }
+    }
+
+    @Test(expectedExceptions = IOException.class)
+    public void unreadableBaselineIsReported() throws IOException {
+        Path root = Files.createTempDirectory("baselines");
+        BaselineStore store = new BaselineStore(root);
+        try {
+            Files.write(store.pathOf("broken"), new byte[]{1, 2, 3});
+            store.load("broken");
+        } finally {
+            delete(root.toFile());
+        }
+    }
+
+    private static BufferedImage image(int rgb) {
+        BufferedImage image = new BufferedImage(8, 4, BufferedImage.TYPE_INT_RGB);
+        for (int y = 0; y < 4; y++) {
+            for (int x = 0; x < 8; x++) {
+                image.setRGB(x, y, rgb);
+            }
+        }
+        return image;
+    }
+
+    private static void delete(File file) {
+        File[] children = file.listFiles();
+        if (children != null) {
+            for (File child : children) {
+                delete(child);
+            }
+        }
+        file.delete();
+    }
+}
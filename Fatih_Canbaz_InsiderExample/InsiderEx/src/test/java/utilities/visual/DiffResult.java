@@ -0,0 +1,118 @@
+package utilities.visual;
+
+import java.awt.image.BufferedImage;
+
+/**
+ * DiffResult Class
+ * <p>
+ * Outcome of one visual comparison: changed pixel count, failed tiles and, for a failed comparison, the diff
+ * image (changed pixels red, anti-aliased ones yellow, the rest a faded copy of the screenshot). In fail-fast mode
+ * the comparison stops early, so the counts are a lower bound.
+ * </p>
+ * <p>
+ * Author: Fatih Canbaz
+ * </p>
+ */
+public class DiffResult {
+
+    private final String name;
+    private final boolean passed;
+    private final long diffPixels;
+    private final long totalPixels;
+    private final int failedTiles;
+    private final int comparedTiles;
+    private final int totalTiles;
+    private final long durationMillis;
+    private final String message;
+    private final BufferedImage diffImage;
+    private String diffImagePath;
+
+    DiffResult(String name, boolean passed, long diffPixels, long totalPixels, int failedTiles, int comparedTiles,
+               int totalTiles, long durationMillis, String message, BufferedImage diffImage) {
+        this.name = name;
+        this.passed = passed;
+        this.diffPixels = diffPixels;
+        this.totalPixels = totalPixels;
+        this.failedTiles = failedTiles;
+        this.comparedTiles = comparedTiles;
+        this.totalTiles = totalTiles;
+        this.durationMillis = durationMillis;
+        this.message = message;
+        this.diffImage = diffImage;
+    }
+
+    /**
+     * Result of a check that had no baseline yet; the screenshot became the baseline.
+     */
+    static DiffResult baselineCreated(String name, String baselinePath) {
+        return new DiffResult(name, true, 0, 0, 0, 0, 0, 0, "baseline olusturuldu: " + baselinePath, null);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public boolean isPassed() {
+        return passed;
+    }
+
+    public long getDiffPixels() {
+        return diffPixels;
+    }
+
+    public long getTotalPixels() {
+        return totalPixels;
+    }
+
+    public double getDiffRatio() {
+        return totalPixels == 0 ? 0 : diffPixels / (double) totalPixels;
+    }
+
+    public int getFailedTiles() {
+        return failedTiles;
+    }
+
+    public int getComparedTiles() {
+        return comparedTiles;
+    }
+
+    public int getTotalTiles() {
+        return totalTiles;
+    }
+
+    public long getDurationMillis() {
+        return durationMillis;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    /**
+     * Diff image of a failed comparison, null if it passed or diff images are off.
+     */
+    public BufferedImage getDiffImage() {
+        return diffImage;
+    }
+
+    /**
+     * Where {@link VisualCheck} saved the diff image, null if none was saved.
+     */
+    public String getDiffImagePath() {
+        return diffImagePath;
+    }
+
+    void setDiffImagePath(String diffImagePath) {
+        this.diffImagePath = diffImagePath;
+    }
+
+    @Override
+    public String toString() {
+        if (message != null) {
+            return name + ": " + message;
+        }
+        return String.format("%s: %s, %d/%d piksel farkli (%.3f%%), %d/%d tile hatali, %d/%d tile karsilastirildi, %d ms",
+                name, passed ? "OK" : "FARKLI", diffPixels, totalPixels, getDiffRatio() * 100,
+                failedTiles, comparedTiles, comparedTiles, totalTiles, durationMillis);
+    }
+}
@@ -0,0 +1,130 @@
+package utilities.visual;
+
+import org.openqa.selenium.WebElement;
+import utilities.ConfigReader;
+import utilities.ReusableMethods;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * VisualCheck Class
+ * <p>
+ * Visual regression checks on top of the screenshot helpers of {@link ReusableMethods}: the screenshot is compared
+ * with the baseline of the same name by {@link VisualDiff}; if there is no baseline yet it becomes the baseline.
+ * A failed check throws an AssertionError and saves a diff image to test-output/visual, which TestBaseRapor adds
+ * to the Extent report together with the results of the test.
+ * <pre>
+ * VisualCheck.assertElement(autEx.careersPageSeeAllTeams, "careersSeeAllTeams");
+ * </pre>
+ * </p>
+ * <p>
+ * Configuration (configuration.properties):
+ * - visualBaselineDir: baseline folder (default src/test/resources/visual-baselines)
+ * - visualUpdateBaselines: true overwrites the baselines with the new screenshots instead of comparing (default false)
+ * - further comparison settings: see {@link VisualOptions}
+ * </p>
+ * <p>
+ * Author: Fatih Canbaz
+ * </p>
+ */
+public class VisualCheck {
+
+    private static final BaselineStore BASELINES =
+            new BaselineStore(Paths.get(ConfigReader.getProperty("visualBaselineDir", "src/test/resources/visual-baselines")));
+    private static final boolean UPDATE_BASELINES =
+            Boolean.parseBoolean(ConfigReader.getProperty("visualUpdateBaselines", "false"));
+
+    private static final ThreadLocal<List<DiffResult>> RESULTS = ThreadLocal.withInitial(ArrayList::new);
+
+    private VisualCheck() {
+
+    }
+
+    public static BaselineStore getBaselines() {
+        return BASELINES;
+    }
+
+    /**
+     * Compares the screenshot of the element (ReusableMethods.getWebelementScreenshot) with its baseline.
+     */
+    public static DiffResult assertElement(WebElement element, String name) {
+        return assertElement(element, name, VisualOptions.defaults());
+    }
+
+    public static DiffResult assertElement(WebElement element, String name, VisualOptions options) {
+        return assertMatches(name, ReusableMethods.getWebelementScreenshot(element, name), options);
+    }
+
+    /**
+     * Compares the visible part of the page (ReusableMethods.getScreenshot) with its baseline.
+     */
+    public static DiffResult assertPage(String name, VisualOptions options) {
+        try {
+            return assertMatches(name, ReusableMethods.getScreenshot(name), options);
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Compares an existing screenshot file with the baseline of that name.
+     */
+    public static DiffResult assertMatches(String name, String screenshotPath, VisualOptions options) {
+        DiffResult result;
+        try {
+            Path screenshot = Paths.get(screenshotPath);
+            BufferedImage baseline = UPDATE_BASELINES ? null : BASELINES.load(name);
+            if (baseline == null) {
+                result = DiffResult.baselineCreated(name, BASELINES.save(name, screenshot).toString());
+            } else {
+                BufferedImage actual = ImageIO.read(screenshot.toFile());
+                if (actual == null) {
+                    throw new IOException("Ekran goruntusu okunamadi: " + screenshotPath);
+                }
+                result = VisualDiff.compare(name, baseline, actual, options);
+                if (result.getDiffImage() != null) {
+                    result.setDiffImagePath(writeDiffImage(name, result.getDiffImage()));
+                }
+            }
+        } catch (IOException e) {
+            throw new RuntimeException("Gorsel karsilastirma yapilamadi: " + name, e);
+        }
+        RESULTS.get().add(result);
+        if (!result.isPassed()) {
+            throw new AssertionError("Gorsel fark: " + result
+                    + (result.getDiffImagePath() == null ? "" : "\nDiff: " + result.getDiffImagePath()));
+        }
+        return result;
+    }
+
+    /**
+     * Results of the visual checks of the running test on this thread.
+     */
+    public static List<DiffResult> getResults() {
+        return new ArrayList<>(RESULTS.get());
+    }
+
+    /**
+     * Starts a new test on this thread.
+     */
+    public static void reset() {
+        RESULTS.get().clear();
+    }
+
+    private static String writeDiffImage(String name, BufferedImage diffImage) throws IOException {
+        String date = new SimpleDateFormat("yyyyMMddhhmmss").format(new Date());
+        File file = new File(System.getProperty("user.dir") + "/test-output/visual/" + name + "-diff" + date + ".png");
+        file.getParentFile().mkdirs();
+        ImageIO.write(diffImage, "png", file);
+        return file.getPath();
+    }
+}
@@ -0,0 +1,214 @@
+package utilities.visual;
+
+import java.awt.Rectangle;
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+
+/**
+ * VisualDiff Class
+ * <p>
+ * Pixel comparison of a screenshot against its baseline. Both images are read into int arrays once; the image is
+ * split into square tiles which are compared in parallel on the common ForkJoin pool. A pixel counts as changed
+ * if one of its color channels differs by more than the tolerance and it is not just anti-aliasing (the same
+ * color is found one pixel away in both images). In fail-fast mode the remaining tiles are skipped as soon as the
+ * allowed number of changed pixels is exceeded.
+ * </p>
+ * <p>
+ * Author: Fatih Canbaz
+ * </p>
+ */
+public class VisualDiff {
+
+    private static final int CHANGED = 0xFF0000;
+    private static final int ANTI_ALIASED = 0xFFD700;
+
+    private VisualDiff() {
+
+    }
+
+    public static DiffResult compare(String name, BufferedImage baseline, BufferedImage actual, VisualOptions options) {
+        long start = System.nanoTime();
+        int width = actual.getWidth();
+        int height = actual.getHeight();
+        if (baseline.getWidth() != width || baseline.getHeight() != height) {
+            return new DiffResult(name, false, (long) width * height, (long) width * height, 0, 0, 0,
+                    (System.nanoTime() - start) / 1_000_000,
+                    "boyut farkli, baseline " + baseline.getWidth() + "x" + baseline.getHeight()
+                            + ", ekran goruntusu " + width + "x" + height, null);
+        }
+
+        Comparison comparison = new Comparison(pixels(baseline), pixels(actual), width, height, options);
+        long allowed = (long) Math.floor(options.getMaxDiffRatio() * width * height);
+        AtomicLong diffPixels = new AtomicLong();
+        AtomicInteger failedTiles = new AtomicInteger();
+        AtomicInteger comparedTiles = new AtomicInteger();
+        IntStream tiles = IntStream.range(0, comparison.tileCount()).parallel();
+        if (options.isFailFast()) {
+            // anyMatch ilk true'da diger tile'lari baslatmadan durur
+            tiles.anyMatch(tile -> {
+                int diffs = comparison.compareTile(tile);
+                comparedTiles.incrementAndGet();
+                if (diffs > 0) {
+                    failedTiles.incrementAndGet();
+                }
+                return diffPixels.addAndGet(diffs) > allowed;
+            });
+        } else {
+            tiles.forEach(tile -> {
+                int diffs = comparison.compareTile(tile);
+                comparedTiles.incrementAndGet();
+                if (diffs > 0) {
+                    failedTiles.incrementAndGet();
+                }
+                diffPixels.addAndGet(diffs);
+            });
+        }
+
+        boolean passed = diffPixels.get() <= allowed;
+        BufferedImage diffImage = null;
+        if (!passed && comparison.diff != null) {
+            diffImage = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+            diffImage.setRGB(0, 0, width, height, comparison.diff, 0, width);
+        }
+        return new DiffResult(name, passed, diffPixels.get(), (long) width * height, failedTiles.get(),
+                comparedTiles.get(), comparison.tileCount(), (System.nanoTime() - start) / 1_000_000, null, diffImage);
+    }
+
+    /**
+     * RGB pixels of the image, row by row. Uses the backing array directly when the image already is int RGB.
+     */
+    static int[] pixels(BufferedImage image) {
+        int type = image.getType();
+        if ((type == BufferedImage.TYPE_INT_RGB || type == BufferedImage.TYPE_INT_ARGB)
+                && image.getRaster().getDataBuffer() instanceof DataBufferInt
+                && image.getRaster().getSampleModelTranslateX() == 0 && image.getRaster().getSampleModelTranslateY() == 0
+                && image.getRaster().getDataBuffer().getSize() == image.getWidth() * image.getHeight()) {
+            return ((DataBufferInt) image.getRaster().getDataBuffer()).getData();
+        }
+        return image.getRGB(0, 0, image.getWidth(), image.getHeight(), null, 0, image.getWidth());
+    }
+
+    /**
+     * State shared by the tile tasks; every task writes only the pixels of its own tile.
+     */
+    private static final class Comparison {
+        private final int[] expected;
+        private final int[] actual;
+        private final int[] diff;
+        private final int width;
+        private final int height;
+        private final int tileSize;
+        private final int tilesX;
+        private final int tilesY;
+        private final int tolerance;
+        private final boolean antiAliasing;
+        private final List<Rectangle> ignoreRegions;
+
+        Comparison(int[] expected, int[] actual, int width, int height, VisualOptions options) {
+            this.expected = expected;
+            this.actual = actual;
+            this.width = width;
+            this.height = height;
+            this.tileSize = options.getTileSize();
+            this.tilesX = (width + tileSize - 1) / tileSize;
+            this.tilesY = (height + tileSize - 1) / tileSize;
+            this.tolerance = options.getColorTolerance();
+            this.antiAliasing = options.isAntiAliasing();
+            this.ignoreRegions = options.getIgnoreRegions();
+            this.diff = options.isDiffImage() ? new int[width * height] : null;
+        }
+
+        int tileCount() {
+            return tilesX * tilesY;
+        }
+
+        int compareTile(int tile) {
+            int x0 = (tile % tilesX) * tileSize;
+            int y0 = (tile / tilesX) * tileSize;
+            int x1 = Math.min(x0 + tileSize, width);
+            int y1 = Math.min(y0 + tileSize, height);
+            List<Rectangle> ignored = ignoredIn(new Rectangle(x0, y0, x1 - x0, y1 - y0));
+            int diffs = 0;
+            for (int y = y0; y < y1; y++) {
+                int index = y * width + x0;
+                for (int x = x0; x < x1; x++, index++) {
+                    int e = expected[index];
+                    int a = actual[index];
+                    if (e == a || similar(e, a) || (!ignored.isEmpty() && contains(ignored, x, y))) {
+                        mark(index, faded(a));
+                    } else if (antiAliasing && antiAliased(x, y, e, a)) {
+                        mark(index, ANTI_ALIASED);
+                    } else {
+                        mark(index, CHANGED);
+                        diffs++;
+                    }
+                }
+            }
+            return diffs;
+        }
+
+        private List<Rectangle> ignoredIn(Rectangle tile) {
+            if (ignoreRegions.isEmpty()) {
+                return ignoreRegions;
+            }
+            List<Rectangle> ignored = new ArrayList<>();
+            for (Rectangle region : ignoreRegions) {
+                if (region.intersects(tile)) {
+                    ignored.add(region);
+                }
+            }
+            return ignored;
+        }
+
+        private static boolean contains(List<Rectangle> regions, int x, int y) {
+            for (Rectangle region : regions) {
+                if (region.contains(x, y)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private boolean similar(int first, int second) {
+            return Math.abs(((first >> 16) & 0xFF) - ((second >> 16) & 0xFF)) <= tolerance
+                    && Math.abs(((first >> 8) & 0xFF) - ((second >> 8) & 0xFF)) <= tolerance
+                    && Math.abs((first & 0xFF) - (second & 0xFF)) <= tolerance;
+        }
+
+        /**
+         * True if the pixel only moved: each image has the other's color among the 8 neighbours of the pixel.
+         */
+        private boolean antiAliased(int x, int y, int expectedColor, int actualColor) {
+            return hasNeighbour(actual, x, y, expectedColor) && hasNeighbour(expected, x, y, actualColor);
+        }
+
+        private boolean hasNeighbour(int[] image, int x, int y, int color) {
+            for (int ny = Math.max(0, y - 1); ny <= Math.min(height - 1, y + 1); ny++) {
+                for (int nx = Math.max(0, x - 1); nx <= Math.min(width - 1, x + 1); nx++) {
+                    if ((nx != x || ny != y) && similar(image[ny * width + nx], color)) {
+                        return true;
+                    }
+                }
+            }
+            return false;
+        }
+
+        private void mark(int index, int color) {
+            if (diff != null) {
+                diff[index] = color;
+            }
+        }
+
+        // degismeyen pikseller soluk gri, farklar ustunde belirgin olsun
+        private static int faded(int rgb) {
+            int gray = (((rgb >> 16) & 0xFF) * 30 + ((rgb >> 8) & 0xFF) * 59 + (rgb & 0xFF) * 11) / 100;
+            int light = 255 - (255 - gray) / 4;
+            return (light << 16) | (light << 8) | light;
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package utilities.visual;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+
+public class VisualDiffTest {
+
+    private static final int SIZE = 200;
+
+    @Test
+    public void identicalImagesPass() {
+        DiffResult result = VisualDiff.compare("identical", page(), page(), options());
+
+        Assert.assertTrue(result.isPassed());
+        Assert.assertEquals(result.getDiffPixels(), 0);
+        Assert.assertEquals(result.getTotalPixels(), SIZE * SIZE);
+        Assert.assertEquals(result.getComparedTiles(), result.getTotalTiles());
+        Assert.assertNull(result.getDiffImage());
+    }
+
+    @Test
+    public void colorChangeWithinToleranceIsIgnored() {
+        BufferedImage actual = page();
+        fill(actual, 20, 20, 40, 40, new Color(0x3C, 0x50, 0xB4 + 10));
+
+        Assert.assertTrue(VisualDiff.compare("tolerance", page(), actual, options()).isPassed());
+        Assert.assertFalse(VisualDiff.compare("tolerance", page(), actual, options().colorTolerance(5)).isPassed());
+    }
+
+    @Test
+    public void lineShiftedByOnePixelCountsAsAntiAliasing() {
+        BufferedImage baseline = page();
+        BufferedImage actual = page();
+        fill(baseline, 100, 120, 1, 50, Color.BLACK);
+        fill(actual, 101, 120, 1, 50, Color.BLACK);
+
+        Assert.assertTrue(VisualDiff.compare("shifted", baseline, actual, options()).isPassed());
+        DiffResult strict = VisualDiff.compare("shifted", baseline, actual, options().antiAliasing(false));
+        Assert.assertFalse(strict.isPassed());
+        Assert.assertEquals(strict.getDiffPixels(), 100);
+    }
+
+    @Test
+    public void realDifferenceAboveThresholdFails() {
+        BufferedImage actual = page();
+        // 20x20 = 400 piksel, izin verilen 40
+        fill(actual, 150, 150, 20, 20, Color.RED);
+
+        DiffResult result = VisualDiff.compare("changed", page(), actual, options().maxDiffRatio(0.001));
+
+        Assert.assertFalse(result.isPassed());
+        Assert.assertEquals(result.getDiffPixels(), 400);
+        Assert.assertEquals(result.getFailedTiles(), 1);
+        Assert.assertEquals(result.getDiffImage().getRGB(155, 155) & 0xFFFFFF, 0xFF0000);
+        Assert.assertNotEquals(result.getDiffImage().getRGB(5, 5) & 0xFFFFFF, 0xFF0000);
+        // ayni fark izin verilen oranin altinda kalirsa gecer
+        Assert.assertTrue(VisualDiff.compare("changed", page(), actual, options().maxDiffRatio(0.02)).isPassed());
+    }
+
+    @Test
+    public void failFastStillReportsFailure() {
+        BufferedImage actual = page();
+        fill(actual, 0, 0, SIZE, SIZE, Color.RED);
+
+        DiffResult result = VisualDiff.compare("failFast", page(), actual, options().failFast(true));
+
+        Assert.assertFalse(result.isPassed());
+        Assert.assertTrue(result.getDiffPixels() > 0);
+        Assert.assertTrue(result.getComparedTiles() <= result.getTotalTiles());
+    }
+
+    @Test
+    public void differentSizeFails() {
+        DiffResult result = VisualDiff.compare("size", page(), new BufferedImage(SIZE, SIZE + 1, BufferedImage.TYPE_INT_RGB),
+                options());
+
+        Assert.assertFalse(result.isPassed());
+        Assert.assertTrue(result.getMessage().contains("boyut farkli"), result.getMessage());
+    }
+
+    // config'ten bagimsiz sabit ayarlar
+    private static VisualOptions options() {
+        return VisualOptions.defaults().colorTolerance(16).antiAliasing(true).maxDiffRatio(0).failFast(false).tileSize(64);
+    }
+
+    private static BufferedImage page() {
+        BufferedImage image = new BufferedImage(SIZE, SIZE, BufferedImage.TYPE_INT_RGB);
+        fill(image, 0, 0, SIZE, SIZE, Color.WHITE);
+        fill(image, 20, 20, 40, 40, new Color(0x3C, 0x50, 0xB4));
+        return image;
+    }
+
+    private static void fill(BufferedImage image, int x, int y, int width, int height, Color color) {
+        Graphics2D graphics = image.createGraphics();
+        graphics.setColor(color);
+        graphics.fillRect(x, y, width, height);
+        graphics.dispose();
+    }
+}
@@ -0,0 +1,120 @@
+package utilities.visual;
+
+import utilities.ConfigReader;
+
+import java.awt.Rectangle;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * VisualOptions Class
+ * <p>
+ * Settings of one visual comparison. Defaults come from configuration.properties, single checks can override them:
+ * <pre>
+ * VisualCheck.assertElement(autEx.careersPageOurLocations, "careersOurLocations",
+ *         VisualOptions.defaults().ignore(0, 0, 300, 40).maxDiffRatio(0.001));
+ * </pre>
+ * </p>
+ * <p>
+ * Configuration (configuration.properties):
+ * - visualColorTolerance: allowed difference per color channel (0-255) before a pixel counts as changed (default 16)
+ * - visualAntiAliasing: ignore pixels that only moved by one pixel, e.g. font smoothing (default true)
+ * - visualMaxDiffRatio: allowed share of changed pixels, 0.001 = 0.1% (default 0)
+ * - visualFailFast: stop comparing as soon as the allowed number of changed pixels is exceeded (default true)
+ * - visualTileSize: edge length of the tiles that are compared in parallel (default 64)
+ * </p>
+ * <p>
+ * Author: Fatih Canbaz
+ * </p>
+ */
+public class VisualOptions {
+
+    private int colorTolerance = Integer.parseInt(ConfigReader.getProperty("visualColorTolerance", "16"));
+    private boolean antiAliasing = Boolean.parseBoolean(ConfigReader.getProperty("visualAntiAliasing", "true"));
+    private double maxDiffRatio = Double.parseDouble(ConfigReader.getProperty("visualMaxDiffRatio", "0"));
+    private boolean failFast = Boolean.parseBoolean(ConfigReader.getProperty("visualFailFast", "true"));
+    private int tileSize = Integer.parseInt(ConfigReader.getProperty("visualTileSize", "64"));
+    private boolean diffImage = true;
+    private final List<Rectangle> ignoreRegions = new ArrayList<>();
+
+    private VisualOptions() {
+
+    }
+
+    public static VisualOptions defaults() {
+        return new VisualOptions();
+    }
+
+    public VisualOptions colorTolerance(int colorTolerance) {
+        this.colorTolerance = colorTolerance;
+        return this;
+    }
+
+    public VisualOptions antiAliasing(boolean antiAliasing) {
+        this.antiAliasing = antiAliasing;
+        return this;
+    }
+
+    public VisualOptions maxDiffRatio(double maxDiffRatio) {
+        this.maxDiffRatio = maxDiffRatio;
+        return this;
+    }
+
+    public VisualOptions failFast(boolean failFast) {
+        this.failFast = failFast;
+        return this;
+    }
+
+    public VisualOptions tileSize(int tileSize) {
+        if (tileSize <= 0) {
+            throw new IllegalArgumentException("Gecersiz tile boyutu: " + tileSize);
+        }
+        this.tileSize = tileSize;
+        return this;
+    }
+
+    /**
+     * Whether a diff image (changed pixels in red) is produced for failed comparisons.
+     */
+    public VisualOptions diffImage(boolean diffImage) {
+        this.diffImage = diffImage;
+        return this;
+    }
+
+    /**
+     * Pixels in this area (screenshot pixels, e.g. a date or a carousel) are not compared.
+     */
+    public VisualOptions ignore(int x, int y, int width, int height) {
+        ignoreRegions.add(new Rectangle(x, y, width, height));
+        return this;
+    }
+
+    public int getColorTolerance() {
+        return colorTolerance;
+    }
+
+    public boolean isAntiAliasing() {
+        return antiAliasing;
+    }
+
+    public double getMaxDiffRatio() {
+        return maxDiffRatio;
+    }
+
+    public boolean isFailFast() {
+        return failFast;
+    }
+
+    public int getTileSize() {
+        return tileSize;
+    }
+
+    public boolean isDiffImage() {
+        return diffImage;
+    }
+
+    public List<Rectangle> getIgnoreRegions() {
+        return Collections.unmodifiableList(ignoreRegions);
+    }
+}